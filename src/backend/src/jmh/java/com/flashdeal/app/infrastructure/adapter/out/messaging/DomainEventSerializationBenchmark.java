@@ -0,0 +1,78 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 주문 생성 이벤트 직렬화 비용 비교 (./gradlew jmh, gc 프로파일러로 건당 할당량 확인)
+ *
+ * - legacyMap: 기존 발행기 방식 (HashMap + ZonedDateTime.now() + UUID.randomUUID(), 매번 ObjectMapper로 직렬화)
+ * - typedJson: DomainEvent + 타입별 ObjectWriter
+ * - typedBinary: DomainEvent + 스키마 기반 바이너리 (DomainEventSerializer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainEventSerializationBenchmark {
+
+    private static final Map<String, Object> METADATA = Map.of("source", "order-service");
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter jsonWriter;
+    private DomainEventSerializer serializer;
+    private List<OrderCreatedEvent.OrderItemData> items;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        jsonWriter = objectMapper.writerFor(OrderCreatedEvent.class);
+        serializer = new DomainEventSerializer(new EventSchemaRegistry());
+        items = List.of(new OrderCreatedEvent.OrderItemData("P-1", 2, new BigDecimal("80000")));
+    }
+
+    @Benchmark
+    public byte[] legacyMap() throws Exception {
+        Map<String, Object> event = new HashMap<>();
+        event.put("eventId", UUID.randomUUID().toString());
+        event.put("eventType", "OrderCreated");
+        event.put("orderId", "O-1");
+        event.put("userId", "U-1");
+        event.put("orderNumber", "ORD-O-1");
+        event.put("idempotencyKey", "idem-1");
+        event.put("items", items);
+        event.put("timestamp", ZonedDateTime.now());
+        event.put("correlationId", UUID.randomUUID().toString());
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] typedJson() throws Exception {
+        return jsonWriter.writeValueAsBytes(newEvent());
+    }
+
+    @Benchmark
+    public byte[] typedBinary() {
+        return serializer.serialize(newEvent());
+    }
+
+    private OrderCreatedEvent newEvent() {
+        return new OrderCreatedEvent("O-1", "O-1", null, METADATA,
+                new OrderCreatedEvent.OrderData("O-1", "ORD-O-1", "U-1", items, new BigDecimal("163000"), "KRW"));
+    }
+}
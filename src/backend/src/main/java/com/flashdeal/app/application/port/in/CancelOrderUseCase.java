@@ -4,9 +4,17 @@ import com.flashdeal.app.domain.order.Order;
 import com.flashdeal.app.domain.order.OrderId;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 public interface CancelOrderUseCase {
     
     Mono<Order> cancelOrder(CancelOrderCommand command);
+
+    /**
+     * 취소 후 해제하지 못한 예약 재고를 다시 해제한다
+     * 해제할 재고가 없으면 빈 Mono, cancelledBefore 이후에 취소된 주문은 (해제가 진행 중일 수 있어) IllegalStateException
+     */
+    Mono<Order> releasePendingStock(OrderId orderId, Instant cancelledBefore);
     
     record CancelOrderCommand(
         OrderId orderId,
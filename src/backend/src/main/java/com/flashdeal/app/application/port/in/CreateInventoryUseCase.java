@@ -13,7 +13,8 @@ public interface CreateInventoryUseCase {
         int totalQuantity,
         int lowStockThreshold,
         int maxPurchaseQuantity,
-        int reservationTimeout
+        int reservationTimeout,
+        int shardCount
     ) {
         public CreateInventoryCommand {
             if (productId == null) {
@@ -31,6 +32,14 @@ public interface CreateInventoryUseCase {
             if (reservationTimeout <= 0) {
                 throw new IllegalArgumentException("Reservation timeout must be positive");
             }
+            if (shardCount <= 0) {
+                throw new IllegalArgumentException("Shard count must be positive");
+            }
+        }
+
+        public CreateInventoryCommand(ProductId productId, int totalQuantity, int lowStockThreshold,
+                int maxPurchaseQuantity, int reservationTimeout) {
+            this(productId, totalQuantity, lowStockThreshold, maxPurchaseQuantity, reservationTimeout, 1);
         }
     }
 }
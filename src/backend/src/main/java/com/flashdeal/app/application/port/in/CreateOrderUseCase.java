@@ -17,8 +17,14 @@ public interface CreateOrderUseCase {
         List<OrderItemDto> items,
         ShippingDto shipping,
         String idempotencyKey,
-        java.math.BigDecimal discount
+        java.math.BigDecimal discount,
+        String admissionToken
     ) {
+        public CreateOrderCommand(UserId userId, List<OrderItemDto> items, ShippingDto shipping,
+                String idempotencyKey, java.math.BigDecimal discount) {
+            this(userId, items, shipping, idempotencyKey, discount, null);
+        }
+
         public CreateOrderCommand {
             if (userId == null) {
                 throw new IllegalArgumentException("User ID is required");
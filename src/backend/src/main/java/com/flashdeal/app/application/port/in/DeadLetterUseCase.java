@@ -0,0 +1,41 @@
+package com.flashdeal.app.application.port.in;
+
+import java.time.Instant;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 수신에 실패해 DLT로 간 이벤트 조회/재처리
+ */
+public interface DeadLetterUseCase {
+
+    /**
+     * 최근 DLT 레코드 (topic이 null이면 모든 토픽)
+     */
+    Flux<DeadLetter> deadLetters(String topic, int limit);
+
+    /**
+     * 원래 토픽으로 다시 보낸다 (한 번만, 이미 처리된 eventId는 수신 쪽에서 건너뛴다)
+     */
+    Mono<DeadLetter> replay(String id);
+
+    record DeadLetter(
+        String id,
+        String eventId,
+        String eventType,
+        String originalTopic,
+        int partition,
+        long offset,
+        String key,
+        String exception,
+        String message,
+        int attempts,
+        Instant failedAt,
+        Instant replayedAt
+    ) {
+        public boolean replayed() {
+            return replayedAt != null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.flashdeal.app.application.port.in;
+
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 딜 실시간 업데이트 Use Case
+ *
+ * 구독하면 현재 값을 먼저 보내고, 이후 바뀔 때마다 보낸다 (상품별로 초당 최대 횟수까지).
+ */
+public interface DealUpdatesUseCase {
+
+    Flux<StockUpdate> stockChanges(ProductId productId);
+
+    Flux<DealStatusUpdate> dealStatusChanges(ProductId productId);
+
+    record StockUpdate(ProductId productId, Stock stock) {}
+
+    record DealStatusUpdate(ProductId productId, DealStatus status) {}
+}
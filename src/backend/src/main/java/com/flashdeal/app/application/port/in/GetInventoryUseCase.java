@@ -3,11 +3,16 @@ package com.flashdeal.app.application.port.in;
 import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.inventory.InventoryId;
 import com.flashdeal.app.domain.product.ProductId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface GetInventoryUseCase {
     
     Mono<Inventory> getInventory(InventoryId inventoryId);
     
     Mono<Inventory> getInventoryByProductId(ProductId productId);
+    
+    Flux<Inventory> getInventoriesByProductIds(Collection<ProductId> productIds);
 }
@@ -7,10 +7,14 @@ import com.flashdeal.app.domain.order.OrderStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface GetOrderUseCase {
     
     Mono<Order> getOrder(OrderId orderId);
     
+    Flux<Order> getOrders(Collection<OrderId> orderIds);
+    
     Flux<Order> getOrdersByUserId(UserId userId);
     
     Flux<Order> getOrdersByStatus(OrderStatus status);
@@ -1,13 +1,16 @@
 package com.flashdeal.app.application.port.in;
 
 import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductConnection;
 import com.flashdeal.app.domain.product.ProductFilter;
 import com.flashdeal.app.domain.product.ProductId;
 import com.flashdeal.app.domain.product.ProductPage;
 import com.flashdeal.app.domain.product.ProductSortOption;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.flashdeal.app.domain.common.CursorPagination;
 import com.flashdeal.app.domain.common.Pagination;
 import com.flashdeal.app.domain.product.DealStatus;
 
@@ -21,11 +24,18 @@ public interface GetProductUseCase {
     
     Mono<Product> getProduct(ProductId productId);
     
+    Flux<Product> getProducts(Collection<ProductId> productIds);
+    
     Flux<Product> getProductsByStatus(DealStatus status);
     
     Flux<Product> getProductsByCategory(String category);
 
     Mono<ProductPage> getProductsByFilter(ProductFilter filter, Pagination pagination, List<ProductSortOption> sortOptions);
+
+    Mono<ProductConnection> getProductsConnection(ProductFilter filter, CursorPagination pagination,
+            List<ProductSortOption> sortOptions, boolean includeTotalCount);
     
     Flux<Product> getActiveProducts();
+
+    Flux<Product> searchProducts(String text, int first);
 }
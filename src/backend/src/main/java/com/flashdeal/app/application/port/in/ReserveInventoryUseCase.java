@@ -1,5 +1,6 @@
 package com.flashdeal.app.application.port.in;
 
+import com.flashdeal.app.domain.order.UserId;
 import com.flashdeal.app.domain.product.ProductId;
 import reactor.core.publisher.Mono;
 
@@ -9,7 +10,8 @@ public interface ReserveInventoryUseCase {
     
     record ReserveInventoryCommand(
         ProductId productId,
-        int quantity
+        int quantity,
+        UserId userId
     ) {
         public ReserveInventoryCommand {
             if (productId == null) {
@@ -19,5 +21,9 @@ public interface ReserveInventoryUseCase {
                 throw new IllegalArgumentException("Quantity must be positive");
             }
         }
+
+        public ReserveInventoryCommand(ProductId productId, int quantity) {
+            this(productId, quantity, null);
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.flashdeal.app.application.port.in;
+
+import java.util.List;
+
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+import reactor.core.publisher.Mono;
+
+public interface WaitingRoomUseCase {
+
+    Mono<QueueTicket> joinQueue(ProductId productId, UserId userId);
+
+    Mono<QueueTicket> queuePosition(ProductId productId, UserId userId);
+
+    /**
+     * 차례가 된 사용자를 대기열에서 빼고 입장 토큰을 발급한다 (사용자당 하나, 차례가 아니면 빈 Mono)
+     */
+    Mono<String> admissionToken(ProductId productId, UserId userId);
+
+    /**
+     * 주문 상품 모두에 대해 같은 입장 토큰으로 입장했는지 확인한다 (대기열 비활성 시 통과)
+     */
+    Mono<Void> verifyAdmission(UserId userId, List<ProductId> productIds, String admissionToken);
+
+    record QueueTicket(
+        ProductId productId,
+        UserId userId,
+        long position
+    ) {
+        public boolean admitted() {
+            return position == 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.flashdeal.app.application.port.out;
+
+import com.flashdeal.app.application.port.in.DeadLetterUseCase.DeadLetter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Dead Letter Port
+ *
+ * 수신에 실패해 DLT로 보낸 레코드 저장소 포트 인터페이스
+ */
+public interface DeadLetterStore {
+
+    /**
+     * 최근 실패 순 (topic이 null이면 모든 토픽)
+     */
+    Flux<DeadLetter> findRecent(String topic, int limit);
+
+    Mono<DeadLetter> findById(String id);
+
+    /**
+     * 아직 재처리하지 않은 레코드를 재처리 표시하고 원래 토픽으로 다시 보낸다
+     *
+     * @return 재처리한 레코드 (없거나 이미 재처리했으면 빈 Mono)
+     */
+    Mono<DeadLetter> replay(String id);
+}
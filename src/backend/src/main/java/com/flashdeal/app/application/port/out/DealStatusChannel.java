@@ -0,0 +1,27 @@
+package com.flashdeal.app.application.port.out;
+
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deal Status Channel Port
+ *
+ * 딜 상태 변경을 모든 인스턴스에 알리는 포트 인터페이스
+ */
+public interface DealStatusChannel {
+
+    record DealStatusChange(ProductId productId, DealStatus status) {}
+
+    /**
+     * 상태가 바뀐 상품 알림 (바뀐 쪽에서 호출)
+     */
+    Mono<Void> publish(ProductId productId, DealStatus status);
+
+    /**
+     * 모든 인스턴스에서 바뀐 상태 (hot stream)
+     */
+    Flux<DealStatusChange> changes();
+}
@@ -0,0 +1,47 @@
+package com.flashdeal.app.application.port.out;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Deal Trigger Port
+ *
+ * 상품별 딜 시각(캐시 예열, 시작, 종료) 지연 큐 포트 인터페이스
+ * 상품마다 트리거 종류별로 하나만 있으며, 다시 등록하면 시각이 바뀐다.
+ *
+ * 가져간 트리거는 lease 동안 다시 나오지 않는다 (여러 인스턴스가 가져가도 한 곳에서만 처리).
+ * lease 안에 complete하지 않으면 다시 나온다.
+ */
+public interface DealTriggerQueue {
+
+    enum Trigger {
+        WARM_UP,
+        START,
+        END
+    }
+
+    /**
+     * 가져간 트리거, 큐에 있던 시각, lease 끝 시각
+     */
+    record DueTrigger(ProductId productId, Trigger trigger, Instant dueAt, Instant leaseUntil) {}
+
+    /**
+     * 트리거 등록 (이미 있으면 시각을 바꾼다)
+     */
+    Mono<Void> schedule(ProductId productId, Trigger trigger, Instant dueAt);
+
+    /**
+     * now까지 시각이 된 트리거를 최대 limit개 가져간다 (시각 순)
+     */
+    Flux<DueTrigger> claimDue(Instant now, Duration lease, int limit);
+
+    /**
+     * 처리가 끝난 트리거를 큐에서 뺀다 (그 사이 다시 등록되어 시각이 바뀌었으면 그대로 둔다)
+     */
+    Mono<Void> complete(DueTrigger trigger);
+}
@@ -0,0 +1,87 @@
+package com.flashdeal.app.application.port.out;
+
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inventory Counter Port
+ *
+ * 예약/확정/해제를 단일 원자 연산으로 처리하는 재고 카운터 포트 인터페이스
+ * 카운터가 쓰기 경로의 기준이며, MongoDB는 dirty 목록을 통해 비동기로 동기화된다.
+ *
+ * 카운터에 상품이 적재되지 않은 경우 각 연산은 빈 Mono를 반환한다.
+ * 샤딩된 상품(Policy.shardCount > 1)의 예약/확정/해제는 연산이 반영된 샤드의 재고를 반환하며,
+ * 상품 전체 재고는 getStock으로 조회한다.
+ */
+public interface InventoryCounter {
+
+    /**
+     * 카운터 적재 (이미 적재되어 있으면 기존 값 유지)
+     */
+    Mono<Stock> load(Inventory inventory);
+
+    /**
+     * 재고 예약 (available → reserved)
+     *
+     * 수량 한도(maxPurchase)는 요청 한 건 기준이며 사용자별 누적은 보지 않는다
+     * userId는 샤드 선택에만 쓰이며 없으면(null) 무작위 샤드를 고른다
+     */
+    Mono<Stock> reserve(ProductId productId, Quantity quantity, UserId userId);
+
+    /**
+     * 같은 상품의 예약 여러 건을 한 번에 적용 (그룹 커밋)
+     *
+     * 요청 순서대로 적용하며 한도 초과/수량 부족인 요청만 실패한다
+     */
+    Mono<BatchReservation> reserveAll(ProductId productId, List<Quantity> quantities);
+
+    /**
+     * 예약 확정 (reserved → sold)
+     */
+    Mono<Stock> confirm(ProductId productId, Quantity quantity);
+
+    /**
+     * 예약 해제 (reserved → available)
+     */
+    Mono<Stock> release(ProductId productId, Quantity quantity);
+
+    /**
+     * 현재 재고 조회
+     */
+    Mono<Stock> getStock(ProductId productId);
+
+    /**
+     * 재고가 바뀐 상품 알림 (hot stream, 같은 상품이 연달아 올 수 있다)
+     */
+    Flux<ProductId> changes();
+    
+    /**
+     * MongoDB 동기화가 필요한 상품 목록 추출
+     */
+    Flux<ProductId> drainDirty(int maxCount);
+
+    /**
+     * MongoDB 동기화 대상으로 재등록
+     */
+    Mono<Void> markDirty(ProductId productId);
+
+    /**
+     * 묶음 예약 결과
+     *
+     * failures는 실패한 요청의 순번(quantities 인덱스)별 예외이며, 없는 순번은 성공이다
+     */
+    record BatchReservation(Stock stock, Map<Integer, RuntimeException> failures) {
+
+        public RuntimeException failure(int index) {
+            return failures.get(index);
+        }
+    }
+}
@@ -2,9 +2,14 @@ package com.flashdeal.app.application.port.out;
 
 import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.inventory.InventoryId;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
 import com.flashdeal.app.domain.product.ProductId;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * Inventory Repository Port
  * 
@@ -13,7 +18,7 @@ import reactor.core.publisher.Mono;
 public interface InventoryRepository {
     
     /**
-     * 재고 저장
+     * 재고 저장 (신규 생성용, 기존 재고 수량은 조건부 연산과 updateStock으로만 바꾼다)
      */
     Mono<Inventory> save(Inventory inventory);
     
@@ -27,6 +32,33 @@ public interface InventoryRepository {
      */
     Mono<Inventory> findByProductId(ProductId productId);
     
+    /**
+     * 상품 ID 목록으로 재고 일괄 조회 (한 번의 쿼리, 재고가 없는 상품은 결과에서 빠진다)
+     */
+    Flux<Inventory> findByProductIdIn(Collection<ProductId> productIds);
+    
+    /**
+     * 재고 수량만 갱신 (카운터 → MongoDB 비동기 동기화)
+     */
+    Mono<Void> updateStock(ProductId productId, Stock stock);
+    
+    /**
+     * 조건부 재고 예약 (available >= quantity 이고 구매 한도 이내일 때만 반영)
+     * 
+     * 조건을 만족하지 않거나 재고가 없으면 빈 Mono를 반환한다
+     */
+    Mono<Stock> tryReserve(ProductId productId, Quantity quantity);
+    
+    /**
+     * 조건부 예약 확정 (reserved >= quantity 일 때만 반영)
+     */
+    Mono<Stock> tryConfirm(ProductId productId, Quantity quantity);
+    
+    /**
+     * 조건부 예약 해제 (reserved >= quantity 일 때만 반영)
+     */
+    Mono<Stock> tryRelease(ProductId productId, Quantity quantity);
+    
     /**
      * 재고 삭제
      */
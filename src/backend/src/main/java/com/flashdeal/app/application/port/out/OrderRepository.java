@@ -7,6 +7,9 @@ import com.flashdeal.app.domain.order.OrderStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.function.UnaryOperator;
+
 /**
  * Order Repository Port
  * 
@@ -15,15 +18,28 @@ import reactor.core.publisher.Mono;
 public interface OrderRepository {
     
     /**
-     * 주문 저장
+     * 주문 저장 (신규 생성용, 기존 주문 수정은 update 사용)
      */
     Mono<Order> save(Order order);
     
+    /**
+     * 낙관적 잠금 기반 주문 수정
+     * 
+     * 버전 충돌 시 최신 상태를 다시 읽어 mutation을 재적용한다.
+     * mutation에서 발생한 예외는 재시도 없이 그대로 전파되며, 주문이 없으면 빈 Mono를 반환한다
+     */
+    Mono<Order> update(OrderId id, UnaryOperator<Order> mutation);
+    
     /**
      * ID로 주문 조회
      */
     Mono<Order> findById(OrderId id);
     
+    /**
+     * ID 목록으로 주문 일괄 조회 (한 번의 쿼리, 없는 ID는 결과에서 빠지고 순서는 보장하지 않는다)
+     */
+    Flux<Order> findAllById(Collection<OrderId> ids);
+    
     /**
      * 사용자별 주문 목록 조회
      */
@@ -1,12 +1,15 @@
 package com.flashdeal.app.application.port.out;
 
 import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductConnection;
 import com.flashdeal.app.domain.product.ProductFilter;
 import com.flashdeal.app.domain.product.ProductId;
 import com.flashdeal.app.domain.product.ProductPage;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.flashdeal.app.domain.common.CursorPagination;
 import com.flashdeal.app.domain.common.Pagination;
 import com.flashdeal.app.domain.product.DealStatus;
 import com.flashdeal.app.domain.product.ProductSortOption;
@@ -25,12 +28,24 @@ public interface ProductRepository {
      * 상품 저장
      */
     Mono<Product> save(Product product);
+
+    /**
+     * 상태가 from일 때만 to로 바꾼다 (조건부 갱신)
+     *
+     * @return 바꾼 상품 (상태가 from이 아니었거나 상품이 없으면 빈 Mono)
+     */
+    Mono<Product> updateStatus(ProductId id, DealStatus from, DealStatus to);
     
     /**
      * ID로 상품 조회
      */
     Mono<Product> findById(ProductId id);
     
+    /**
+     * ID 목록으로 상품 일괄 조회 (한 번의 쿼리, 없는 ID는 결과에서 빠지고 순서는 보장하지 않는다)
+     */
+    Flux<Product> findAllById(Collection<ProductId> ids);
+    
     /**
      * 상태별 상품 목록 조회
      */
@@ -54,6 +69,19 @@ public interface ProductRepository {
      * 필터링 조회
      */
     Mono<ProductPage> findByFilter(ProductFilter filter, Pagination pagination, List<ProductSortOption> sort);
+    
+    /**
+     * 필터링 조회 (커서 기반, 정렬 키 + ID 순)
+     * 
+     * includeTotalCount가 false면 전체 개수를 세지 않는다
+     */
+    Mono<ProductConnection> findConnection(ProductFilter filter, CursorPagination pagination,
+            List<ProductSortOption> sort, boolean includeTotalCount);
+
+    /**
+     * 진행 중/예정 딜 텍스트 검색 (관련도 순, 최대 limit개)
+     */
+    Flux<Product> search(String text, int limit);
 
     /**
      * 상품 삭제
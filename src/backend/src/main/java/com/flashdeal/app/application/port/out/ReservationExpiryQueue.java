@@ -0,0 +1,44 @@
+package com.flashdeal.app.application.port.out;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.flashdeal.app.domain.order.OrderId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reservation Expiry Port
+ *
+ * 주문별 재고 예약 만료 시각 큐 포트 인터페이스
+ * 주문은 ID로 샤드에 나뉘어 들어가며, 샤드마다 만료 시각이 지난 주문을 가져갈 수 있다.
+ *
+ * 가져간 주문은 lease 동안 다시 나오지 않는다 (여러 인스턴스가 같은 샤드를 가져가도 한 곳에서만 처리).
+ * lease 안에 complete하지 않으면 (처리에 실패하거나 인스턴스가 죽으면) 다시 나온다.
+ */
+public interface ReservationExpiryQueue {
+
+    /**
+     * 가져간 주문과 큐에 있던 만료 시각 (다시 나온 주문이면 지난 lease 끝 시각)
+     */
+    record ExpiredReservation(OrderId orderId, Instant expiresAt) {}
+
+    int shardCount();
+
+    /**
+     * 만료 시각 등록 (이미 등록되어 있으면 그대로 둔다)
+     *
+     * @return 새로 등록했으면 true
+     */
+    Mono<Boolean> schedule(OrderId orderId, Instant expiresAt);
+
+    /**
+     * 샤드에서 now까지 만료된 주문을 최대 limit개 가져간다 (만료 시각 순)
+     */
+    Flux<ExpiredReservation> claimExpired(int shard, Instant now, Duration lease, int limit);
+
+    /**
+     * 처리가 끝난 주문을 큐에서 뺀다
+     */
+    Mono<Void> complete(OrderId orderId);
+}
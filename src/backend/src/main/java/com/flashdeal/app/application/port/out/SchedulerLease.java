@@ -0,0 +1,28 @@
+package com.flashdeal.app.application.port.out;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Scheduler Lease Port
+ *
+ * 인스턴스 사이에서 작업 단위(잡 파티션)를 한 곳에서만 실행하기 위한 lease 포트 인터페이스
+ * lease는 ttl이 지나면 저절로 풀리며, 가진 쪽만 연장할 수 있다.
+ */
+public interface SchedulerLease {
+
+    /**
+     * 비어 있으면 owner로 ttl 동안 잡는다
+     *
+     * @return 잡았으면 true
+     */
+    Mono<Boolean> tryAcquire(String name, String owner, Duration ttl);
+
+    /**
+     * owner가 가진 lease의 남은 시간을 ttl로 늘린다
+     *
+     * @return 아직 owner가 가지고 있었으면 true
+     */
+    Mono<Boolean> extend(String name, String owner, Duration ttl);
+}
@@ -0,0 +1,57 @@
+package com.flashdeal.app.application.port.out;
+
+import java.time.Duration;
+
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Waiting Queue Port
+ *
+ * 상품별 대기열 포트 인터페이스
+ * 입장 순번은 대기열 등록 순서로 정해지며, 입장 경계(head)를 일정 속도로 밀어 올려 사용자를 입장시킨다.
+ *
+ * 대기 순번은 1부터 시작하며 0은 이미 입장한 사용자를 뜻한다.
+ */
+public interface WaitingQueue {
+
+    /**
+     * 대기열 등록 (이미 등록되어 있으면 기존 순번 유지)
+     *
+     * @return 현재 대기 순번 (입장 완료 시 0)
+     */
+    Mono<Long> join(ProductId productId, UserId userId);
+
+    /**
+     * 현재 대기 순번 조회 (대기열에 없으면 빈 Mono)
+     */
+    Mono<Long> position(ProductId productId, UserId userId);
+
+    /**
+     * 입장 토큰 발급
+     *
+     * 입장 차례가 된 사용자에게만 발급하며, 발급된 토큰이 살아 있으면 같은 토큰을 반환한다.
+     * 토큰은 사용자 단위라 여러 상품에 입장해도 같은 토큰이다.
+     * 아직 차례가 아니거나 대기열에 없으면 빈 Mono를 반환한다.
+     */
+    Mono<String> issueToken(ProductId productId, UserId userId, Duration ttl);
+
+    /**
+     * 입장 토큰 확인
+     */
+    Mono<Boolean> verifyToken(ProductId productId, UserId userId, String token);
+
+    /**
+     * 입장 경계를 최대 count명만큼 올린다 (interval 동안 인스턴스 수와 무관하게 한 번만 적용)
+     *
+     * @return 새로 입장한 인원
+     */
+    Mono<Long> admit(ProductId productId, long count, Duration interval);
+
+    /**
+     * 대기 인원이 남아 있는 상품 목록
+     */
+    Flux<ProductId> activeQueues();
+}
@@ -0,0 +1,41 @@
+package com.flashdeal.app.application.service;
+
+import org.springframework.stereotype.Service;
+
+import com.flashdeal.app.application.port.in.DeadLetterUseCase;
+import com.flashdeal.app.application.port.out.DeadLetterStore;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * DLT 조회/재처리
+ */
+@Service
+public class DeadLetterService implements DeadLetterUseCase {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final DeadLetterStore deadLetterStore;
+
+    public DeadLetterService(DeadLetterStore deadLetterStore) {
+        this.deadLetterStore = deadLetterStore;
+    }
+
+    @Override
+    public Flux<DeadLetter> deadLetters(String topic, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        return deadLetterStore.findRecent(topic, limit);
+    }
+
+    @Override
+    public Mono<DeadLetter> replay(String id) {
+        return deadLetterStore.replay(id)
+                .switchIfEmpty(Mono.defer(() -> deadLetterStore.findById(id)
+                        .flatMap(deadLetter -> Mono.<DeadLetter>error(
+                                new IllegalStateException("Dead letter already replayed: " + id)))
+                        .switchIfEmpty(Mono.error(new IllegalArgumentException("Dead letter not found: " + id)))));
+    }
+}
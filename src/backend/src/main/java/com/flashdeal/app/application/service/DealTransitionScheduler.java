@@ -0,0 +1,64 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.DealTriggerQueue;
+import com.flashdeal.app.application.port.out.DealTriggerQueue.Trigger;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Product;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 상품의 딜 시각 트리거 등록
+ *
+ * - UPCOMING: 캐시 예열(시작 warm-up-lead 전), 시작, 종료
+ * - ACTIVE, SOLDOUT: 종료
+ * - ENDED: 없음
+ *
+ * 등록할 때마다 시각을 상품 일정으로 덮어쓰므로 일정이 바뀐 상품을 다시 등록하면 된다.
+ * 이미 지난 시각도 그대로 등록하며, 다음 poll에서 바로 처리된다.
+ */
+@Component
+public class DealTransitionScheduler {
+
+    private static final int REGISTER_CONCURRENCY = 16;
+
+    private final DealTriggerQueue dealTriggerQueue;
+    private final Duration warmUpLead;
+
+    public DealTransitionScheduler(DealTriggerQueue dealTriggerQueue,
+                                   @Value("${flashdeal.deal.warm-up-lead:5m}") Duration warmUpLead) {
+        this.dealTriggerQueue = dealTriggerQueue;
+        this.warmUpLead = warmUpLead;
+    }
+
+    public Mono<Void> register(Product product) {
+        if (product.status() == DealStatus.ENDED) {
+            return Mono.empty();
+        }
+        Mono<Void> end = dealTriggerQueue.schedule(product.productId(), Trigger.END,
+                product.schedule().endsAt().toInstant());
+        if (product.status() != DealStatus.UPCOMING) {
+            return end;
+        }
+        return Mono.when(
+                dealTriggerQueue.schedule(product.productId(), Trigger.WARM_UP,
+                        product.schedule().startsAt().toInstant().minus(warmUpLead)),
+                dealTriggerQueue.schedule(product.productId(), Trigger.START,
+                        product.schedule().startsAt().toInstant()),
+                end);
+    }
+
+    /**
+     * @return 등록한 상품 수
+     */
+    public Mono<Long> registerAll(Flux<Product> products) {
+        return products.flatMap(product -> register(product).thenReturn(product), REGISTER_CONCURRENCY)
+                .count();
+    }
+}
@@ -0,0 +1,97 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.flashdeal.app.application.port.in.DealUpdatesUseCase;
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * 딜 실시간 업데이트 (GraphQL 구독)
+ *
+ * 상품마다 인스턴스에 스트림 하나를 두고 그 상품의 구독자 모두가 나눠 받는다.
+ * 구독자가 없어지면 알림 구독을 끊고 스트림을 버린다.
+ * - 재고: 재고 카운터 변경 알림을 pushInterval(= 1초 / max-updates-per-second)마다 모아
+ *   바뀐 상품만 재고를 한 번 읽어 보낸다. 쓰기가 아무리 많아도 상품별로 초당 최대 횟수만 읽고 보낸다.
+ * - 상태: DealStatusChannel 알림을 같은 간격으로 모아 마지막 상태만 보낸다.
+ * 같은 값은 다시 보내지 않는다. 구독자마다 구독 시점의 현재 값을 먼저 받는다.
+ */
+@Service
+public class DealUpdateService implements DealUpdatesUseCase {
+
+    private final InventoryCounter inventoryCounter;
+    private final ProductRepository productRepository;
+    private final DealStatusChannel dealStatusChannel;
+    private final Duration pushInterval;
+
+    private final Map<String, Flux<StockUpdate>> stockStreams = new ConcurrentHashMap<>();
+    private final Map<String, Flux<DealStatusUpdate>> statusStreams = new ConcurrentHashMap<>();
+
+    public DealUpdateService(InventoryCounter inventoryCounter, ProductRepository productRepository,
+                             DealStatusChannel dealStatusChannel,
+                             @Value("${flashdeal.subscription.max-updates-per-second:5}") int maxUpdatesPerSecond) {
+        if (maxUpdatesPerSecond < 1) {
+            throw new IllegalArgumentException("Max updates per second must be positive: " + maxUpdatesPerSecond);
+        }
+        this.inventoryCounter = inventoryCounter;
+        this.productRepository = productRepository;
+        this.dealStatusChannel = dealStatusChannel;
+        this.pushInterval = Duration.ofMillis(1000 / maxUpdatesPerSecond);
+    }
+
+    @Override
+    public Flux<StockUpdate> stockChanges(ProductId productId) {
+        return inventoryCounter.getStock(productId)
+                .map(stock -> new StockUpdate(productId, stock))
+                .concatWith(shared(stockStreams, productId.value(), () -> stockStream(productId)))
+                .distinctUntilChanged(StockUpdate::stock);
+    }
+
+    @Override
+    public Flux<DealStatusUpdate> dealStatusChanges(ProductId productId) {
+        return productRepository.findById(productId)
+                .map(product -> new DealStatusUpdate(productId, product.status()))
+                .concatWith(shared(statusStreams, productId.value(), () -> statusStream(productId)))
+                .distinctUntilChanged(DealStatusUpdate::status);
+    }
+
+    /**
+     * 상품의 공유 스트림 (없으면 만들고, 마지막 구독자가 떠나면 맵에서 뺀다)
+     */
+    private static <T> Flux<T> shared(Map<String, Flux<T>> streams, String key, Supplier<Flux<T>> factory) {
+        return streams.computeIfAbsent(key, ignored -> {
+            AtomicReference<Flux<T>> self = new AtomicReference<>();
+            Flux<T> stream = factory.get()
+                    .doFinally(signal -> streams.remove(key, self.get()))
+                    .share();
+            self.set(stream);
+            return stream;
+        });
+    }
+
+    private Flux<StockUpdate> stockStream(ProductId productId) {
+        return inventoryCounter.changes()
+                .filter(productId::equals)
+                .sample(pushInterval)
+                .concatMap(changed -> inventoryCounter.getStock(productId))
+                .map(stock -> new StockUpdate(productId, stock));
+    }
+
+    private Flux<DealStatusUpdate> statusStream(ProductId productId) {
+        return dealStatusChannel.changes()
+                .filter(change -> change.productId().equals(productId))
+                .sample(pushInterval)
+                .map(change -> new DealStatusUpdate(productId, change.status()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.flashdeal.app.application.service;
 
+import java.util.Collection;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
@@ -9,6 +11,7 @@ import com.flashdeal.app.application.port.in.CreateInventoryUseCase;
 import com.flashdeal.app.application.port.in.GetInventoryUseCase;
 import com.flashdeal.app.application.port.in.ReleaseInventoryUseCase;
 import com.flashdeal.app.application.port.in.ReserveInventoryUseCase;
+import com.flashdeal.app.application.port.out.InventoryCounter;
 import com.flashdeal.app.application.port.out.InventoryRepository;
 import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.inventory.InventoryId;
@@ -17,6 +20,7 @@ import com.flashdeal.app.domain.inventory.Quantity;
 import com.flashdeal.app.domain.inventory.Stock;
 import com.flashdeal.app.domain.product.ProductId;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -31,9 +35,14 @@ public class InventoryService implements
         ReleaseInventoryUseCase {
 
     private final InventoryRepository inventoryRepository;
+    private final InventoryCounter inventoryCounter;
+    private final ReservationBatcher reservationBatcher;
 
-    public InventoryService(InventoryRepository inventoryRepository) {
+    public InventoryService(InventoryRepository inventoryRepository, InventoryCounter inventoryCounter,
+            ReservationBatcher reservationBatcher) {
         this.inventoryRepository = inventoryRepository;
+        this.inventoryCounter = inventoryCounter;
+        this.reservationBatcher = reservationBatcher;
     }
 
     @Override
@@ -49,7 +58,8 @@ public class InventoryService implements
         Policy policy = new Policy(
                 command.lowStockThreshold(),
                 command.reservationTimeout(),
-                command.maxPurchaseQuantity());
+                command.maxPurchaseQuantity(),
+                command.shardCount());
 
         Inventory inventory = new Inventory(
                 inventoryId,
@@ -57,67 +67,84 @@ public class InventoryService implements
                 stock,
                 policy);
 
-        return inventoryRepository.save(inventory);
+        return inventoryRepository.save(inventory)
+                .flatMap(saved -> inventoryCounter.load(saved).thenReturn(saved));
     }
 
     @Override
     public Mono<Inventory> getInventory(InventoryId inventoryId) {
         return inventoryRepository.findById(inventoryId)
-                .switchIfEmpty(Mono.error(new IllegalArgumentException("Inventory not found: " + inventoryId)));
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Inventory not found: " + inventoryId)))
+                .flatMap(this::withCounterStock);
     }
 
     @Override
     public Mono<Inventory> getInventoryByProductId(ProductId productId) {
         return inventoryRepository.findByProductId(productId)
                 .switchIfEmpty(
-                        Mono.error(new IllegalArgumentException("Inventory not found for product: " + productId)));
+                        Mono.error(new IllegalArgumentException("Inventory not found for product: " + productId)))
+                .flatMap(this::withCounterStock);
     }
 
+    /**
+     * MongoDB는 한 번만 읽고, 상품별 카운터 재고 조회는 동시에 보낸다
+     */
     @Override
-    public Mono<Void> reserve(ReserveInventoryCommand command) {
-        return inventoryRepository.findByProductId(command.productId())
-                .switchIfEmpty(Mono
-                        .error(new IllegalArgumentException("Inventory not found for product: " + command.productId())))
-                .flatMap(inventory -> {
-                    validateInventoryForReservation(inventory, command.quantity());
-                    inventory.reserve(new Quantity(command.quantity()));
-                    return inventoryRepository.save(inventory);
-                })
-                .then();
+    public Flux<Inventory> getInventoriesByProductIds(Collection<ProductId> productIds) {
+        return inventoryRepository.findByProductIdIn(productIds)
+                .flatMap(this::withCounterStock);
+    }
+
+    /**
+     * 카운터에 적재된 재고가 있으면 MongoDB 값보다 우선한다 (MongoDB는 비동기 동기화)
+     */
+    private Mono<Inventory> withCounterStock(Inventory inventory) {
+        return inventoryCounter.getStock(inventory.productId())
+                .map(stock -> new Inventory(inventory.inventoryId(), inventory.productId(), stock, inventory.policy()))
+                .defaultIfEmpty(inventory);
     }
 
-    private void validateInventoryForReservation(Inventory inventory, int quantity) {
-        if (!inventory.policy().isValidPurchaseQuantity(new Quantity(quantity))) {
-            throw new IllegalArgumentException(
-                    "Invalid purchase quantity: " + quantity +
-                            " (max: " + inventory.policy().maxPurchasePerUser() + ")");
-        }
-        if (inventory.stock().outOfStock()) {
-            throw new IllegalStateException("Product is out of stock");
-        }
+    /**
+     * 같은 상품의 동시 예약은 ReservationBatcher에서 묶어 한 번에 적용한다
+     */
+    @Override
+    public Mono<Void> reserve(ReserveInventoryCommand command) {
+        Quantity quantity = new Quantity(command.quantity());
+        return applyToCounter(command.productId(),
+                () -> reservationBatcher.reserve(command.productId(), quantity, command.userId()))
+                .then();
     }
 
     @Override
     public Mono<Void> confirm(ConfirmInventoryCommand command) {
-        return inventoryRepository.findByProductId(command.productId())
-                .switchIfEmpty(Mono
-                        .error(new IllegalArgumentException("Inventory not found for product: " + command.productId())))
-                .flatMap(inventory -> {
-                    inventory.confirm(new Quantity(command.quantity()));
-                    return inventoryRepository.save(inventory);
-                })
+        Quantity quantity = new Quantity(command.quantity());
+        return applyToCounter(command.productId(), () -> inventoryCounter.confirm(command.productId(), quantity))
                 .then();
     }
 
     @Override
     public Mono<Void> release(ReleaseInventoryCommand command) {
-        return inventoryRepository.findByProductId(command.productId())
-                .switchIfEmpty(Mono
-                        .error(new IllegalArgumentException("Inventory not found for product: " + command.productId())))
-                .flatMap(inventory -> {
-                    inventory.release(new Quantity(command.quantity()));
-                    return inventoryRepository.save(inventory);
-                })
+        Quantity quantity = new Quantity(command.quantity());
+        return applyToCounter(command.productId(), () -> inventoryCounter.release(command.productId(), quantity))
                 .then();
     }
+
+    /**
+     * 카운터 연산 실행
+     *
+     * 카운터에 상품이 없으면 MongoDB에서 적재한 뒤 한 번 더 시도한다
+     */
+    private Mono<Stock> applyToCounter(ProductId productId, Supplier<Mono<Stock>> operation) {
+        return operation.get()
+                .switchIfEmpty(Mono.defer(() -> loadCounter(productId).then(operation.get())))
+                .switchIfEmpty(Mono.error(
+                        new IllegalStateException("Inventory counter unavailable for product: " + productId)));
+    }
+
+    private Mono<Stock> loadCounter(ProductId productId) {
+        return inventoryRepository.findByProductId(productId)
+                .switchIfEmpty(Mono
+                        .error(new IllegalArgumentException("Inventory not found for product: " + productId)))
+                .flatMap(inventoryCounter::load);
+    }
 }
@@ -0,0 +1,49 @@
+package com.flashdeal.app.application.service;
+
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.domain.product.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 재고 카운터 → MongoDB 비동기 동기화
+ *
+ * 카운터에서 변경된 상품만 dirty 목록으로 받아 현재 스냅샷을 기록한다.
+ * 같은 상품이 여러 번 변경되어도 한 번의 쓰기로 합쳐진다.
+ */
+@Service
+public class InventorySyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventorySyncService.class);
+
+    private static final int SYNC_BATCH_SIZE = 100;
+
+    private final InventoryCounter inventoryCounter;
+    private final InventoryRepository inventoryRepository;
+
+    public InventorySyncService(InventoryCounter inventoryCounter, InventoryRepository inventoryRepository) {
+        this.inventoryCounter = inventoryCounter;
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void syncDirtyStock() {
+        inventoryCounter.drainDirty(SYNC_BATCH_SIZE)
+                .flatMap(this::syncStock)
+                .subscribe();
+    }
+
+    private Mono<Void> syncStock(ProductId productId) {
+        return inventoryCounter.getStock(productId)
+                .flatMap(stock -> inventoryRepository.updateStock(productId, stock))
+                .onErrorResume(error -> {
+                    logger.warn("Failed to sync stock for productId: {}", productId.value(), error);
+                    return inventoryCounter.markDirty(productId);
+                });
+    }
+}
@@ -0,0 +1,175 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.in.CreateOrderUseCase.OrderItemDto;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주문 생성 입장 게이트 (인스턴스 로컬)
+ *
+ * 품절 상품 집합과 남은 재고로 채운 상품별 토큰 버킷을 메모리에 두고,
+ * 새 주문이 입장 토큰 확인/상품 조회/재고 예약 같은 I/O를 하기 전에 걸러낸다.
+ * 멱등성 키 재시도는 게이트보다 먼저 기존 주문을 돌려받으므로 품절 뒤에도 거절되지 않는다.
+ *
+ * - 품절 상품: 즉시 거절
+ * - 토큰: 새로 고칠 때마다 available × OVER_ADMIT_FACTOR 로 다시 채우고, 주문 수량만큼 소비한다
+ * - 통과한 뒤 주문을 만들지 못하면 refund로 토큰을 돌려준다
+ * - 게이트가 모르는 상품은 통과시키고 비동기로 재고를 읽어 온다
+ *
+ * 재고 카운터의 변경 알림은 상품별로 REFRESH_INTERVAL 동안 모아 한 번만 다시 읽으며,
+ * 알림을 놓쳐도 재입고/취소가 반영되도록 품절 상품은 주기적으로 다시 확인한다.
+ * 게이트는 예약을 대신하지 않는다. 통과한 요청도 재고 카운터에서 최종 판정된다.
+ */
+@Component
+public class OrderAdmissionGate {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderAdmissionGate.class);
+
+    static final String REJECTED_METRIC = "flashdeal.admission.rejected";
+
+    private static final long OVER_ADMIT_FACTOR = 2;
+    private static final Duration REFRESH_INTERVAL = Duration.ofMillis(100);
+
+    private final InventoryCounter inventoryCounter;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> soldOut = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> tokens = new ConcurrentHashMap<>();
+    private final Set<String> tracked = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingRefresh = ConcurrentHashMap.newKeySet();
+
+    private Disposable changeSubscription;
+
+    public OrderAdmissionGate(InventoryCounter inventoryCounter, MeterRegistry meterRegistry) {
+        this.inventoryCounter = inventoryCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        changeSubscription = inventoryCounter.changes()
+                .filter(productId -> pendingRefresh.add(productId.value()))
+                .flatMap(productId -> Mono.delay(REFRESH_INTERVAL)
+                        .doOnNext(tick -> pendingRefresh.remove(productId.value()))
+                        .then(refresh(productId)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (changeSubscription != null) {
+            changeSubscription.dispose();
+        }
+    }
+
+    /**
+     * 주문 항목 입장 판정 (I/O 없음)
+     *
+     * 거절되면 IllegalStateException으로 끝나는 Mono를 반환한다
+     */
+    public Mono<Void> admit(List<OrderItemDto> items) {
+        for (OrderItemDto item : items) {
+            if (soldOut.contains(item.productId().value())) {
+                return reject(item.productId(), "sold_out", "Product is sold out: " + item.productId().value());
+            }
+        }
+
+        List<OrderItemDto> taken = new ArrayList<>();
+        for (OrderItemDto item : items) {
+            AtomicLong bucket = tokens.get(item.productId().value());
+            if (bucket == null) {
+                track(item.productId());
+                continue;
+            }
+            long quantity = item.quantity().value();
+            if (bucket.getAndUpdate(current -> current >= quantity ? current - quantity : current) < quantity) {
+                taken.forEach(this::refundItem);
+                return reject(item.productId(), "no_tokens",
+                        "Too many orders for product: " + item.productId().value() + ", please retry");
+            }
+            taken.add(item);
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * 통과했지만 주문을 만들지 못한 항목의 토큰 반환
+     *
+     * 그 사이 재고 갱신으로 버킷이 다시 채워졌다면 더 많이 돌려줄 수 있지만, 다음 갱신 때 다시 맞춰진다
+     */
+    public void refund(List<OrderItemDto> items) {
+        items.forEach(this::refundItem);
+    }
+
+    /**
+     * 품절 상품 재확인 (변경 알림 유실, 다른 인스턴스의 MongoDB 경로 변경 대비)
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void refreshSoldOut() {
+        Flux.fromIterable(soldOut)
+                .map(ProductId::new)
+                .flatMap(this::refresh)
+                .subscribe();
+    }
+
+    Mono<Void> refresh(ProductId productId) {
+        return inventoryCounter.getStock(productId)
+                .doOnNext(stock -> apply(productId, stock))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Failed to refresh admission state for productId: {}", productId.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(ProductId productId, Stock stock) {
+        String key = productId.value();
+        long available = stock.available().value();
+        tokens.computeIfAbsent(key, ignored -> new AtomicLong()).set(available * OVER_ADMIT_FACTOR);
+        if (stock.outOfStock()) {
+            soldOut.add(key);
+        } else {
+            soldOut.remove(key);
+        }
+    }
+
+    private void track(ProductId productId) {
+        if (tracked.add(productId.value())) {
+            refresh(productId).subscribe();
+        }
+    }
+
+    private void refundItem(OrderItemDto item) {
+        AtomicLong bucket = tokens.get(item.productId().value());
+        if (bucket != null) {
+            bucket.addAndGet(item.quantity().value());
+        }
+    }
+
+    private Mono<Void> reject(ProductId productId, String reason, String message) {
+        meterRegistry.counter(REJECTED_METRIC, "reason", reason).increment();
+        return Mono.error(new IllegalStateException(message));
+    }
+}
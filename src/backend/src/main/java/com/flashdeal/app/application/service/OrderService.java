@@ -1,21 +1,28 @@
 package com.flashdeal.app.application.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.flashdeal.app.application.port.in.CancelOrderUseCase;
 import com.flashdeal.app.application.port.in.CompletePaymentUseCase;
 import com.flashdeal.app.application.port.in.CreateOrderUseCase;
+import com.flashdeal.app.application.port.in.ConfirmInventoryUseCase;
 import com.flashdeal.app.application.port.in.GetOrderUseCase;
-import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.application.port.in.ReleaseInventoryUseCase;
+import com.flashdeal.app.application.port.in.ReserveInventoryUseCase;
+import com.flashdeal.app.application.port.in.WaitingRoomUseCase;
 import com.flashdeal.app.application.port.out.OrderRepository;
 import com.flashdeal.app.application.port.out.ProductRepository;
-import com.flashdeal.app.domain.inventory.Inventory;
-import com.flashdeal.app.domain.inventory.Quantity;
 import com.flashdeal.app.domain.order.Address;
 import com.flashdeal.app.domain.order.Order;
 import com.flashdeal.app.domain.order.OrderId;
@@ -25,9 +32,12 @@ import com.flashdeal.app.domain.order.Recipient;
 import com.flashdeal.app.domain.order.Shipping;
 import com.flashdeal.app.domain.order.Snapshot;
 import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.ProductId;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 /**
  * Order Application Service
@@ -39,24 +49,59 @@ public class OrderService implements
         CancelOrderUseCase,
         CompletePaymentUseCase {
 
+    private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
+
+    // 주문 상태를 저장한 뒤의 재고 연산은 되돌릴 수 없으므로 일시 오류는 다시 시도한다
+    private static final int STOCK_RETRIES = 3;
+    private static final Duration STOCK_RETRY_BACKOFF = Duration.ofMillis(50);
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
-    private final InventoryRepository inventoryRepository;
+    private final ReserveInventoryUseCase reserveInventoryUseCase;
+    private final ConfirmInventoryUseCase confirmInventoryUseCase;
+    private final ReleaseInventoryUseCase releaseInventoryUseCase;
+    private final OrderAdmissionGate admissionGate;
+    private final WaitingRoomUseCase waitingRoomUseCase;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
 
     public OrderService(
             OrderRepository orderRepository,
             ProductRepository productRepository,
-            InventoryRepository inventoryRepository) {
+            ReserveInventoryUseCase reserveInventoryUseCase,
+            ConfirmInventoryUseCase confirmInventoryUseCase,
+            ReleaseInventoryUseCase releaseInventoryUseCase,
+            OrderAdmissionGate admissionGate,
+            WaitingRoomUseCase waitingRoomUseCase,
+            ReservationExpiryScheduler reservationExpiryScheduler) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
-        this.inventoryRepository = inventoryRepository;
+        this.reserveInventoryUseCase = reserveInventoryUseCase;
+        this.confirmInventoryUseCase = confirmInventoryUseCase;
+        this.releaseInventoryUseCase = releaseInventoryUseCase;
+        this.admissionGate = admissionGate;
+        this.waitingRoomUseCase = waitingRoomUseCase;
+        this.reservationExpiryScheduler = reservationExpiryScheduler;
     }
 
+    /**
+     * 같은 멱등성 키의 재시도는 기존 주문을 반환한다 (품절 뒤의 재시도도 거절하지 않는다)
+     * 새 주문은 품절/과밀 상품을 입장 게이트에서 I/O 없이 먼저 거절하고, 대기실 입장 토큰이 있어야 만들 수 있다
+     * 게이트를 통과한 뒤 주문을 만들지 못하면 소비한 게이트 토큰을 돌려준다
+     */
     @Override
-    @Transactional
     public Mono<Order> createOrder(CreateOrderCommand command) {
-        return orderRepository.findByIdempotencyKey(command.idempotencyKey())
-                .switchIfEmpty(createNewOrder(command));
+        return Mono.defer(() -> orderRepository.findByIdempotencyKey(command.idempotencyKey()))
+                .switchIfEmpty(Mono.defer(() -> admissionGate.admit(command.items()))
+                        .then(Mono.defer(() -> verifyAdmission(command)
+                                .then(createNewOrder(command))
+                                .doOnError(error -> admissionGate.refund(command.items())))));
+    }
+
+    private Mono<Void> verifyAdmission(CreateOrderCommand command) {
+        return Mono.defer(() -> waitingRoomUseCase.verifyAdmission(
+                command.userId(),
+                command.items().stream().map(OrderItemDto::productId).toList(),
+                command.admissionToken()));
     }
 
     private Mono<Order> createNewOrder(CreateOrderCommand command) {
@@ -71,11 +116,42 @@ public class OrderService implements
                             command.userId(),
                             orderItems,
                             shipping,
-                            command.idempotencyKey());
-                    order = order.applyDiscount(command.discount());
+                            command.idempotencyKey())
+                            .applyDiscount(command.discount());
 
-                    return reserveInventory(command.items())
-                            .then(orderRepository.save(order));
+                    Queue<OrderItemDto> reserved = new ConcurrentLinkedQueue<>();
+                    return reserveInventory(command.userId(), command.items(), reserved)
+                            .then(Mono.defer(() -> orderRepository.save(order)))
+                            .onErrorResume(error -> compensate(orderId, reserved).then(Mono.error(error)))
+                            .flatMap(saved -> scheduleExpiry(saved).thenReturn(saved));
+                });
+    }
+
+    /**
+     * 주문을 만들지 못했으면 이미 예약한 항목을 해제한다 (원래 오류는 그대로 전달)
+     */
+    private Mono<Void> compensate(OrderId orderId, Queue<OrderItemDto> reserved) {
+        if (reserved.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(reserved)
+                .flatMapDelayError(item -> release(item.productId(), item.quantity().value()),
+                        reserved.size(), 1)
+                .then()
+                .onErrorResume(error -> {
+                    logger.error("Failed to release reservations of unsaved order: {}", orderId.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 예약 만료 시각 등록 (실패해도 주문은 유지, OrderTimeoutService가 주기적으로 다시 채운다)
+     */
+    private Mono<Void> scheduleExpiry(Order order) {
+        return reservationExpiryScheduler.register(order)
+                .onErrorResume(error -> {
+                    logger.warn("Failed to schedule reservation expiry for order: {}", order.orderId().value(), error);
+                    return Mono.empty();
                 });
     }
 
@@ -85,6 +161,9 @@ public class OrderService implements
                         .switchIfEmpty(
                                 Mono.error(new IllegalArgumentException("Product not found: " + item.productId())))
                         .map(product -> {
+                            if (product.status() == DealStatus.SOLDOUT) {
+                                throw new IllegalStateException("Product is sold out: " + item.productId().value());
+                            }
                             Snapshot snapshot = new Snapshot(
                                     product.title(),
                                     product.specs().get("imageUrl") != null ? product.specs().get("imageUrl").toString()
@@ -117,34 +196,32 @@ public class OrderService implements
                 dto.detailAddress());
     }
 
-    private Mono<Void> reserveInventory(List<OrderItemDto> items) {
+    /**
+     * 항목별 예약 (성공한 항목은 reserved에 모은다)
+     *
+     * 한 항목이 실패해도 진행 중인 예약은 끝까지 기다린 뒤 오류를 내보내, 취소된 예약이 보상에서 빠지지 않게 한다.
+     */
+    private Mono<Void> reserveInventory(UserId userId, List<OrderItemDto> items, Queue<OrderItemDto> reserved) {
         return Flux.fromIterable(items)
-                .flatMap(item -> inventoryRepository.findByProductId(item.productId())
-                        .switchIfEmpty(Mono.error(
-                                new IllegalArgumentException("Inventory not found for product: " + item.productId())))
-                        .flatMap(inventory -> {
-                            validateInventoryForPurchase(inventory, item.quantity());
-                                                inventory.reserve(item.quantity());
-                            return inventoryRepository.save(inventory);
-                        }))
+                .flatMapDelayError(item -> reserveInventoryUseCase.reserve(
+                        new ReserveInventoryUseCase.ReserveInventoryCommand(
+                                item.productId(), item.quantity().value(), userId))
+                        .doOnSuccess(ignored -> reserved.add(item)),
+                        items.size(), 1)
                 .then();
     }
 
-    private void validateInventoryForPurchase(Inventory inventory, Quantity quantity) {
-            if (!inventory.policy().isValidPurchaseQuantity(quantity)) {
-            throw new IllegalArgumentException("Invalid purchase quantity: " + quantity);
-        }
-        if (inventory.stock().outOfStock()) {
-            throw new IllegalStateException("Product is out of stock");
-        }
-    }
-
     @Override
     public Mono<Order> getOrder(OrderId orderId) {
         return orderRepository.findById(orderId)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + orderId)));
     }
 
+    @Override
+    public Flux<Order> getOrders(Collection<OrderId> orderIds) {
+        return orderRepository.findAllById(orderIds);
+    }
+
     @Override
     public Flux<Order> getOrdersByUserId(UserId userId) {
         return orderRepository.findByUserId(userId);
@@ -161,61 +238,82 @@ public class OrderService implements
     }
 
     @Override
-    @Transactional
     public Mono<Order> cancelOrder(CancelOrderCommand command) {
-        return orderRepository.findById(command.orderId())
-                .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
-                .flatMap(order -> {
+        String reason = command.reason() != null ? command.reason() : "User requested";
+        return orderRepository.update(command.orderId(), order -> {
                     if (order.status() != OrderStatus.PENDING) {
-                        return Mono.error(new IllegalStateException(
-                                "Cannot cancel order with status: " + order.status()));
+                        throw new IllegalStateException(
+                                "Cannot cancel order with status: " + order.status());
                     }
+                    return order.cancel(reason, order.userId().value());
+                })
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
+                .flatMap(this::releaseCancelledStock);
+    }
 
-                    String reason = command.reason() != null ? command.reason() : "User requested";
-                    String cancelledBy = order.userId().value();
-                    Order cancelledOrder = order.cancel(reason, cancelledBy);
+    @Override
+    public Mono<Order> releasePendingStock(OrderId orderId, Instant cancelledBefore) {
+        return orderRepository.findById(orderId)
+                .filter(Order::isStockReleasePending)
+                .flatMap(order -> order.cancellation().cancelledAt().isBefore(cancelledBefore)
+                        ? releaseCancelledStock(order)
+                        : Mono.error(new IllegalStateException(
+                                "Stock release may still be in progress for order: " + orderId.value())));
+    }
 
-                    return releaseInventory(cancelledOrder.items())
-                            .then(orderRepository.save(cancelledOrder));
-                });
+    /**
+     * 취소된 주문의 재고 해제 (해제가 끝난 뒤에야 주문에 해제 완료를 기록한다)
+     *
+     * 해제에 실패하면 주문은 해제 대기로 남고, 만료 큐에 남은 주문을 OrderTimeoutService가 releasePendingStock으로 다시 해제한다.
+     */
+    private Mono<Order> releaseCancelledStock(Order cancelledOrder) {
+        return releaseInventory(cancelledOrder.items())
+                .then(Mono.defer(() -> orderRepository.update(cancelledOrder.orderId(), Order::markStockReleased)))
+                .doOnError(error -> logger.error("Order {} cancelled but its stock was not released",
+                        cancelledOrder.orderId().value(), error));
     }
 
     private Mono<Void> releaseInventory(List<OrderItem> items) {
         return Flux.fromIterable(items)
-                .flatMap(item -> inventoryRepository.findByProductId(item.productId())
-                        .flatMap(inventory -> {
-                                                inventory.release(item.quantity());
-                            return inventoryRepository.save(inventory);
-                        }))
+                .flatMapDelayError(item -> release(item.productId(), item.quantity().value()), items.size(), 1)
                 .then();
     }
 
+    private Mono<Void> release(ProductId productId, int quantity) {
+        return withStockRetry(Mono.defer(() -> releaseInventoryUseCase.release(
+                new ReleaseInventoryUseCase.ReleaseInventoryCommand(productId, quantity))));
+    }
+
     @Override
-    @Transactional
     public Mono<Order> completePayment(CompletePaymentCommand command) {
-        return orderRepository.findById(command.orderId())
-                .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
-                .flatMap(order -> {
+        return orderRepository.update(command.orderId(), order -> {
                     if (order.status() != OrderStatus.PENDING) {
-                        return Mono.error(new IllegalStateException(
-                                "Cannot complete payment for order with status: " + order.status()));
+                        throw new IllegalStateException(
+                                "Cannot complete payment for order with status: " + order.status());
                     }
-
-                    Order completedOrder = order.completePayment(command.transactionId());
-                    Order confirmedOrder = completedOrder.confirm();
-
-                    return confirmInventory(confirmedOrder.items())
-                            .then(orderRepository.save(confirmedOrder));
-                });
+                    return order.completePayment(command.transactionId()).confirm();
+                })
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
+                .flatMap(confirmedOrder -> confirmInventory(confirmedOrder.items())
+                        .doOnError(error -> logger.error("Order {} confirmed but its stock was not confirmed",
+                                confirmedOrder.orderId().value(), error))
+                        .thenReturn(confirmedOrder));
     }
 
     private Mono<Void> confirmInventory(List<OrderItem> items) {
         return Flux.fromIterable(items)
-                .flatMap(item -> inventoryRepository.findByProductId(item.productId())
-                        .flatMap(inventory -> {
-                                                inventory.confirm(item.quantity());
-                            return inventoryRepository.save(inventory);
-                        }))
+                .flatMapDelayError(item -> withStockRetry(Mono.defer(() -> confirmInventoryUseCase.confirm(
+                        new ConfirmInventoryUseCase.ConfirmInventoryCommand(item.productId(), item.quantity().value())))),
+                        items.size(), 1)
                 .then();
     }
+
+    /**
+     * 재고 연산 재시도 (재고가 없는 상품 같은 입력 오류는 다시 시도하지 않는다)
+     */
+    private static Mono<Void> withStockRetry(Mono<Void> operation) {
+        return operation.retryWhen(Retry.backoff(STOCK_RETRIES, STOCK_RETRY_BACKOFF)
+                .filter(error -> !(error instanceof IllegalArgumentException))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
 }
@@ -2,8 +2,15 @@ package com.flashdeal.app.application.service;
 
 import com.flashdeal.app.application.port.in.CancelOrderUseCase;
 import com.flashdeal.app.application.port.out.OrderRepository;
-import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue.ExpiredReservation;
+import com.flashdeal.app.domain.order.OrderId;
 import com.flashdeal.app.domain.order.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -12,28 +19,117 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.time.Instant;
 
+/**
+ * 재고 예약 만료 (결제하지 않은 주문 취소)
+ *
+ * 주문은 생성 시 ReservationExpiryScheduler가 상품 정책의 만료 시각으로 만료 큐에 등록한다.
+ * 여기서는 POLL_INTERVAL마다 샤드에서 만료된 주문만 가져와 취소하므로 (재고 해제 포함)
+ * 예약 재고는 만료 후 1초 안에 다시 판매된다. 주문 컬렉션을 훑지 않는다.
+ *
+ * 샤드는 PartitionedJobRunner의 파티션이라, 주기마다 샤드 하나는 클러스터에서 한 인스턴스만 처리한다
+ * (인스턴스가 늘면 인스턴스마다 맡는 샤드가 줄어든다). 큐 재구성은 파티션 하나짜리 작업이라 한 곳에서만 돈다.
+ *
+ * - 이미 결제/취소된 주문은 큐에서만 뺀다 (취소 후 재고를 해제하지 못한 주문은 해제를 다시 시도한 뒤 뺀다)
+ * - 일시적인 실패는 큐에 남겨 CLAIM_LEASE 뒤에 다시 시도한다
+ * - 기동 시와 REBUILD_INTERVAL마다 PENDING 주문으로 큐를 다시 채운다 (Redis 재시작, 등록 누락 대비)
+ */
 @Service
 public class OrderTimeoutService {
 
-    private static final Duration ORDER_TIMEOUT = Duration.ofMinutes(10);
+    private static final Logger logger = LoggerFactory.getLogger(OrderTimeoutService.class);
+
+    static final String EXPIRED_METRIC = "flashdeal.order.expired";
+
+    private static final long POLL_INTERVAL_MS = 200;
+    private static final long REBUILD_INTERVAL_MS = 300_000;
+    private static final Duration CLAIM_LEASE = Duration.ofSeconds(30);
+    // 이보다 최근에 취소된 주문은 취소한 쪽이 아직 재고를 해제하는 중일 수 있다
+    private static final Duration RELEASE_GRACE = Duration.ofSeconds(5);
+    private static final int CLAIM_BATCH_SIZE = 100;
+    private static final int SHARD_CONCURRENCY = 4;
+    private static final int CANCEL_CONCURRENCY = 16;
+
+    static final String EXPIRY_JOB = "order-expiry";
+    static final String REBUILD_JOB = "order-expiry-rebuild";
 
     private final OrderRepository orderRepository;
     private final CancelOrderUseCase cancelOrderUseCase;
+    private final ReservationExpiryQueue reservationExpiryQueue;
+    private final ReservationExpiryScheduler reservationExpiryScheduler;
+    private final PartitionedJobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
 
-    public OrderTimeoutService(OrderRepository orderRepository, CancelOrderUseCase cancelOrderUseCase) {
+    public OrderTimeoutService(OrderRepository orderRepository, CancelOrderUseCase cancelOrderUseCase,
+                               ReservationExpiryQueue reservationExpiryQueue,
+                               ReservationExpiryScheduler reservationExpiryScheduler,
+                               PartitionedJobRunner jobRunner, MeterRegistry meterRegistry) {
         this.orderRepository = orderRepository;
         this.cancelOrderUseCase = cancelOrderUseCase;
+        this.reservationExpiryQueue = reservationExpiryQueue;
+        this.reservationExpiryScheduler = reservationExpiryScheduler;
+        this.jobRunner = jobRunner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 만료된 주문 취소 (샤드마다 lease를 잡은 인스턴스만, 앞 주기가 끝나지 않은 샤드는 건너뛴다)
+     */
+    @Scheduled(fixedDelay = POLL_INTERVAL_MS)
+    public void cancelExpiredOrders() {
+        jobRunner.run(EXPIRY_JOB, reservationExpiryQueue.shardCount(), Duration.ofMillis(POLL_INTERVAL_MS),
+                        SHARD_CONCURRENCY, this::expireShard)
+                .subscribe(null, error -> logger.warn("Failed to poll reservation expiry queue", error));
+    }
+
+    /**
+     * PENDING 주문으로 만료 큐를 다시 채운다 (이미 있는 주문은 그대로)
+     */
+    @Scheduled(fixedRate = REBUILD_INTERVAL_MS, initialDelay = REBUILD_INTERVAL_MS)
+    public void rebuild() {
+        jobRunner.run(REBUILD_JOB, 1, Duration.ofMillis(REBUILD_INTERVAL_MS), 1,
+                        partition -> reservationExpiryScheduler.registerAll(
+                                        orderRepository.findByStatus(OrderStatus.PENDING))
+                                .doOnNext(count -> logger.info(
+                                        "Rebuilt reservation expiry queue from {} pending orders", count)))
+                .subscribe(null, error -> logger.warn("Failed to rebuild reservation expiry queue", error));
+    }
+
+    private Mono<Long> expireShard(int shard) {
+        return reservationExpiryQueue.claimExpired(shard, Instant.now(), CLAIM_LEASE, CLAIM_BATCH_SIZE)
+                .doOnNext(reservation -> jobRunner.recordLag(EXPIRY_JOB, reservation.expiresAt()))
+                .flatMap(reservation -> expire(reservation).thenReturn(reservation), CANCEL_CONCURRENCY)
+                .count();
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void cancelTimedOutOrders() {
-        Instant timeout = Instant.now().minus(ORDER_TIMEOUT);
-        orderRepository.findByStatusAndCreatedAtBefore(OrderStatus.PENDING, timeout)
-                .flatMap(this::cancelOrder)
-                .subscribe();
+    private Mono<Void> expire(ExpiredReservation reservation) {
+        OrderId orderId = reservation.orderId();
+        return cancelOrderUseCase.cancelOrder(
+                        new CancelOrderUseCase.CancelOrderCommand(orderId, "Reservation expired"))
+                .doOnNext(order -> count("cancelled"))
+                .then(Mono.defer(() -> reservationExpiryQueue.complete(orderId)))
+                .onErrorResume(IllegalStateException.class, error ->
+                        // 이미 결제/취소된 주문
+                        cancelOrderUseCase.releasePendingStock(orderId, Instant.now().minus(RELEASE_GRACE))
+                                .doOnNext(order -> count("released"))
+                                .switchIfEmpty(Mono.fromRunnable(() -> count("skipped")))
+                                .then(Mono.defer(() -> reservationExpiryQueue.complete(orderId))))
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    count("missing");
+                    return reservationExpiryQueue.complete(orderId);
+                })
+                .onErrorResume(error -> {
+                    logger.warn("Failed to expire order {}, retrying after {}", orderId.value(), CLAIM_LEASE, error);
+                    count("failed");
+                    return Mono.empty();
+                });
     }
 
-    private Mono<Order> cancelOrder(Order order) {
-        return cancelOrderUseCase.cancelOrder(new CancelOrderUseCase.CancelOrderCommand(order.orderId(), "Order timed out"));
+    private void count(String result) {
+        meterRegistry.counter(EXPIRED_METRIC, "result", result).increment();
     }
 }
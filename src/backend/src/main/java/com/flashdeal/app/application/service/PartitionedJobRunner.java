@@ -0,0 +1,121 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.SchedulerLease;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 여러 인스턴스에서 도는 주기 작업의 파티션 실행
+ *
+ * 작업을 partitions개로 나누고, 파티션마다 lease(scheduler:{job}:{partition}, ttl = interval)를 잡은 인스턴스만 실행한다.
+ * lease는 실행이 끝나도 풀지 않으므로 파티션은 클러스터 전체에서 interval마다 한 번만 실행되고,
+ * 실행이 interval보다 길어지면 interval/2마다 연장해 같은 파티션이 동시에 두 번 돌지 않는다.
+ * 인스턴스마다 시작 파티션을 무작위로 골라 차례로 시도하므로 인스턴스가 늘면 인스턴스당 맡는 파티션이 줄어든다.
+ *
+ * 메트릭 (tag job)
+ * - flashdeal.scheduler.run: 파티션 실행 시간 (result = success | error)
+ * - flashdeal.scheduler.items: 처리한 항목 수
+ * - flashdeal.scheduler.skipped: 다른 실행이 lease를 가지고 있어 건너뛴 파티션 수
+ * - flashdeal.scheduler.lag: 항목이 처리돼야 했던 시각부터 실제 처리까지 (작업이 recordLag로 기록)
+ */
+@Component
+public class PartitionedJobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedJobRunner.class);
+
+    static final String RUN_METRIC = "flashdeal.scheduler.run";
+    static final String ITEMS_METRIC = "flashdeal.scheduler.items";
+    static final String SKIPPED_METRIC = "flashdeal.scheduler.skipped";
+    static final String LAG_METRIC = "flashdeal.scheduler.lag";
+
+    private final SchedulerLease schedulerLease;
+    private final MeterRegistry meterRegistry;
+    private final String owner = UUID.randomUUID().toString();
+
+    public PartitionedJobRunner(SchedulerLease schedulerLease, MeterRegistry meterRegistry) {
+        this.schedulerLease = schedulerLease;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * lease를 잡은 파티션만 최대 concurrency개씩 동시에 실행한다
+     *
+     * @param work 파티션 번호 → 처리한 항목 수
+     * @return 이 인스턴스가 처리한 항목 수
+     */
+    public Mono<Long> run(String job, int partitions, Duration interval, int concurrency,
+                          IntFunction<Mono<Long>> work) {
+        if (partitions < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Partitions and concurrency must be positive: "
+                    + partitions + ", " + concurrency);
+        }
+        int start = ThreadLocalRandom.current().nextInt(partitions);
+        return Flux.range(0, partitions)
+                .map(offset -> (start + offset) % partitions)
+                .flatMap(partition -> runPartition(job, partition, interval, work), concurrency)
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 항목이 처리돼야 했던 시각(due)부터 지금까지의 지연을 기록한다
+     */
+    public void recordLag(String job, Instant due) {
+        Duration lag = Duration.between(due, Instant.now());
+        Timer.builder(LAG_METRIC).tag("job", job).register(meterRegistry)
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private Mono<Long> runPartition(String job, int partition, Duration interval, IntFunction<Mono<Long>> work) {
+        String lease = "scheduler:" + job + ":" + partition;
+        return schedulerLease.tryAcquire(lease, owner, interval)
+                .flatMap(acquired -> {
+                    if (!acquired) {
+                        meterRegistry.counter(SKIPPED_METRIC, "job", job).increment();
+                        return Mono.empty();
+                    }
+                    return execute(job, lease, partition, interval, work);
+                });
+    }
+
+    private Mono<Long> execute(String job, String lease, int partition, Duration interval,
+                               IntFunction<Mono<Long>> work) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Disposable keepAlive = Flux.interval(interval.dividedBy(2))
+                    .concatMap(tick -> schedulerLease.extend(lease, owner, interval))
+                    .subscribe(extended -> {
+                        if (!extended) {
+                            logger.warn("Lost scheduler lease {} while running", lease);
+                        }
+                    }, error -> logger.warn("Failed to extend scheduler lease {}", lease, error));
+            return Mono.defer(() -> work.apply(partition))
+                    .defaultIfEmpty(0L)
+                    .doOnNext(items -> meterRegistry.counter(ITEMS_METRIC, "job", job).increment(items))
+                    .doOnSuccess(items -> sample.stop(timer(job, "success")))
+                    .doOnError(error -> {
+                        sample.stop(timer(job, "error"));
+                        logger.warn("Scheduled job {} failed on partition {}", job, partition, error);
+                    })
+                    .onErrorResume(error -> Mono.just(0L))
+                    .doFinally(signal -> keepAlive.dispose());
+        });
+    }
+
+    private Timer timer(String job, String result) {
+        return Timer.builder(RUN_METRIC).tag("job", job).tag("result", result).register(meterRegistry);
+    }
+}
@@ -4,12 +4,16 @@ import com.flashdeal.app.application.port.in.CreateProductUseCase;
 import com.flashdeal.app.application.port.in.GetProductUseCase;
 import com.flashdeal.app.application.port.in.UpdateProductUseCase;
 import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.common.CursorPagination;
 import com.flashdeal.app.domain.common.Pagination;
 import com.flashdeal.app.domain.product.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -20,10 +24,16 @@ import java.util.UUID;
 @Service
 public class ProductService implements CreateProductUseCase, GetProductUseCase, UpdateProductUseCase {
     
+    private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final ProductRepository productRepository;
+    private final DealTransitionScheduler dealTransitionScheduler;
     
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, DealTransitionScheduler dealTransitionScheduler) {
         this.productRepository = productRepository;
+        this.dealTransitionScheduler = dealTransitionScheduler;
     }
     
     @Override
@@ -44,7 +54,19 @@ public class ProductService implements CreateProductUseCase, GetProductUseCase,
             DealStatus.UPCOMING
         );
         
-        return productRepository.save(product);
+        return productRepository.save(product)
+            .flatMap(saved -> scheduleTransitions(saved).thenReturn(saved));
+    }
+
+    /**
+     * 딜 시각 트리거 등록 (실패해도 상품은 유지, ProductStatusUpdateService가 주기적으로 다시 채운다)
+     */
+    private Mono<Void> scheduleTransitions(Product product) {
+        return dealTransitionScheduler.register(product)
+            .onErrorResume(error -> {
+                logger.warn("Failed to schedule deal transitions for product: {}", product.productId().value(), error);
+                return Mono.empty();
+            });
     }
 
     private Price createPrice(java.math.BigDecimal originalPrice, java.math.BigDecimal dealPrice, String currency) {
@@ -69,6 +91,11 @@ public class ProductService implements CreateProductUseCase, GetProductUseCase,
             .switchIfEmpty(Mono.error(new IllegalArgumentException("Product not found: " + productId)));
     }
     
+    @Override
+    public Flux<Product> getProducts(Collection<ProductId> productIds) {
+        return productRepository.findAllById(productIds);
+    }
+    
     @Override
     public Flux<Product> getProductsByStatus(DealStatus status) {
         return productRepository.findByStatus(status);
@@ -89,6 +116,28 @@ public class ProductService implements CreateProductUseCase, GetProductUseCase,
             List<ProductSortOption> sortOptions) {
         return productRepository.findByFilter(filter, pagination, sortOptions);
     }
+
+    @Override
+    public Flux<Product> searchProducts(String text, int first) {
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            return Flux.error(new IllegalArgumentException(
+                    "first must be between 1 and " + MAX_PAGE_SIZE + ": " + first));
+        }
+        if (text == null || text.isBlank()) {
+            return Flux.empty();
+        }
+        return productRepository.search(text, first);
+    }
+
+    @Override
+    public Mono<ProductConnection> getProductsConnection(ProductFilter filter, CursorPagination pagination,
+            List<ProductSortOption> sortOptions, boolean includeTotalCount) {
+        if (pagination.first() < 1 || pagination.first() > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "first must be between 1 and " + MAX_PAGE_SIZE + ": " + pagination.first()));
+        }
+        return productRepository.findConnection(filter, pagination, sortOptions, includeTotalCount);
+    }
     
     @Override
     public Mono<Product> updateProduct(UpdateProductCommand command) {
@@ -122,7 +171,8 @@ public class ProductService implements CreateProductUseCase, GetProductUseCase,
                     product = product.updateSchedule(newSchedule);
                 }
                 
-                return productRepository.save(product);
+                return productRepository.save(product)
+                    .flatMap(saved -> scheduleTransitions(saved).thenReturn(saved));
             });
     }
 }
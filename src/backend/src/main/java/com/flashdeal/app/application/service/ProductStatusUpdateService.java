@@ -1,42 +1,183 @@
 package com.flashdeal.app.application.service;
 
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.DealTriggerQueue;
+import com.flashdeal.app.application.port.out.DealTriggerQueue.DueTrigger;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryRepository;
 import com.flashdeal.app.application.port.out.ProductRepository;
 import com.flashdeal.app.domain.product.DealStatus;
-import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * 딜 상태 전이 (시작/종료 시각에 맞춰)
+ *
+ * 상품 생성/수정 시 DealTransitionScheduler가 딜 시각을 트리거 큐에 등록하고,
+ * 여기서는 POLL_INTERVAL마다 시각이 된 트리거만 가져와 처리한다 (상품 컬렉션을 훑지 않는다).
+ *
+ * - WARM_UP: 시작 전 상품 캐시(L2)와 재고 카운터를 채운다
+ * - START: UPCOMING → ACTIVE
+ * - END: ACTIVE 등 → ENDED
+ *
+ * 전이는 DealStatus.canTransitionTo가 허용하는 상태에서만 조건부로 갱신하므로 여러 번 처리해도 결과가 같다.
+ * 처리하려는 사이 일정이 늦춰진 상품은 트리거를 다시 등록하고 넘어간다. 바뀐 상태는 DealStatusChannel로 알린다.
+ * poll은 파티션 하나짜리 PartitionedJobRunner 작업이라 한 인스턴스에서만 돈다.
+ * 기동 시와 REBUILD_INTERVAL마다 끝나지 않은 딜로 트리거를 다시 채운다 (Redis 재시작, 등록 누락 대비).
+ */
 @Service
 public class ProductStatusUpdateService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProductStatusUpdateService.class);
+
+    static final String TRANSITION_JOB = "deal-transition";
+    static final String REBUILD_JOB = "deal-transition-rebuild";
+    static final String TRANSITION_METRIC = "flashdeal.deal.transitions";
+
+    private static final long POLL_INTERVAL_MS = 100;
+    private static final long REBUILD_INTERVAL_MS = 300_000;
+    private static final Duration CLAIM_LEASE = Duration.ofSeconds(10);
+    private static final int CLAIM_BATCH_SIZE = 100;
+    private static final int FIRE_CONCURRENCY = 8;
+
     private final ProductRepository productRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryCounter inventoryCounter;
+    private final DealTriggerQueue dealTriggerQueue;
+    private final DealTransitionScheduler dealTransitionScheduler;
+    private final DealStatusChannel dealStatusChannel;
+    private final PartitionedJobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
 
-    public ProductStatusUpdateService(ProductRepository productRepository) {
+    public ProductStatusUpdateService(ProductRepository productRepository, InventoryRepository inventoryRepository,
+                                      InventoryCounter inventoryCounter, DealTriggerQueue dealTriggerQueue,
+                                      DealTransitionScheduler dealTransitionScheduler,
+                                      DealStatusChannel dealStatusChannel,
+                                      PartitionedJobRunner jobRunner, MeterRegistry meterRegistry) {
         this.productRepository = productRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryCounter = inventoryCounter;
+        this.dealTriggerQueue = dealTriggerQueue;
+        this.dealTransitionScheduler = dealTransitionScheduler;
+        this.dealStatusChannel = dealStatusChannel;
+        this.jobRunner = jobRunner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
     }
 
-    @Scheduled(fixedRate = 60000)
+    /**
+     * 시각이 된 트리거 처리
+     */
+    @Scheduled(fixedDelay = POLL_INTERVAL_MS)
     public void updateProductStatuses() {
-        updateUpcomingToActive().subscribe();
-        updateActiveToEnded().subscribe();
+        jobRunner.run(TRANSITION_JOB, 1, Duration.ofMillis(POLL_INTERVAL_MS), 1, partition -> fireDue())
+                .subscribe(null, error -> logger.warn("Failed to poll deal triggers", error));
     }
 
-    private Flux<Product> updateUpcomingToActive() {
-        return productRepository.findByStatusAndScheduleStartAtBefore(DealStatus.UPCOMING, Instant.now())
-                .flatMap(product -> {
-                    product.updateStatus(DealStatus.ACTIVE);
-                    return productRepository.save(product);
+    /**
+     * 끝나지 않은 딜로 트리거를 다시 채운다
+     */
+    @Scheduled(fixedRate = REBUILD_INTERVAL_MS, initialDelay = REBUILD_INTERVAL_MS)
+    public void rebuild() {
+        jobRunner.run(REBUILD_JOB, 1, Duration.ofMillis(REBUILD_INTERVAL_MS), 1,
+                        partition -> dealTransitionScheduler.registerAll(Flux.merge(
+                                        productRepository.findByStatus(DealStatus.UPCOMING),
+                                        productRepository.findByStatus(DealStatus.ACTIVE),
+                                        productRepository.findByStatus(DealStatus.SOLDOUT)))
+                                .doOnNext(count -> logger.info("Rebuilt deal triggers from {} products", count)))
+                .subscribe(null, error -> logger.warn("Failed to rebuild deal triggers", error));
+    }
+
+    private Mono<Long> fireDue() {
+        return dealTriggerQueue.claimDue(Instant.now(), CLAIM_LEASE, CLAIM_BATCH_SIZE)
+                .doOnNext(due -> jobRunner.recordLag(TRANSITION_JOB, due.dueAt()))
+                .flatMap(due -> fire(due).thenReturn(due), FIRE_CONCURRENCY)
+                .count();
+    }
+
+    private Mono<Void> fire(DueTrigger due) {
+        Mono<String> result = switch (due.trigger()) {
+            case WARM_UP -> warmUp(due);
+            case START -> transition(due, DealStatus.ACTIVE);
+            case END -> transition(due, DealStatus.ENDED);
+        };
+        return result
+                .doOnNext(outcome -> count(due, outcome))
+                .then(dealTriggerQueue.complete(due))
+                .onErrorResume(error -> {
+                    // 큐에 남겨 CLAIM_LEASE 뒤에 다시 시도
+                    logger.warn("Failed to fire {} for product {}", due.trigger(), due.productId().value(), error);
+                    count(due, "failed");
+                    return Mono.empty();
                 });
     }
 
-    private Flux<Product> updateActiveToEnded() {
-        return productRepository.findByStatusAndScheduleEndAtBefore(DealStatus.ACTIVE, Instant.now())
+    private Mono<String> warmUp(DueTrigger due) {
+        return productRepository.findById(due.productId())
+                .flatMap(product -> inventoryRepository.findByProductId(due.productId())
+                        .flatMap(inventoryCounter::load)
+                        .thenReturn("warmed"))
+                .defaultIfEmpty("missing");
+    }
+
+    /**
+     * 전이할 수 있는 상태마다 조건부 갱신을 시도한다 (상태를 읽지 않으므로 캐시가 늦어도 상관없다)
+     */
+    private Mono<String> transition(DueTrigger due, DealStatus target) {
+        return productRepository.findById(due.productId())
                 .flatMap(product -> {
-                    product.updateStatus(DealStatus.ENDED);
-                    return productRepository.save(product);
+                    Instant at = target == DealStatus.ACTIVE
+                            ? product.schedule().startsAt().toInstant()
+                            : product.schedule().endsAt().toInstant();
+                    if (at.isAfter(Instant.now())) {
+                        // 일정이 늦춰졌으면 새 시각으로 다시 등록
+                        return dealTransitionScheduler.register(product).thenReturn("rescheduled");
+                    }
+                    return Flux.fromIterable(sources(target))
+                            .concatMap(from -> productRepository.updateStatus(product.productId(), from, target))
+                            .next()
+                            .doOnNext(updated -> logger.info("Deal {} is now {}", updated.productId().value(), target))
+                            .flatMap(updated -> notifyStatus(updated.productId(), target).thenReturn("applied"))
+                            .defaultIfEmpty("skipped");
+                })
+                .defaultIfEmpty("missing");
+    }
+
+    /**
+     * 구독자 알림 (실패해도 전이는 유지, 구독자는 다음 변경이나 재구독 때 현재 상태를 받는다)
+     */
+    private Mono<Void> notifyStatus(ProductId productId, DealStatus status) {
+        return dealStatusChannel.publish(productId, status)
+                .onErrorResume(error -> {
+                    logger.warn("Failed to publish deal status for productId: {}", productId.value(), error);
+                    return Mono.empty();
                 });
     }
+
+    private static List<DealStatus> sources(DealStatus target) {
+        return Arrays.stream(DealStatus.values())
+                .filter(status -> status.canTransitionTo(target))
+                .toList();
+    }
+
+    private void count(DueTrigger due, String result) {
+        meterRegistry.counter(TRANSITION_METRIC, "trigger", due.trigger().name(), "result", result).increment();
+    }
 }
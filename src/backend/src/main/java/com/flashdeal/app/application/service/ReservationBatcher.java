@@ -0,0 +1,202 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryCounter.BatchReservation;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 상품별 재고 예약 묶음 처리 (그룹 커밋)
+ *
+ * 같은 상품의 예약 요청을 window 동안(최대 maxBatchSize건) 모아 카운터 호출 한 번으로 적용하고,
+ * 결과를 요청마다 돌려준다. 재고를 넘는 요청만 실패하며 나머지는 그대로 성공한다.
+ *
+ * 상품마다 한 번에 하나의 묶음만 카운터로 보낸다. 묶음이 처리되는 동안 들어온 요청은
+ * 다음 묶음으로 모였다가 앞 묶음이 끝나자마자 바로 나간다.
+ * 한 건짜리 묶음은 단건 예약으로 보내 샤드 선택용 userId를 유지한다.
+ *
+ * 호출자가 취소하면 아직 묶음에 들어가지 않은 요청은 대기열에서 빼고,
+ * 이미 카운터로 보낸 요청은 예약이 성공한 뒤 그 몫을 다시 해제한다.
+ */
+@Component
+public class ReservationBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationBatcher.class);
+
+    static final String BATCH_SIZE_METRIC = "flashdeal.inventory.reserve.batch_size";
+
+    private final InventoryCounter inventoryCounter;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizes;
+
+    private final Map<String, ProductQueue> queues = new ConcurrentHashMap<>();
+
+    public ReservationBatcher(
+            InventoryCounter inventoryCounter,
+            MeterRegistry meterRegistry,
+            @Value("${flashdeal.inventory.reserve-batch.window:500us}") Duration window,
+            @Value("${flashdeal.inventory.reserve-batch.max-size:64}") int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.inventoryCounter = inventoryCounter;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Reserve requests applied per counter call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 요청 등록
+     *
+     * 카운터에 상품이 없으면 빈 Mono로 끝난다 (InventoryCounter.reserve와 같은 규약)
+     */
+    public Mono<Stock> reserve(ProductId productId, Quantity quantity, UserId userId) {
+        return Mono.create(sink -> {
+            ProductQueue queue = queues.computeIfAbsent(productId.value(), key -> new ProductQueue(productId));
+            PendingReserve request = new PendingReserve(quantity, userId, sink);
+            sink.onCancel(() -> {
+                if (request.state.compareAndSet(PendingReserve.WAITING, PendingReserve.CANCELLED)) {
+                    queue.pending.remove(request);
+                } else {
+                    request.state.compareAndSet(PendingReserve.SENT, PendingReserve.CANCELLED);
+                }
+            });
+            queue.pending.add(request);
+            if (queue.scheduled.compareAndSet(false, true)) {
+                Schedulers.parallel().schedule(() -> flush(queue), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void flush(ProductQueue queue) {
+        List<PendingReserve> batch = new ArrayList<>();
+        PendingReserve next;
+        while (batch.size() < maxBatchSize && (next = queue.pending.poll()) != null) {
+            if (next.state.compareAndSet(PendingReserve.WAITING, PendingReserve.SENT)) {
+                batch.add(next);
+            }
+        }
+        if (batch.isEmpty()) {
+            finish(queue);
+            return;
+        }
+        batchSizes.record(batch.size());
+        Mono.defer(() -> apply(queue.productId, batch))
+                .doFinally(signal -> finish(queue))
+                .subscribe();
+    }
+
+    /**
+     * 묶음 처리 완료 후 남은 요청이 있으면 바로 다음 묶음을 보낸다
+     */
+    private void finish(ProductQueue queue) {
+        if (!queue.pending.isEmpty()) {
+            flush(queue);
+            return;
+        }
+        queue.scheduled.set(false);
+        if (!queue.pending.isEmpty() && queue.scheduled.compareAndSet(false, true)) {
+            flush(queue);
+        }
+    }
+
+    private Mono<Void> apply(ProductId productId, List<PendingReserve> batch) {
+        if (batch.size() == 1) {
+            PendingReserve only = batch.get(0);
+            return inventoryCounter.reserve(productId, only.quantity, only.userId)
+                    .doOnSuccess(stock -> succeed(productId, only, stock))
+                    .doOnError(only.sink::error)
+                    .onErrorResume(error -> Mono.empty())
+                    .then();
+        }
+        List<Quantity> quantities = batch.stream().map(pending -> pending.quantity).toList();
+        return inventoryCounter.reserveAll(productId, quantities)
+                .doOnSuccess(result -> complete(productId, batch, result))
+                .doOnError(error -> batch.forEach(pending -> pending.sink.error(error)))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void complete(ProductId productId, List<PendingReserve> batch, BatchReservation result) {
+        for (int index = 0; index < batch.size(); index++) {
+            PendingReserve pending = batch.get(index);
+            if (result == null) {
+                pending.sink.success();
+            } else if (result.failure(index) != null) {
+                pending.sink.error(result.failure(index));
+            } else {
+                succeed(productId, pending, result.stock());
+            }
+        }
+    }
+
+    /**
+     * 예약 결과 전달 (카운터로 보낸 뒤 취소된 요청은 예약된 몫을 해제한다)
+     */
+    private void succeed(ProductId productId, PendingReserve pending, Stock stock) {
+        if (pending.state.compareAndSet(PendingReserve.SENT, PendingReserve.DONE)) {
+            pending.sink.success(stock);
+            return;
+        }
+        if (stock != null) {
+            inventoryCounter.release(productId, pending.quantity)
+                    .subscribe(null, error -> logger.warn("Failed to release cancelled reservation for productId: {}",
+                            productId.value(), error));
+        }
+    }
+
+    private static final class ProductQueue {
+        private final ProductId productId;
+        private final Queue<PendingReserve> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private ProductQueue(ProductId productId) {
+            this.productId = productId;
+        }
+    }
+
+    private static final class PendingReserve {
+        private static final int WAITING = 0;
+        private static final int SENT = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+
+        private final Quantity quantity;
+        private final UserId userId;
+        private final MonoSink<Stock> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private PendingReserve(Quantity quantity, UserId userId, MonoSink<Stock> sink) {
+            this.quantity = quantity;
+            this.userId = userId;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.Policy;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.domain.order.OrderItem;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 주문의 재고 예약 만료 시각 등록
+ *
+ * 만료 시각 = 주문 생성 시각 + 주문 상품 중 가장 짧은 예약 시간 (Policy.reservationTimeout, 초).
+ * 재고 정책이 없는 상품은 기본 정책을 따른다. 이미 등록된 주문은 그대로 두므로 여러 번 등록해도 된다.
+ */
+@Component
+public class ReservationExpiryScheduler {
+
+    private static final int DEFAULT_TIMEOUT_SECONDS = Policy.defaultPolicy().reservationTimeout();
+    private static final int REGISTER_BATCH_SIZE = 200;
+
+    private final ReservationExpiryQueue reservationExpiryQueue;
+    private final InventoryRepository inventoryRepository;
+
+    public ReservationExpiryScheduler(ReservationExpiryQueue reservationExpiryQueue,
+                                      InventoryRepository inventoryRepository) {
+        this.reservationExpiryQueue = reservationExpiryQueue;
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    public Mono<Void> register(Order order) {
+        return registerAll(Flux.just(order)).then();
+    }
+
+    /**
+     * 주문을 묶음마다 재고 정책 한 번 조회로 등록한다
+     *
+     * @return 등록을 시도한 주문 수
+     */
+    public Mono<Long> registerAll(Flux<Order> orders) {
+        return orders.buffer(REGISTER_BATCH_SIZE)
+                .concatMap(batch -> reservationTimeouts(batch)
+                        .flatMapMany(timeouts -> Flux.fromIterable(batch)
+                                .flatMap(order -> reservationExpiryQueue.schedule(
+                                        order.orderId(), expiresAt(order, timeouts)))))
+                .count();
+    }
+
+    Instant expiresAt(Order order, Map<ProductId, Integer> timeouts) {
+        int seconds = order.items().stream()
+                .mapToInt(item -> timeouts.getOrDefault(item.productId(), DEFAULT_TIMEOUT_SECONDS))
+                .min()
+                .orElse(DEFAULT_TIMEOUT_SECONDS);
+        return order.createdAt().plusSeconds(seconds);
+    }
+
+    private Mono<Map<ProductId, Integer>> reservationTimeouts(List<Order> orders) {
+        Set<ProductId> productIds = orders.stream()
+                .flatMap(order -> order.items().stream().map(OrderItem::productId))
+                .collect(Collectors.toSet());
+        return inventoryRepository.findByProductIdIn(productIds)
+                .collectMap(Inventory::productId, inventory -> inventory.policy().reservationTimeout());
+    }
+}
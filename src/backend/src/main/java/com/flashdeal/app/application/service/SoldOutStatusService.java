@@ -0,0 +1,122 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * 재고에 따른 품절 전이
+ *
+ * 재고 카운터의 변경 알림을 상품별로 COALESCE_WINDOW 동안 모아 재고를 한 번 읽고,
+ * - 남은 재고가 0이면 ACTIVE → SOLDOUT
+ * - 품절 상품에 재고가 돌아왔고(예약 해제, 재입고) 종료 전이면 SOLDOUT → ACTIVE
+ * 로 조건부 갱신한다. 갱신하면 상품 캐시가 무효화되어 모든 인스턴스의 조회에 바로 반영되고,
+ * DealStatusChannel로 구독자에게 알린다.
+ *
+ * 상태는 캐시된 상품으로 먼저 확인하므로 MongoDB에는 실제로 바뀔 때만 쓴다.
+ * 모든 인스턴스가 알림을 받지만 조건부 갱신이라 한 곳만 성공한다.
+ * 종료 시각이 지난 품절 상품은 종료 트리거가 ENDED로 바꾼다.
+ */
+@Service
+public class SoldOutStatusService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SoldOutStatusService.class);
+
+    static final String SOLDOUT_METRIC = "flashdeal.deal.soldout";
+
+    private static final Duration COALESCE_WINDOW = Duration.ofMillis(20);
+
+    private final InventoryCounter inventoryCounter;
+    private final ProductRepository productRepository;
+    private final DealStatusChannel dealStatusChannel;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private Disposable changeSubscription;
+
+    public SoldOutStatusService(InventoryCounter inventoryCounter, ProductRepository productRepository,
+                                DealStatusChannel dealStatusChannel, MeterRegistry meterRegistry) {
+        this.inventoryCounter = inventoryCounter;
+        this.productRepository = productRepository;
+        this.dealStatusChannel = dealStatusChannel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        changeSubscription = inventoryCounter.changes()
+                .filter(productId -> pending.add(productId.value()))
+                .flatMap(productId -> Mono.delay(COALESCE_WINDOW)
+                        .doOnNext(tick -> pending.remove(productId.value()))
+                        .then(reconcile(productId)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (changeSubscription != null) {
+            changeSubscription.dispose();
+        }
+    }
+
+    /**
+     * 상품 상태를 현재 재고에 맞춘다
+     */
+    Mono<Void> reconcile(ProductId productId) {
+        return inventoryCounter.getStock(productId)
+                .flatMap(stock -> productRepository.findById(productId)
+                        .flatMap(product -> apply(product, stock)))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Failed to reconcile sold-out status for productId: {}", productId.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Product> apply(Product product, Stock stock) {
+        if (stock.outOfStock() && product.status() == DealStatus.ACTIVE) {
+            return transition(product, DealStatus.ACTIVE, DealStatus.SOLDOUT, "sold_out");
+        }
+        if (!stock.outOfStock() && product.status() == DealStatus.SOLDOUT
+                && Instant.now().isBefore(product.schedule().endsAt().toInstant())) {
+            return transition(product, DealStatus.SOLDOUT, DealStatus.ACTIVE, "restocked");
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Product> transition(Product product, DealStatus from, DealStatus to, String result) {
+        return productRepository.updateStatus(product.productId(), from, to)
+                .doOnNext(updated -> {
+                    logger.info("Deal {} is now {}", updated.productId().value(), to);
+                    meterRegistry.counter(SOLDOUT_METRIC, "result", result).increment();
+                })
+                .flatMap(updated -> dealStatusChannel.publish(updated.productId(), to)
+                        .onErrorResume(error -> {
+                            logger.warn("Failed to publish deal status for productId: {}",
+                                    updated.productId().value(), error);
+                            return Mono.empty();
+                        })
+                        .thenReturn(updated));
+    }
+}
@@ -0,0 +1,106 @@
+package com.flashdeal.app.application.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.flashdeal.app.application.port.in.WaitingRoomUseCase;
+import com.flashdeal.app.application.port.out.WaitingQueue;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 딜 오픈 대기실
+ *
+ * 오픈 순간 몰린 요청을 상품별 대기열에 세우고, 초당 admitPerSecond명씩 입장시켜
+ * 주문 생성이 감당할 수 있는 속도로만 흘려보낸다.
+ * 입장한 사용자는 admissionToken으로 토큰을 받아 주문 생성 시 제출한다.
+ * 토큰은 사용자 단위라 여러 상품에 입장한 사용자도 한 주문에 토큰 하나만 제출한다.
+ */
+@Service
+public class WaitingRoomService implements WaitingRoomUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitingRoomService.class);
+
+    private static final Duration ADMIT_INTERVAL = Duration.ofSeconds(1);
+
+    private final WaitingQueue waitingQueue;
+    private final boolean enabled;
+    private final long admitPerSecond;
+    private final Duration tokenTtl;
+
+    public WaitingRoomService(
+            WaitingQueue waitingQueue,
+            @Value("${flashdeal.waiting-room.enabled:false}") boolean enabled,
+            @Value("${flashdeal.waiting-room.admit-per-second:100}") long admitPerSecond,
+            @Value("${flashdeal.waiting-room.token-ttl:5m}") Duration tokenTtl) {
+        if (admitPerSecond <= 0) {
+            throw new IllegalArgumentException("Admit rate must be positive");
+        }
+        this.waitingQueue = waitingQueue;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.tokenTtl = tokenTtl;
+    }
+
+    @Override
+    public Mono<QueueTicket> joinQueue(ProductId productId, UserId userId) {
+        return waitingQueue.join(productId, userId)
+                .map(position -> new QueueTicket(productId, userId, position));
+    }
+
+    @Override
+    public Mono<QueueTicket> queuePosition(ProductId productId, UserId userId) {
+        return waitingQueue.position(productId, userId)
+                .map(position -> new QueueTicket(productId, userId, position));
+    }
+
+    @Override
+    public Mono<String> admissionToken(ProductId productId, UserId userId) {
+        return waitingQueue.issueToken(productId, userId, tokenTtl);
+    }
+
+    @Override
+    public Mono<Void> verifyAdmission(UserId userId, List<ProductId> productIds, String admissionToken) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        if (admissionToken == null || admissionToken.isBlank()) {
+            return Mono.error(new IllegalStateException("Admission token is required"));
+        }
+        return Flux.fromIterable(productIds)
+                .distinct()
+                .concatMap(productId -> waitingQueue.verifyToken(productId, userId, admissionToken)
+                        .filter(Boolean::booleanValue)
+                        .switchIfEmpty(Mono.error(new IllegalStateException(
+                                "Invalid admission token for product: " + productId.value()))))
+                .then();
+    }
+
+    /**
+     * 대기 중인 상품마다 입장 경계를 올린다
+     *
+     * 모든 인스턴스가 자주 실행하지만 Redis 쪽 주기 가드로 상품당 초당 한 번만 반영된다
+     */
+    @Scheduled(fixedRate = 200)
+    public void admitWaiting() {
+        if (!enabled) {
+            return;
+        }
+        waitingQueue.activeQueues()
+                .flatMap(productId -> waitingQueue.admit(productId, admitPerSecond, ADMIT_INTERVAL)
+                        .onErrorResume(error -> {
+                            logger.warn("Failed to admit waiting users for productId: {}", productId.value(), error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+}
@@ -0,0 +1,8 @@
+package com.flashdeal.app.domain.common;
+
+public record CursorPageInfo(
+    String startCursor,
+    String endCursor,
+    boolean hasNextPage,
+    boolean hasPreviousPage
+) {}
@@ -0,0 +1,9 @@
+package com.flashdeal.app.domain.common;
+
+/**
+ * 커서 기반 페이지 요청 (first개, after 커서 다음부터)
+ */
+public record CursorPagination(
+    int first,
+    String after
+) {}
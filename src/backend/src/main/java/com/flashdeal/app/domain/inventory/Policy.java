@@ -3,7 +3,8 @@ package com.flashdeal.app.domain.inventory;
 public record Policy(
         int safetyStock,
         int reservationTimeout,
-        int maxPurchasePerUser) {
+        int maxPurchasePerUser,
+        int shardCount) {
 
     public Policy {
         if (safetyStock < 0) {
@@ -17,6 +18,14 @@ public record Policy(
         if (maxPurchasePerUser <= 0) {
             throw new IllegalArgumentException("Max purchase per user must be positive");
         }
+
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+    }
+
+    public Policy(int safetyStock, int reservationTimeout, int maxPurchasePerUser) {
+        this(safetyStock, reservationTimeout, maxPurchasePerUser, 1);
     }
 
     public static Policy defaultPolicy() {
@@ -30,4 +39,8 @@ public record Policy(
     public boolean isValidPurchaseQuantity(Quantity quantity) {
         return quantity.value() > 0 && quantity.value() <= maxPurchasePerUser;
     }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
 }
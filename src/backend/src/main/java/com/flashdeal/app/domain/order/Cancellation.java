@@ -8,9 +8,21 @@ public record Cancellation(
     String reason,
     String cancelledBy,
     Instant cancelledAt,
-    List<String> items
+    List<String> items,
+    Boolean stockReleased
 ) {
     public Cancellation(String reason, String cancelledBy, List<String> items) {
-        this(true, reason, cancelledBy, Instant.now(), items);
+        this(true, reason, cancelledBy, Instant.now(), items, false);
+    }
+
+    /**
+     * 취소 후 예약 재고를 아직 해제하지 못했는지 (값이 없는 예전 취소는 취소와 함께 해제된 것으로 본다)
+     */
+    public boolean isStockReleasePending() {
+        return Boolean.FALSE.equals(stockReleased);
+    }
+
+    public Cancellation markStockReleased() {
+        return new Cancellation(isCancelled, reason, cancelledBy, cancelledAt, items, true);
     }
 }
@@ -134,6 +134,17 @@ public record Order(
                 createdAt);
     }
 
+    public boolean isStockReleasePending() {
+        return status == OrderStatus.CANCELLED && cancellation != null && cancellation.isStockReleasePending();
+    }
+
+    public Order markStockReleased() {
+        if (!isStockReleasePending()) {
+            throw new IllegalStateException("No pending stock release for order: " + orderId.value());
+        }
+        return setCancellation(cancellation.markStockReleased());
+    }
+
     public Order setPricing(Pricing pricing) {
         return new Order(orderId, userId, idempotencyKey, items, shipping, pricing, payment, status, cancellation,
                 createdAt);
@@ -10,6 +10,8 @@ import java.util.Set;
  * - UPCOMING → ACTIVE (시작 시각 도달)
  * - ACTIVE → SOLDOUT (재고 0)
  * - ACTIVE → ENDED (종료 시각 도달)
+ * - SOLDOUT → ACTIVE (종료 전 재고 복구)
+ * - SOLDOUT → ENDED (종료 시각 도달)
  */
 public enum DealStatus {
     UPCOMING,
@@ -28,6 +30,7 @@ public enum DealStatus {
             case ACTIVE:
                 return targetStatus == SOLDOUT || targetStatus == ENDED;
             case SOLDOUT:
+                return targetStatus == ACTIVE || targetStatus == ENDED;
             case ENDED:
                 return false;
             default:
@@ -42,6 +45,7 @@ public enum DealStatus {
             case ACTIVE:
                 return EnumSet.of(SOLDOUT, ENDED);
             case SOLDOUT:
+                return EnumSet.of(ACTIVE, ENDED);
             case ENDED:
                 return EnumSet.noneOf(DealStatus.class);
             default:
@@ -7,11 +7,19 @@ import static com.flashdeal.app.domain.validator.Validator.validateNotNull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
+/**
+ * 할인율은 생성 시 한 번 계산해 두고 읽을 때마다 나누지 않는다 (넘겨받은 할인율은 가격과 맞는지만 확인한다)
+ */
 public record Price(
     BigDecimal original,
     BigDecimal sale,
-    String currency
+    String currency,
+    Integer discountRate
 ) {
+    public Price(BigDecimal original, BigDecimal sale, String currency) {
+        this(original, sale, currency, null);
+    }
+
     public Price {
         validateNotNull(original, "Original price cannot be null");
         validateNotNull(sale, "Sale price cannot be null");
@@ -22,9 +30,16 @@ public record Price(
         if (sale.compareTo(original) > 0) {
             throw new IllegalArgumentException("Sale price cannot be greater than original price");
         }
+
+        int derivedRate = discountRateOf(original, sale);
+        if (discountRate != null && discountRate != derivedRate) {
+            throw new IllegalArgumentException(
+                    "Discount rate " + discountRate + " does not match prices (expected " + derivedRate + ")");
+        }
+        discountRate = derivedRate;
     }
 
-    public int discountRate() {
+    public static int discountRateOf(BigDecimal original, BigDecimal sale) {
         if (original.compareTo(BigDecimal.ZERO) == 0) {
             return 0;
         }
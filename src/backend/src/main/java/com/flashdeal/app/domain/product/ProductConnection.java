@@ -0,0 +1,14 @@
+package com.flashdeal.app.domain.product;
+
+import java.util.List;
+
+import com.flashdeal.app.domain.common.CursorPageInfo;
+
+/**
+ * 커서 기반 상품 목록 (totalCount는 요청한 경우에만 채워진다)
+ */
+public record ProductConnection(
+    List<ProductEdge> edges,
+    CursorPageInfo pageInfo,
+    Long totalCount
+) {}
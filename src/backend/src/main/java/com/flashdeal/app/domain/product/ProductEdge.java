@@ -0,0 +1,6 @@
+package com.flashdeal.app.domain.product;
+
+public record ProductEdge(
+    Product node,
+    String cursor
+) {}
@@ -0,0 +1,48 @@
+package com.flashdeal.app.infrastructure.adapter.in.graphql;
+
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.in.GetInventoryUseCase;
+import com.flashdeal.app.application.port.in.GetOrderUseCase;
+import com.flashdeal.app.application.port.in.GetProductUseCase;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.domain.order.OrderId;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+
+/**
+ * GraphQL DataLoader 등록
+ *
+ * 한 요청 안에서 필드 리졸버가 load()한 키를 모아 실행 단계마다 일괄 조회 한 번으로 처리한다 (N+1 방지).
+ * 로더 이름은 값 타입 이름이며, 리졸버는 DataLoader<키, 값> 파라미터로 주입받는다.
+ *
+ * - ProductId → Product: OrderItem.product
+ * - ProductId → Inventory: Product.inventory
+ * - OrderId → Order: order(id)
+ *
+ * 결과에 없는 키는 null로 채워진다.
+ */
+@Component
+public class DataLoaderRegistrar {
+
+    public DataLoaderRegistrar(
+            BatchLoaderRegistry registry,
+            GetProductUseCase getProductUseCase,
+            GetInventoryUseCase getInventoryUseCase,
+            GetOrderUseCase getOrderUseCase) {
+        registry.forTypePair(ProductId.class, Product.class)
+                .registerMappedBatchLoader((productIds, environment) -> getProductUseCase.getProducts(productIds)
+                        .collectMap(Product::productId));
+
+        registry.forTypePair(ProductId.class, Inventory.class)
+                .registerMappedBatchLoader((productIds, environment) -> getInventoryUseCase
+                        .getInventoriesByProductIds(productIds)
+                        .collectMap(Inventory::productId));
+
+        registry.forTypePair(OrderId.class, Order.class)
+                .registerMappedBatchLoader((orderIds, environment) -> getOrderUseCase.getOrders(orderIds)
+                        .collectMap(Order::orderId));
+    }
+}
@@ -0,0 +1,49 @@
+package com.flashdeal.app.infrastructure.adapter.in.graphql;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import com.flashdeal.app.application.port.in.DeadLetterUseCase;
+import com.flashdeal.app.application.port.in.DeadLetterUseCase.DeadLetter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Dead Letter GraphQL Resolver
+ */
+@Controller
+public class DeadLetterResolver {
+
+    private final DeadLetterUseCase deadLetterUseCase;
+
+    public DeadLetterResolver(DeadLetterUseCase deadLetterUseCase) {
+        this.deadLetterUseCase = deadLetterUseCase;
+    }
+
+    @QueryMapping
+    public Flux<DeadLetter> deadLetters(@Argument String topic, @Argument int first) {
+        return deadLetterUseCase.deadLetters(topic, first);
+    }
+
+    @MutationMapping
+    public Mono<DeadLetter> replayDeadLetter(@Argument String id) {
+        return deadLetterUseCase.replay(id);
+    }
+
+    @SchemaMapping(typeName = "DeadLetter", field = "failedAt")
+    public ZonedDateTime failedAt(DeadLetter deadLetter) {
+        return deadLetter.failedAt().atZone(ZoneId.systemDefault());
+    }
+
+    @SchemaMapping(typeName = "DeadLetter", field = "replayedAt")
+    public ZonedDateTime replayedAt(DeadLetter deadLetter) {
+        return deadLetter.replayedAt() != null ? deadLetter.replayedAt().atZone(ZoneId.systemDefault()) : null;
+    }
+}
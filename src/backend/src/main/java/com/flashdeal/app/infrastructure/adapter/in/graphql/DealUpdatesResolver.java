@@ -0,0 +1,63 @@
+package com.flashdeal.app.infrastructure.adapter.in.graphql;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+
+import com.flashdeal.app.application.port.in.DealUpdatesUseCase;
+import com.flashdeal.app.application.port.in.DealUpdatesUseCase.DealStatusUpdate;
+import com.flashdeal.app.application.port.in.DealUpdatesUseCase.StockUpdate;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Deal Updates GraphQL Resolver (graphql-ws 구독)
+ */
+@Controller
+public class DealUpdatesResolver {
+
+    private final DealUpdatesUseCase dealUpdatesUseCase;
+
+    public DealUpdatesResolver(DealUpdatesUseCase dealUpdatesUseCase) {
+        this.dealUpdatesUseCase = dealUpdatesUseCase;
+    }
+
+    @SubscriptionMapping
+    public Flux<StockUpdate> stockChanged(@Argument String productId) {
+        return dealUpdatesUseCase.stockChanges(new ProductId(productId));
+    }
+
+    @SubscriptionMapping
+    public Flux<DealStatusUpdate> dealStatusChanged(@Argument String productId) {
+        return dealUpdatesUseCase.dealStatusChanges(new ProductId(productId));
+    }
+
+    @SchemaMapping(typeName = "StockUpdate", field = "productId")
+    public String stockProductId(StockUpdate update) {
+        return update.productId().value();
+    }
+
+    @SchemaMapping(typeName = "StockUpdate", field = "stock")
+    public Stock stock(StockUpdate update) {
+        return update.stock();
+    }
+
+    @SchemaMapping(typeName = "StockUpdate", field = "isOutOfStock")
+    public boolean isOutOfStock(StockUpdate update) {
+        return update.stock().outOfStock();
+    }
+
+    @SchemaMapping(typeName = "DealStatusUpdate", field = "productId")
+    public String statusProductId(DealStatusUpdate update) {
+        return update.productId().value();
+    }
+
+    @SchemaMapping(typeName = "DealStatusUpdate", field = "status")
+    public DealStatus status(DealStatusUpdate update) {
+        return update.status();
+    }
+}
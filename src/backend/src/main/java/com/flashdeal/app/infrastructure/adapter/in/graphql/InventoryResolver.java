@@ -63,7 +63,8 @@ public class InventoryResolver {
                 input.totalQuantity(),
                 input.lowStockThreshold(),
                 input.maxPurchaseQuantity(),
-                input.reservationTimeout());
+                input.reservationTimeout(),
+                input.shardCount() != null ? input.shardCount() : 1);
         return createInventoryUseCase.createInventory(command);
     }
 
@@ -168,7 +169,8 @@ public class InventoryResolver {
             int totalQuantity,
             int lowStockThreshold,
             int maxPurchaseQuantity,
-            int reservationTimeout) {
+            int reservationTimeout,
+            Integer shardCount) {
     }
 
     public record ReserveInventoryInput(
@@ -3,8 +3,10 @@ package com.flashdeal.app.infrastructure.adapter.in.graphql;
 import com.flashdeal.app.application.port.in.*;
 import com.flashdeal.app.domain.inventory.Quantity;
 import com.flashdeal.app.domain.order.*;
+import com.flashdeal.app.domain.product.Product;
 import com.flashdeal.app.domain.product.ProductId;
 
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -15,6 +17,7 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class OrderResolver {
@@ -35,10 +38,14 @@ public class OrderResolver {
         this.completePaymentUseCase = completePaymentUseCase;
     }
 
+    /**
+     * 한 문서에서 별칭으로 여러 주문을 조회해도 DataLoader로 모아 한 번에 읽는다
+     */
     @QueryMapping
-    public Mono<Order> order(@Argument String id) {
+    public Mono<Order> order(@Argument String id, DataLoader<OrderId, Order> orderLoader) {
         OrderId orderId = new OrderId(id);
-        return getOrderUseCase.getOrder(orderId);
+        return Mono.fromFuture(orderLoader.load(orderId))
+                .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + orderId)));
     }
 
     @QueryMapping
@@ -72,7 +79,8 @@ public class OrderResolver {
                 .toList(),
             buildShippingDto(input.shipping()),
             input.idempotencyKey(),
-            input.discount() != null ? input.discount() : BigDecimal.ZERO
+            input.discount() != null ? input.discount() : BigDecimal.ZERO,
+            input.admissionToken()
         );
     }
 
@@ -158,6 +166,14 @@ public class OrderResolver {
         return orderItem.productId().value();
     }
 
+    /**
+     * 주문 항목의 현재 상품 정보 (주문 시점 정보는 snapshot)
+     */
+    @SchemaMapping(typeName = "OrderItem", field = "product")
+    public CompletableFuture<Product> product(OrderItem orderItem, DataLoader<ProductId, Product> productLoader) {
+        return productLoader.load(orderItem.productId());
+    }
+
     @SchemaMapping(typeName = "OrderItem", field = "quantity")
     public int quantity(OrderItem orderItem) {
         return orderItem.quantity().value();
@@ -311,7 +327,8 @@ public class OrderResolver {
         List<OrderItemInput> items,
         ShippingInput shipping,
         String idempotencyKey,
-        BigDecimal discount
+        BigDecimal discount,
+        String admissionToken
     ) {}
 
     public record OrderItemInput(
@@ -1,9 +1,14 @@
 package com.flashdeal.app.infrastructure.adapter.in.graphql;
 
 import com.flashdeal.app.application.port.in.*;
+import com.flashdeal.app.domain.common.CursorPageInfo;
+import com.flashdeal.app.domain.common.CursorPagination;
 import com.flashdeal.app.domain.common.Pagination;
 import com.flashdeal.app.domain.common.SortOrder;
+import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.product.*;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
@@ -15,6 +20,7 @@ import reactor.core.publisher.Mono;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Product GraphQL Resolver
@@ -69,6 +75,24 @@ public class ProductResolver {
         return getProductUseCase.getProductsByFilter(domainFilter, domainPagination, domainSortOptions);
     }
 
+    /**
+     * 커서 기반 상품 목록 (totalCount는 선택했을 때만 센다)
+     */
+    @QueryMapping
+    public Mono<ProductConnection> productsConnection(
+            @Argument ProductFilterInput filter,
+            @Argument int first,
+            @Argument String after,
+            @Argument List<SortOptionInput> sort,
+            DataFetchingEnvironment environment) {
+        boolean includeTotalCount = environment.getSelectionSet().contains("totalCount");
+        return getProductUseCase.getProductsConnection(
+                mapToProductFilter(filter),
+                new CursorPagination(first, after),
+                mapToSortOptions(sort),
+                includeTotalCount);
+    }
+
     private com.flashdeal.app.domain.product.ProductFilter mapToProductFilter(ProductFilterInput filter) {
         if (filter == null) {
             return new com.flashdeal.app.domain.product.ProductFilter(null, null, null, null, null, null);
@@ -106,6 +130,11 @@ public class ProductResolver {
         return getProductUseCase.getActiveProducts();
     }
 
+    @QueryMapping
+    public Flux<Product> searchProducts(@Argument String text, @Argument int first) {
+        return getProductUseCase.searchProducts(text, first);
+    }
+
     @SchemaMapping(typeName = "Product", field = "productId")
     public String productId(Product product) {
         return product.productId().value();
@@ -121,6 +150,14 @@ public class ProductResolver {
         return product.schedule();
     }
 
+    /**
+     * 목록의 상품별 재고를 DataLoader로 모아 한 번에 조회한다
+     */
+    @SchemaMapping(typeName = "Product", field = "inventory")
+    public CompletableFuture<Inventory> inventory(Product product, DataLoader<ProductId, Inventory> inventoryLoader) {
+        return inventoryLoader.load(product.productId());
+    }
+
     @SchemaMapping(typeName = "Product", field = "specs")
     public List<SpecField> specs(Product product) {
         return product.specs().getFields().entrySet().stream()
@@ -173,6 +210,21 @@ public class ProductResolver {
         return productPage.pageInfo();
     }
 
+    @SchemaMapping(typeName = "ProductConnection", field = "edges")
+    public List<ProductEdge> edges(ProductConnection connection) {
+        return connection.edges();
+    }
+
+    @SchemaMapping(typeName = "ProductConnection", field = "pageInfo")
+    public CursorPageInfo pageInfo(ProductConnection connection) {
+        return connection.pageInfo();
+    }
+
+    @SchemaMapping(typeName = "ProductConnection", field = "totalCount")
+    public Long totalCount(ProductConnection connection) {
+        return connection.totalCount();
+    }
+
     @SchemaMapping(typeName = "PageInfo", field = "totalElements")
     public long totalElements(com.flashdeal.app.domain.common.PageInfo pageInfo) {
         return pageInfo.total();
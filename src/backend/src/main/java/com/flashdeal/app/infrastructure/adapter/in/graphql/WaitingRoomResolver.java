@@ -0,0 +1,62 @@
+package com.flashdeal.app.infrastructure.adapter.in.graphql;
+
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import com.flashdeal.app.application.port.in.WaitingRoomUseCase;
+import com.flashdeal.app.application.port.in.WaitingRoomUseCase.QueueTicket;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Waiting Room GraphQL Resolver
+ */
+@Controller
+public class WaitingRoomResolver {
+
+    private final WaitingRoomUseCase waitingRoomUseCase;
+
+    public WaitingRoomResolver(WaitingRoomUseCase waitingRoomUseCase) {
+        this.waitingRoomUseCase = waitingRoomUseCase;
+    }
+
+    @MutationMapping
+    public Mono<QueueTicket> joinQueue(@Argument String productId, @Argument String userId) {
+        return waitingRoomUseCase.joinQueue(new ProductId(productId), new UserId(userId));
+    }
+
+    @QueryMapping
+    public Mono<QueueTicket> queuePosition(@Argument String productId, @Argument String userId) {
+        return waitingRoomUseCase.queuePosition(new ProductId(productId), new UserId(userId));
+    }
+
+    @MutationMapping
+    public Mono<String> admissionToken(@Argument String productId, @Argument String userId) {
+        return waitingRoomUseCase.admissionToken(new ProductId(productId), new UserId(userId));
+    }
+
+    @SchemaMapping(typeName = "QueueTicket", field = "productId")
+    public String productId(QueueTicket ticket) {
+        return ticket.productId().value();
+    }
+
+    @SchemaMapping(typeName = "QueueTicket", field = "userId")
+    public String userId(QueueTicket ticket) {
+        return ticket.userId().value();
+    }
+
+    @SchemaMapping(typeName = "QueueTicket", field = "position")
+    public long position(QueueTicket ticket) {
+        return ticket.position();
+    }
+
+    @SchemaMapping(typeName = "QueueTicket", field = "admitted")
+    public boolean admitted(QueueTicket ticket) {
+        return ticket.admitted();
+    }
+}
@@ -0,0 +1,267 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.common.CursorPagination;
+import com.flashdeal.app.domain.common.Pagination;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductConnection;
+import com.flashdeal.app.domain.product.ProductFilter;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.domain.product.ProductPage;
+import com.flashdeal.app.domain.product.ProductSortOption;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.ProductSearchIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Caching Product Repository
+ *
+ * ProductRepository 앞에 두는 2단 캐시 (cache-aside)
+ * - L1: 인스턴스 메모리 Caffeine 캐시 (W-TinyLFU, 크기 제한)
+ * - L2: Redis product:{productId} (JSON, TTL)
+ *
+ * findById만 캐시하고 목록 조회는 MongoDB로 바로 보낸다. 일괄 조회(findAllById)는 L1에 없는 ID만 한 번에 읽는다.
+ * 무효화 알림을 받으면 L1과 함께 검색 색인(ProductSearchIndex)의 해당 상품도 다시 읽는다.
+ * 저장/삭제 시 L2를 지우고 product:invalidate 채널로 상품 ID를 발행해 모든 인스턴스의 L1을 비운다.
+ * Redis 장애 시에는 L2를 건너뛰고 MongoDB에서 읽는다.
+ */
+@Component
+@Primary
+public class CachingProductRepository implements ProductRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingProductRepository.class);
+
+    static final String PRODUCT_KEY_PREFIX = "product:";
+    static final String INVALIDATION_CHANNEL = "product:invalidate";
+    static final String L2_METRIC = "flashdeal.cache.product.l2";
+
+    private final ProductRepository delegate;
+    private final ProductSearchIndex searchIndex;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration l2Ttl;
+    private final Cache<String, Product> nearCache;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    private Disposable invalidationSubscription;
+
+    public CachingProductRepository(
+            ProductPersistenceAdapter delegate,
+            ProductSearchIndex searchIndex,
+            ReactiveStringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${flashdeal.cache.product.l1-max-size:10000}") long l1MaxSize,
+            @Value("${flashdeal.cache.product.l1-ttl:30s}") Duration l1Ttl,
+            @Value("${flashdeal.cache.product.l2-ttl:10m}") Duration l2Ttl) {
+        this.delegate = delegate;
+        this.searchIndex = searchIndex;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.l2Ttl = l2Ttl;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "product.l1");
+        this.l2Hits = meterRegistry.counter(L2_METRIC, "result", "hit");
+        this.l2Misses = meterRegistry.counter(L2_METRIC, "result", "miss");
+    }
+
+    /**
+     * 다른 인스턴스의 저장/삭제 알림 구독 (끊기면 재구독)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        invalidationSubscription = redisTemplate.listenToChannel(INVALIDATION_CHANNEL)
+                .map(message -> message.getMessage())
+                .doOnNext(nearCache::invalidate)
+                .concatMap(productId -> searchIndex.refresh(new ProductId(productId))
+                        .onErrorResume(error -> {
+                            logger.warn("Failed to refresh search index for productId: {}", productId, error);
+                            return Mono.empty();
+                        }))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        return delegate.save(product)
+                .flatMap(saved -> invalidate(saved.productId()).thenReturn(saved));
+    }
+
+    @Override
+    public Mono<Product> updateStatus(ProductId id, DealStatus from, DealStatus to) {
+        return delegate.updateStatus(id, from, to)
+                .flatMap(updated -> invalidate(id).thenReturn(updated));
+    }
+
+    /**
+     * L1 → L2 → MongoDB 순으로 조회하고, 아래 계층에서 읽은 값은 위 계층에 채운다
+     */
+    @Override
+    public Mono<Product> findById(ProductId id) {
+        Product cached = nearCache.getIfPresent(id.value());
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return readL2(id)
+                .switchIfEmpty(Mono.defer(() -> delegate.findById(id)
+                        .flatMap(product -> writeL2(product).thenReturn(product))))
+                .doOnNext(product -> nearCache.put(id.value(), product));
+    }
+
+    /**
+     * L1에 있는 상품은 바로 돌려주고, 나머지는 L2를 거치지 않고 MongoDB 한 번으로 읽어 L1에 채운다
+     */
+    @Override
+    public Flux<Product> findAllById(Collection<ProductId> ids) {
+        List<Product> hits = new ArrayList<>();
+        List<ProductId> misses = new ArrayList<>();
+        for (ProductId id : ids) {
+            Product cached = nearCache.getIfPresent(id.value());
+            if (cached != null) {
+                hits.add(cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return Flux.fromIterable(hits);
+        }
+        return Flux.concat(
+                Flux.fromIterable(hits),
+                delegate.findAllById(misses)
+                        .doOnNext(product -> nearCache.put(product.productId().value(), product)));
+    }
+
+    @Override
+    public Flux<Product> search(String text, int limit) {
+        return delegate.search(text, limit);
+    }
+
+    @Override
+    public Flux<Product> findByStatus(DealStatus status) {
+        return delegate.findByStatus(status);
+    }
+
+    @Override
+    public Flux<Product> findByCategory(String category) {
+        return delegate.findByCategory(category);
+    }
+
+    @Override
+    public Flux<Product> findActiveProducts() {
+        return delegate.findActiveProducts();
+    }
+
+    @Override
+    public Flux<Product> findByStatusAndScheduleStartAtBefore(DealStatus status, Instant time) {
+        return delegate.findByStatusAndScheduleStartAtBefore(status, time);
+    }
+
+    @Override
+    public Flux<Product> findByStatusAndScheduleEndAtBefore(DealStatus status, Instant time) {
+        return delegate.findByStatusAndScheduleEndAtBefore(status, time);
+    }
+
+    @Override
+    public Mono<ProductPage> findByFilter(ProductFilter filter, Pagination pagination, List<ProductSortOption> sort) {
+        return delegate.findByFilter(filter, pagination, sort);
+    }
+
+    @Override
+    public Mono<ProductConnection> findConnection(ProductFilter filter, CursorPagination pagination,
+            List<ProductSortOption> sort, boolean includeTotalCount) {
+        return delegate.findConnection(filter, pagination, sort, includeTotalCount);
+    }
+
+    @Override
+    public Mono<Void> deleteById(ProductId id) {
+        return delegate.deleteById(id)
+                .then(invalidate(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ProductId id) {
+        return delegate.existsById(id);
+    }
+
+    private Mono<Product> readL2(ProductId id) {
+        return redisTemplate.opsForValue()
+                .get(PRODUCT_KEY_PREFIX + id.value())
+                .map(this::deserialize)
+                .doOnNext(product -> l2Hits.increment())
+                .switchIfEmpty(Mono.<Product>fromRunnable(l2Misses::increment))
+                .onErrorResume(error -> {
+                    logger.warn("Failed to read product cache for productId: {}", id.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> writeL2(Product product) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(product))
+                .flatMap(json -> redisTemplate.opsForValue()
+                        .set(PRODUCT_KEY_PREFIX + product.productId().value(), json, l2Ttl))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Failed to write product cache for productId: {}", product.productId().value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> invalidate(ProductId id) {
+        nearCache.invalidate(id.value());
+        return redisTemplate.delete(PRODUCT_KEY_PREFIX + id.value())
+                .then(redisTemplate.convertAndSend(INVALIDATION_CHANNEL, id.value()))
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Failed to invalidate product cache for productId: {}", id.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Product deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, Product.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed product cache entry", e);
+        }
+    }
+}
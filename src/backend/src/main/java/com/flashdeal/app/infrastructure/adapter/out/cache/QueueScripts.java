@@ -0,0 +1,113 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 대기열 Lua 스크립트
+ *
+ * 상품별 키
+ * - queue:{productId}          ZSET (member = userId, score = 등록 순번)
+ * - queue:{productId}:seq      마지막으로 발급한 순번
+ * - queue:{productId}:head     입장 경계 (score <= head 이면 입장)
+ * - queue:{productId}:tick     입장 주기 가드 (PX interval, NX)
+ * - admission:{productId}:{userId}  상품 입장 표시 (값 = 사용자 입장 토큰, TTL)
+ * 사용자별 키
+ * - admission-token:{userId}   사용자 입장 토큰 (여러 상품의 입장이 같은 토큰을 쓴다, TTL)
+ * 공통 키
+ * - queue:active               대기 인원이 남은 상품 ID Set
+ */
+final class QueueScripts {
+
+    static final String QUEUE_KEY_PREFIX = "queue:";
+    static final String ADMISSION_KEY_PREFIX = "admission:";
+    static final String ADMISSION_TOKEN_KEY_PREFIX = "admission-token:";
+    static final String ACTIVE_QUEUES_KEY = "queue:active";
+
+    /**
+     * KEYS: queue, seq, head, admission, active / ARGV: userId, productId
+     * 결과: 대기 순번 (토큰 보유 또는 입장 완료 시 0)
+     */
+    static final RedisScript<Long> JOIN = RedisScript.of(
+        "if redis.call('exists', KEYS[4]) == 1 then " +
+        "  return 0 " +
+        "end " +
+        "local seq = redis.call('zscore', KEYS[1], ARGV[1]) " +
+        "if not seq then " +
+        "  seq = redis.call('incr', KEYS[2]) " +
+        "  redis.call('zadd', KEYS[1], seq, ARGV[1]) " +
+        "  redis.call('sadd', KEYS[5], ARGV[2]) " +
+        "end " +
+        "local head = tonumber(redis.call('get', KEYS[3]) or '0') " +
+        "return math.max(0, tonumber(seq) - head)",
+        Long.class);
+
+    /**
+     * KEYS: queue, head, admission / ARGV: userId
+     * 결과: 대기 순번 (토큰 보유 또는 입장 완료 시 0, 대기열에 없으면 -1)
+     */
+    static final RedisScript<Long> POSITION = RedisScript.of(
+        "if redis.call('exists', KEYS[3]) == 1 then " +
+        "  return 0 " +
+        "end " +
+        "local seq = redis.call('zscore', KEYS[1], ARGV[1]) " +
+        "if not seq then " +
+        "  return -1 " +
+        "end " +
+        "local head = tonumber(redis.call('get', KEYS[2]) or '0') " +
+        "return math.max(0, tonumber(seq) - head)",
+        Long.class);
+
+    /**
+     * KEYS: queue, head, admission, admission-token / ARGV: userId, 새 토큰, TTL(초)
+     * 결과: 토큰 (차례가 아니거나 대기열에 없으면 빈 문자열)
+     *
+     * 사용자 토큰이 살아 있으면 새 토큰 대신 그 토큰으로 입장시키고 유효 시간을 늘린다.
+     * 사용자 토큰은 항상 가장 늦게 발급된 상품 입장보다 오래 살므로, 입장한 상품들은 모두 같은 토큰을 가진다.
+     * 발급과 동시에 대기열에서 빠지므로, 토큰이 만료되면 다시 줄을 서야 한다
+     */
+    static final RedisScript<String> ISSUE_TOKEN = RedisScript.of(
+        "local token = redis.call('get', KEYS[3]) " +
+        "if token then " +
+        "  return token " +
+        "end " +
+        "local seq = redis.call('zscore', KEYS[1], ARGV[1]) " +
+        "if not seq then " +
+        "  return '' " +
+        "end " +
+        "local head = tonumber(redis.call('get', KEYS[2]) or '0') " +
+        "if tonumber(seq) > head then " +
+        "  return '' " +
+        "end " +
+        "token = redis.call('get', KEYS[4]) or ARGV[2] " +
+        "redis.call('set', KEYS[4], token, 'EX', ARGV[3]) " +
+        "redis.call('set', KEYS[3], token, 'EX', ARGV[3]) " +
+        "redis.call('zrem', KEYS[1], ARGV[1]) " +
+        "return token",
+        String.class);
+
+    /**
+     * KEYS: queue, seq, head, tick, active / ARGV: 입장 인원, 주기(ms), productId
+     * 결과: 새로 입장한 인원
+     *
+     * 모두 입장했고 토큰을 받지 않은 대기자도 없으면 active 목록에서 뺀다
+     */
+    static final RedisScript<Long> ADMIT = RedisScript.of(
+        "local seq = tonumber(redis.call('get', KEYS[2]) or '0') " +
+        "local head = tonumber(redis.call('get', KEYS[3]) or '0') " +
+        "if head >= seq then " +
+        "  if redis.call('zcard', KEYS[1]) == 0 then " +
+        "    redis.call('srem', KEYS[5], ARGV[3]) " +
+        "  end " +
+        "  return 0 " +
+        "end " +
+        "if not redis.call('set', KEYS[4], '1', 'PX', ARGV[2], 'NX') then " +
+        "  return 0 " +
+        "end " +
+        "local admitted = math.min(tonumber(ARGV[1]), seq - head) " +
+        "redis.call('incrby', KEYS[3], admitted) " +
+        "return admitted",
+        Long.class);
+
+    private QueueScripts() {
+    }
+}
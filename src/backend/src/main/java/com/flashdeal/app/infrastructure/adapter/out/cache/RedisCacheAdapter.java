@@ -1,13 +1,32 @@
 package com.flashdeal.app.infrastructure.adapter.out.cache;
 
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.SchedulerLease;
+import com.flashdeal.app.application.port.out.WaitingQueue;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
 import com.flashdeal.app.domain.product.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -18,15 +37,27 @@ import static java.util.Objects.requireNonNull;
  * .doc/data/2.redis-strategy.md의 전략을 기반으로 구현
  */
 @Component
-public class RedisCacheAdapter {
+public class RedisCacheAdapter implements InventoryCounter, WaitingQueue, SchedulerLease {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheAdapter.class);
 
     private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+    private final ShardedStockCounter shardedStockCounter;
     private static final String INVENTORY_KEY_PREFIX = "inventory:";
     private static final String RESERVATION_KEY_PREFIX = "reservation:";
     private static final Duration RESERVATION_TTL = Duration.ofMinutes(10);
 
-    public RedisCacheAdapter(ReactiveRedisTemplate<String, Object> redisTemplate) {
+    public RedisCacheAdapter(ReactiveRedisTemplate<String, Object> redisTemplate,
+            ReactiveStringRedisTemplate stringRedisTemplate, ShardedStockCounter shardedStockCounter) {
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shardedStockCounter = shardedStockCounter;
+        // 구독할 때 연결한다 (빈 생성 시점에 Redis 연결을 요구하지 않는다)
+        this.stockChanges = Flux.defer(() -> stringRedisTemplate.listenToChannel(StockScripts.STOCK_CHANGES_CHANNEL))
+                .map(message -> new ProductId(message.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .share();
     }
 
     /**
@@ -202,7 +233,7 @@ public class RedisCacheAdapter {
         // Lua 스크립트로 원자적 락 연장
         String luaScript = 
             "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-            "  return redis.call('expire', KEYS[1], ARGV[2]) " +
+            "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
             "else " +
             "  return 0 " +
             "end";
@@ -212,11 +243,24 @@ public class RedisCacheAdapter {
         
         return redisTemplate
                 .execute(script, requireNonNull(Collections.singletonList(lockKey)),
-                        requireNonNull(Arrays.asList(lockId, String.valueOf(ttl.getSeconds()))))
+                        requireNonNull(Arrays.asList(lockId, String.valueOf(ttl.toMillis()))))
                        .next()
                        .map(result -> result > 0);
     }
     
+    /**
+     * 스케줄러 lease (락과 같은 키 공간, 실행이 끝나도 풀지 않고 ttl로 만료)
+     */
+    @Override
+    public Mono<Boolean> tryAcquire(String name, String owner, Duration ttl) {
+        return acquireLock(name, owner, ttl);
+    }
+
+    @Override
+    public Mono<Boolean> extend(String name, String owner, Duration ttl) {
+        return extendLock(name, owner, ttl);
+    }
+    
     /**
      * 락 소유자 확인
      * 
@@ -335,4 +379,353 @@ public class RedisCacheAdapter {
                     return result;
                 });
     }
+
+    // ===== 재고 카운터 (Lua 스크립트 기반 원자적 예약) =====
+
+    /**
+     * 상품별 샤드 수 (메타 Hash의 shards 필드, 없으면 단일 Hash)
+     *
+     * 적재 이후 바뀌지 않으므로 인스턴스 내부에 보관해 핫 경로에서 메타 Hash를 읽지 않는다.
+     * 다른 인스턴스가 샤딩 적재한 상품을 단일 Hash로 오인하면 카운터 없음(빈 Mono)이 되어
+     * 재적재 시 다시 채워진다.
+     */
+    private final Map<String, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    /**
+     * stock:changes 구독 (인스턴스당 연결 하나를 공유, 끊기면 재구독)
+     */
+    private final Flux<ProductId> stockChanges;
+
+    /**
+     * 재고 카운터 적재
+     *
+     * 이미 적재된 카운터는 덮어쓰지 않는다 (Redis가 쓰기 경로의 기준)
+     * 정책의 샤드 수가 2 이상이면 샤딩된 카운터로 적재한다
+     */
+    @Override
+    public Mono<Stock> load(Inventory inventory) {
+        int shardCount = inventory.policy().shardCount();
+        shardCounts.put(inventory.productId().value(), shardCount);
+        if (shardCount > 1) {
+            return shardedStockCounter.load(inventory, shardCount);
+        }
+        Stock stock = inventory.stock();
+        return executeStockScript(StockScripts.LOAD, inventory.productId(), List.of(
+                String.valueOf(stock.total().value()),
+                String.valueOf(stock.reserved().value()),
+                String.valueOf(stock.available().value()),
+                String.valueOf(stock.sold().value()),
+                String.valueOf(inventory.policy().maxPurchasePerUser())))
+                .map(result -> StockScripts.toStock(result, inventory.productId()));
+    }
+
+    /**
+     * 재고 예약 (available → reserved)
+     */
+    @Override
+    public Mono<Stock> reserve(ProductId productId, Quantity quantity, UserId userId) {
+        return shardCount(productId).flatMap(shardCount -> {
+            if (shardCount > 1) {
+                return shardedStockCounter.reserve(productId, quantity, userId, shardCount);
+            }
+            return executeStockScript(StockScripts.RESERVE, productId, stockArgs(productId, quantity))
+                    .map(result -> {
+                        if (result[0] == StockScripts.CODE_OVER_LIMIT) {
+                            throw new IllegalArgumentException(
+                                    "Invalid purchase quantity: " + quantity.value() + " (max: " + result[1] + ")");
+                        }
+                        if (result[0] == StockScripts.CODE_INSUFFICIENT) {
+                            Stock current = StockScripts.toStock(result, productId);
+                            if (current.outOfStock()) {
+                                throw new IllegalStateException("Product is out of stock");
+                            }
+                            throw new IllegalStateException(String.format(
+                                    "Cannot reserve %d: only %d available", quantity.value(),
+                                    current.available().value()));
+                        }
+                        return StockScripts.toStock(result, productId);
+                    })
+                    .flatMap(stock -> markStockDirty(productId).thenReturn(stock));
+        });
+    }
+
+    /**
+     * 묶음 예약 (Lua 한 번으로 요청 순서대로 적용)
+     *
+     * 샤딩된 상품은 샤드별로 이미 경합이 분산되므로 요청마다 따로 예약한다
+     */
+    @Override
+    public Mono<BatchReservation> reserveAll(ProductId productId, List<Quantity> quantities) {
+        return shardCount(productId).flatMap(shardCount -> {
+            if (shardCount > 1) {
+                return reserveEachShard(productId, quantities, shardCount);
+            }
+            String joined = quantities.stream()
+                    .map(quantity -> String.valueOf(quantity.value()))
+                    .collect(Collectors.joining(","));
+            List<String> keys = List.of(StockScripts.STOCK_KEY_PREFIX + productId.value());
+            return stringRedisTemplate
+                    .execute(StockScripts.RESERVE_BATCH, keys, List.of(joined, productId.value()))
+                    .next()
+                    .filter(raw -> !raw.equals(String.valueOf(StockScripts.CODE_MISSING)))
+                    .map(raw -> toBatchReservation(raw, productId, quantities))
+                    .flatMap(reservation -> reservation.failures().size() < quantities.size()
+                            ? markStockDirty(productId).thenReturn(reservation)
+                            : Mono.just(reservation));
+        });
+    }
+
+    /**
+     * 예약 확정 (reserved → sold)
+     */
+    @Override
+    public Mono<Stock> confirm(ProductId productId, Quantity quantity) {
+        return shardCount(productId).flatMap(shardCount -> {
+            if (shardCount > 1) {
+                return shardedStockCounter.confirm(productId, quantity, shardCount);
+            }
+            return executeStockScript(StockScripts.CONFIRM, productId, stockArgs(productId, quantity))
+                    .map(result -> {
+                        Stock current = StockScripts.toStock(result, productId);
+                        if (result[0] == StockScripts.CODE_INSUFFICIENT) {
+                            throw new IllegalArgumentException(String.format(
+                                    "Cannot confirm %d: only %d reserved", quantity.value(),
+                                    current.reserved().value()));
+                        }
+                        return current;
+                    })
+                    .flatMap(stock -> markStockDirty(productId).thenReturn(stock));
+        });
+    }
+
+    /**
+     * 예약 해제 (reserved → available)
+     */
+    @Override
+    public Mono<Stock> release(ProductId productId, Quantity quantity) {
+        return shardCount(productId).flatMap(shardCount -> {
+            if (shardCount > 1) {
+                return shardedStockCounter.release(productId, quantity, shardCount);
+            }
+            return executeStockScript(StockScripts.RELEASE, productId, stockArgs(productId, quantity))
+                    .map(result -> {
+                        Stock current = StockScripts.toStock(result, productId);
+                        if (result[0] == StockScripts.CODE_INSUFFICIENT) {
+                            throw new IllegalArgumentException(String.format(
+                                    "Cannot release %d: only %d reserved", quantity.value(),
+                                    current.reserved().value()));
+                        }
+                        return current;
+                    })
+                    .flatMap(stock -> markStockDirty(productId).thenReturn(stock));
+        });
+    }
+
+    /**
+     * 현재 재고 조회 (샤딩된 상품은 샤드 합계)
+     */
+    @Override
+    public Mono<Stock> getStock(ProductId productId) {
+        return shardCount(productId).flatMap(shardCount -> {
+            if (shardCount > 1) {
+                return shardedStockCounter.getStock(productId, shardCount);
+            }
+            return executeStockScript(StockScripts.GET, productId, List.of())
+                    .map(result -> StockScripts.toStock(result, productId));
+        });
+    }
+
+    /**
+     * MongoDB 동기화 대상 상품 추출 (SPOP, 샤딩된 상품도 같은 Set에 기록된다)
+     */
+    @Override
+    public Flux<ProductId> drainDirty(int maxCount) {
+        return stringRedisTemplate.opsForSet()
+                .pop(StockScripts.STOCK_DIRTY_KEY, maxCount)
+                .map(ProductId::new);
+    }
+
+    /**
+     * 재고 변경 알림 (모든 인스턴스의 변경이 Redis pub/sub으로 전달된다)
+     */
+    @Override
+    public Flux<ProductId> changes() {
+        return stockChanges;
+    }
+
+    /**
+     * MongoDB 동기화 대상 재등록
+     */
+    @Override
+    public Mono<Void> markDirty(ProductId productId) {
+        return stringRedisTemplate.opsForSet()
+                .add(StockScripts.STOCK_DIRTY_KEY, productId.value())
+                .then();
+    }
+
+    /**
+     * 대기열 등록 (ZADD 순번, 이미 등록된 사용자는 기존 순번 유지)
+     */
+    @Override
+    public Mono<Long> join(ProductId productId, UserId userId) {
+        String queueKey = queueKey(productId);
+        return stringRedisTemplate.execute(QueueScripts.JOIN,
+                        List.of(queueKey, queueKey + ":seq", queueKey + ":head",
+                                admissionKey(productId, userId), QueueScripts.ACTIVE_QUEUES_KEY),
+                        List.of(userId.value(), productId.value()))
+                .next();
+    }
+
+    /**
+     * 대기 순번 조회 (ZSCORE - 입장 경계)
+     */
+    @Override
+    public Mono<Long> position(ProductId productId, UserId userId) {
+        String queueKey = queueKey(productId);
+        return stringRedisTemplate.execute(QueueScripts.POSITION,
+                        List.of(queueKey, queueKey + ":head", admissionKey(productId, userId)),
+                        List.of(userId.value()))
+                .next()
+                .filter(position -> position >= 0);
+    }
+
+    /**
+     * 입장 토큰 발급 (차례가 된 사용자만, 발급 시 대기열에서 제거, 사용자 토큰이 있으면 재사용)
+     */
+    @Override
+    public Mono<String> issueToken(ProductId productId, UserId userId, Duration ttl) {
+        String queueKey = queueKey(productId);
+        return stringRedisTemplate.execute(QueueScripts.ISSUE_TOKEN,
+                        List.of(queueKey, queueKey + ":head", admissionKey(productId, userId),
+                                QueueScripts.ADMISSION_TOKEN_KEY_PREFIX + userId.value()),
+                        List.of(userId.value(), UUID.randomUUID().toString(), String.valueOf(ttl.getSeconds())))
+                .next()
+                .filter(token -> !token.isEmpty());
+    }
+
+    /**
+     * 입장 토큰 확인
+     */
+    @Override
+    public Mono<Boolean> verifyToken(ProductId productId, UserId userId, String token) {
+        return stringRedisTemplate.opsForValue()
+                .get(admissionKey(productId, userId))
+                .map(token::equals)
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * 입장 경계 증가 (interval당 한 번, 여러 인스턴스가 호출해도 속도 유지)
+     */
+    @Override
+    public Mono<Long> admit(ProductId productId, long count, Duration interval) {
+        String queueKey = queueKey(productId);
+        return stringRedisTemplate.execute(QueueScripts.ADMIT,
+                        List.of(queueKey, queueKey + ":seq", queueKey + ":head", queueKey + ":tick",
+                                QueueScripts.ACTIVE_QUEUES_KEY),
+                        List.of(String.valueOf(count), String.valueOf(interval.toMillis()), productId.value()))
+                .next();
+    }
+
+    /**
+     * 대기 인원이 남은 상품 목록
+     */
+    @Override
+    public Flux<ProductId> activeQueues() {
+        return stringRedisTemplate.opsForSet()
+                .members(QueueScripts.ACTIVE_QUEUES_KEY)
+                .map(ProductId::new);
+    }
+
+    private String queueKey(ProductId productId) {
+        return QueueScripts.QUEUE_KEY_PREFIX + productId.value();
+    }
+
+    private String admissionKey(ProductId productId, UserId userId) {
+        return QueueScripts.ADMISSION_KEY_PREFIX + productId.value() + ":" + userId.value();
+    }
+
+    private Mono<Integer> shardCount(ProductId productId) {
+        Integer cached = shardCounts.get(productId.value());
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return stringRedisTemplate.<String, String>opsForHash()
+                .get(StockScripts.STOCK_KEY_PREFIX + productId.value(), ShardedStockCounter.SHARDS_FIELD)
+                .map(Integer::parseInt)
+                .defaultIfEmpty(1)
+                .doOnNext(shardCount -> shardCounts.put(productId.value(), shardCount));
+    }
+
+    private Mono<BatchReservation> reserveEachShard(ProductId productId, List<Quantity> quantities, int shardCount) {
+        Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+        return Flux.range(0, quantities.size())
+                .concatMap(index -> shardedStockCounter.reserve(productId, quantities.get(index), null, shardCount)
+                        .onErrorResume(RuntimeException.class, error -> {
+                            failures.put(index, error);
+                            return Mono.empty();
+                        }))
+                .then(shardedStockCounter.getStock(productId, shardCount))
+                .map(stock -> new BatchReservation(stock, failures));
+    }
+
+    /**
+     * "0:total:reserved:available:sold:max:r1,r2,..." → 재고 + 요청별 실패
+     */
+    private BatchReservation toBatchReservation(String raw, ProductId productId, List<Quantity> quantities) {
+        String[] parts = raw.split(":", 7);
+        if (parts.length < 7) {
+            throw new IllegalStateException("Malformed stock counter for product: " + productId.value());
+        }
+        Stock stock = StockScripts.toStock(StockScripts.parse(String.join(":", Arrays.copyOf(parts, 5))), productId);
+        String maxPurchase = parts[5];
+        String[] outcomes = parts[6].split(",");
+        Map<Integer, RuntimeException> failures = new HashMap<>();
+        for (int index = 0; index < outcomes.length; index++) {
+            String outcome = outcomes[index];
+            int quantity = quantities.get(index).value();
+            if (outcome.equals(String.valueOf(StockScripts.CODE_OVER_LIMIT))) {
+                failures.put(index, new IllegalArgumentException(
+                        "Invalid purchase quantity: " + quantity + " (max: " + maxPurchase + ")"));
+            } else if (outcome.startsWith(StockScripts.CODE_INSUFFICIENT + "/")) {
+                long available = Long.parseLong(outcome.substring(2));
+                failures.put(index, available == 0
+                        ? new IllegalStateException("Product is out of stock")
+                        : new IllegalStateException(String.format(
+                                "Cannot reserve %d: only %d available", quantity, available)));
+            }
+        }
+        return new BatchReservation(stock, failures);
+    }
+
+    /**
+     * 스크립트로 바뀐 상품을 MongoDB 동기화 대상으로 기록 (stock:dirty는 재고 Hash와 슬롯이 달라 스크립트 밖에서 SADD)
+     *
+     * 재고 연산은 이미 반영되었으므로 기록 실패로 호출자를 실패시키지 않는다 (다음 변경 때 다시 기록된다).
+     */
+    private Mono<Void> markStockDirty(ProductId productId) {
+        return markDirty(productId)
+                .onErrorResume(error -> {
+                    logger.warn("Failed to mark stock dirty for productId: {}", productId.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private List<String> stockArgs(ProductId productId, Quantity quantity) {
+        return List.of(String.valueOf(quantity.value()), productId.value());
+    }
+
+    /**
+     * 단일 Hash 재고 스크립트 실행
+     *
+     * 카운터가 없으면(코드 1) 빈 Mono를 반환한다
+     */
+    private Mono<long[]> executeStockScript(RedisScript<String> script, ProductId productId, List<String> args) {
+        List<String> keys = List.of(StockScripts.STOCK_KEY_PREFIX + productId.value());
+        return stringRedisTemplate
+                .execute(script, keys, args)
+                .next()
+                .map(StockScripts::parse)
+                .filter(result -> result[0] != StockScripts.CODE_MISSING);
+    }
 }
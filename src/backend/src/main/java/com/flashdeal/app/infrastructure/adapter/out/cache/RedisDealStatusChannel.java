@@ -0,0 +1,56 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 딜 상태 변경 채널 (Redis pub/sub)
+ *
+ * - deal:status  메시지 = {productId}:{status}
+ *
+ * 구독은 인스턴스마다 하나이며 끊기면 다시 구독한다.
+ */
+@Component
+public class RedisDealStatusChannel implements DealStatusChannel {
+
+    static final String DEAL_STATUS_CHANNEL = "deal:status";
+
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+    private final Flux<DealStatusChange> changes;
+
+    public RedisDealStatusChannel(ReactiveStringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 구독할 때 연결한다 (빈 생성 시점에 Redis 연결을 요구하지 않는다)
+        this.changes = Flux.defer(() -> stringRedisTemplate.listenToChannel(DEAL_STATUS_CHANNEL))
+                .map(message -> toChange(message.getMessage()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .share();
+    }
+
+    @Override
+    public Mono<Void> publish(ProductId productId, DealStatus status) {
+        return stringRedisTemplate.convertAndSend(DEAL_STATUS_CHANNEL, productId.value() + ":" + status.name())
+                .then();
+    }
+
+    @Override
+    public Flux<DealStatusChange> changes() {
+        return changes;
+    }
+
+    private static DealStatusChange toChange(String message) {
+        int separator = message.lastIndexOf(':');
+        return new DealStatusChange(new ProductId(message.substring(0, separator)),
+                DealStatus.valueOf(message.substring(separator + 1)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.DealTriggerQueue;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 딜 트리거 지연 큐 (Redis ZSET)
+ *
+ * - deal:triggers  ZSET (member = {productId}:{trigger}, score = 시각 epoch ms)
+ *
+ * 진행 중/예정 딜 수만큼만 들어가므로 샤딩하지 않는다.
+ * 가져갈 때 score를 lease 끝 시각으로 미뤄 두고, complete는 score가 그대로일 때만 지운다
+ * (처리 중에 일정이 바뀌어 다시 등록된 트리거는 남는다).
+ */
+@Component
+public class RedisDealTriggerQueue implements DealTriggerQueue {
+
+    static final String TRIGGER_KEY = "deal:triggers";
+
+    /**
+     * KEYS: ZSET / ARGV: now, lease 끝 시각, limit (epoch ms)
+     * 결과: 가져간 member|시각 (쉼표로 구분, 없으면 빈 문자열)
+     */
+    static final RedisScript<String> CLAIM = RedisScript.of(
+        "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[3]) " +
+        "local claimed = {} " +
+        "for i = 1, #due, 2 do " +
+        "  redis.call('zadd', KEYS[1], 'XX', ARGV[2], due[i]) " +
+        "  claimed[#claimed + 1] = due[i] .. '|' .. due[i + 1] " +
+        "end " +
+        "return table.concat(claimed, ',')",
+        String.class);
+
+    /**
+     * KEYS: ZSET / ARGV: member, 가져갈 때의 lease 끝 시각
+     * 결과: 지웠으면 1
+     */
+    static final RedisScript<Long> COMPLETE = RedisScript.of(
+        "local score = redis.call('zscore', KEYS[1], ARGV[1]) " +
+        "if score and tonumber(score) == tonumber(ARGV[2]) then " +
+        "  return redis.call('zrem', KEYS[1], ARGV[1]) " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+
+    public RedisDealTriggerQueue(ReactiveStringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    public Mono<Void> schedule(ProductId productId, Trigger trigger, Instant dueAt) {
+        return stringRedisTemplate.opsForZSet()
+                .add(TRIGGER_KEY, member(productId, trigger), dueAt.toEpochMilli())
+                .then();
+    }
+
+    @Override
+    public Flux<DueTrigger> claimDue(Instant now, Duration lease, int limit) {
+        Instant leaseUntil = now.plus(lease);
+        return stringRedisTemplate.execute(CLAIM, List.of(TRIGGER_KEY),
+                        List.of(String.valueOf(now.toEpochMilli()), String.valueOf(leaseUntil.toEpochMilli()),
+                                String.valueOf(limit)))
+                .next()
+                .filter(claimed -> !claimed.isEmpty())
+                .flatMapIterable(claimed -> Arrays.asList(claimed.split(",")))
+                .map(claimed -> toDueTrigger(claimed, leaseUntil));
+    }
+
+    @Override
+    public Mono<Void> complete(DueTrigger trigger) {
+        return stringRedisTemplate.execute(COMPLETE, List.of(TRIGGER_KEY),
+                        List.of(member(trigger.productId(), trigger.trigger()),
+                                String.valueOf(trigger.leaseUntil().toEpochMilli())))
+                .then();
+    }
+
+    private static DueTrigger toDueTrigger(String claimed, Instant leaseUntil) {
+        int scoreSeparator = claimed.lastIndexOf('|');
+        String member = claimed.substring(0, scoreSeparator);
+        int triggerSeparator = member.lastIndexOf(':');
+        return new DueTrigger(new ProductId(member.substring(0, triggerSeparator)),
+                Trigger.valueOf(member.substring(triggerSeparator + 1)),
+                Instant.ofEpochMilli((long) Double.parseDouble(claimed.substring(scoreSeparator + 1))),
+                leaseUntil);
+    }
+
+    private static String member(ProductId productId, Trigger trigger) {
+        return productId.value() + ":" + trigger.name();
+    }
+}
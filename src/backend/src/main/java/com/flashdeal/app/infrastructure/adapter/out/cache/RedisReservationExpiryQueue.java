@@ -0,0 +1,106 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue;
+import com.flashdeal.app.domain.order.OrderId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 재고 예약 만료 큐 (샤드별 Redis ZSET)
+ *
+ * - order:expiry:{shard}  ZSET (member = orderId, score = 만료 시각 epoch ms)
+ *
+ * 샤드는 orderId 해시로 정한다. 샤드마다 키가 달라 클러스터에서는 슬롯이 나뉜다.
+ * 가져갈 때 score를 now + lease로 미뤄 두므로, complete 전에는 lease가 지나야 다시 나온다.
+ */
+@Component
+public class RedisReservationExpiryQueue implements ReservationExpiryQueue {
+
+    static final String EXPIRY_KEY_PREFIX = "order:expiry:";
+
+    /**
+     * KEYS: 샤드 ZSET / ARGV: 만료 시각 (epoch ms), orderId
+     * 결과: 새로 넣었으면 1 (이미 있으면 만료 시각을 바꾸지 않고 0)
+     */
+    static final RedisScript<Long> SCHEDULE = RedisScript.of(
+        "return redis.call('zadd', KEYS[1], 'NX', ARGV[1], ARGV[2])",
+        Long.class);
+
+    /**
+     * KEYS: 샤드 ZSET / ARGV: now, lease 끝 시각, limit (epoch ms)
+     * 결과: 가져간 orderId:만료 시각 (쉼표로 구분, 없으면 빈 문자열)
+     */
+    static final RedisScript<String> CLAIM = RedisScript.of(
+        "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[3]) " +
+        "local claimed = {} " +
+        "for i = 1, #due, 2 do " +
+        "  redis.call('zadd', KEYS[1], 'XX', ARGV[2], due[i]) " +
+        "  claimed[#claimed + 1] = due[i] .. ':' .. due[i + 1] " +
+        "end " +
+        "return table.concat(claimed, ',')",
+        String.class);
+
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+    private final int shardCount;
+
+    public RedisReservationExpiryQueue(ReactiveStringRedisTemplate stringRedisTemplate,
+                                       @Value("${flashdeal.order.expiry.shards:16}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public Mono<Boolean> schedule(OrderId orderId, Instant expiresAt) {
+        return stringRedisTemplate.execute(SCHEDULE, List.of(key(orderId)),
+                        List.of(String.valueOf(expiresAt.toEpochMilli()), orderId.value()))
+                .next()
+                .map(added -> added == 1L);
+    }
+
+    @Override
+    public Flux<ExpiredReservation> claimExpired(int shard, Instant now, Duration lease, int limit) {
+        return stringRedisTemplate.execute(CLAIM, List.of(EXPIRY_KEY_PREFIX + shard),
+                        List.of(String.valueOf(now.toEpochMilli()), String.valueOf(now.plus(lease).toEpochMilli()),
+                                String.valueOf(limit)))
+                .next()
+                .filter(claimed -> !claimed.isEmpty())
+                .flatMapIterable(claimed -> Arrays.asList(claimed.split(",")))
+                .map(RedisReservationExpiryQueue::toExpiredReservation);
+    }
+
+    @Override
+    public Mono<Void> complete(OrderId orderId) {
+        return stringRedisTemplate.opsForZSet()
+                .remove(key(orderId), orderId.value())
+                .then();
+    }
+
+    private static ExpiredReservation toExpiredReservation(String claimed) {
+        int separator = claimed.lastIndexOf(':');
+        return new ExpiredReservation(new OrderId(claimed.substring(0, separator)),
+                Instant.ofEpochMilli((long) Double.parseDouble(claimed.substring(separator + 1))));
+    }
+
+    private String key(OrderId orderId) {
+        return EXPIRY_KEY_PREFIX + Math.floorMod(orderId.value().hashCode(), shardCount);
+    }
+}
@@ -0,0 +1,323 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.flashdeal.app.infrastructure.adapter.out.cache.StockScripts.CODE_INSUFFICIENT;
+import static com.flashdeal.app.infrastructure.adapter.out.cache.StockScripts.CODE_MISSING;
+import static com.flashdeal.app.infrastructure.adapter.out.cache.StockScripts.CODE_OVER_LIMIT;
+import static com.flashdeal.app.infrastructure.adapter.out.cache.StockScripts.STOCK_DIRTY_KEY;
+import static com.flashdeal.app.infrastructure.adapter.out.cache.StockScripts.STOCK_KEY_PREFIX;
+
+/**
+ * 샤딩된 재고 카운터 (핫 상품 전용)
+ *
+ * 한 상품의 재고를 stock:{productId}:{i} N개 Hash로 나누어 서로 다른 Redis 슬롯에 분산한다.
+ * 각 샤드는 total = reserved + available + sold 를 독립적으로 만족하고,
+ * 상품 전체 재고는 샤드 합계다. 모든 스크립트는 샤드 하나만 건드리므로 클러스터에서도 동작한다.
+ *
+ * - 예약: 사용자 해시(없으면 무작위)로 고른 샤드에서 먼저 시도하고,
+ *         부족하면 다른 샤드에서 나누어 가져온다 (모자라면 가져온 만큼 되돌린다)
+ * - 확정/해제: 예약이 어느 샤드에 있는지 모르므로 reserved가 있는 샤드에서 나누어 처리한다
+ * - 재분배: 샤드가 바닥나면 가장 많이 남은 샤드의 절반을 옮겨 단일 샤드 경로 적중률을 유지한다
+ *
+ * 변경된 상품은 단일 Hash 카운터와 같은 dirty Set(stock:dirty)에 기록한다.
+ * 샤드와 슬롯이 다르므로 스크립트 안이 아니라 연산 뒤 별도 SADD로 기록하고,
+ * 인스턴스가 죽어도 동기화 대상은 Redis에 남는다.
+ */
+@Component
+public class ShardedStockCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedStockCounter.class);
+
+    static final String SHARDS_FIELD = "shards";
+
+    private static final String FIELD_AVAILABLE = "available";
+    private static final String FIELD_RESERVED = "reserved";
+    private static final String FIELD_SOLD = "sold";
+
+    private final ReactiveStringRedisTemplate stringRedisTemplate;
+
+    private final Set<String> rebalancing = ConcurrentHashMap.newKeySet();
+
+    public ShardedStockCounter(ReactiveStringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 샤드 적재 (이미 적재된 샤드는 유지) 후 메타 Hash에 샤드 수를 기록한다
+     *
+     * 샤드를 먼저 쓰고 메타를 나중에 쓰므로, 샤드 수가 보이면 샤드도 존재한다.
+     */
+    public Mono<Stock> load(Inventory inventory, int shardCount) {
+        ProductId productId = inventory.productId();
+        Stock stock = inventory.stock();
+        return Flux.range(0, shardCount)
+                .flatMap(shard -> execute(StockScripts.LOAD, productId, shard, List.of(
+                        String.valueOf(part(stock.reserved(), shard, shardCount)
+                                + part(stock.available(), shard, shardCount)
+                                + part(stock.sold(), shard, shardCount)),
+                        String.valueOf(part(stock.reserved(), shard, shardCount)),
+                        String.valueOf(part(stock.available(), shard, shardCount)),
+                        String.valueOf(part(stock.sold(), shard, shardCount)),
+                        String.valueOf(inventory.policy().maxPurchasePerUser()))))
+                .then(stringRedisTemplate.opsForHash()
+                        .putIfAbsent(STOCK_KEY_PREFIX + productId.value(), SHARDS_FIELD, String.valueOf(shardCount)))
+                .then(getStock(productId, shardCount));
+    }
+
+    /**
+     * 재고 예약 (연산이 반영된 샤드의 재고를 반환)
+     */
+    public Mono<Stock> reserve(ProductId productId, Quantity quantity, UserId userId, int shardCount) {
+        int start = selectShard(userId, shardCount);
+        return execute(StockScripts.RESERVE, productId, start, quantityArgs(productId, quantity))
+                .flatMap(result -> {
+                    if (result[0] == CODE_OVER_LIMIT) {
+                        return Mono.error(new IllegalArgumentException(
+                                "Invalid purchase quantity: " + quantity.value() + " (max: " + result[1] + ")"));
+                    }
+                    if (result[0] == CODE_INSUFFICIENT) {
+                        rebalance(productId, start, shardCount);
+                        return spillReserve(productId, quantity, start, shardCount);
+                    }
+                    Stock shardStock = StockScripts.toStock(result, productId);
+                    if (shardStock.outOfStock()) {
+                        rebalance(productId, start, shardCount);
+                    }
+                    return markDirty(productId).thenReturn(shardStock);
+                });
+    }
+
+    /**
+     * 예약 확정 (reserved → sold)
+     */
+    public Mono<Stock> confirm(ProductId productId, Quantity quantity, int shardCount) {
+        return moveAcrossShards(productId, quantity, FIELD_RESERVED, FIELD_SOLD, shardCount, "confirm");
+    }
+
+    /**
+     * 예약 해제 (reserved → available)
+     */
+    public Mono<Stock> release(ProductId productId, Quantity quantity, int shardCount) {
+        return moveAcrossShards(productId, quantity, FIELD_RESERVED, FIELD_AVAILABLE, shardCount, "release");
+    }
+
+    /**
+     * 샤드 합계 조회 (샤드가 하나라도 없으면 빈 Mono)
+     */
+    public Mono<Stock> getStock(ProductId productId, int shardCount) {
+        return Flux.range(0, shardCount)
+                .flatMap(shard -> execute(StockScripts.GET, productId, shard, List.of()))
+                .map(result -> StockScripts.toStock(result, productId))
+                .collectList()
+                .filter(stocks -> stocks.size() == shardCount)
+                .map(ShardedStockCounter::sum);
+    }
+
+    private Mono<Stock> spillReserve(ProductId productId, Quantity quantity, int start, int shardCount) {
+        return takeAcrossShards(productId, quantity, FIELD_AVAILABLE, FIELD_RESERVED, start, shardCount, 1)
+                .flatMap(take -> {
+                    if (take.complete()) {
+                        return Mono.just(take.lastStock());
+                    }
+                    int available = quantity.value() - take.remaining();
+                    return rollback(productId, take, FIELD_AVAILABLE, FIELD_RESERVED)
+                            .then(Mono.<Stock>error(available == 0
+                                    ? new IllegalStateException("Product is out of stock")
+                                    : new IllegalStateException(String.format(
+                                            "Cannot reserve %d: only %d available", quantity.value(), available))));
+                });
+    }
+
+    /**
+     * 예약이 어느 샤드에 있는지 모르므로 reserved가 남은 샤드에서 나누어 옮긴다
+     *
+     * 동시에 다른 요청이 같은 샤드를 소비할 수 있으므로 두 바퀴를 돌고도 모자라면 되돌리고 실패로 본다.
+     */
+    private Mono<Stock> moveAcrossShards(ProductId productId, Quantity quantity, String from, String to,
+            int shardCount, String operation) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        return takeAcrossShards(productId, quantity, from, to, start, shardCount, 2)
+                .flatMap(take -> {
+                    if (take.complete()) {
+                        return Mono.just(take.lastStock());
+                    }
+                    return rollback(productId, take, from, to)
+                            .then(Mono.<Stock>error(new IllegalArgumentException(String.format(
+                                    "Cannot %s %d: only %d reserved", operation, quantity.value(),
+                                    quantity.value() - take.remaining()))));
+                });
+    }
+
+    /**
+     * start 샤드부터 순서대로 from 필드에서 to 필드로 남은 수량만큼 옮긴다
+     *
+     * 샤드가 하나도 적재되어 있지 않으면 빈 Mono를 반환한다
+     */
+    private Mono<ShardTake> takeAcrossShards(ProductId productId, Quantity quantity, String from, String to,
+            int start, int shardCount, int passes) {
+        Map<Integer, Integer> taken = new ConcurrentHashMap<>();
+        AtomicInteger remaining = new AtomicInteger(quantity.value());
+        return Flux.range(0, shardCount * passes)
+                .map(i -> (start + i) % shardCount)
+                .concatMap(shard -> {
+                    if (remaining.get() == 0) {
+                        return Mono.<long[]>empty();
+                    }
+                    return move(productId, shard, remaining.get(), from, to)
+                            .doOnNext(result -> {
+                                int moved = (int) result[5];
+                                if (moved > 0) {
+                                    taken.merge(shard, moved, Integer::sum);
+                                    remaining.addAndGet(-moved);
+                                }
+                            });
+                })
+                .collectList()
+                .filter(results -> !results.isEmpty())
+                .flatMap(results -> {
+                    ShardTake take = new ShardTake(taken, remaining.get(),
+                            StockScripts.toStock(results.get(results.size() - 1), productId));
+                    return taken.isEmpty() ? Mono.just(take) : markDirty(productId).thenReturn(take);
+                });
+    }
+
+    private Mono<Void> rollback(ProductId productId, ShardTake take, String from, String to) {
+        return Flux.fromIterable(take.taken().entrySet())
+                .concatMap(entry -> move(productId, entry.getKey(), entry.getValue(), to, from))
+                .then();
+    }
+
+    /**
+     * 바닥난 샤드에 가장 많이 남은 샤드의 절반을 옮긴다 (상품별로 한 번에 하나만 실행)
+     *
+     * 차감과 가산은 서로 다른 샤드에 대한 두 번의 원자 연산이다.
+     * 가산이 실패하면 차감한 수량을 원래 샤드에 되돌린다.
+     */
+    void rebalance(ProductId productId, int dryShard, int shardCount) {
+        if (!rebalancing.add(productId.value())) {
+            return;
+        }
+        Flux.range(0, shardCount)
+                .flatMap(shard -> execute(StockScripts.GET, productId, shard, List.of())
+                        .map(result -> new long[] { shard, result[3] }))
+                .collectList()
+                .flatMap(available -> {
+                    long[] donor = available.stream()
+                            .filter(entry -> entry[0] != dryShard)
+                            .max(Comparator.comparingLong(entry -> entry[1]))
+                            .orElse(null);
+                    if (donor == null || donor[1] < 2) {
+                        return Mono.empty();
+                    }
+                    long amount = donor[1] / 2;
+                    return adjust(productId, (int) donor[0], -amount)
+                            .filter(result -> result[0] == StockScripts.CODE_OK)
+                            .flatMap(debited -> adjust(productId, dryShard, amount)
+                                    .onErrorResume(error -> adjust(productId, (int) donor[0], amount)
+                                            .then(Mono.<long[]>error(error))));
+                })
+                .flatMap(result -> markDirty(productId))
+                .doFinally(signal -> rebalancing.remove(productId.value()))
+                .subscribe(
+                        null,
+                        error -> logger.warn("Failed to rebalance stock shards for productId: {}",
+                                productId.value(), error));
+    }
+
+    /**
+     * MongoDB 동기화 대상 등록
+     *
+     * 재고 연산은 이미 반영되었으므로 기록 실패로 호출자를 실패시키지 않는다 (다음 변경 때 다시 기록된다).
+     */
+    private Mono<Void> markDirty(ProductId productId) {
+        return stringRedisTemplate.opsForSet()
+                .add(STOCK_DIRTY_KEY, productId.value())
+                .then()
+                .onErrorResume(error -> {
+                    logger.warn("Failed to mark stock dirty for productId: {}", productId.value(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<long[]> move(ProductId productId, int shard, int quantity, String from, String to) {
+        return execute(StockScripts.MOVE, productId, shard,
+                List.of(String.valueOf(quantity), productId.value(), from, to));
+    }
+
+    private Mono<long[]> adjust(ProductId productId, int shard, long delta) {
+        return execute(StockScripts.ADJUST_AVAILABLE, productId, shard,
+                List.of(String.valueOf(delta), productId.value()));
+    }
+
+    private Mono<long[]> execute(RedisScript<String> script, ProductId productId, int shard, List<String> args) {
+        return stringRedisTemplate
+                .execute(script, List.of(shardKey(productId, shard)), args)
+                .next()
+                .map(StockScripts::parse)
+                .filter(result -> result[0] != CODE_MISSING);
+    }
+
+    static String shardKey(ProductId productId, int shard) {
+        return STOCK_KEY_PREFIX + productId.value() + ":" + shard;
+    }
+
+    private static int selectShard(UserId userId, int shardCount) {
+        if (userId == null) {
+            return ThreadLocalRandom.current().nextInt(shardCount);
+        }
+        return Math.floorMod(userId.value().hashCode(), shardCount);
+    }
+
+    /**
+     * 수량을 샤드 수로 나누고 나머지는 앞 샤드부터 하나씩 더한다
+     */
+    private static int part(Quantity quantity, int shard, int shardCount) {
+        int base = quantity.value() / shardCount;
+        return shard < quantity.value() % shardCount ? base + 1 : base;
+    }
+
+    private static List<String> quantityArgs(ProductId productId, Quantity quantity) {
+        return List.of(String.valueOf(quantity.value()), productId.value());
+    }
+
+    private record ShardTake(Map<Integer, Integer> taken, int remaining, Stock lastStock) {
+
+        boolean complete() {
+            return remaining == 0;
+        }
+    }
+
+    private static Stock sum(List<Stock> stocks) {
+        int total = 0;
+        int reserved = 0;
+        int available = 0;
+        int sold = 0;
+        for (Stock stock : stocks) {
+            total += stock.total().value();
+            reserved += stock.reserved().value();
+            available += stock.available().value();
+            sold += stock.sold().value();
+        }
+        return new Stock(new Quantity(total), new Quantity(reserved), new Quantity(available), new Quantity(sold));
+    }
+}
@@ -0,0 +1,190 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 재고 카운터 Lua 스크립트
+ *
+ * 모든 스크립트는 KEYS[1] 하나의 재고 Hash(total/reserved/available/sold/maxPurchase)만 다룬다.
+ * 클러스터에서 다른 슬롯이 되는 stock:dirty는 키로 받지 않으며, 호출하는 쪽이 스크립트 뒤에 SADD로 기록한다.
+ * 재고가 바뀌면 stock:changes 채널로 상품 ID(ARGV[2])를 발행한다 (같은 키의 변경은 발행 순서가 보장된다).
+ *
+ * maxPurchase는 요청 한 건의 수량 한도다. 사용자별 누적 수량은 추적하지 않는다.
+ *
+ * 결과 형식: "코드:total:reserved:available:sold"
+ * 코드 0 = 성공, 1 = 카운터 없음, 2 = 수량 부족, 3 = 요청 수량 한도 초과("3:maxPurchase")
+ */
+final class StockScripts {
+
+    static final String STOCK_KEY_PREFIX = "stock:";
+    static final String STOCK_DIRTY_KEY = "stock:dirty";
+    static final String STOCK_CHANGES_CHANNEL = "stock:changes";
+
+    static final int CODE_OK = 0;
+    static final int CODE_MISSING = 1;
+    static final int CODE_INSUFFICIENT = 2;
+    static final int CODE_OVER_LIMIT = 3;
+
+    private static final String STOCK_READ_LUA =
+        "local s = redis.call('hmget', KEYS[1], 'total', 'reserved', 'available', 'sold', 'maxPurchase') " +
+        "if not s[1] then " +
+        "  return '1' " +
+        "end " +
+        "local total = tonumber(s[1]) " +
+        "local reserved = tonumber(s[2]) " +
+        "local available = tonumber(s[3]) " +
+        "local sold = tonumber(s[4]) " +
+        "local maxPurchase = tonumber(s[5]) " +
+        "local function result(code) " +
+        "  return code .. ':' .. total .. ':' .. reserved .. ':' .. available .. ':' .. sold " +
+        "end ";
+
+    private static final String STOCK_SAVE_LUA =
+        "redis.call('hset', KEYS[1], 'total', total, 'reserved', reserved, 'available', available, 'sold', sold) " +
+        "redis.call('publish', '" + STOCK_CHANGES_CHANNEL + "', ARGV[2]) ";
+
+    static final RedisScript<String> LOAD = RedisScript.of(
+        "if redis.call('exists', KEYS[1]) == 0 then " +
+        "  redis.call('hset', KEYS[1], 'total', ARGV[1], 'reserved', ARGV[2], " +
+        "    'available', ARGV[3], 'sold', ARGV[4], 'maxPurchase', ARGV[5]) " +
+        "end " +
+        STOCK_READ_LUA +
+        "return result('0')",
+        String.class);
+
+    static final RedisScript<String> GET = RedisScript.of(
+        STOCK_READ_LUA +
+        "return result('0')",
+        String.class);
+
+    static final RedisScript<String> RESERVE = RedisScript.of(
+        STOCK_READ_LUA +
+        "local qty = tonumber(ARGV[1]) " +
+        "if qty > maxPurchase then " +
+        "  return '3:' .. maxPurchase " +
+        "end " +
+        "if qty > available then " +
+        "  return result('2') " +
+        "end " +
+        "reserved = reserved + qty " +
+        "available = available - qty " +
+        STOCK_SAVE_LUA +
+        "return result('0')",
+        String.class);
+
+    /**
+     * 묶음 예약: ARGV[1]의 수량 목록(쉼표 구분)을 순서대로 적용하고 저장/발행은 한 번만 한다
+     *
+     * 결과 끝에 maxPurchase와 요청별 결과가 붙는다 ("0:total:reserved:available:sold:max:r1,r2,...")
+     * 요청별 결과: 0 = 성공, 3 = 요청 수량 한도 초과, "2/n" = 그 시점 available n으로 부족
+     */
+    static final RedisScript<String> RESERVE_BATCH = RedisScript.of(
+        STOCK_READ_LUA +
+        "local outcomes = {} " +
+        "local changed = false " +
+        "for token in string.gmatch(ARGV[1], '[^,]+') do " +
+        "  local qty = tonumber(token) " +
+        "  if qty > maxPurchase then " +
+        "    outcomes[#outcomes + 1] = '3' " +
+        "  elseif qty > available then " +
+        "    outcomes[#outcomes + 1] = '2/' .. available " +
+        "  else " +
+        "    reserved = reserved + qty " +
+        "    available = available - qty " +
+        "    changed = true " +
+        "    outcomes[#outcomes + 1] = '0' " +
+        "  end " +
+        "end " +
+        "if changed then " +
+        STOCK_SAVE_LUA +
+        "end " +
+        "return result('0') .. ':' .. maxPurchase .. ':' .. table.concat(outcomes, ',')",
+        String.class);
+
+    static final RedisScript<String> CONFIRM = RedisScript.of(
+        STOCK_READ_LUA +
+        "local qty = tonumber(ARGV[1]) " +
+        "if qty > reserved then " +
+        "  return result('2') " +
+        "end " +
+        "reserved = reserved - qty " +
+        "sold = sold + qty " +
+        STOCK_SAVE_LUA +
+        "return result('0')",
+        String.class);
+
+    static final RedisScript<String> RELEASE = RedisScript.of(
+        STOCK_READ_LUA +
+        "local qty = tonumber(ARGV[1]) " +
+        "if qty > reserved then " +
+        "  return result('2') " +
+        "end " +
+        "reserved = reserved - qty " +
+        "available = available + qty " +
+        STOCK_SAVE_LUA +
+        "return result('0')",
+        String.class);
+
+    /**
+     * 부분 이동: ARGV[3] 필드에서 ARGV[4] 필드로 최대 ARGV[1]개를 옮긴다
+     *
+     * 결과 끝에 실제 이동한 수량이 붙는다 ("0:total:reserved:available:sold:moved")
+     */
+    static final RedisScript<String> MOVE = RedisScript.of(
+        STOCK_READ_LUA +
+        "local values = { reserved = reserved, available = available, sold = sold } " +
+        "local moved = math.min(values[ARGV[3]], tonumber(ARGV[1])) " +
+        "if moved > 0 then " +
+        "  values[ARGV[3]] = values[ARGV[3]] - moved " +
+        "  values[ARGV[4]] = values[ARGV[4]] + moved " +
+        "  reserved = values.reserved " +
+        "  available = values.available " +
+        "  sold = values.sold " +
+        STOCK_SAVE_LUA +
+        "end " +
+        "return result('0') .. ':' .. moved",
+        String.class);
+
+    /**
+     * 샤드 간 재분배: available과 total을 함께 ARGV[1]만큼 증감한다 (음수면 차감)
+     *
+     * 차감 시 available이 부족하면 코드 2를 반환하고 아무것도 바꾸지 않는다
+     */
+    static final RedisScript<String> ADJUST_AVAILABLE = RedisScript.of(
+        STOCK_READ_LUA +
+        "local delta = tonumber(ARGV[1]) " +
+        "if available + delta < 0 then " +
+        "  return result('2') " +
+        "end " +
+        "available = available + delta " +
+        "total = total + delta " +
+        STOCK_SAVE_LUA +
+        "return result('0')",
+        String.class);
+
+    private StockScripts() {
+    }
+
+    static long[] parse(String raw) {
+        String[] parts = raw.split(":");
+        long[] result = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Long.parseLong(parts[i]);
+        }
+        return result;
+    }
+
+    static Stock toStock(long[] result, ProductId productId) {
+        if (result.length < 5) {
+            throw new IllegalStateException("Malformed stock counter for product: " + productId.value());
+        }
+        return new Stock(
+                new Quantity((int) result[1]),
+                new Quantity((int) result[2]),
+                new Quantity((int) result[3]),
+                new Quantity((int) result[4]));
+    }
+}
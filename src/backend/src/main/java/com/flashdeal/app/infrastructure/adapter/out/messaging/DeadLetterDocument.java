@@ -0,0 +1,90 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * DLT로 보낸 레코드 (조회/재처리용)
+ *
+ * _id는 원래 토픽-파티션-offset이라 같은 레코드를 다시 받아 DLT로 보내도 한 번만 남는다.
+ * payload는 DLT로 보낸 값 그대로이고, 재처리하면 원래 토픽으로 다시 보내고 replayedAt을 채운다.
+ */
+@Document(collection = "dead_letters")
+public class DeadLetterDocument {
+
+    @Id
+    private String id;
+
+    private String eventId;
+    private String eventType;
+    private String originalTopic;
+    private int partition;
+    private long offset;
+    private String key;
+    private byte[] payload;
+    private String exception;
+    private String message;
+    private int attempts;
+    private Instant failedAt;
+    private Instant replayedAt;
+
+    public DeadLetterDocument() {}
+
+    public DeadLetterDocument(String originalTopic, int partition, long offset, String key, String eventId,
+                              String eventType, byte[] payload, String exception, String message, int attempts) {
+        this.id = originalTopic + "-" + partition + "-" + offset;
+        this.originalTopic = originalTopic;
+        this.partition = partition;
+        this.offset = offset;
+        this.key = key;
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.exception = exception;
+        this.message = message;
+        this.attempts = attempts;
+        this.failedAt = Instant.now();
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getOriginalTopic() { return originalTopic; }
+    public void setOriginalTopic(String originalTopic) { this.originalTopic = originalTopic; }
+
+    public int getPartition() { return partition; }
+    public void setPartition(int partition) { this.partition = partition; }
+
+    public long getOffset() { return offset; }
+    public void setOffset(long offset) { this.offset = offset; }
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public byte[] getPayload() { return payload; }
+    public void setPayload(byte[] payload) { this.payload = payload; }
+
+    public String getException() { return exception; }
+    public void setException(String exception) { this.exception = exception; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public Instant getFailedAt() { return failedAt; }
+    public void setFailedAt(Instant failedAt) { this.failedAt = failedAt; }
+
+    public Instant getReplayedAt() { return replayedAt; }
+    public void setReplayedAt(Instant replayedAt) { this.replayedAt = replayedAt; }
+}
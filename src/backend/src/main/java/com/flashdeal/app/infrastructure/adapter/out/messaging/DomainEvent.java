@@ -3,14 +3,18 @@ package com.flashdeal.app.infrastructure.adapter.out.messaging;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import java.time.ZonedDateTime;
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 도메인 이벤트 기본 클래스
  * 
  * .doc/data/3.kafka-events.md의 이벤트 스키마를 기반으로 구현
+ *
+ * eventId는 앞 48비트가 생성 시각(ms)인 UUID(v7 배치)로, SecureRandom 대신 ThreadLocalRandom으로 채운다
+ * (같은 ms 안에서도 74비트 난수로 구분되고, 시간 순으로 정렬된다).
  */
 public abstract class DomainEvent {
     
@@ -24,8 +28,8 @@ public abstract class DomainEvent {
     private final String eventVersion;
     
     @JsonProperty("timestamp")
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
-    private final ZonedDateTime timestamp;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "UTC")
+    private final Instant timestamp;
     
     @JsonProperty("aggregateId")
     private final String aggregateId;
@@ -41,23 +45,51 @@ public abstract class DomainEvent {
     
     protected DomainEvent(String eventType, String eventVersion, String aggregateId, 
                          String correlationId, String causationId, Map<String, Object> metadata) {
-        this.eventId = UUID.randomUUID().toString();
+        this.timestamp = Instant.now();
+        this.eventId = newEventId(timestamp.toEpochMilli());
         this.eventType = eventType;
         this.eventVersion = eventVersion;
-        this.timestamp = ZonedDateTime.now();
         this.aggregateId = aggregateId;
         this.correlationId = correlationId;
         this.causationId = causationId;
         this.metadata = metadata;
     }
+
+    /**
+     * 수신한 이벤트 복원용 (eventId/timestamp를 새로 만들지 않는다)
+     */
+    protected DomainEvent(String eventType, EventHeader header) {
+        this.eventId = header.eventId();
+        this.eventType = eventType;
+        this.eventVersion = header.eventVersion();
+        this.timestamp = header.timestamp();
+        this.aggregateId = header.aggregateId();
+        this.correlationId = header.correlationId();
+        this.causationId = header.causationId();
+        this.metadata = header.metadata();
+    }
     
     // Getters
     public String getEventId() { return eventId; }
     public String getEventType() { return eventType; }
     public String getEventVersion() { return eventVersion; }
-    public ZonedDateTime getTimestamp() { return timestamp; }
+    public Instant getTimestamp() { return timestamp; }
     public String getAggregateId() { return aggregateId; }
     public String getCorrelationId() { return correlationId; }
     public String getCausationId() { return causationId; }
     public Map<String, Object> getMetadata() { return metadata; }
+
+    /**
+     * 이벤트 타입과 본문을 제외한 공통 필드
+     */
+    public record EventHeader(String eventId, String eventVersion, Instant timestamp, String aggregateId,
+                              String correlationId, String causationId, Map<String, Object> metadata) {
+    }
+
+    private static String newEventId(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (epochMillis << 16) | 0x7000L | (random.nextInt() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
 }
@@ -0,0 +1,54 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 도메인 이벤트 Kafka 발행
+ *
+ * 토픽은 EventTopics에서 이벤트 타입으로 정해지고, 값은 DomainEventSerializer가 만든 바이너리를 그대로 보낸다.
+ * 주문 경로의 이벤트는 outbox에 직렬화된 채로 저장되므로 OutboxRelay는 send(topic, key, payload)로 다시 직렬화하지 않고 보낸다.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventPublisher.class);
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final DomainEventSerializer serializer;
+
+    public DomainEventPublisher(KafkaTemplate<String, byte[]> kafkaTemplate, DomainEventSerializer serializer) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.serializer = serializer;
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> publish(String key, DomainEvent event) {
+        return send(EventTopics.topicOf(event), key, serializer.serialize(event));
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, byte[] payload) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Publishing event to topic: {}, key: {}, bytes: {}", topic, key, payload.length);
+        }
+        return kafkaTemplate.send(requireNonNull(topic), requireNonNull(key), payload);
+    }
+
+    /**
+     * 헤더를 붙여 보낸다 (FailedEventRouter의 재시도/DLT 레코드)
+     */
+    public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Publishing record to topic: {}, key: {}, bytes: {}",
+                    record.topic(), record.key(), record.value().length);
+        }
+        return kafkaTemplate.send(record);
+    }
+}
@@ -0,0 +1,222 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 바이너리 직렬화 (Avro single-object encoding)
+ *
+ * 메시지 = 마커 0xC3 0x01 + 작성 스키마 fingerprint(8바이트, little-endian) + Avro 바이너리 본문.
+ * 필드 이름/eventType/eventVersion은 스키마에 있으므로 본문에는 값만 실린다 (문자열은 길이 + UTF-8, 정수는 zigzag varint).
+ * 금액은 1/100 단위 정수(…Minor), 시각은 epoch ms로 쓴다.
+ *
+ * 스키마는 EventSchemaRegistry에서 (eventType, eventVersion)으로 찾고, 읽을 때는 같은 eventType의 최신 스키마로 변환한다.
+ */
+@Component
+public class DomainEventSerializer {
+
+    private static final int HEADER_LENGTH = 10;
+    private static final byte[] MAGIC = { (byte) 0xC3, (byte) 0x01 };
+    private static final int MINOR_SCALE = 2;
+
+    private final EventSchemaRegistry registry;
+
+    private final Map<Schema, BinaryMessageEncoder<GenericRecord>> encoders = new ConcurrentHashMap<>();
+    private final Map<String, BinaryMessageDecoder<GenericRecord>> decoders = new ConcurrentHashMap<>();
+
+    public DomainEventSerializer(EventSchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    public byte[] serialize(DomainEvent event) {
+        Schema schema = registry.schema(event.getEventType(), event.getEventVersion());
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            encoders.computeIfAbsent(schema, ignored -> new BinaryMessageEncoder<>(GenericData.get(), schema))
+                    .encode(toRecord(event, schema), out);
+            return out.toByteArray();
+        } catch (IOException | AvroRuntimeException | ClassCastException | ArithmeticException e) {
+            throw new IllegalArgumentException("Cannot serialize event: " + event.getEventType(), e);
+        }
+    }
+
+    /**
+     * 수신한 메시지를 타입별 이벤트로 복원한다 (eventVersion은 작성 스키마의 버전)
+     */
+    public DomainEvent deserialize(byte[] payload) {
+        Schema writer = writerSchema(payload);
+        String eventType = writer.getName();
+        try {
+            GenericRecord record = decoders.computeIfAbsent(eventType, ignored ->
+                    new BinaryMessageDecoder<>(GenericData.get(), registry.latest(eventType), registry))
+                    .decode(payload);
+            return fromRecord(eventType, EventSchemaRegistry.eventVersion(writer), record);
+        } catch (IOException | AvroRuntimeException | ClassCastException e) {
+            throw new IllegalArgumentException("Cannot deserialize event: " + eventType, e);
+        }
+    }
+
+    private Schema writerSchema(byte[] payload) {
+        if (payload == null || payload.length < HEADER_LENGTH
+                || payload[0] != MAGIC[0] || payload[1] != MAGIC[1]) {
+            throw new IllegalArgumentException("Not a binary encoded event");
+        }
+        long fingerprint = ByteBuffer.wrap(payload, MAGIC.length, Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).getLong();
+        Schema schema = registry.findByFingerprint(fingerprint);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event schema fingerprint: " + Long.toHexString(fingerprint));
+        }
+        return schema;
+    }
+
+    private static GenericRecord toRecord(DomainEvent event, Schema schema) {
+        GenericData.Record record = new GenericData.Record(schema);
+        record.put("eventId", event.getEventId());
+        record.put("timestamp", event.getTimestamp().toEpochMilli());
+        record.put("aggregateId", event.getAggregateId());
+        record.put("correlationId", event.getCorrelationId());
+        record.put("causationId", event.getCausationId());
+        Map<String, String> metadata = new HashMap<>();
+        if (event.getMetadata() != null) {
+            event.getMetadata().forEach((key, value) -> metadata.put(key, String.valueOf(value)));
+        }
+        record.put("metadata", metadata);
+
+        if (event instanceof OrderCreatedEvent created) {
+            record.put("order", orderRecord(created.getOrder(), schema.getField("order").schema()));
+        } else if (event instanceof PaymentCompletedEvent completed) {
+            PaymentCompletedEvent.PaymentData payment = completed.getPayment();
+            GenericData.Record body = new GenericData.Record(schema.getField("payment").schema());
+            body.put("orderId", payment.getOrderId());
+            body.put("amountMinor", toMinor(payment.getAmount()));
+            body.put("currency", payment.getCurrency());
+            body.put("method", payment.getMethod());
+            body.put("transactionId", payment.getTransactionId());
+            body.put("gateway", payment.getGateway());
+            record.put("payment", body);
+        } else if (event instanceof InventoryReservedEvent reserved) {
+            InventoryReservedEvent.InventoryData inventory = reserved.getInventory();
+            GenericData.Record body = new GenericData.Record(schema.getField("inventory").schema());
+            body.put("productId", inventory.getProductId());
+            body.put("quantity", inventory.getQuantity());
+            body.put("orderId", inventory.getOrderId());
+            body.put("expiresAt", inventory.getExpiresAt() != null
+                    ? inventory.getExpiresAt().toInstant().toEpochMilli()
+                    : null);
+            record.put("inventory", body);
+        } else if (event instanceof OrderCancelledEvent cancelled) {
+            OrderCancelledEvent.CancellationData cancellation = cancelled.getCancellation();
+            GenericData.Record body = new GenericData.Record(schema.getField("cancellation").schema());
+            body.put("orderId", cancellation.getOrderId());
+            body.put("reason", cancellation.getReason());
+            body.put("cancelledBy", cancellation.getCancelledBy());
+            record.put("cancellation", body);
+        } else {
+            throw new IllegalArgumentException("Unknown event type: " + event.getClass().getName());
+        }
+        return record;
+    }
+
+    private static GenericRecord orderRecord(OrderCreatedEvent.OrderData order, Schema schema) {
+        Schema itemSchema = schema.getField("items").schema().getElementType();
+        List<GenericRecord> items = order.getItems().stream()
+                .map(item -> {
+                    GenericData.Record record = new GenericData.Record(itemSchema);
+                    record.put("productId", item.getProductId());
+                    record.put("quantity", item.getQuantity());
+                    record.put("unitPriceMinor", toMinor(item.getUnitPrice()));
+                    return (GenericRecord) record;
+                })
+                .toList();
+        GenericData.Record record = new GenericData.Record(schema);
+        record.put("orderId", order.getOrderId());
+        record.put("orderNumber", order.getOrderNumber());
+        record.put("userId", order.getUserId());
+        record.put("items", items);
+        record.put("totalMinor", toMinor(order.getTotal()));
+        record.put("currency", order.getCurrency());
+        return record;
+    }
+
+    private static DomainEvent fromRecord(String eventType, String eventVersion, GenericRecord record) {
+        Map<String, Object> metadata = new HashMap<>();
+        ((Map<?, ?>) record.get("metadata")).forEach((key, value) -> metadata.put(key.toString(), value.toString()));
+        DomainEvent.EventHeader header = new DomainEvent.EventHeader(
+                text(record, "eventId"),
+                eventVersion,
+                Instant.ofEpochMilli((Long) record.get("timestamp")),
+                text(record, "aggregateId"),
+                text(record, "correlationId"),
+                text(record, "causationId"),
+                metadata);
+
+        switch (eventType) {
+            case "OrderCreated": {
+                GenericRecord order = (GenericRecord) record.get("order");
+                List<OrderCreatedEvent.OrderItemData> items = ((List<?>) order.get("items")).stream()
+                        .map(GenericRecord.class::cast)
+                        .map(item -> new OrderCreatedEvent.OrderItemData(
+                                text(item, "productId"),
+                                (Integer) item.get("quantity"),
+                                fromMinor((Long) item.get("unitPriceMinor"))))
+                        .toList();
+                return new OrderCreatedEvent(header, new OrderCreatedEvent.OrderData(
+                        text(order, "orderId"), text(order, "orderNumber"), text(order, "userId"), items,
+                        fromMinor((Long) order.get("totalMinor")), text(order, "currency")));
+            }
+            case "PaymentCompleted": {
+                GenericRecord payment = (GenericRecord) record.get("payment");
+                return new PaymentCompletedEvent(header, new PaymentCompletedEvent.PaymentData(
+                        text(payment, "orderId"), fromMinor((Long) payment.get("amountMinor")),
+                        text(payment, "currency"), text(payment, "method"), text(payment, "transactionId"),
+                        text(payment, "gateway")));
+            }
+            case "InventoryReserved": {
+                GenericRecord inventory = (GenericRecord) record.get("inventory");
+                Long expiresAt = (Long) inventory.get("expiresAt");
+                return new InventoryReservedEvent(header, new InventoryReservedEvent.InventoryData(
+                        text(inventory, "productId"), (Integer) inventory.get("quantity"), text(inventory, "orderId"),
+                        expiresAt != null ? Instant.ofEpochMilli(expiresAt).atZone(ZoneOffset.UTC) : null));
+            }
+            case "OrderCancelled": {
+                GenericRecord cancellation = (GenericRecord) record.get("cancellation");
+                return new OrderCancelledEvent(header, new OrderCancelledEvent.CancellationData(
+                        text(cancellation, "orderId"), text(cancellation, "reason"),
+                        text(cancellation, "cancelledBy")));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+    }
+
+    private static String text(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount.setScale(MINOR_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromMinor(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_SCALE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 스키마 저장소 (파일 기반 스키마 레지스트리)
+ *
+ * resources/event-schemas/{eventType}-{eventVersion}.avsc 를 읽어
+ * (레코드 이름 = eventType, "eventVersion" 속성) 으로 등록한다.
+ * 메시지 헤더에는 스키마의 64비트 fingerprint가 실리므로, 수신 측은 fingerprint로 작성 스키마를 찾고
+ * 같은 eventType의 최신 버전으로 읽는다 (필드 추가는 default 값으로 채워진다).
+ * 스키마를 바꿀 때는 기존 파일을 고치지 않고 eventVersion을 올린 새 파일을 추가한다.
+ */
+@Component
+public class EventSchemaRegistry implements SchemaStore {
+
+    static final String SCHEMA_LOCATION = "classpath*:event-schemas/*.avsc";
+    static final String VERSION_PROPERTY = "eventVersion";
+
+    private final Map<String, Schema> schemas = new HashMap<>();
+    private final Map<String, Schema> latest = new HashMap<>();
+    private final Map<Long, Schema> fingerprints = new HashMap<>();
+
+    public EventSchemaRegistry() {
+        this(load());
+    }
+
+    EventSchemaRegistry(List<Schema> schemas) {
+        for (Schema schema : schemas) {
+            if (eventVersion(schema) == null) {
+                throw new IllegalStateException("Event schema has no eventVersion: " + schema.getFullName());
+            }
+            if (this.schemas.putIfAbsent(key(schema.getName(), eventVersion(schema)), schema) != null) {
+                throw new IllegalStateException("Duplicate event schema: "
+                        + key(schema.getName(), eventVersion(schema)));
+            }
+            latest.merge(schema.getName(), schema, (current, candidate) ->
+                    compareVersions(eventVersion(candidate), eventVersion(current)) > 0 ? candidate : current);
+            fingerprints.put(SchemaNormalization.parsingFingerprint64(schema), schema);
+        }
+    }
+
+    /**
+     * 이벤트를 쓸 스키마 (eventType + eventVersion)
+     */
+    public Schema schema(String eventType, String eventVersion) {
+        Schema schema = schemas.get(key(eventType, eventVersion));
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event schema: " + key(eventType, eventVersion));
+        }
+        return schema;
+    }
+
+    /**
+     * 수신 시 읽기 스키마 (eventType의 가장 높은 버전)
+     */
+    public Schema latest(String eventType) {
+        Schema schema = latest.get(eventType);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        return schema;
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return fingerprints.get(fingerprint);
+    }
+
+    static String eventVersion(Schema schema) {
+        return schema.getProp(VERSION_PROPERTY);
+    }
+
+    /**
+     * "1.10" > "1.9" 처럼 점으로 나눈 숫자끼리 비교한다
+     */
+    static int compareVersions(String left, String right) {
+        String[] leftParts = left.split("\\.");
+        String[] rightParts = right.split("\\.");
+        for (int i = 0; i < Math.max(leftParts.length, rightParts.length); i++) {
+            int compared = Integer.compare(
+                    i < leftParts.length ? Integer.parseInt(leftParts[i]) : 0,
+                    i < rightParts.length ? Integer.parseInt(rightParts[i]) : 0);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    private static String key(String eventType, String eventVersion) {
+        return eventType + "@" + eventVersion;
+    }
+
+    private static List<Schema> load() {
+        try {
+            List<Schema> schemas = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(SCHEMA_LOCATION)) {
+                try (InputStream in = resource.getInputStream()) {
+                    schemas.add(new Schema.Parser().parse(in));
+                }
+            }
+            return schemas;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load event schemas", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 타입 → 토픽 (.doc/data/3.kafka-events.md 토픽 구조)
+ *
+ * 수신에 실패한 레코드는 <토픽>.retry-<n> (n번째 재시도, RETRY_DELAYS[n] 뒤에 처리)을 거쳐
+ * 재시도가 끝나도 실패하면 <토픽>.dlt로 간다.
+ */
+public final class EventTopics {
+
+    static final String ORDER_CREATED = "orders.created";
+    static final String ORDER_CANCELLED = "orders.cancelled";
+    static final String PAYMENT_COMPLETED = "payments.completed";
+    static final String INVENTORY_RESERVED = "inventory.reserved";
+
+    private static final Map<Class<? extends DomainEvent>, String> TOPICS = Map.of(
+            OrderCreatedEvent.class, ORDER_CREATED,
+            OrderCancelledEvent.class, ORDER_CANCELLED,
+            PaymentCompletedEvent.class, PAYMENT_COMPLETED,
+            InventoryReservedEvent.class, INVENTORY_RESERVED);
+
+    /**
+     * 재시도 단계별 대기 시간 (단계 수 = 최대 재시도 횟수)
+     */
+    static final List<Duration> RETRY_DELAYS = List.of(
+            Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(25));
+
+    static final String RETRY_TOPIC_PATTERN = ".*\\.retry-\\d+";
+
+    private EventTopics() {
+    }
+
+    static String topicOf(DomainEvent event) {
+        return topicOf(event.getClass());
+    }
+
+    static String topicOf(Class<? extends DomainEvent> eventType) {
+        String topic = TOPICS.get(eventType);
+        if (topic == null) {
+            throw new IllegalArgumentException("No topic registered for event type: " + eventType.getSimpleName());
+        }
+        return topic;
+    }
+
+    static String retryTopic(String topic, int attempt) {
+        return topic + ".retry-" + attempt;
+    }
+
+    static String deadLetterTopic(String topic) {
+        return topic + ".dlt";
+    }
+
+    /**
+     * 미리 만들어 둘 재시도/DLT 토픽
+     */
+    public static List<String> failureTopics() {
+        List<String> topics = new ArrayList<>();
+        for (String topic : List.of(ORDER_CREATED, ORDER_CANCELLED, PAYMENT_COMPLETED, INVENTORY_RESERVED)) {
+            for (int attempt = 0; attempt < RETRY_DELAYS.size(); attempt++) {
+                topics.add(retryTopic(topic, attempt));
+            }
+            topics.add(deadLetterTopic(topic));
+        }
+        return topics;
+    }
+}
@@ -0,0 +1,192 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 처리에 실패한 레코드를 재시도 토픽 또는 DLT로 보낸다
+ *
+ * 일시적인 실패는 <토픽>.retry-<n>으로 보내고 (n = 지금까지의 재시도 횟수), 재시도 리스너가
+ * due-at 헤더 시각(RETRY_DELAYS[n] 뒤)까지 기다렸다 처리한다. 재시도를 다 쓰거나 FailureClassifier가
+ * 재시도할 수 없다고 본 실패는 <토픽>.dlt로 보내고 dead_letters에도 남긴다 (DeadLetterUseCase로 조회/재처리).
+ * 원래 토픽/파티션/offset은 헤더로 계속 따라가므로 몇 번을 거쳐도 원래 레코드를 알 수 있다.
+ *
+ * 보내기(또는 기록)에 실패하면 에러를 그대로 돌려준다. 리스너는 묶음을 ack하지 않고 컨테이너가 다시 받는다.
+ */
+@Component
+public class FailedEventRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailedEventRouter.class);
+
+    static final String ORIGINAL_TOPIC_HEADER = "flashdeal-original-topic";
+    static final String ORIGINAL_PARTITION_HEADER = "flashdeal-original-partition";
+    static final String ORIGINAL_OFFSET_HEADER = "flashdeal-original-offset";
+    static final String ATTEMPT_HEADER = "flashdeal-attempt";
+    static final String DUE_AT_HEADER = "flashdeal-due-at";
+    static final String EXCEPTION_HEADER = "flashdeal-exception";
+    static final String EXCEPTION_MESSAGE_HEADER = "flashdeal-exception-message";
+
+    static final String FAILURE_METRIC = "flashdeal.consumer.failures";
+
+    private final DomainEventPublisher publisher;
+    private final DomainEventSerializer serializer;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public FailedEventRouter(DomainEventPublisher publisher, DomainEventSerializer serializer,
+                             ReactiveMongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.serializer = serializer;
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    Mono<Void> route(ConsumerRecord<String, ? extends DomainEvent> record, Throwable error) {
+        int attempt = attempt(record);
+        if (FailureClassifier.retryable(error) && attempt < EventTopics.RETRY_DELAYS.size()) {
+            return retry(record, error, attempt);
+        }
+        return deadLetter(record, error, attempt);
+    }
+
+    private Mono<Void> retry(ConsumerRecord<String, ? extends DomainEvent> record, Throwable error, int attempt) {
+        String topic = originalTopic(record);
+        Instant dueAt = Instant.now().plus(EventTopics.RETRY_DELAYS.get(attempt));
+        ProducerRecord<String, byte[]> retry = new ProducerRecord<>(
+                EventTopics.retryTopic(topic, attempt), record.key(), payload(record, error));
+        addFailureHeaders(retry.headers(), record, error, attempt + 1);
+        retry.headers().add(DUE_AT_HEADER, bytes(String.valueOf(dueAt.toEpochMilli())));
+
+        return Mono.fromFuture(() -> publisher.send(retry))
+                .doOnSuccess(result -> {
+                    logger.warn("Retrying {} (attempt {}, due at {}): {}", describe(record), attempt + 1, dueAt,
+                            error.toString());
+                    count(topic, "retry", error);
+                })
+                .then();
+    }
+
+    private Mono<Void> deadLetter(ConsumerRecord<String, ? extends DomainEvent> record, Throwable error, int attempt) {
+        String topic = originalTopic(record);
+        DomainEvent event = record.value();
+        byte[] payload = payload(record, error);
+        DeadLetterDocument document = new DeadLetterDocument(topic, originalPartition(record), originalOffset(record),
+                record.key(), event != null ? event.getEventId() : null, event != null ? event.getEventType() : null,
+                payload, error.getClass().getName(), error.getMessage(), attempt + 1);
+        ProducerRecord<String, byte[]> deadLetter = new ProducerRecord<>(
+                EventTopics.deadLetterTopic(topic), record.key(), payload);
+        addFailureHeaders(deadLetter.headers(), record, error, attempt + 1);
+
+        return mongoTemplate.insert(document)
+                .then()
+                .onErrorResume(DuplicateKeyException.class, duplicate -> Mono.empty())
+                .then(Mono.fromFuture(() -> publisher.send(deadLetter)))
+                .doOnSuccess(result -> {
+                    logger.error("Dead-lettered {} after {} attempt(s): {}", describe(record), attempt + 1,
+                            error.toString());
+                    count(topic, "dead_letter", error);
+                })
+                .then();
+    }
+
+    /**
+     * 재시도 토픽 레코드의 due-at까지 기다린다 (헤더가 없거나 지났으면 바로)
+     */
+    static Mono<Void> untilDue(ConsumerRecord<String, ?> record) {
+        String dueAt = header(record, DUE_AT_HEADER);
+        if (dueAt == null) {
+            return Mono.empty();
+        }
+        Duration wait = Duration.between(Instant.now(), Instant.ofEpochMilli(Long.parseLong(dueAt)));
+        return wait.isNegative() || wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+    }
+
+    /**
+     * 레코드가 처음 들어온 토픽/파티션 (재시도 토픽 레코드면 헤더에서 읽는다)
+     */
+    static TopicPartition source(ConsumerRecord<String, ?> record) {
+        return new TopicPartition(originalTopic(record), originalPartition(record));
+    }
+
+    private static String originalTopic(ConsumerRecord<String, ?> record) {
+        String topic = header(record, ORIGINAL_TOPIC_HEADER);
+        return topic != null ? topic : record.topic();
+    }
+
+    private static int originalPartition(ConsumerRecord<String, ?> record) {
+        String partition = header(record, ORIGINAL_PARTITION_HEADER);
+        return partition != null ? Integer.parseInt(partition) : record.partition();
+    }
+
+    private static long originalOffset(ConsumerRecord<String, ?> record) {
+        String offset = header(record, ORIGINAL_OFFSET_HEADER);
+        return offset != null ? Long.parseLong(offset) : record.offset();
+    }
+
+    private static int attempt(ConsumerRecord<String, ?> record) {
+        String attempt = header(record, ATTEMPT_HEADER);
+        return attempt != null ? Integer.parseInt(attempt) : 0;
+    }
+
+    private static void addFailureHeaders(Headers headers, ConsumerRecord<String, ?> record, Throwable error,
+                                          int attempts) {
+        headers.add(ORIGINAL_TOPIC_HEADER, bytes(originalTopic(record)));
+        headers.add(ORIGINAL_PARTITION_HEADER, bytes(String.valueOf(originalPartition(record))));
+        headers.add(ORIGINAL_OFFSET_HEADER, bytes(String.valueOf(originalOffset(record))));
+        headers.add(ATTEMPT_HEADER, bytes(String.valueOf(attempts)));
+        headers.add(EXCEPTION_HEADER, bytes(error.getClass().getName()));
+        if (error.getMessage() != null) {
+            headers.add(EXCEPTION_MESSAGE_HEADER, bytes(error.getMessage()));
+        }
+    }
+
+    /**
+     * 보낼 값: 복원된 이벤트는 다시 직렬화하고, 복원하지 못한 레코드는 받은 바이트 그대로
+     */
+    private byte[] payload(ConsumerRecord<String, ? extends DomainEvent> record, Throwable error) {
+        if (record.value() != null) {
+            return serializer.serialize(record.value());
+        }
+        if (error instanceof DeserializationException deserialization && deserialization.getData() != null) {
+            return deserialization.getData();
+        }
+        return new byte[0];
+    }
+
+    private void count(String topic, String result, Throwable error) {
+        meterRegistry.counter(FAILURE_METRIC, "topic", topic, "result", result,
+                "error", error.getClass().getSimpleName()).increment();
+    }
+
+    private static String describe(ConsumerRecord<String, ? extends DomainEvent> record) {
+        DomainEvent event = record.value();
+        return String.format("%s event %s (topic: %s, partition: %d, offset: %d)",
+                event != null ? event.getEventType() : "undecodable", event != null ? event.getEventId() : "-",
+                record.topic(), record.partition(), record.offset());
+    }
+
+    private static String header(ConsumerRecord<String, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,37 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.util.List;
+
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import reactor.core.Exceptions;
+
+/**
+ * 수신 실패 분류
+ *
+ * 다시 처리해도 결과가 같은 실패(복원할 수 없는 메시지, 잘못된 값, 허용되지 않는 상태 전이)는 재시도하지 않고 바로 DLT로 보낸다.
+ * 그 밖의 실패(DB/Redis 연결, 타임아웃, 낙관적 락 충돌 등)는 일시적이라고 보고 재시도 토픽으로 보낸다.
+ */
+final class FailureClassifier {
+
+    private static final List<Class<? extends Throwable>> FATAL = List.of(
+            DeserializationException.class,
+            IllegalArgumentException.class,
+            IllegalStateException.class,
+            ClassCastException.class,
+            NullPointerException.class,
+            UnsupportedOperationException.class);
+
+    private FailureClassifier() {
+    }
+
+    static boolean retryable(Throwable error) {
+        Throwable unwrapped = Exceptions.unwrap(error);
+        for (Class<? extends Throwable> type : FATAL) {
+            if (type.isInstance(unwrapped)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,173 +0,0 @@
-package com.flashdeal.app.infrastructure.adapter.out.messaging;
-
-import com.flashdeal.app.domain.order.OrderId;
-import com.flashdeal.app.domain.product.ProductId;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-import org.springframework.stereotype.Component;
-
-import java.time.Duration;
-import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
-
-import static java.util.Objects.requireNonNull;
-
-@Component
-public class ImprovedKafkaEventPublisher {
-
-    private static final Logger logger = LoggerFactory.getLogger(ImprovedKafkaEventPublisher.class);
-    
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-
-    // Kafka Topics
-    private static final String ORDER_CREATED_TOPIC = "orders.created";
-    private static final String ORDER_CANCELLED_TOPIC = "orders.cancelled";
-    
-    private static final String PAYMENT_COMPLETED_TOPIC = "payments.completed";
-    
-    private static final String INVENTORY_RESERVED_TOPIC = "inventory.reserved";
-    
-
-    public ImprovedKafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
-    }
-
-    /**
-     * 주문 생성 이벤트 발행
-     */
-    public CompletableFuture<SendResult<String, Object>> publishOrderCreated(
-            OrderId orderId, String userId, String orderNumber, String idempotencyKey,
-            Map<String, Object> orderItems, java.math.BigDecimal total, String currency) {
-        
-        String correlationId = UUID.randomUUID().toString();
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("source", "order-service");
-        metadata.put("idempotencyKey", idempotencyKey);
-        
-        OrderCreatedEvent.OrderData orderData = new OrderCreatedEvent.OrderData(
-                orderId.value(), orderNumber, userId,
-                    convertToOrderItems(orderItems), total, currency
-        );
-        
-        OrderCreatedEvent event = new OrderCreatedEvent(
-                orderId.value(), correlationId, null, metadata, orderData
-        );
-        
-        return publishEvent(ORDER_CREATED_TOPIC, orderId.value(), event);
-    }
-
-    /**
-     * 결제 완료 이벤트 발행
-     */
-    public CompletableFuture<SendResult<String, Object>> publishPaymentCompleted(
-            OrderId orderId, String paymentMethod, String transactionId, 
-            String gateway, java.math.BigDecimal amount, String currency) {
-        
-        String correlationId = UUID.randomUUID().toString();
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("source", "payment-service");
-        
-        PaymentCompletedEvent.PaymentData paymentData = new PaymentCompletedEvent.PaymentData(
-                orderId.value(), amount, currency, paymentMethod, transactionId, gateway
-        );
-        
-        PaymentCompletedEvent event = new PaymentCompletedEvent(
-                orderId.value(), correlationId, null, metadata, paymentData
-        );
-        
-        return publishEvent(PAYMENT_COMPLETED_TOPIC, orderId.value(), event);
-    }
-
-    /**
-     * 재고 예약 이벤트 발행
-     */
-    public CompletableFuture<SendResult<String, Object>> publishInventoryReserved(
-            ProductId productId, OrderId orderId, int quantity, Duration reservationTimeout) {
-        
-        String correlationId = UUID.randomUUID().toString();
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("source", "inventory-service");
-        
-        ZonedDateTime expiresAt = ZonedDateTime.now().plus(reservationTimeout);
-        InventoryReservedEvent.InventoryData inventoryData = new InventoryReservedEvent.InventoryData(
-                productId.value(), quantity, orderId.value(), expiresAt
-        );
-        
-        InventoryReservedEvent event = new InventoryReservedEvent(
-                productId.value(), correlationId, null, metadata, inventoryData
-        );
-        
-        return publishEvent(INVENTORY_RESERVED_TOPIC, productId.value(), event);
-    }
-
-    /**
-     * 주문 취소 이벤트 발행
-     */
-    public CompletableFuture<SendResult<String, Object>> publishOrderCancelled(
-            OrderId orderId, String reason, String cancelledBy) {
-        
-        String correlationId = UUID.randomUUID().toString();
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("source", "order-service");
-        metadata.put("reason", reason);
-        metadata.put("cancelledBy", cancelledBy);
-        
-        Map<String, Object> event = new HashMap<>();
-        event.put("eventId", UUID.randomUUID().toString());
-        event.put("eventType", "OrderCancelled");
-        event.put("eventVersion", "1.0");
-        event.put("timestamp", ZonedDateTime.now());
-        event.put("aggregateId", orderId.value());
-        event.put("correlationId", correlationId);
-        event.put("orderId", orderId.value());
-        event.put("reason", reason);
-        event.put("cancelledBy", cancelledBy);
-        event.put("metadata", metadata);
-        
-        return publishEvent(ORDER_CANCELLED_TOPIC, orderId.value(), event);
-    }
-
-    /**
-     * 이벤트 발행 (공통 메서드)
-     */
-    private CompletableFuture<SendResult<String, Object>> publishEvent(String topic, String key, Object event) {
-        logger.info("Publishing event to topic: {}, key: {}, event: {}", topic, key, event);
-        
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(requireNonNull(topic), requireNonNull(key), event);
-        
-        future.whenComplete((result, throwable) -> {
-            if (throwable != null) {
-                logger.error("Failed to publish event to topic: {}, key: {}", topic, key, throwable);
-            } else {
-                logger.info("Successfully published event to topic: {}, key: {}, offset: {}", 
-                           topic, key, result.getRecordMetadata().offset());
-            }
-        });
-        
-        return future;
-    }
-
-    /**
-     * 멱등성 확인 후 이벤트 발행 (단순화된 버전)
-     */
-    public CompletableFuture<SendResult<String, Object>> publishEventWithIdempotency(
-            String topic, String key, DomainEvent event) {
-        
-        // 멱등성 처리는 별도 서비스에서 처리하도록 단순화
-        logger.info("Publishing event with idempotency check: {}", event.getEventId());
-        return publishEvent(topic, key, event);
-    }
-
-    /**
-     * 주문 아이템 변환 헬퍼 메서드
-     */
-    private java.util.List<OrderCreatedEvent.OrderItemData> convertToOrderItems(Map<String, Object> orderItems) {
-        // 실제 구현에서는 Map을 OrderItemData 리스트로 변환
-        return java.util.Collections.emptyList();
-    }
-}
@@ -19,6 +19,11 @@ public class InventoryReservedEvent extends DomainEvent {
         super("InventoryReserved", "1.0", aggregateId, correlationId, causationId, metadata);
         this.inventory = inventory;
     }
+
+    public InventoryReservedEvent(EventHeader header, InventoryData inventory) {
+        super("InventoryReserved", header);
+        this.inventory = inventory;
+    }
     
     public InventoryData getInventory() { return inventory; }
     
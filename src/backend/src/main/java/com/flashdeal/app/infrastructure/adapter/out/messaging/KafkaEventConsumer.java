@@ -1,199 +1,177 @@
 package com.flashdeal.app.infrastructure.adapter.out.messaging;
 
-import com.flashdeal.app.application.port.in.CancelOrderUseCase;
-import com.flashdeal.app.application.port.in.CompletePaymentUseCase;
-import com.flashdeal.app.application.port.in.ConfirmInventoryUseCase;
 import com.flashdeal.app.application.port.in.GetOrderUseCase;
-import com.flashdeal.app.application.port.in.ReleaseInventoryUseCase;
-import com.flashdeal.app.application.port.in.ReserveInventoryUseCase;
 import com.flashdeal.app.domain.order.OrderId;
+import com.flashdeal.app.domain.order.OrderStatus;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Map;
-
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이벤트 수신
+ *
+ * 값은 KafkaConfig의 consumerFactory가 DomainEventSerializer로 복원한 타입별 이벤트로 받는다.
+ * 리스너는 poll 한 번의 레코드 묶음을 받아 KeyOrderedBatchProcessor로 처리하고(같은 키는 순서대로,
+ * 키 사이는 keyConcurrency개까지 동시에), 묶음이 끝난 뒤에 한 번 ack한다.
+ * 모든 핸들러는 ProcessedEventGuard를 거쳐 이미 처리한 eventId는 다시 처리하지 않는다.
+ *
+ * 처리에 실패한 레코드는 FailedEventRouter가 재시도 토픽(<토픽>.retry-<n>) 또는 DLT로 보내고 묶음은 그대로 ack한다.
+ * 재시도 토픽은 handleRetry 하나가 받아 due-at까지 기다린 뒤 이벤트 타입별 핸들러로 다시 처리한다.
+ *
+ * 구독하는 토픽은 이 서비스가 OrderOutbox로 발행한 이벤트라, 재고 예약/확정/해제와 주문 상태 전이는
+ * 발행 전에 OrderService가 이미 끝냈다. 핸들러는 주문을 읽어 이벤트와 상태가 맞는지 확인하는 읽기 전용
+ * 프로젝션이며, 같은 이벤트를 몇 번 받아도 결과가 같다 (다시 예약하거나 전이를 시도하지 않는다).
+ *
+ * 핸들러가 읽기 전용이어도 중복 필터와 재시도/DLT는 남겨 둔다.
+ * - 재시도/DLT: 주문 조회 실패(DB 장애)는 파티션을 멈추지 않고 재시도하고, 주문이 없는 이벤트와 복원할 수 없는
+ *   레코드는 DLT와 dead_letters에 남는다. outbox와 주문이 어긋난 것을 드러내는 곳은 여기뿐이다.
+ * - 중복 필터: relay의 at-least-once 재발행과 묶음 타임아웃 재처리는 대부분 메모리(최근 목록/블룸 필터)에서
+ *   걸러져 주문 조회 없이 끝난다. 이 토픽에 부수 효과가 있는 핸들러를 다시 붙일 때도 이 필터가 전제다.
+ */
 @Component
 public class KafkaEventConsumer {
 
+    // max.poll.interval.ms(기본 5분)보다 짧아야 한다
+    private static final Duration BATCH_TIMEOUT = Duration.ofMinutes(1);
+
+    // 결제 완료 뒤에 주문이 있을 수 있는 상태 (이후 배송/취소/환불로 더 진행했을 수 있다)
+    private static final Set<OrderStatus> PAID_STATUSES = EnumSet.complementOf(EnumSet.of(OrderStatus.PENDING));
+    private static final Set<OrderStatus> CANCELLED_STATUSES = EnumSet.of(OrderStatus.CANCELLED, OrderStatus.REFUNDED);
+
     private final GetOrderUseCase getOrderUseCase;
-    private final ReserveInventoryUseCase reserveInventoryUseCase;
-    private final CompletePaymentUseCase completePaymentUseCase;
-    private final ConfirmInventoryUseCase confirmInventoryUseCase;
-    private final CancelOrderUseCase cancelOrderUseCase;
-    private final ReleaseInventoryUseCase releaseInventoryUseCase;
+    private final ProcessedEventGuard processedEventGuard;
+    private final KeyOrderedBatchProcessor batchProcessor;
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaEventConsumer.class);
 
-    public KafkaEventConsumer(GetOrderUseCase getOrderUseCase, 
-                              ReserveInventoryUseCase reserveInventoryUseCase, 
-                              CompletePaymentUseCase completePaymentUseCase, 
-                              ConfirmInventoryUseCase confirmInventoryUseCase,
-                              CancelOrderUseCase cancelOrderUseCase,
-                              ReleaseInventoryUseCase releaseInventoryUseCase) {
+    public KafkaEventConsumer(GetOrderUseCase getOrderUseCase,
+                              ProcessedEventGuard processedEventGuard,
+                              FailedEventRouter failedEventRouter,
+                              @Value("${flashdeal.kafka.consumer.key-concurrency:16}") int keyConcurrency) {
         this.getOrderUseCase = getOrderUseCase;
-        this.reserveInventoryUseCase = reserveInventoryUseCase;
-        this.completePaymentUseCase = completePaymentUseCase;
-        this.confirmInventoryUseCase = confirmInventoryUseCase;
-        this.cancelOrderUseCase = cancelOrderUseCase;
-        this.releaseInventoryUseCase = releaseInventoryUseCase;
+        this.processedEventGuard = processedEventGuard;
+        this.batchProcessor = new KeyOrderedBatchProcessor(keyConcurrency, BATCH_TIMEOUT, failedEventRouter::route);
     }
 
     /**
      * 주문 생성 이벤트 수신
      */
-    @KafkaListener(topics = "order.created", groupId = "flashdeal-group")
-    public void handleOrderCreated(@Payload Map<String, Object> event,
-                                 @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                 @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                 @Header(KafkaHeaders.OFFSET) long offset,
-                                 Acknowledgment acknowledgment) {
-
-        logger.info("Received OrderCreated event: {}", event);
-
-        try {
-            // 이벤트 처리 로직
-            String orderIdStr = (String) event.get("orderId");
-            OrderId orderId = new OrderId(orderIdStr);
-
-            getOrderUseCase.getOrder(orderId)
-                    .flatMapMany(order -> Flux.fromIterable(order.items()))
-                    .flatMap(orderItem -> {
-                        ReserveInventoryUseCase.ReserveInventoryCommand command = new ReserveInventoryUseCase.ReserveInventoryCommand(orderItem.productId(), orderItem.quantity().value());
-                        return reserveInventoryUseCase.reserve(command);
-                    })
-                    .doOnComplete(() -> {
-                        acknowledgment.acknowledge();
-                        logger.info("Successfully processed OrderCreated event for orderId: {}", orderIdStr);
-                    })
-                    .doOnError(error -> {
-                        logger.error("Error processing OrderCreated event: {}", event, error);
-                        // 에러 처리 로직 (예: DLQ 전송)
-                    })
-                    .subscribe();
-
-        } catch (Exception e) {
-            logger.error("Error processing OrderCreated event: {}", event, e);
-            // 에러 처리 로직
-            // - 재시도
-            // - DLQ 전송 등
-        }
+    @KafkaListener(topics = EventTopics.ORDER_CREATED, groupId = "flashdeal-group")
+    public void handleOrderCreated(List<ConsumerRecord<String, OrderCreatedEvent>> records,
+                                   Acknowledgment acknowledgment) {
+        batchProcessor.process(records, record -> processedEventGuard.once(record, this::onOrderCreated));
+        acknowledgment.acknowledge();
     }
 
     /**
      * 결제 완료 이벤트 수신
      */
-    @KafkaListener(topics = "payment.completed", groupId = "flashdeal-group")
-    public void handlePaymentCompleted(@Payload Map<String, Object> event,
-                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                     @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                     @Header(KafkaHeaders.OFFSET) long offset,
-                                     Acknowledgment acknowledgment) {
-
-        logger.info("Received PaymentCompleted event: {}", event);
-
-        try {
-            String orderIdStr = (String) event.get("orderId");
-            String transactionId = (String) event.get("transactionId");
-            OrderId orderId = new OrderId(orderIdStr);
-
-            CompletePaymentUseCase.CompletePaymentCommand command = new CompletePaymentUseCase.CompletePaymentCommand(orderId, transactionId);
-            completePaymentUseCase.completePayment(command)
-                    .flatMap(order -> Flux.fromIterable(order.items())
-                            .flatMap(orderItem -> {
-                                ConfirmInventoryUseCase.ConfirmInventoryCommand confirmCommand = new ConfirmInventoryUseCase.ConfirmInventoryCommand(orderItem.productId(), orderItem.quantity().value());
-                                return confirmInventoryUseCase.confirm(confirmCommand);
-                            })
-                            .then(Mono.just(order)))
-                    .doOnSuccess(order -> {
-                        acknowledgment.acknowledge();
-                        logger.info("Successfully processed PaymentCompleted event for orderId: {}",
-                                order.orderId().value());
-                    })
-                    .doOnError(error -> {
-                        logger.error("Error processing PaymentCompleted event: {}", event, error);
-                    })
-                    .subscribe();
-
-        } catch (Exception e) {
-            logger.error("Error processing PaymentCompleted event: {}", event, e);
-        }
+    @KafkaListener(topics = EventTopics.PAYMENT_COMPLETED, groupId = "flashdeal-group")
+    public void handlePaymentCompleted(List<ConsumerRecord<String, PaymentCompletedEvent>> records,
+                                       Acknowledgment acknowledgment) {
+        batchProcessor.process(records, record -> processedEventGuard.once(record, this::onPaymentCompleted));
+        acknowledgment.acknowledge();
     }
 
     /**
      * 재고 예약 이벤트 수신
      */
-    @KafkaListener(topics = "inventory.reserved", groupId = "flashdeal-group")
-    public void handleInventoryReserved(@Payload Map<String, Object> event,
-                                     @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                     @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                     @Header(KafkaHeaders.OFFSET) long offset,
+    @KafkaListener(topics = EventTopics.INVENTORY_RESERVED, groupId = "flashdeal-group")
+    public void handleInventoryReserved(List<ConsumerRecord<String, InventoryReservedEvent>> records,
+                                        Acknowledgment acknowledgment) {
+        batchProcessor.process(records, record -> processedEventGuard.once(record, this::onInventoryReserved));
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * 주문 취소 이벤트 수신
+     */
+    @KafkaListener(topics = EventTopics.ORDER_CANCELLED, groupId = "flashdeal-group")
+    public void handleOrderCancelled(List<ConsumerRecord<String, OrderCancelledEvent>> records,
                                      Acknowledgment acknowledgment) {
+        batchProcessor.process(records, record -> processedEventGuard.once(record, this::onOrderCancelled));
+        acknowledgment.acknowledge();
+    }
 
-        logger.info("Received InventoryReserved event: {}", event);
+    /**
+     * 재시도 토픽 수신 (모든 토픽의 모든 재시도 단계)
+     *
+     * 단계마다 대기 시간이 같으므로 파티션 안의 레코드는 due-at 순서로 들어온다.
+     * 대기는 묶음 안에서 겹쳐 일어나고 가장 긴 단계(25초)도 BATCH_TIMEOUT보다 짧다.
+     */
+    @KafkaListener(topicPattern = EventTopics.RETRY_TOPIC_PATTERN, groupId = "flashdeal-group")
+    public void handleRetry(List<ConsumerRecord<String, DomainEvent>> records, Acknowledgment acknowledgment) {
+        batchProcessor.process(records, record -> FailedEventRouter.untilDue(record)
+                .then(processedEventGuard.onceAfterLookup(record, FailedEventRouter.source(record), this::dispatch)));
+        acknowledgment.acknowledge();
+    }
 
-        try {
-            String productId = (String) event.get("productId");
-            logger.info("Inventory reserved for productId: {}", productId);
+    Mono<Void> dispatch(DomainEvent event) {
+        if (event instanceof OrderCreatedEvent orderCreated) {
+            return onOrderCreated(orderCreated);
+        }
+        if (event instanceof PaymentCompletedEvent paymentCompleted) {
+            return onPaymentCompleted(paymentCompleted);
+        }
+        if (event instanceof InventoryReservedEvent inventoryReserved) {
+            return onInventoryReserved(inventoryReserved);
+        }
+        if (event instanceof OrderCancelledEvent orderCancelled) {
+            return onOrderCancelled(orderCancelled);
+        }
+        return Mono.error(new IllegalArgumentException("Unsupported event type: " + event.getEventType()));
+    }
 
-            acknowledgment.acknowledge();
-            logger.info("Successfully processed InventoryReserved event for productId: {}", productId);
+    Mono<Void> onOrderCreated(OrderCreatedEvent event) {
+        logger.info("Received OrderCreated event: {}", event.getEventId());
 
-        } catch (Exception e) {
-            logger.error("Error processing InventoryReserved event: {}", event, e);
-        }
+        // 재고는 주문을 저장하기 전에 예약했다 (주문은 이미 다음 상태로 넘어갔을 수 있다)
+        return checkOrder(event, event.getOrder().getOrderId(), EnumSet.allOf(OrderStatus.class));
     }
 
-    /**
-     * 주문 취소 이벤트 수신
-     */
-    @KafkaListener(topics = "order.cancelled", groupId = "flashdeal-group")
-    public void handleOrderCancelled(@Payload Map<String, Object> event,
-                                   @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-                                   @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-                                   @Header(KafkaHeaders.OFFSET) long offset,
-                                   Acknowledgment acknowledgment) {
+    Mono<Void> onPaymentCompleted(PaymentCompletedEvent event) {
+        logger.info("Received PaymentCompleted event: {}", event.getEventId());
 
-        logger.info("Received OrderCancelled event: {}", event);
-
-        try {
-            String orderIdStr = (String) event.get("orderId");
-            String reason = (String) event.get("reason");
-            OrderId orderId = new OrderId(orderIdStr);
-
-            CancelOrderUseCase.CancelOrderCommand command = new CancelOrderUseCase.CancelOrderCommand(orderId, reason);
-            cancelOrderUseCase.cancelOrder(command)
-                    .flatMap(order -> Flux.fromIterable(order.items())
-                            .flatMap(orderItem -> {
-                                ReleaseInventoryUseCase.ReleaseInventoryCommand releaseCommand = new ReleaseInventoryUseCase.ReleaseInventoryCommand(orderItem.productId(), orderItem.quantity().value());
-                                return releaseInventoryUseCase.release(releaseCommand);
-                            })
-                            .then(Mono.just(order)))
-                    .doOnSuccess(order -> {
-                        acknowledgment.acknowledge();
-                        logger.info("Successfully processed OrderCancelled event for orderId: {}",
-                                order.orderId().value());
-                    })
-                    .doOnError(error -> {
-                        logger.error("Error processing OrderCancelled event: {}", event, error);
-                        // 에러 처리 로직 (예: DLQ 전송)
-                    })
-                    .subscribe();
-
-        } catch (Exception e) {
-            logger.error("Error processing OrderCancelled event: {}", event, e);
-        }
+        return checkOrder(event, event.getPayment().getOrderId(), PAID_STATUSES);
     }
-}
 
+    Mono<Void> onInventoryReserved(InventoryReservedEvent event) {
+        logger.info("Received InventoryReserved event: {}", event.getEventId());
 
+        String productId = event.getInventory().getProductId();
+        logger.info("Successfully processed InventoryReserved event for productId: {}", productId);
+        return Mono.empty();
+    }
 
+    Mono<Void> onOrderCancelled(OrderCancelledEvent event) {
+        logger.info("Received OrderCancelled event: {}", event.getEventId());
 
+        return checkOrder(event, event.getCancellation().getOrderId(), CANCELLED_STATUSES);
+    }
 
+    /**
+     * 주문이 이벤트가 말하는 상태에 있는지 확인만 한다 (맞지 않으면 경고, 주문이 없으면 getOrder의 에러로 DLT)
+     */
+    private Mono<Void> checkOrder(DomainEvent event, String orderIdStr, Set<OrderStatus> expected) {
+        return getOrderUseCase.getOrder(new OrderId(orderIdStr))
+                .doOnNext(order -> {
+                    if (expected.contains(order.status())) {
+                        logger.info("Successfully processed {} event for orderId: {}", event.getEventType(), orderIdStr);
+                    } else {
+                        logger.warn("{} event {} does not match order {} in status {}", event.getEventType(),
+                                event.getEventId(), orderIdStr, order.status());
+                    }
+                })
+                .then();
+    }
+}
@@ -0,0 +1,92 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * poll 한 번에 받은 레코드 묶음 처리
+ *
+ * 레코드를 키별로 묶어 같은 키는 offset 순서대로 하나씩, 서로 다른 키는 최대 concurrency개까지 동시에 처리한다
+ * (키가 없으면 파티션 단위로 묶는다). 묶음이 모두 끝날 때까지 리스너 스레드를 붙잡아 두므로
+ * 다음 poll은 앞 묶음이 끝난 뒤에야 일어나고, 처리 중인 레코드 수는 max.poll.records를 넘지 않는다.
+ * 호출한 쪽은 반환 후에 묶음 전체를 ack하므로 offset은 파티션별로 순서대로 커밋된다.
+ *
+ * 레코드 하나의 실패는 로그를 남기고 onFailure(재시도 토픽/DLT로 보내기)에 넘긴 뒤 다음 레코드로 넘어가므로
+ * 잘못된 레코드 하나가 파티션을 멈추지 않는다. 값을 복원하지 못한 레코드(ErrorHandlingDeserializer가 값 없이 넘긴 것)는
+ * handler를 거치지 않고 바로 onFailure로 간다.
+ * onFailure가 실패하거나 timeout 안에 끝나지 않으면 예외를 던져 ack하지 않는다 (컨테이너가 묶음을 다시 받는다).
+ */
+final class KeyOrderedBatchProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyOrderedBatchProcessor.class);
+    private static final LogAccessor logAccessor = new LogAccessor(KeyOrderedBatchProcessor.class);
+
+    private final int concurrency;
+    private final Duration timeout;
+    private final BiFunction<ConsumerRecord<String, ? extends DomainEvent>, Throwable, Mono<Void>> onFailure;
+
+    KeyOrderedBatchProcessor(int concurrency, Duration timeout) {
+        this(concurrency, timeout, (record, error) -> Mono.empty());
+    }
+
+    KeyOrderedBatchProcessor(int concurrency, Duration timeout,
+                             BiFunction<ConsumerRecord<String, ? extends DomainEvent>, Throwable, Mono<Void>> onFailure) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.onFailure = onFailure;
+    }
+
+    <E extends DomainEvent> void process(List<ConsumerRecord<String, E>> records,
+                                         Function<ConsumerRecord<String, E>, Mono<?>> handler) {
+        Map<String, List<ConsumerRecord<String, E>>> byKey = new LinkedHashMap<>();
+        for (ConsumerRecord<String, E> record : records) {
+            String key = record.key() != null ? record.key() : record.topic() + "-" + record.partition();
+            byKey.computeIfAbsent(key, ignored -> new ArrayList<>()).add(record);
+        }
+
+        Flux.fromIterable(byKey.values())
+                .flatMap(group -> Flux.fromIterable(group)
+                        .concatMap(record -> handle(record, handler)), concurrency)
+                .then()
+                .block(timeout);
+    }
+
+    private <E extends DomainEvent> Mono<Void> handle(ConsumerRecord<String, E> record,
+                                                       Function<ConsumerRecord<String, E>, Mono<?>> handler) {
+        E event = record.value();
+        return Mono.defer(() -> event != null
+                        ? handler.apply(record).then()
+                        : Mono.<Void>error(undecodable(record)))
+                .onErrorResume(error -> {
+                    logger.error("Error processing {} event: {} (topic: {}, partition: {}, offset: {})",
+                            event != null ? event.getEventType() : "undecodable",
+                            event != null ? event.getEventId() : "-",
+                            record.topic(), record.partition(), record.offset(), error);
+                    return onFailure.apply(record, error);
+                });
+    }
+
+    private static DeserializationException undecodable(ConsumerRecord<String, ?> record) {
+        DeserializationException error = SerializationUtils.getExceptionFromHeader(record,
+                SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, logAccessor);
+        return error != null ? error : new DeserializationException("Record has no value", null, false, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Instant;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.port.in.DeadLetterUseCase.DeadLetter;
+import com.flashdeal.app.application.port.out.DeadLetterStore;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * dead_letters 조회와 재처리 (FailedEventRouter가 기록한 문서)
+ *
+ * 재처리는 replayedAt이 비어 있는 문서만 조건부로 표시한 뒤 원래 토픽으로 보내므로 동시에 요청해도 한 번만 보낸다.
+ * 보내기에 실패하면 표시를 되돌린다. 재처리한 레코드는 새 레코드라 재시도 횟수도 처음부터 센다.
+ */
+@Component
+public class MongoDeadLetterStore implements DeadLetterStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoDeadLetterStore.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final DomainEventPublisher publisher;
+
+    public MongoDeadLetterStore(ReactiveMongoTemplate mongoTemplate, DomainEventPublisher publisher) {
+        this.mongoTemplate = mongoTemplate;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Flux<DeadLetter> findRecent(String topic, int limit) {
+        Query query = topic != null ? Query.query(Criteria.where("originalTopic").is(topic)) : new Query();
+        query.with(Sort.by(Sort.Direction.DESC, "failedAt")).limit(limit);
+        query.fields().exclude("payload");
+        return mongoTemplate.find(query, DeadLetterDocument.class)
+                .map(MongoDeadLetterStore::toDeadLetter);
+    }
+
+    @Override
+    public Mono<DeadLetter> findById(String id) {
+        return mongoTemplate.findById(id, DeadLetterDocument.class)
+                .map(MongoDeadLetterStore::toDeadLetter);
+    }
+
+    @Override
+    public Mono<DeadLetter> replay(String id) {
+        Query pending = Query.query(Criteria.where("_id").is(id).and("replayedAt").isNull());
+        return mongoTemplate.findAndModify(pending, new Update().set("replayedAt", Instant.now()),
+                        FindAndModifyOptions.options().returnNew(true), DeadLetterDocument.class)
+                .flatMap(document -> Mono.fromFuture(() -> publisher.send(new ProducerRecord<>(
+                                document.getOriginalTopic(), document.getKey(), document.getPayload())))
+                        .doOnSuccess(result -> logger.info("Replayed dead letter {} to {}",
+                                id, document.getOriginalTopic()))
+                        .thenReturn(toDeadLetter(document))
+                        .onErrorResume(error -> mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                                        new Update().unset("replayedAt"), DeadLetterDocument.class)
+                                .then(Mono.error(error))));
+    }
+
+    private static DeadLetter toDeadLetter(DeadLetterDocument document) {
+        return new DeadLetter(document.getId(), document.getEventId(), document.getEventType(),
+                document.getOriginalTopic(), document.getPartition(), document.getOffset(), document.getKey(),
+                document.getException(), document.getMessage(), document.getAttempts(),
+                document.getFailedAt(), document.getReplayedAt());
+    }
+}
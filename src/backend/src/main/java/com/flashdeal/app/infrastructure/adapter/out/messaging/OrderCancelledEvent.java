@@ -0,0 +1,49 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * 주문 취소 이벤트
+ */
+public class OrderCancelledEvent extends DomainEvent {
+
+    @JsonProperty("cancellation")
+    private final CancellationData cancellation;
+
+    public OrderCancelledEvent(String aggregateId, String correlationId, String causationId,
+                               Map<String, Object> metadata, CancellationData cancellation) {
+        super("OrderCancelled", "1.0", aggregateId, correlationId, causationId, metadata);
+        this.cancellation = cancellation;
+    }
+
+    public OrderCancelledEvent(EventHeader header, CancellationData cancellation) {
+        super("OrderCancelled", header);
+        this.cancellation = cancellation;
+    }
+
+    public CancellationData getCancellation() { return cancellation; }
+
+    public static class CancellationData {
+        @JsonProperty("orderId")
+        private final String orderId;
+
+        @JsonProperty("reason")
+        private final String reason;
+
+        @JsonProperty("cancelledBy")
+        private final String cancelledBy;
+
+        public CancellationData(String orderId, String reason, String cancelledBy) {
+            this.orderId = orderId;
+            this.reason = reason;
+            this.cancelledBy = cancelledBy;
+        }
+
+        // Getters
+        public String getOrderId() { return orderId; }
+        public String getReason() { return reason; }
+        public String getCancelledBy() { return cancelledBy; }
+    }
+}
@@ -19,6 +19,11 @@ public class OrderCreatedEvent extends DomainEvent {
         super("OrderCreated", "1.0", aggregateId, correlationId, causationId, metadata);
         this.order = order;
     }
+
+    public OrderCreatedEvent(EventHeader header, OrderData order) {
+        super("OrderCreated", header);
+        this.order = order;
+    }
     
     public OrderData getOrder() { return order; }
     
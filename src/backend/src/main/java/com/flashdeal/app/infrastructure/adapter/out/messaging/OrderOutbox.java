@@ -0,0 +1,100 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.domain.order.Cancellation;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.domain.order.OrderItem;
+import com.flashdeal.app.domain.order.OrderStatus;
+import com.flashdeal.app.domain.order.PaymentStatus;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.KafkaEventDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+
+/**
+ * 주문 변경에서 발행할 이벤트를 만들어 주문 문서의 outbox(kafkaEvents)에 적는다
+ *
+ * - 신규 주문: OrderCreated, 항목별 InventoryReserved
+ * - PENDING → CONFIRMED (결제 완료): PaymentCompleted
+ * - → CANCELLED: OrderCancelled
+ *
+ * 주문 ID를 correlationId로 써서 한 주문의 이벤트를 묶는다.
+ */
+@Component
+public class OrderOutbox {
+
+    // 기본 재고 정책의 예약 시간 (실제 만료는 상품 정책에 따라 ReservationExpiryScheduler가 정한다)
+    private static final Duration RESERVATION_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final Map<String, Object> METADATA = Map.of("source", "order-service");
+
+    private final DomainEventSerializer serializer;
+
+    public OrderOutbox(DomainEventSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    /**
+     * before → after 변경의 이벤트를 문서에 추가한다 (before가 null이면 신규 주문)
+     */
+    public void record(OrderDocument document, Order before, Order after) {
+        List<KafkaEventDocument> pending = eventsFor(before, after);
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<KafkaEventDocument> events = document.getKafkaEvents() != null
+                ? new ArrayList<>(document.getKafkaEvents())
+                : new ArrayList<>();
+        events.addAll(pending);
+        document.setKafkaEvents(events);
+        document.setOutboxPending(true);
+    }
+
+    List<KafkaEventDocument> eventsFor(Order before, Order after) {
+        String orderId = after.orderId().value();
+        List<KafkaEventDocument> events = new ArrayList<>();
+
+        if (before == null) {
+            List<OrderCreatedEvent.OrderItemData> items = after.items().stream()
+                    .map(item -> new OrderCreatedEvent.OrderItemData(
+                            item.productId().value(), item.quantity().value(), item.snapshot().price().sale()))
+                    .toList();
+            events.add(pending(orderId, new OrderCreatedEvent(orderId, orderId, null, METADATA,
+                    new OrderCreatedEvent.OrderData(orderId, after.getOrderNumber(), after.userId().value(), items,
+                            after.pricing().total(), after.pricing().currency()))));
+            for (OrderItem item : after.items()) {
+                String productId = item.productId().value();
+                events.add(pending(productId, new InventoryReservedEvent(productId, orderId,
+                        null, METADATA, new InventoryReservedEvent.InventoryData(productId, item.quantity().value(),
+                                orderId, after.createdAt().plus(RESERVATION_TIMEOUT).atZone(ZoneOffset.UTC)))));
+            }
+            return events;
+        }
+
+        if (before.status() == OrderStatus.PENDING && after.status() == OrderStatus.CONFIRMED
+                && after.payment() != null && after.payment().status() == PaymentStatus.COMPLETED) {
+            events.add(pending(orderId, new PaymentCompletedEvent(orderId, orderId, null,
+                    METADATA, new PaymentCompletedEvent.PaymentData(orderId, after.pricing().total(),
+                            after.pricing().currency(), after.payment().method(), after.payment().transactionId(),
+                            after.payment().gateway()))));
+        }
+        if (before.status() != OrderStatus.CANCELLED && after.status() == OrderStatus.CANCELLED) {
+            Cancellation cancellation = after.cancellation();
+            events.add(pending(orderId, new OrderCancelledEvent(orderId, orderId, null,
+                    METADATA, new OrderCancelledEvent.CancellationData(orderId,
+                            cancellation != null ? cancellation.reason() : null,
+                            cancellation != null ? cancellation.cancelledBy() : null))));
+        }
+        return events;
+    }
+
+    private KafkaEventDocument pending(String key, DomainEvent event) {
+        return new KafkaEventDocument(event.getEventId(), event.getEventType(), EventTopics.topicOf(event), key,
+                null, null, null, serializer.serialize(event));
+    }
+}
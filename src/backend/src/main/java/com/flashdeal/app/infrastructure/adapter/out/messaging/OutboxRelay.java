@@ -0,0 +1,165 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.application.service.PartitionedJobRunner;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.KafkaEventDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 주문 outbox → Kafka 발행
+ *
+ * 발행 대기(outboxPending) 주문을 BATCH_SIZE개씩 읽어 저장된 직렬화 이벤트를 그대로 한꺼번에 send하고
+ * (프로듀서가 linger.ms 동안 모아 압축해 보낸다), 응답이 온 이벤트만 발행 완료로 표시한다.
+ * 실패한 이벤트는 그대로 남아 다음 주기에 다시 보낸다. 대기 이벤트가 남지 않은 주문은 outboxPending을 지운다.
+ *
+ * relay는 파티션 하나짜리 PartitionedJobRunner 작업이라 클러스터에서 한 인스턴스만 돈다
+ * (여러 인스턴스가 같은 주문을 읽어 같은 이벤트를 겹쳐 보내지 않는다).
+ * 발행 완료 표시는 ORDERED bulk로, 이벤트 표시가 모두 적용된 뒤 outboxPending을 지운다.
+ *
+ * 한 주문의 이벤트는 저장 순서대로 send하므로 같은 키 안에서 순서가 유지된다.
+ * 발행 완료 표시 전에 죽으면 다시 보낼 수 있으므로(at-least-once) 소비자는 eventId로 중복을 거른다.
+ * 표시할 때 version을 올려, 같은 주문을 수정하던 요청이 낙관적 잠금으로 다시 읽게 한다.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String PUBLISHED_METRIC = "flashdeal.outbox.published";
+    static final String FAILED_METRIC = "flashdeal.outbox.failed";
+
+    static final String RELAY_JOB = "outbox-relay";
+
+    private static final long RELAY_INTERVAL_MS = 100;
+    private static final int BATCH_SIZE = 200;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final DomainEventPublisher publisher;
+    private final PartitionedJobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxRelay(ReactiveMongoTemplate mongoTemplate, DomainEventPublisher publisher,
+            PartitionedJobRunner jobRunner, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.publisher = publisher;
+        this.jobRunner = jobRunner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * lease를 잡은 인스턴스만 한 묶음 발행한다 (앞 주기가 끝나지 않았으면 건너뛴다)
+     */
+    @Scheduled(fixedDelay = RELAY_INTERVAL_MS)
+    public void relay() {
+        jobRunner.run(RELAY_JOB, 1, Duration.ofMillis(RELAY_INTERVAL_MS), 1, partition -> relayBatch())
+                .subscribe(null, error -> logger.warn("Outbox relay failed", error));
+    }
+
+    /**
+     * 한 묶음 발행 (발행 완료로 표시한 이벤트 수)
+     */
+    Mono<Long> relayBatch() {
+        Query query = Query.query(Criteria.where("outboxPending").is(true)).limit(BATCH_SIZE);
+        query.fields().include("kafkaEvents");
+        return mongoTemplate.find(query, OrderDocument.class)
+                .collectList()
+                // send는 메타데이터를 기다리는 동안 블로킹할 수 있다
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(orders -> {
+                    if (orders.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    // 보낼 이벤트가 없는 주문도 markPublished에서 outboxPending을 지운다
+                    return Flux.fromIterable(send(orders))
+                            .flatMap(this::await)
+                            .collectList()
+                            .flatMap(published -> markPublished(orders, published));
+                });
+    }
+
+    private List<Sent> send(List<OrderDocument> orders) {
+        List<Sent> sent = new ArrayList<>();
+        for (OrderDocument order : orders) {
+            if (order.getKafkaEvents() == null) {
+                continue;
+            }
+            for (KafkaEventDocument event : order.getKafkaEvents()) {
+                if (event.getPublishedAt() != null) {
+                    continue;
+                }
+                sent.add(new Sent(order.getId(), event, publisher.send(
+                        event.getTopic(), event.getKey(), event.getPayload())));
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * 이벤트 표시 → outboxPending 해제 순서로 실행한다 (UNORDERED면 해제가 먼저 실행돼 주문이 대기로 남을 수 있다)
+     */
+    private Mono<Long> markPublished(List<OrderDocument> orders, List<Published> published) {
+        Instant now = Instant.now();
+        ReactiveBulkOperations bulk = mongoTemplate.bulkOps(BulkMode.ORDERED, OrderDocument.class);
+        for (Published event : published) {
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(event.orderId()).and("kafkaEvents.eventId").is(event.eventId())),
+                    new Update()
+                            .set("kafkaEvents.$.publishedAt", now)
+                            .set("kafkaEvents.$.partition", event.partition())
+                            .set("kafkaEvents.$.offset", event.offset())
+                            .inc("version", 1));
+        }
+        for (OrderDocument order : orders) {
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(order.getId())
+                            .and("outboxPending").is(true)
+                            .and("kafkaEvents").not().elemMatch(Criteria.where("publishedAt").is(null))),
+                    new Update().unset("outboxPending").inc("version", 1));
+        }
+        return bulk.execute()
+                .thenReturn((long) published.size());
+    }
+
+    private Mono<Published> await(Sent sent) {
+        KafkaEventDocument event = sent.event();
+        return Mono.fromFuture(sent.future())
+                .map(result -> {
+                    meterRegistry.counter(PUBLISHED_METRIC, "topic", event.getTopic()).increment();
+                    return new Published(sent.orderId(), event.getEventId(),
+                            result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+                })
+                .onErrorResume(error -> {
+                    meterRegistry.counter(FAILED_METRIC, "topic", event.getTopic()).increment();
+                    logger.warn("Failed to publish outbox event {} to {}", event.getEventId(), event.getTopic(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private record Sent(String orderId, KafkaEventDocument event, CompletableFuture<SendResult<String, byte[]>> future) {
+    }
+
+    private record Published(String orderId, String eventId, int partition, long offset) {
+    }
+}
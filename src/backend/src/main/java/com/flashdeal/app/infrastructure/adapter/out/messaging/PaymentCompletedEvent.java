@@ -18,6 +18,11 @@ public class PaymentCompletedEvent extends DomainEvent {
         super("PaymentCompleted", "1.0", aggregateId, correlationId, causationId, metadata);
         this.payment = payment;
     }
+
+    public PaymentCompletedEvent(EventHeader header, PaymentData payment) {
+        super("PaymentCompleted", header);
+        this.payment = payment;
+    }
     
     public PaymentData getPayment() { return payment; }
     
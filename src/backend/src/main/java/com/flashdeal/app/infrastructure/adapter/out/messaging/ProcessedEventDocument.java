@@ -1,5 +1,6 @@
 package com.flashdeal.app.infrastructure.adapter.out.messaging;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import org.springframework.data.annotation.Id;
@@ -7,9 +8,17 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * 처리된 이벤트 문서 (멱등성 처리용)
+ *
+ * _id는 eventId이고, processedAt 기준 RETENTION이 지나면 TTL 인덱스로 지워진다.
+ * topic/partition은 파티션을 새로 할당받았을 때 ProcessedEventGuard가 필터를 채우는 데 쓴다.
  */
 @Document(collection = "processed_events")
 public class ProcessedEventDocument {
+
+    /**
+     * 중복 수신을 거르는 기간 (재전달/재처리가 이 기간 안에 일어난다고 본다)
+     */
+    public static final Duration RETENTION = Duration.ofDays(7);
     
     @Id
     private String id;
@@ -17,6 +26,8 @@ public class ProcessedEventDocument {
     private String eventId;
     private String eventType;
     private String aggregateId;
+    private String topic;
+    private Integer partition;
     private Instant processedAt;
     private String processorId;
     private String status; // PROCESSED, FAILED, RETRYING
@@ -25,11 +36,14 @@ public class ProcessedEventDocument {
     
     public ProcessedEventDocument() {}
     
-    public ProcessedEventDocument(String eventId, String eventType, String aggregateId, 
-                                 String processorId, String status) {
+    public ProcessedEventDocument(String eventId, String eventType, String aggregateId, String topic,
+                                 Integer partition, String processorId, String status) {
+        this.id = eventId;
         this.eventId = eventId;
         this.eventType = eventType;
         this.aggregateId = aggregateId;
+        this.topic = topic;
+        this.partition = partition;
         this.processorId = processorId;
         this.status = status;
         this.processedAt = Instant.now();
@@ -48,6 +62,12 @@ public class ProcessedEventDocument {
     
     public String getAggregateId() { return aggregateId; }
     public void setAggregateId(String aggregateId) { this.aggregateId = aggregateId; }
+
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+
+    public Integer getPartition() { return partition; }
+    public void setPartition(Integer partition) { this.partition = partition; }
     
     public Instant getProcessedAt() { return processedAt; }
     public void setProcessedAt(Instant processedAt) { this.processedAt = processedAt; }
@@ -0,0 +1,219 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 이벤트 중복 수신 방지 (processed_events + 파티션별 블룸 필터/최근 목록)
+ *
+ * 처리가 끝난 이벤트는 eventId를 _id로 processed_events에 기록한다 (RETENTION 뒤 TTL로 삭제).
+ * 조회를 줄이려고 파티션마다 블룸 필터와 최근 eventId 목록(LRU)을 메모리에 둔다.
+ *
+ * - 최근 목록에 있으면: 중복, 조회 없이 건너뛴다
+ * - 블룸 필터에 없으면: 새 이벤트, 조회 없이 처리한다 (대부분의 경우)
+ * - 그 밖에는 processed_events를 조회해 판정한다
+ *
+ * "블룸 필터에 없음 = 처리한 적 없음"이 성립하도록 파티션을 할당받은 뒤 첫 레코드에서 그 파티션의 처리 기록을 모두 읽어 채우고,
+ * 파티션을 잃으면 버린다 (그동안 다른 인스턴스가 처리한 이벤트는 다시 할당받을 때 읽는다).
+ * 필터가 예상 개수를 넘어도 판정은 틀리지 않고 오탐(조회)만 늘어난다 (다음 할당 때 처리 기록 수에 맞춰 다시 만든다).
+ *
+ * 처리에 실패한 이벤트는 기록하지 않으므로 재전달되면 다시 처리한다. 다만 실패한 이벤트는 재시도 토픽에서
+ * 처리될 수 있으므로 블룸 필터에는 넣어 둔다 (다시 받으면 조회해서 판정한다).
+ * 재시도 토픽에서 받은 이벤트는 원래 파티션의 필터가 이 인스턴스에 없으므로 onceAfterLookup으로 항상 조회하고,
+ * 처리 기록은 원래 토픽/파티션으로 남겨 그 파티션을 할당받는 쪽이 필터를 채울 수 있게 한다.
+ * 처리 후 기록 전에 죽으면 한 번 더 처리될 수 있다 (주문 상태 전이가 두 번째 처리를 거절한다).
+ */
+@Component
+public class ProcessedEventGuard implements ConsumerRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessedEventGuard.class);
+
+    static final String DEDUPE_METRIC = "flashdeal.consumer.dedupe";
+
+    private static final int MIN_EXPECTED_EVENTS = 100_000;
+    private static final int MAX_EXPECTED_EVENTS = 10_000_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int RECENT_EVENTS = 1024;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String processorId;
+
+    private final Map<TopicPartition, Mono<PartitionFilter>> filters = new ConcurrentHashMap<>();
+
+    public ProcessedEventGuard(ReactiveMongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                               @Value("${spring.kafka.consumer.group-id}") String processorId) {
+        this.mongoTemplate = mongoTemplate;
+        this.meterRegistry = meterRegistry;
+        this.processorId = processorId;
+    }
+
+    /**
+     * 처리한 적 없는 이벤트만 handler로 처리하고 기록한다
+     */
+    public <E extends DomainEvent> Mono<Void> once(ConsumerRecord<String, E> record, Function<E, Mono<?>> handler) {
+        String eventId = record.value().getEventId();
+        TopicPartition source = new TopicPartition(record.topic(), record.partition());
+        return filter(source)
+                .flatMap(filter -> {
+                    if (filter.recent(eventId)) {
+                        return skip(record, "duplicate_recent");
+                    }
+                    if (!filter.mightContain(eventId)) {
+                        return process(record, source, filter, handler, "new");
+                    }
+                    return lookup(record, source, filter, handler);
+                });
+    }
+
+    /**
+     * 필터 없이 processed_events를 조회해 판정한다 (재시도 토픽에서 받은 이벤트, source는 원래 토픽/파티션)
+     */
+    public <E extends DomainEvent> Mono<Void> onceAfterLookup(ConsumerRecord<String, E> record, TopicPartition source,
+                                                              Function<E, Mono<?>> handler) {
+        return lookup(record, source, null, handler);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        filters.keySet().removeAll(partitions);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        filters.keySet().removeAll(partitions);
+    }
+
+    private <E extends DomainEvent> Mono<Void> lookup(ConsumerRecord<String, E> record, TopicPartition source,
+                                                       PartitionFilter filter, Function<E, Mono<?>> handler) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(record.value().getEventId())),
+                        ProcessedEventDocument.class)
+                .flatMap(processed -> processed
+                        ? skip(record, "duplicate_stored")
+                        : process(record, source, filter, handler, "new_after_lookup"));
+    }
+
+    private <E extends DomainEvent> Mono<Void> process(ConsumerRecord<String, E> record, TopicPartition source,
+                                                        PartitionFilter filter, Function<E, Mono<?>> handler,
+                                                        String result) {
+        E event = record.value();
+        ProcessedEventDocument document = new ProcessedEventDocument(event.getEventId(), event.getEventType(),
+                event.getAggregateId(), source.topic(), source.partition(), processorId, "PROCESSED");
+        return handler.apply(event)
+                .then(Mono.defer(() -> mongoTemplate.insert(document))
+                        .then()
+                        .onErrorResume(DuplicateKeyException.class, error -> Mono.empty()))
+                .doOnSuccess(ignored -> {
+                    if (filter != null) {
+                        filter.add(event.getEventId());
+                    }
+                    count(record, result);
+                })
+                .doOnError(error -> {
+                    if (filter != null) {
+                        filter.seed(event.getEventId());
+                    }
+                });
+    }
+
+    private Mono<Void> skip(ConsumerRecord<String, ? extends DomainEvent> record, String result) {
+        logger.info("Skipping duplicate {} event: {}", record.value().getEventType(), record.value().getEventId());
+        count(record, result);
+        return Mono.empty();
+    }
+
+    private void count(ConsumerRecord<String, ?> record, String result) {
+        meterRegistry.counter(DEDUPE_METRIC, "topic", record.topic(), "result", result).increment();
+    }
+
+    private Mono<PartitionFilter> filter(TopicPartition partition) {
+        return filters.computeIfAbsent(partition, this::load);
+    }
+
+    /**
+     * 파티션의 처리 기록으로 필터를 채운다 (실패하면 다음 레코드에서 다시 읽는다)
+     */
+    private Mono<PartitionFilter> load(TopicPartition partition) {
+        Query query = Query.query(Criteria.where("topic").is(partition.topic())
+                .and("partition").is(partition.partition()));
+        query.fields().include("_id");
+        return mongoTemplate.count(query, ProcessedEventDocument.class)
+                .flatMap(count -> {
+                    PartitionFilter filter = new PartitionFilter(
+                            (int) Math.min(MAX_EXPECTED_EVENTS, Math.max(MIN_EXPECTED_EVENTS, count * 2)));
+                    return mongoTemplate.find(query, ProcessedEventDocument.class)
+                            .doOnNext(document -> filter.seed(document.getId()))
+                            .then(Mono.fromCallable(() -> {
+                                logger.info("Loaded {} processed events for {}", filter.eventCount(), partition);
+                                return filter;
+                            }));
+                })
+                .doOnError(error -> {
+                    logger.warn("Failed to load processed events for {}", partition, error);
+                    filters.remove(partition);
+                })
+                .cache();
+    }
+
+    /**
+     * 파티션 하나의 블룸 필터와 최근 eventId 목록
+     */
+    static final class PartitionFilter {
+
+        private final EventIdBloomFilter bloomFilter;
+        private final AtomicInteger eventCount = new AtomicInteger();
+        private final Map<String, Boolean> recent = Collections.synchronizedMap(
+                new LinkedHashMap<String, Boolean>(RECENT_EVENTS * 2, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > RECENT_EVENTS;
+                    }
+                });
+
+        PartitionFilter(int expectedEvents) {
+            this.bloomFilter = new EventIdBloomFilter(expectedEvents, FALSE_POSITIVE_RATE);
+        }
+
+        void seed(String eventId) {
+            bloomFilter.put(eventId);
+            eventCount.incrementAndGet();
+        }
+
+        void add(String eventId) {
+            seed(eventId);
+            recent.put(eventId, Boolean.TRUE);
+        }
+
+        boolean recent(String eventId) {
+            return recent.containsKey(eventId);
+        }
+
+        boolean mightContain(String eventId) {
+            return bloomFilter.mightContain(eventId);
+        }
+
+        int eventCount() {
+            return eventCount.get();
+        }
+    }
+}
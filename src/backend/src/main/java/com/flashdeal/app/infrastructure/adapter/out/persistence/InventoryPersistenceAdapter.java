@@ -3,12 +3,27 @@ package com.flashdeal.app.infrastructure.adapter.out.persistence;
 import com.flashdeal.app.application.port.out.InventoryRepository;
 import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.inventory.InventoryId;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
 import com.flashdeal.app.domain.product.ProductId;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.InventoryDocument;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.mapper.InventoryMapper;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.InventoryMongoRepository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static java.util.Objects.requireNonNull;
@@ -23,17 +38,24 @@ public class InventoryPersistenceAdapter implements InventoryRepository {
 
     private final InventoryMongoRepository mongoRepository;
     private final InventoryMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final SingleFlight<String, Inventory> productLookups;
 
-    public InventoryPersistenceAdapter(InventoryMongoRepository mongoRepository, InventoryMapper mapper) {
+    public InventoryPersistenceAdapter(InventoryMongoRepository mongoRepository, InventoryMapper mapper,
+            ReactiveMongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+            @Value("${flashdeal.persistence.single-flight.inventory-stale-while-revalidate:0s}") Duration staleWhileRevalidate) {
         this.mongoRepository = mongoRepository;
         this.mapper = mapper;
+        this.mongoTemplate = mongoTemplate;
+        this.productLookups = new SingleFlight<>("inventory", meterRegistry, staleWhileRevalidate);
     }
 
     @Override
     public Mono<Inventory> save(Inventory inventory) {
         InventoryDocument document = mapper.toDocument(inventory);
         return mongoRepository.save(requireNonNull(document))
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .doFinally(signal -> productLookups.forget(inventory.productId().value()));
     }
 
     @Override
@@ -42,12 +64,103 @@ public class InventoryPersistenceAdapter implements InventoryRepository {
                 .map(mapper::toDomain);
     }
 
+    /**
+     * 같은 상품의 동시 조회는 하나의 쿼리로 합친다
+     */
     @Override
     public Mono<Inventory> findByProductId(ProductId productId) {
-        return mongoRepository.findByProductId(productId.value())
+        return productLookups.get(productId.value(), () -> mongoRepository.findByProductId(productId.value())
+                .map(mapper::toDomain));
+    }
+
+    @Override
+    public Flux<Inventory> findByProductIdIn(Collection<ProductId> productIds) {
+        if (productIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoRepository.findByProductIdIn(productIds.stream().map(ProductId::value).toList())
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Mono<Void> updateStock(ProductId productId, Stock stock) {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("productId").is(productId.value()));
+        Update update = new Update()
+                .set("stock", requireNonNull(mapper.toStockDocument(stock)))
+                .set("level", requireNonNull(mapper.calculateLevel(stock)))
+                .set("redis.currentValue", stock.available().value())
+                .set("redis.lastSyncedAt", now)
+                .inc("redis.syncVersion", 1)
+                .inc("version", 1)
+                .set("updatedAt", now);
+        return mongoTemplate.updateFirst(query, update, InventoryDocument.class)
+                .doFinally(signal -> productLookups.forget(productId.value()))
+                .then();
+    }
+
+    /**
+     * 조건부 예약: { productId, stock.available >= qty, policy.maxPurchasePerUser >= qty }
+     * → $inc { stock.available: -qty, stock.reserved: +qty }
+     */
+    @Override
+    public Mono<Stock> tryReserve(ProductId productId, Quantity quantity) {
+        int qty = quantity.value();
+        Criteria guard = Criteria.where("productId").is(productId.value())
+                .and("stock.available").gte(qty)
+                .and("policy.maxPurchasePerUser").gte(qty);
+        Update update = new Update()
+                .inc("stock.available", -qty)
+                .inc("stock.reserved", qty);
+        return findAndModifyStock(productId, guard, update);
+    }
+
+    /**
+     * 조건부 확정: { productId, stock.reserved >= qty }
+     * → $inc { stock.reserved: -qty, stock.sold: +qty }
+     */
+    @Override
+    public Mono<Stock> tryConfirm(ProductId productId, Quantity quantity) {
+        int qty = quantity.value();
+        Criteria guard = Criteria.where("productId").is(productId.value())
+                .and("stock.reserved").gte(qty);
+        Update update = new Update()
+                .inc("stock.reserved", -qty)
+                .inc("stock.sold", qty);
+        return findAndModifyStock(productId, guard, update);
+    }
+
+    /**
+     * 조건부 해제: { productId, stock.reserved >= qty }
+     * → $inc { stock.reserved: -qty, stock.available: +qty }
+     */
+    @Override
+    public Mono<Stock> tryRelease(ProductId productId, Quantity quantity) {
+        int qty = quantity.value();
+        Criteria guard = Criteria.where("productId").is(productId.value())
+                .and("stock.reserved").gte(qty);
+        Update update = new Update()
+                .inc("stock.reserved", -qty)
+                .inc("stock.available", qty);
+        return findAndModifyStock(productId, guard, update);
+    }
+
+    /**
+     * 단일 findAndModify 왕복으로 재고를 갱신하고 변경 후 stock만 반환한다
+     * (events/adjustments 배열을 포함한 문서 전체를 읽고 쓰지 않는다)
+     */
+    private Mono<Stock> findAndModifyStock(ProductId productId, Criteria guard, Update update) {
+        Query query = Query.query(guard);
+        query.fields().include("stock");
+        return mongoTemplate.findAndModify(
+                        query,
+                        update.inc("version", 1).set("updatedAt", Instant.now()),
+                        FindAndModifyOptions.options().returnNew(true),
+                        InventoryDocument.class)
+                .map(document -> mapper.toStock(document.getStock()))
+                .doFinally(signal -> productLookups.forget(productId.value()));
+    }
+
     @Override
     public Mono<Void> deleteById(InventoryId id) {
         return mongoRepository.deleteById(requireNonNull(id.value()));
@@ -0,0 +1,76 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexDefinitionBuilder;
+
+import com.flashdeal.app.infrastructure.adapter.out.messaging.DeadLetterDocument;
+import com.flashdeal.app.infrastructure.adapter.out.messaging.ProcessedEventDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.InventoryDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
+
+/**
+ * 컬렉션별 인덱스 정의 (.doc/data/1.model-structure.md 인덱스 절 기준)
+ *
+ * 기동 시 MongoSchemaInitializer가 ensureIndex로 만든다. 리포지토리 쿼리를 추가하면
+ * MongoQueryPlanTest가 실행 계획에 COLLSCAN이 없는지 확인하므로, 필요한 인덱스를 여기에 함께 추가한다.
+ */
+final class MongoIndexes {
+
+    private MongoIndexes() {
+    }
+
+    static Map<Class<?>, List<IndexDefinition>> all() {
+        Map<Class<?>, List<IndexDefinition>> indexes = new LinkedHashMap<>();
+        indexes.put(ProductDocument.class, List.of(
+                // 상태별 조회, 시작 시각 도래 UPCOMING 조회
+                new Index().on("status", Direction.ASC).on("schedule.startsAt", Direction.ASC),
+                // 종료 시각 도래 ACTIVE 조회
+                new Index().on("status", Direction.ASC).on("schedule.endsAt", Direction.ASC),
+                // 카테고리 목록 (상태, 할인율 순)
+                new Index().on("category", Direction.ASC).on("status", Direction.ASC).on("price.rate", Direction.DESC),
+                new Index().on("metadata.featured", Direction.ASC).on("status", Direction.ASC),
+                // 상태별 가격 범위, 할인율 조회
+                new Index().on("status", Direction.ASC).on("price.saleMinor", Direction.ASC),
+                new Index().on("status", Direction.ASC).on("price.rate", Direction.DESC),
+                // productsConnection keyset (기본 정렬, 가격 정렬)
+                new Index().on("createdAt", Direction.DESC).on("_id", Direction.ASC),
+                new Index().on("price.saleMinor", Direction.ASC).on("_id", Direction.ASC),
+                new TextIndexDefinitionBuilder()
+                        .onField("title", 10F)
+                        .onField("category", 5F)
+                        .onField("description", 1F)
+                        .build()));
+        indexes.put(InventoryDocument.class, List.of(
+                new Index().on("productId", Direction.ASC).unique(),
+                new Index().on("level", Direction.ASC).on("stock.available", Direction.ASC),
+                new Index().on("stock.available", Direction.ASC)));
+        indexes.put(OrderDocument.class, List.of(
+                // 사용자별 주문 (상태/결제 상태/상품 조건은 이 범위 안에서 거른다)
+                new Index().on("user.id", Direction.ASC).on("createdAt", Direction.DESC),
+                // 상태별 조회, 예약 만료 대상(PENDING + createdAt) 조회
+                new Index().on("status", Direction.ASC).on("createdAt", Direction.ASC),
+                new Index().on("orderNumber", Direction.ASC).unique(),
+                new Index().on("idempotencyKey", Direction.ASC).unique().sparse(),
+                new Index().on("items.productId", Direction.ASC),
+                new Index().on("createdAt", Direction.DESC),
+                new Index().on("kafkaEvents.eventType", Direction.ASC),
+                // 발행 대기 outbox (대기 중인 주문만 색인)
+                new Index().on("outboxPending", Direction.ASC).sparse()));
+        indexes.put(ProcessedEventDocument.class, List.of(
+                // 파티션 할당 시 처리된 eventId 읽기
+                new Index().on("topic", Direction.ASC).on("partition", Direction.ASC),
+                new Index().on("processedAt", Direction.ASC).expire(ProcessedEventDocument.RETENTION)));
+        indexes.put(DeadLetterDocument.class, List.of(
+                // 토픽별 최근 DLT 레코드 조회
+                new Index().on("originalTopic", Direction.ASC).on("failedAt", Direction.DESC),
+                new Index().on("failedAt", Direction.DESC)));
+        return indexes;
+    }
+}
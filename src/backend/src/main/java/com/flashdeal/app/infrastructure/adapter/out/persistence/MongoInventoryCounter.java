@@ -0,0 +1,135 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * MongoDB Inventory Counter
+ *
+ * Redis 없이 MongoDB 조건부 findAndModify 만으로 재고를 차감하는 InventoryCounter 구현체
+ * (flashdeal.inventory.counter=mongo 일 때 활성화)
+ *
+ * MongoDB가 곧 기준 저장소이므로 별도 적재나 dirty 동기화가 필요 없다.
+ * 조건 불일치로 갱신이 거부된 경우에만 현재 재고를 읽어 실패 원인을 구분한다.
+ * 재고 변경 알림은 이 인스턴스에서 반영한 변경만 전달한다.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "flashdeal.inventory.counter", havingValue = "mongo")
+public class MongoInventoryCounter implements InventoryCounter {
+
+    private final InventoryRepository inventoryRepository;
+    private final Sinks.Many<ProductId> changes = Sinks.many().multicast().directBestEffort();
+
+    public MongoInventoryCounter(InventoryRepository inventoryRepository) {
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    @Override
+    public Mono<Stock> load(Inventory inventory) {
+        return Mono.just(inventory.stock());
+    }
+
+    @Override
+    public Mono<Stock> reserve(ProductId productId, Quantity quantity, UserId userId) {
+        return inventoryRepository.tryReserve(productId, quantity)
+                .doOnNext(stock -> notifyChanged(productId))
+                .switchIfEmpty(Mono.defer(() -> rejectReserve(productId, quantity)));
+    }
+
+    /**
+     * 묶음 예약 (조건부 갱신을 요청마다 순서대로 적용)
+     */
+    @Override
+    public Mono<BatchReservation> reserveAll(ProductId productId, List<Quantity> quantities) {
+        Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+        return Flux.range(0, quantities.size())
+                .concatMap(index -> reserve(productId, quantities.get(index), null)
+                        .onErrorResume(RuntimeException.class, error -> {
+                            failures.put(index, error);
+                            return Mono.empty();
+                        }))
+                .then(getStock(productId))
+                .map(stock -> new BatchReservation(stock, failures));
+    }
+
+    @Override
+    public Mono<Stock> confirm(ProductId productId, Quantity quantity) {
+        return inventoryRepository.tryConfirm(productId, quantity)
+                .doOnNext(stock -> notifyChanged(productId))
+                .switchIfEmpty(Mono.defer(() -> rejectReserved("confirm", productId, quantity)));
+    }
+
+    @Override
+    public Mono<Stock> release(ProductId productId, Quantity quantity) {
+        return inventoryRepository.tryRelease(productId, quantity)
+                .doOnNext(stock -> notifyChanged(productId))
+                .switchIfEmpty(Mono.defer(() -> rejectReserved("release", productId, quantity)));
+    }
+
+    @Override
+    public Mono<Stock> getStock(ProductId productId) {
+        return inventoryRepository.findByProductId(productId)
+                .map(Inventory::stock);
+    }
+
+    @Override
+    public Flux<ProductId> changes() {
+        return changes.asFlux();
+    }
+
+    @Override
+    public Flux<ProductId> drainDirty(int maxCount) {
+        return Flux.empty();
+    }
+
+    @Override
+    public Mono<Void> markDirty(ProductId productId) {
+        return Mono.empty();
+    }
+
+    private void notifyChanged(ProductId productId) {
+        changes.emitNext(productId, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(10)));
+    }
+
+    private Mono<Stock> rejectReserve(ProductId productId, Quantity quantity) {
+        return inventoryRepository.findByProductId(productId)
+                .flatMap(inventory -> {
+                    if (!inventory.policy().isValidPurchaseQuantity(quantity)) {
+                        return Mono.error(new IllegalArgumentException(
+                                "Invalid purchase quantity: " + quantity.value()
+                                        + " (max: " + inventory.policy().maxPurchasePerUser() + ")"));
+                    }
+                    Stock current = inventory.stock();
+                    if (current.outOfStock()) {
+                        return Mono.error(new IllegalStateException("Product is out of stock"));
+                    }
+                    return Mono.error(new IllegalStateException(String.format(
+                            "Cannot reserve %d: only %d available", quantity.value(), current.available().value())));
+                });
+    }
+
+    private Mono<Stock> rejectReserved(String operation, ProductId productId, Quantity quantity) {
+        return inventoryRepository.findByProductId(productId)
+                .flatMap(inventory -> Mono.error(new IllegalArgumentException(String.format(
+                        "Cannot %s %d: only %d reserved",
+                        operation, quantity.value(), inventory.stock().reserved().value()))));
+    }
+}
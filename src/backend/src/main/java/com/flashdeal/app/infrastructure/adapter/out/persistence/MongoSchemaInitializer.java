@@ -0,0 +1,108 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.domain.product.Price;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.InventoryDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.PriceDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 기동 시 MongoDB 스키마 보정
+ *
+ * @Version 도입 이전에 저장된 문서에는 version 필드가 없어 조건부 저장이 항상 실패하므로,
+ * 트래픽을 받기 전에 0으로 채워 둔다.
+ * 가격 필터/정렬 필드(price.saleMinor, price.rate)가 없는 상품 문서도 이때 채운다.
+ *
+ * MongoIndexes의 인덱스도 이때 만든다. 이미 있으면 아무 일도 하지 않으며,
+ * 만들 수 없는 인덱스(기존 중복 데이터로 unique 실패 등)는 로그만 남기고 기동을 계속한다.
+ */
+@Component
+public class MongoSchemaInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoSchemaInitializer.class);
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public MongoSchemaInitializer(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Flux.concat(
+                        backfillVersion(InventoryDocument.class),
+                        backfillVersion(OrderDocument.class),
+                        backfillPriceFields())
+                .then(ensureIndexes(MongoIndexes.all()))
+                .block(STARTUP_TIMEOUT);
+    }
+
+    private Mono<Void> ensureIndexes(Map<Class<?>, List<IndexDefinition>> indexes) {
+        return Flux.fromIterable(indexes.entrySet())
+                .concatMap(entry -> Flux.fromIterable(entry.getValue())
+                        .concatMap(index -> ensureIndex(entry.getKey(), index)))
+                .then();
+    }
+
+    private Mono<String> ensureIndex(Class<?> documentType, IndexDefinition index) {
+        return mongoTemplate.indexOps(documentType)
+                .ensureIndex(index)
+                .onErrorResume(error -> {
+                    logger.error("Failed to create index {} on {}", index.getIndexKeys(), documentType.getSimpleName(), error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Long> backfillPriceFields() {
+        Query query = Query.query(new Criteria().orOperator(
+                Criteria.where("price.saleMinor").exists(false),
+                Criteria.where("price.rate").exists(false)));
+        return mongoTemplate.find(query, ProductDocument.class)
+                .concatMap(document -> {
+                    PriceDocument price = document.getPrice();
+                    Update update = new Update()
+                            .set("price.saleMinor", PriceDocument.toMinorUnits(price.getSale(), RoundingMode.HALF_UP))
+                            .set("price.rate", Price.discountRateOf(price.getOriginal(), price.getSale()));
+                    return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(document.getId())), update,
+                            ProductDocument.class);
+                })
+                .count()
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        logger.info("Backfilled price fields on {} ProductDocument documents", count);
+                    }
+                });
+    }
+
+    private Mono<Long> backfillVersion(Class<?> documentType) {
+        Query query = Query.query(Criteria.where("version").exists(false));
+        return mongoTemplate.updateMulti(query, new Update().set("version", 0L), documentType)
+                .map(result -> result.getModifiedCount())
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        logger.info("Backfilled version field on {} {} documents", count, documentType.getSimpleName());
+                    }
+                });
+    }
+}
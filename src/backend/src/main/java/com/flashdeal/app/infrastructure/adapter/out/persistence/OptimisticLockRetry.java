@@ -0,0 +1,55 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 낙관적 잠금 충돌 재시도
+ *
+ * @Version 문서의 조회 → 변경 → 저장 사이클을 충돌 시 지터가 섞인 지수 백오프로 다시 실행한다.
+ * 핫 상품에 동시 수정이 몰려도 덮어쓰기 대신 재시도로 수렴하며,
+ * 충돌/재시도 소진 횟수를 컬렉션 단위로(호출자가 넘긴 태그와 함께) 기록한다.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    static final String CONFLICT_METRIC = "flashdeal.persistence.optimistic_lock.conflicts";
+    static final String EXHAUSTED_METRIC = "flashdeal.persistence.optimistic_lock.exhausted";
+
+    private static final int MAX_RETRIES = 5;
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMillis(200);
+    private static final double JITTER = 0.5;
+
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockRetry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * attempt는 재시도마다 다시 구독되므로 조회부터 저장까지 전체 사이클을 담아야 한다
+     */
+    public <T> Mono<T> execute(String collection, Tags extraTags, Supplier<Mono<T>> attempt) {
+        Tags tags = Tags.of("collection", collection).and(extraTags);
+        return Mono.defer(attempt)
+                .doOnError(OptimisticLockingFailureException.class,
+                        error -> meterRegistry.counter(CONFLICT_METRIC, tags).increment())
+                .retryWhen(Retry.backoff(MAX_RETRIES, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .jitter(JITTER)
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> {
+                            meterRegistry.counter(EXHAUSTED_METRIC, tags).increment();
+                            return signal.failure();
+                        }));
+    }
+}
@@ -2,40 +2,83 @@ package com.flashdeal.app.infrastructure.adapter.out.persistence;
 
 import com.flashdeal.app.application.port.out.OrderRepository;
 import com.flashdeal.app.domain.order.*;
+import com.flashdeal.app.infrastructure.adapter.out.messaging.OrderOutbox;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.mapper.OrderMapper;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.OrderMongoRepository;
 
+import java.util.Collection;
+import java.util.function.UnaryOperator;
+
 import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Tags;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * 주문 저장/수정 시 발행할 이벤트를 같은 문서의 outbox에 함께 기록한다 (OrderOutbox, OutboxRelay)
+ */
 @Component
 public class OrderPersistenceAdapter implements OrderRepository {
 
     private final OrderMongoRepository mongoRepository;
     private final OrderMapper mapper;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final OrderOutbox outbox;
 
-    public OrderPersistenceAdapter(OrderMongoRepository mongoRepository, OrderMapper mapper) {
+    public OrderPersistenceAdapter(OrderMongoRepository mongoRepository, OrderMapper mapper,
+            OptimisticLockRetry optimisticLockRetry, OrderOutbox outbox) {
         this.mongoRepository = mongoRepository;
         this.mapper = mapper;
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.outbox = outbox;
     }
 
     @Override
     public Mono<Order> save(Order order) {
         OrderDocument document = mapper.toDocument(order);
+        outbox.record(document, null, order);
         return mongoRepository.save(requireNonNull(document))
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Mono<Order> update(OrderId id, UnaryOperator<Order> mutation) {
+        return optimisticLockRetry.execute("orders", Tags.empty(),
+                () -> mongoRepository.findById(requireNonNull(id.value()))
+                        .flatMap(current -> {
+                            Order before = mapper.toDomain(current);
+                            Order after = mutation.apply(before);
+                            OrderDocument document = mapper.toDocument(after);
+                            document.setVersion(current.getVersion());
+                            if (current.getKafkaEvents() != null) {
+                                document.setKafkaEvents(current.getKafkaEvents());
+                            }
+                            document.setOutboxPending(current.getOutboxPending());
+                            outbox.record(document, before, after);
+                            return mongoRepository.save(document);
+                        }))
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Mono<Order> findById(OrderId id) {
         return mongoRepository.findById(requireNonNull(id.value()))
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Flux<Order> findAllById(Collection<OrderId> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoRepository.findAllById(ids.stream().map(OrderId::value).toList())
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Flux<Order> findByUserId(UserId userId) {
         return mongoRepository.findByUserId(userId.value())
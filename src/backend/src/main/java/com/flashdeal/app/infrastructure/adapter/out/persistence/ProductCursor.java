@@ -0,0 +1,119 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonParseException;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * 상품 목록 keyset 커서
+ *
+ * 마지막 문서의 정렬 키 값(마지막 키는 항상 _id)을 Extended JSON으로 적어 Base64URL로 감싼다.
+ * 타입(Decimal128, Date 등)이 그대로 복원되므로 다음 페이지 조건을 원래 값과 비교할 수 있다.
+ * 정렬 조건도 함께 적어 두고, 다른 정렬로 받은 커서는 거부한다.
+ *
+ * 정렬 키가 없거나 null인 문서는 MongoDB 정렬에서 가장 작은 값으로 취급되고 커서에도 null로 적힌다.
+ * $gt/$lt는 null과 다른 타입을 비교하지 않으므로 null 쪽 경계는 조건에 따로 적는다.
+ */
+final class ProductCursor {
+
+    private static final String SORT = "s";
+    private static final String VALUES = "v";
+    private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private ProductCursor() {
+    }
+
+    static String encode(Document raw, List<Sort.Order> orders) {
+        List<Object> values = orders.stream()
+                .map(order -> valueAt(raw, order.getProperty()))
+                .toList();
+        String json = new Document(SORT, signature(orders)).append(VALUES, values).toJson(JSON_SETTINGS);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키 값 목록으로 되돌린다 (형식이 틀리거나 정렬이 다르면 IllegalArgumentException)
+     */
+    static List<Object> decode(String cursor, List<Sort.Order> orders) {
+        Document decoded;
+        try {
+            decoded = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (!signature(orders).equals(decoded.getString(SORT))) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort: " + cursor);
+        }
+        List<?> values = decoded.getList(VALUES, Object.class);
+        if (values == null || values.size() != orders.size()) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new ArrayList<>(values);
+    }
+
+    /**
+     * 커서 다음 문서 조건: (k1 > v1) or (k1 = v1 and k2 > v2) or ... (내림차순 키는 <)
+     *
+     * 마지막 키는 null이 될 수 없는 _id이므로 조건이 비는 일은 없다.
+     */
+    static Criteria after(List<Sort.Order> orders, List<Object> values) {
+        List<Criteria> branches = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Criteria beyond = beyond(orders.get(i), values.get(i));
+            if (beyond == null) {
+                continue;
+            }
+            List<Criteria> parts = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                parts.add(Criteria.where(orders.get(j).getProperty()).is(values.get(j)));
+            }
+            parts.add(beyond);
+            branches.add(parts.size() == 1 ? parts.get(0) : new Criteria().andOperator(parts));
+        }
+        return new Criteria().orOperator(branches);
+    }
+
+    /**
+     * 정렬 순서상 value보다 뒤에 오는 값 (null은 오름차순에서 맨 앞, 내림차순에서 맨 뒤)
+     *
+     * 내림차순에서 value가 null이면 뒤에 오는 값이 없으므로 null을 반환한다.
+     */
+    private static Criteria beyond(Sort.Order order, Object value) {
+        String field = order.getProperty();
+        if (order.isAscending()) {
+            return value == null ? Criteria.where(field).ne(null) : Criteria.where(field).gt(value);
+        }
+        if (value == null) {
+            return null;
+        }
+        return new Criteria().orOperator(Criteria.where(field).lt(value), Criteria.where(field).is(null));
+    }
+
+    private static Object valueAt(Document raw, String path) {
+        Object current = raw;
+        for (String segment : path.split("\\.")) {
+            if (!(current instanceof Document document)) {
+                return null;
+            }
+            current = document.get(segment);
+        }
+        return current;
+    }
+
+    private static String signature(List<Sort.Order> orders) {
+        return orders.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -1,26 +1,39 @@
 package com.flashdeal.app.infrastructure.adapter.out.persistence;
 
 import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.common.CursorPageInfo;
+import com.flashdeal.app.domain.common.CursorPagination;
 import com.flashdeal.app.domain.common.PageInfo;
 import com.flashdeal.app.domain.common.Pagination;
 import com.flashdeal.app.domain.common.SortOrder;
 import com.flashdeal.app.domain.product.*;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.PriceDocument;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.mapper.ProductMapper;
 import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.ProductMongoRepository;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-import org.bson.types.Decimal128;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -34,27 +47,62 @@ import static java.util.Objects.requireNonNull;
 @Component
 public class ProductPersistenceAdapter implements ProductRepository {
 
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
+
     private final ProductMongoRepository mongoRepository;
     private final ProductMapper mapper;
     private final ReactiveMongoTemplate mongoTemplate;
+    private final ProductSearchIndex searchIndex;
+    private final SingleFlight<String, Product> lookups;
 
     public ProductPersistenceAdapter(ProductMongoRepository mongoRepository, ProductMapper mapper,
-            ReactiveMongoTemplate mongoTemplate) {
+            ReactiveMongoTemplate mongoTemplate, ProductSearchIndex searchIndex, MeterRegistry meterRegistry,
+            @Value("${flashdeal.persistence.single-flight.product-stale-while-revalidate:1s}") Duration staleWhileRevalidate) {
         this.mongoRepository = mongoRepository;
         this.mapper = mapper;
         this.mongoTemplate = mongoTemplate;
+        this.searchIndex = searchIndex;
+        this.lookups = new SingleFlight<>("product", meterRegistry, staleWhileRevalidate);
     }
 
     @Override
     public Mono<Product> save(Product product) {
         ProductDocument document = mapper.toDocument(product);
         return mongoRepository.save(requireNonNull(document))
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .doOnNext(searchIndex::index)
+                .doFinally(signal -> lookups.forget(product.productId().value()));
     }
 
+    /**
+     * 상태 조건을 건 findAndModify 한 번 (읽고 저장하는 사이에 다른 전이가 끼어들 수 없다)
+     */
+    @Override
+    public Mono<Product> updateStatus(ProductId id, DealStatus from, DealStatus to) {
+        Query query = Query.query(Criteria.where("_id").is(id.value()).and("status").is(from));
+        Update update = new Update().set("status", to).set("updatedAt", Instant.now());
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true),
+                        ProductDocument.class)
+                .map(mapper::toDomain)
+                .doOnNext(searchIndex::index)
+                .doFinally(signal -> lookups.forget(id.value()));
+    }
+
+    /**
+     * 같은 상품의 동시 조회는 하나의 쿼리로 합친다 (캐시 만료 순간의 몰림 방지)
+     */
     @Override
     public Mono<Product> findById(ProductId id) {
-        return mongoRepository.findById(requireNonNull(id.value()))
+        return lookups.get(id.value(), () -> mongoRepository.findById(requireNonNull(id.value()))
+                .map(mapper::toDomain));
+    }
+
+    @Override
+    public Flux<Product> findAllById(Collection<ProductId> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return mongoRepository.findAllById(ids.stream().map(ProductId::value).toList())
                 .map(mapper::toDomain);
     }
 
@@ -77,13 +125,13 @@ public class ProductPersistenceAdapter implements ProductRepository {
     }
 
     @Override
-    public Flux<Product> findByStatusAndScheduleStartAtBefore(DealStatus status, java.time.Instant time) {
+    public Flux<Product> findByStatusAndScheduleStartAtBefore(DealStatus status, Instant time) {
         return mongoRepository.findByStatusAndScheduleStartAtBefore(status, time)
                 .map(mapper::toDomain);
     }
 
     @Override
-    public Flux<Product> findByStatusAndScheduleEndAtBefore(DealStatus status, java.time.Instant time) {
+    public Flux<Product> findByStatusAndScheduleEndAtBefore(DealStatus status, Instant time) {
         return mongoRepository.findByStatusAndScheduleEndAtBefore(status, time)
                 .map(mapper::toDomain);
     }
@@ -124,9 +172,84 @@ public class ProductPersistenceAdapter implements ProductRepository {
         return new ProductPage(products, pageInfo);
     }
 
+    /**
+     * keyset 페이지네이션: 커서 다음 문서를 first + 1개만 읽어 다음 페이지 여부를 판단한다 (skip/전체 count 없음)
+     *
+     * 정렬 키 + _id 복합 인덱스가 있으면 페이지 깊이와 무관하게 비용이 일정하다.
+     * totalCount는 요청한 경우에만 세며, 필터가 없으면 컬렉션 메타데이터 추정치를 쓴다
+     */
+    @Override
+    public Mono<ProductConnection> findConnection(ProductFilter filter, CursorPagination pagination,
+            List<ProductSortOption> sortOptions, boolean includeTotalCount) {
+        return Mono.defer(() -> {
+            List<Sort.Order> orders = keysetOrders(sortOptions);
+            Query query = buildQuery(filter);
+            if (pagination.after() != null) {
+                List<Object> cursorValues = ProductCursor.decode(pagination.after(), orders);
+                query.addCriteria(new Criteria().andOperator(ProductCursor.after(orders, cursorValues)));
+            }
+            query.with(Sort.by(orders)).limit(pagination.first() + 1);
+
+            Mono<List<Document>> documents = mongoTemplate
+                    .find(query, Document.class, mongoTemplate.getCollectionName(ProductDocument.class))
+                    .collectList();
+            Mono<Optional<Long>> totalCount = includeTotalCount
+                    ? countByFilter(filter).map(Optional::of)
+                    : Mono.just(Optional.empty());
+
+            return Mono.zip(documents, totalCount)
+                    .map(tuple -> createProductConnection(tuple.getT1(), orders, pagination, tuple.getT2().orElse(null)));
+        });
+    }
+
+    private ProductConnection createProductConnection(List<Document> documents, List<Sort.Order> orders,
+            CursorPagination pagination, Long totalCount) {
+        boolean hasNext = documents.size() > pagination.first();
+        List<Document> visible = hasNext ? documents.subList(0, pagination.first()) : documents;
+
+        List<ProductEdge> edges = visible.stream()
+                .map(raw -> new ProductEdge(
+                        mapper.toDomain(mongoTemplate.getConverter().read(ProductDocument.class, raw)),
+                        ProductCursor.encode(raw, orders)))
+                .toList();
+
+        CursorPageInfo pageInfo = new CursorPageInfo(
+                edges.isEmpty() ? null : edges.get(0).cursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor(),
+                hasNext,
+                pagination.after() != null);
+
+        return new ProductConnection(edges, pageInfo, totalCount);
+    }
+
+    private Mono<Long> countByFilter(ProductFilter filter) {
+        Query query = buildQuery(filter);
+        if (query.getQueryObject().isEmpty()) {
+            return mongoTemplate.estimatedCount(ProductDocument.class);
+        }
+        return mongoTemplate.count(query, ProductDocument.class);
+    }
+
+    /**
+     * 요청 정렬 뒤에 _id를 붙여 순서를 유일하게 만든다 (같은 값의 문서가 페이지 경계에서 빠지거나 겹치지 않도록)
+     */
+    private List<Sort.Order> keysetOrders(List<ProductSortOption> sortOptions) {
+        List<Sort.Order> orders = new ArrayList<>(buildSort(sortOptions).toList());
+        orders.add(Sort.Order.asc("_id"));
+        return orders;
+    }
+
     @Override
     public Mono<Void> deleteById(ProductId id) {
-        return mongoRepository.deleteById(requireNonNull(id.value()));
+        return mongoRepository.deleteById(requireNonNull(id.value()))
+                .doOnSuccess(ignored -> searchIndex.remove(id))
+                .doFinally(signal -> lookups.forget(id.value()));
+    }
+
+    @Override
+    public Flux<Product> search(String text, int limit) {
+        List<ProductId> ranked = searchIndex.search(text, limit);
+        return ProductSearchIndex.inRankOrder(ranked, findAllById(ranked));
     }
 
     @Override
@@ -141,7 +264,7 @@ public class ProductPersistenceAdapter implements ProductRepository {
         addCategoryCriteria(query, filter.category());
         addPriceCriteria(query, filter.minPrice(), filter.maxPrice());
         addDiscountRateCriteria(query, filter.minDiscountRate());
-        addSearchTextCriteria(query, filter.searchText());
+        addSearchTextCriteria(query, filter.status(), filter.searchText());
 
         return query;
     }
@@ -158,39 +281,49 @@ public class ProductPersistenceAdapter implements ProductRepository {
         }
     }
 
+    /**
+     * 가격 범위는 정수 필드(price.saleMinor)로 비교한다 (인덱스 키만으로 판정)
+     */
     private void addPriceCriteria(Query query, BigDecimal minPrice, BigDecimal maxPrice) {
         if (minPrice == null && maxPrice == null) {
             return;
         }
 
-        Criteria priceCriteria = Criteria.where("price.sale");
-        if (minPrice != null && maxPrice != null) {
-            priceCriteria = priceCriteria.gte(requireNonNull(toDecimal128(minPrice))).lte(requireNonNull(toDecimal128(maxPrice)));
-        } else if (minPrice != null) {
-            priceCriteria = priceCriteria.gte(requireNonNull(toDecimal128(minPrice)));
-        } else {
-            priceCriteria = priceCriteria.lte(requireNonNull(toDecimal128(maxPrice)));
+        Criteria priceCriteria = Criteria.where("price.saleMinor");
+        if (minPrice != null) {
+            priceCriteria = priceCriteria.gte(PriceDocument.toMinorUnits(minPrice, RoundingMode.CEILING));
+        }
+        if (maxPrice != null) {
+            priceCriteria = priceCriteria.lte(PriceDocument.toMinorUnits(maxPrice, RoundingMode.FLOOR));
         }
         query.addCriteria(priceCriteria);
     }
 
-    private Decimal128 toDecimal128(BigDecimal value) {
-        return new Decimal128(value);
-    }
-
     private void addDiscountRateCriteria(Query query, Integer minDiscountRate) {
         if (minDiscountRate != null) {
             query.addCriteria(Criteria.where("price.rate").gte(minDiscountRate));
         }
     }
 
-    private void addSearchTextCriteria(Query query, String searchText) {
-        if (searchText != null && !searchText.isBlank()) {
-            query.addCriteria(new Criteria().orOperator(
-                    new Criteria("title").regex(searchText, "i"),
-                    new Criteria("description").regex(searchText, "i"),
-                    new Criteria("category").regex(searchText, "i")));
+    /**
+     * 진행 중/예정 딜 검색은 역색인 후보 ID로 좁히고(_id 조회), 색인이 답할 수 없는 상태 조건이거나
+     * 후보가 상한을 넘으면(잘라 내면 결과가 빠진다) 정규식으로 찾는다
+     */
+    private void addSearchTextCriteria(Query query, DealStatus status, String searchText) {
+        if (searchText == null || searchText.isBlank()) {
+            return;
+        }
+        if (searchIndex.covers(status)) {
+            List<ProductId> candidates = searchIndex.search(searchText, MAX_SEARCH_CANDIDATES + 1);
+            if (candidates.size() <= MAX_SEARCH_CANDIDATES) {
+                query.addCriteria(Criteria.where("_id").in(candidates.stream().map(ProductId::value).toList()));
+                return;
+            }
         }
+        query.addCriteria(new Criteria().orOperator(
+                new Criteria("title").regex(searchText, "i"),
+                new Criteria("description").regex(searchText, "i"),
+                new Criteria("category").regex(searchText, "i")));
     }
 
     private Sort buildSort(List<ProductSortOption> sortOptions) {
@@ -213,7 +346,7 @@ public class ProductPersistenceAdapter implements ProductRepository {
     private String mapSortField(ProductSortField field) {
         return switch (field) {
             case TITLE -> "title";
-            case PRICE -> "price.sale";
+            case PRICE -> "price.saleMinor";
             case DISCOUNT_RATE -> "price.rate";
             case CREATED_AT -> "createdAt";
             case STARTS_AT -> "schedule.startsAt";
@@ -0,0 +1,269 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.mapper.ProductMapper;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.ProductMongoRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 진행 중/예정 딜 검색용 인메모리 역색인 (인스턴스 로컬)
+ *
+ * title/description/category를 n-gram으로 쪼개 gram → 상품별 가중치 목록을 만든다.
+ * 한글은 띄어쓰기·조사와 무관하게 부분 일치하도록 음절 1-gram과 2-gram을, 그 밖의 단어는 2-gram을 색인한다.
+ * 검색어의 gram을 모두 가진 상품만 남기고 가중치 합(title 10, category 5, description 1)으로 순위를 매긴다.
+ *
+ * 저장/삭제는 ProductPersistenceAdapter가 바로 반영하고, 다른 인스턴스의 변경은 상품 캐시 무효화 알림으로
+ * refresh한다. 알림 유실에 대비해 주기적으로 전체를 다시 만든다. 재색인 중에 들어온 반영은 모아 두었다가
+ * 새 스냅샷으로 교체하기 직전에 다시 적용한다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndex.class);
+
+    private static final Set<DealStatus> INDEXED_STATUSES = Set.of(DealStatus.ACTIVE, DealStatus.UPCOMING);
+
+    private static final int TITLE_WEIGHT = 10;
+    private static final int CATEGORY_WEIGHT = 5;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ProductMongoRepository mongoRepository;
+    private final ProductMapper mapper;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+
+    // 재색인 중에 반영된 변경 (재색인 중이 아니면 null, this로 보호)
+    private List<Consumer<Snapshot>> missed;
+
+    public ProductSearchIndex(ProductMongoRepository mongoRepository, ProductMapper mapper) {
+        this.mongoRepository = mongoRepository;
+        this.mapper = mapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild().subscribe();
+    }
+
+    /**
+     * 전체 재색인 (새 스냅샷을 만든 뒤 교체)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void scheduledRebuild() {
+        rebuild().subscribe();
+    }
+
+    Mono<Void> rebuild() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (missed != null) {
+                    logger.debug("Product search index rebuild already in progress");
+                    return Mono.empty();
+                }
+                missed = new ArrayList<>();
+            }
+            Snapshot fresh = new Snapshot();
+            return Flux.fromIterable(INDEXED_STATUSES)
+                    .concatMap(mongoRepository::findByStatus)
+                    .map(mapper::toDomain)
+                    .doOnNext(fresh::put)
+                    .then(Mono.fromRunnable(() -> swap(fresh)))
+                    .onErrorResume(error -> {
+                        synchronized (this) {
+                            missed = null;
+                        }
+                        logger.warn("Failed to rebuild product search index", error);
+                        return Mono.empty();
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * 재색인하는 동안 반영된 변경을 새 스냅샷에 다시 적용한 뒤 교체한다 (읽어 온 값보다 나중 변경이 이긴다)
+     */
+    private synchronized void swap(Snapshot fresh) {
+        missed.forEach(change -> change.accept(fresh));
+        missed = null;
+        snapshot = fresh;
+        ready = true;
+        logger.info("Product search index rebuilt with {} products", fresh.entries.size());
+    }
+
+    /**
+     * 이 상태 조건의 검색을 색인으로 답할 수 있는지 (상태 조건이 없으면 종료된 딜도 찾아야 하므로 답할 수 없다)
+     */
+    public boolean covers(DealStatus status) {
+        return ready && status != null && INDEXED_STATUSES.contains(status);
+    }
+
+    /**
+     * 관련도 순 상품 ID (검색어의 gram을 모두 포함한 상품만)
+     */
+    public List<ProductId> search(String text, int limit) {
+        Set<String> grams = grams(text);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+
+        Map<String, Integer> scores = null;
+        for (String gram : grams) {
+            Map<String, Integer> postings = current.postings.get(gram);
+            if (postings == null) {
+                return List.of();
+            }
+            if (scores == null) {
+                scores = new HashMap<>(postings);
+            } else {
+                scores.keySet().retainAll(postings.keySet());
+                for (Map.Entry<String, Integer> score : scores.entrySet()) {
+                    score.setValue(score.getValue() + postings.getOrDefault(score.getKey(), 0));
+                }
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> new ProductId(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * 저장된 상품 반영 (색인 대상 상태가 아니면 제거)
+     */
+    public void index(Product product) {
+        apply(current -> current.put(product));
+    }
+
+    public void remove(ProductId productId) {
+        apply(current -> current.remove(productId.value()));
+    }
+
+    private synchronized void apply(Consumer<Snapshot> change) {
+        change.accept(snapshot);
+        if (missed != null) {
+            missed.add(change);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 상품을 다시 읽어 반영한다
+     */
+    public Mono<Void> refresh(ProductId productId) {
+        return mongoRepository.findById(requireNonNull(productId.value()))
+                .map(mapper::toDomain)
+                .doOnNext(this::index)
+                .switchIfEmpty(Mono.fromRunnable(() -> remove(productId)))
+                .then();
+    }
+
+    /**
+     * 관련도 순 ID 목록대로 상품을 정렬한다 (조회되지 않은 ID는 건너뛴다)
+     */
+    public static Flux<Product> inRankOrder(List<ProductId> ranked, Flux<Product> products) {
+        return products.collectMap(Product::productId)
+                .flatMapIterable(byId -> ranked.stream()
+                        .map(byId::get)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            boolean hangul = token.codePoints()
+                    .anyMatch(codePoint -> Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL);
+            if (token.length() == 1 || hangul) {
+                token.codePoints().forEach(codePoint -> grams.add(new String(Character.toChars(codePoint))));
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * gram → (상품 ID → 가중치) 와 상품별 gram 목록 (제거/갱신용)
+     */
+    private static final class Snapshot {
+
+        private final Map<String, Map<String, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+
+        void put(Product product) {
+            String productId = product.productId().value();
+            remove(productId);
+            if (!INDEXED_STATUSES.contains(product.status())) {
+                return;
+            }
+            Map<String, Integer> weights = new HashMap<>();
+            addField(weights, product.title(), TITLE_WEIGHT);
+            addField(weights, product.category(), CATEGORY_WEIGHT);
+            addField(weights, product.description(), DESCRIPTION_WEIGHT);
+            weights.forEach((gram, weight) -> postings
+                    .computeIfAbsent(gram, ignored -> new ConcurrentHashMap<>())
+                    .put(productId, weight));
+            entries.put(productId, weights.keySet());
+        }
+
+        void remove(String productId) {
+            Set<String> grams = entries.remove(productId);
+            if (grams == null) {
+                return;
+            }
+            for (String gram : grams) {
+                postings.computeIfPresent(gram, (ignored, products) -> {
+                    products.remove(productId);
+                    return products.isEmpty() ? null : products;
+                });
+            }
+        }
+
+        private static void addField(Map<String, Integer> weights, String value, int weight) {
+            for (String gram : grams(value)) {
+                weights.merge(gram, weight, Integer::sum);
+            }
+        }
+    }
+}
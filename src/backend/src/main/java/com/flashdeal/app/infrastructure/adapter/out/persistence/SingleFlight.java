@@ -0,0 +1,119 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * 같은 키의 동시 조회 합치기 (single-flight)
+ *
+ * 같은 키로 진행 중인 조회가 있으면 새로 쿼리하지 않고 그 결과를 함께 받는다.
+ * staleWhileRevalidate가 0보다 크면 마지막으로 읽은 값을 그 시간 동안 보관하고,
+ * 그 사이의 조회에는 보관한 값을 바로 돌려주면서 값마다 한 번만 백그라운드로 다시 읽는다.
+ * (다시 읽은 값은 보관 시간이 끝날 때까지 그대로 쓰고, 그 뒤의 조회가 새로 읽는다)
+ *
+ * 해당 키를 쓰면 forget으로 보관한 값을 버려야 한다. forget 전에 시작한 조회는 이후 요청과 합치지 않으며
+ * 결과도 보관하지 않는다 (쓰기 전 값이 다시 보관되지 않게).
+ *
+ * 지표: flashdeal.persistence.single_flight{name, result=load|joined|stale}
+ * (load 대비 전체 요청 수가 fan-in 비율)
+ */
+final class SingleFlight<K, V> {
+
+    static final String METRIC = "flashdeal.persistence.single_flight";
+
+    private static final long MAX_STALE_ENTRIES = 10_000;
+
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<K, Remembered<V>> recent;
+    private final Counter loads;
+    private final Counter joined;
+    private final Counter stale;
+
+    SingleFlight(String name, MeterRegistry meterRegistry, Duration staleWhileRevalidate) {
+        this.recent = staleWhileRevalidate.isZero() || staleWhileRevalidate.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(MAX_STALE_ENTRIES)
+                        .expireAfterWrite(staleWhileRevalidate)
+                        .build();
+        this.loads = meterRegistry.counter(METRIC, "name", name, "result", "load");
+        this.joined = meterRegistry.counter(METRIC, "name", name, "result", "joined");
+        this.stale = meterRegistry.counter(METRIC, "name", name, "result", "stale");
+    }
+
+    Mono<V> get(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Remembered<V> remembered = recent != null ? recent.getIfPresent(key) : null;
+            if (remembered != null) {
+                stale.increment();
+                if (remembered.revalidating().compareAndSet(false, true)) {
+                    flight(key, loader, false, true).subscribe(value -> { }, error -> { });
+                }
+                return Mono.just(remembered.value());
+            }
+            return flight(key, loader, true, false);
+        });
+    }
+
+    void forget(K key) {
+        // 진행 중인 조회를 먼저 떼어 내야 그 결과가 보관되지 않는다
+        inFlight.remove(key);
+        if (recent != null) {
+            recent.invalidate(key);
+        }
+    }
+
+    private Mono<V> flight(K key, Supplier<Mono<V>> loader, boolean countJoin, boolean revalidation) {
+        AtomicBoolean created = new AtomicBoolean();
+        Flight<V> flight = inFlight.computeIfAbsent(key, ignored -> {
+            created.set(true);
+            Flight<V> started = new Flight<>();
+            started.result = Mono.defer(loader)
+                    .doOnNext(value -> remember(key, started, value, revalidation))
+                    .doFinally(signal -> inFlight.remove(key, started))
+                    .cache();
+            return started;
+        });
+        if (created.get()) {
+            loads.increment();
+        } else if (countJoin) {
+            joined.increment();
+        }
+        return flight.result;
+    }
+
+    /**
+     * 아직 이 키의 현재 조회일 때만 보관한다 (forget이 떼어 낸 조회의 결과는 버린다)
+     */
+    private void remember(K key, Flight<V> flight, V value, boolean revalidated) {
+        if (recent == null) {
+            return;
+        }
+        inFlight.computeIfPresent(key, (ignored, current) -> {
+            if (current == flight) {
+                recent.put(key, new Remembered<>(value, new AtomicBoolean(revalidated)));
+            }
+            return current;
+        });
+    }
+
+    private static final class Flight<V> {
+        private Mono<V> result;
+    }
+
+    /**
+     * revalidating: 이 값으로 백그라운드 재조회를 이미 시작했는지 (다시 읽어 온 값은 처음부터 true)
+     */
+    private record Remembered<V>(V value, AtomicBoolean revalidating) {
+    }
+}
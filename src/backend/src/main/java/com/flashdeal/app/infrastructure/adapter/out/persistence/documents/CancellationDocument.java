@@ -9,13 +9,16 @@ public class CancellationDocument {
     private String cancelledBy;
     private Instant cancelledAt;
     private List<String> items;
+    private Boolean stockReleased;
 
-    public CancellationDocument(Boolean isCancelled, String reason, String cancelledBy, Instant cancelledAt, List<String> items) {
+    public CancellationDocument(Boolean isCancelled, String reason, String cancelledBy, Instant cancelledAt, List<String> items,
+            Boolean stockReleased) {
         this.isCancelled = isCancelled;
         this.reason = reason;
         this.cancelledBy = cancelledBy;
         this.cancelledAt = cancelledAt;
         this.items = items;
+        this.stockReleased = stockReleased;
     }
 
     public Boolean getIsCancelled() {
@@ -37,4 +40,8 @@ public class CancellationDocument {
     public List<String> getItems() {
         return items;
     }
+
+    public Boolean getStockReleased() {
+        return stockReleased;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.flashdeal.app.infrastructure.adapter.out.persistence.documents;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -22,6 +23,9 @@ public class InventoryDocument {
     private Instant createdAt;
     private Instant updatedAt;
 
+    @Version
+    private Long version;
+
     public InventoryDocument(String id, String productId, StockDocument stock, String level, RedisInfoDocument redis, PolicyDocument policy, ThresholdsDocument thresholds, List<Object> events, List<Object> adjustments, Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.productId = productId;
@@ -79,4 +83,12 @@ public class InventoryDocument {
     public Instant getUpdatedAt() {
         return updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -1,25 +1,39 @@
 package com.flashdeal.app.infrastructure.adapter.out.persistence.documents;
 
 import java.time.Instant;
-import java.util.Map;
 
+/**
+ * 주문 문서에 함께 저장되는 이벤트 (outbox)
+ *
+ * 주문과 같은 문서에 쓰이므로 주문 변경과 원자적으로 기록된다.
+ * publishedAt이 없으면 아직 발행되지 않은 이벤트이며, OutboxRelay가 발행 후 partition/offset과 함께 채운다.
+ */
 public class KafkaEventDocument {
+    private String eventId;
     private String eventType;
     private String topic;
+    private String key;
     private Integer partition;
     private Long offset;
     private Instant publishedAt;
-    private Map<String, Object> payload;
+    private byte[] payload;
 
-    public KafkaEventDocument(String eventType, String topic, Integer partition, Long offset, Instant publishedAt, Map<String, Object> payload) {
+    public KafkaEventDocument(String eventId, String eventType, String topic, String key, Integer partition,
+            Long offset, Instant publishedAt, byte[] payload) {
+        this.eventId = eventId;
         this.eventType = eventType;
         this.topic = topic;
+        this.key = key;
         this.partition = partition;
         this.offset = offset;
         this.publishedAt = publishedAt;
         this.payload = payload;
     }
 
+    public String getEventId() {
+        return eventId;
+    }
+
     public String getEventType() {
         return eventType;
     }
@@ -28,6 +42,10 @@ public class KafkaEventDocument {
         return topic;
     }
 
+    public String getKey() {
+        return key;
+    }
+
     public Integer getPartition() {
         return partition;
     }
@@ -40,7 +58,10 @@ public class KafkaEventDocument {
         return publishedAt;
     }
 
-    public Map<String, Object> getPayload() {
+    /**
+     * 직렬화된 이벤트 (DomainEventSerializer 바이너리, 발행 시 다시 직렬화하지 않고 그대로 보낸다)
+     */
+    public byte[] getPayload() {
         return payload;
     }
-}
\ No newline at end of file
+}
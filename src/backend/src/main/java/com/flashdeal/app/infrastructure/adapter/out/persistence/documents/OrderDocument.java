@@ -3,6 +3,7 @@ package com.flashdeal.app.infrastructure.adapter.out.persistence.documents;
 import com.flashdeal.app.domain.order.OrderStatus;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -48,6 +49,10 @@ public class OrderDocument {
     @Field("kafkaEvents")
     private List<KafkaEventDocument> kafkaEvents;
 
+    // 발행 대기 이벤트가 있을 때만 true (sparse 인덱스로 relay 대상만 찾는다)
+    @Field("outboxPending")
+    private Boolean outboxPending;
+
     @Field("idempotencyKey")
     private String idempotencyKey;
 
@@ -63,6 +68,10 @@ public class OrderDocument {
     @Field("updatedAt")
     private Instant updatedAt;
 
+    @Version
+    @Field("version")
+    private Long version;
+
     // Constructors
     public OrderDocument() {}
 
@@ -170,6 +179,14 @@ public class OrderDocument {
         this.kafkaEvents = kafkaEvents;
     }
 
+    public Boolean getOutboxPending() {
+        return outboxPending;
+    }
+
+    public void setOutboxPending(Boolean outboxPending) {
+        this.outboxPending = outboxPending;
+    }
+
     public String getIdempotencyKey() {
         return idempotencyKey;
     }
@@ -209,9 +226,15 @@ public class OrderDocument {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
 
+    public Long getVersion() {
+        return version;
+    }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
 
 
 
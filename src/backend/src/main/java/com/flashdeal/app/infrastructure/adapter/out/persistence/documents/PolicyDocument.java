@@ -5,12 +5,14 @@ public class PolicyDocument {
     private RestockPolicyDocument restock;
     private int reservationTimeout;
     private int maxPurchasePerUser;
+    private Integer shardCount;
 
-    public PolicyDocument(int safetyStock, RestockPolicyDocument restock, int reservationTimeout, int maxPurchasePerUser) {
+    public PolicyDocument(int safetyStock, RestockPolicyDocument restock, int reservationTimeout, int maxPurchasePerUser, Integer shardCount) {
         this.safetyStock = safetyStock;
         this.restock = restock;
         this.reservationTimeout = reservationTimeout;
         this.maxPurchasePerUser = maxPurchasePerUser;
+        this.shardCount = shardCount;
     }
 
     public int getSafetyStock() {
@@ -28,4 +30,8 @@ public class PolicyDocument {
     public int getMaxPurchasePerUser() {
         return maxPurchasePerUser;
     }
+
+    public Integer getShardCount() {
+        return shardCount;
+    }
 }
\ No newline at end of file
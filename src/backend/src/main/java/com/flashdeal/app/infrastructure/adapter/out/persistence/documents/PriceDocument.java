@@ -1,30 +1,49 @@
 package com.flashdeal.app.infrastructure.adapter.out.persistence.documents;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.FieldType;
 
 /**
  * Price MongoDB Document
+ *
+ * 상품 문서는 목록 필터/정렬용으로 판매가를 1/100 단위 정수(saleMinor)로, 할인율을 정수(rate)로 함께 저장한다.
+ * 가격 범위/정렬 쿼리는 Decimal128 대신 saleMinor를 쓴다 (통화와 무관하게 같은 배율이므로 sale과 순서가 같다).
  */
 public class PriceDocument {
-    
+
+    public static final int MINOR_SCALE = 2;
+
     @Field(targetType = FieldType.DECIMAL128)
     private BigDecimal original;
     @Field(targetType = FieldType.DECIMAL128)
     private BigDecimal sale;
+    private Long saleMinor;
     private String currency;
     private Integer rate;
 
     public PriceDocument() {}
 
     public PriceDocument(BigDecimal original, BigDecimal sale, String currency, Integer rate) {
+        this(original, sale, null, currency, rate);
+    }
+
+    public PriceDocument(BigDecimal original, BigDecimal sale, Long saleMinor, String currency, Integer rate) {
         this.original = original;
         this.sale = sale;
+        this.saleMinor = saleMinor;
         this.currency = currency;
         this.rate = rate;
     }
 
+    /**
+     * 금액 → 1/100 단위 정수 (저장은 HALF_UP, 범위 조건의 하한은 CEILING, 상한은 FLOOR)
+     */
+    public static long toMinorUnits(BigDecimal amount, RoundingMode rounding) {
+        return amount.setScale(MINOR_SCALE, rounding).unscaledValue().longValueExact();
+    }
+
     public BigDecimal getOriginal() {
         return original;
     }
@@ -41,6 +60,14 @@ public class PriceDocument {
         this.sale = sale;
     }
 
+    public Long getSaleMinor() {
+        return saleMinor;
+    }
+
+    public void setSaleMinor(Long saleMinor) {
+        this.saleMinor = saleMinor;
+    }
+
     public String getCurrency() {
         return currency;
     }
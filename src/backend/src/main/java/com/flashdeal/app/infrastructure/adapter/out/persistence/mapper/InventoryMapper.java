@@ -54,7 +54,7 @@ public class InventoryMapper {
         return new Inventory(inventoryId, productId, stock, policy);
     }
 
-    private StockDocument toStockDocument(Stock stock) {
+    public StockDocument toStockDocument(Stock stock) {
         return new StockDocument(
                 stock.total().value(),
                 stock.reserved().value(),
@@ -62,7 +62,7 @@ public class InventoryMapper {
                 stock.sold().value());
     }
 
-    private Stock toStock(StockDocument document) {
+    public Stock toStock(StockDocument document) {
         if (document == null) {
             return new Stock(new Quantity(0), new Quantity(0), new Quantity(0), new Quantity(0));
         }
@@ -73,7 +73,7 @@ public class InventoryMapper {
                 new Quantity(document.getSold()));
     }
 
-    private String calculateLevel(Stock stock) {
+    public String calculateLevel(Stock stock) {
         if (stock.total().value() == 0) {
             return "LOW";
         }
@@ -89,7 +89,7 @@ public class InventoryMapper {
 
     private RedisInfoDocument toRedisInfoDocument(Inventory inventory) {
         return new RedisInfoDocument(
-                "inventory:" + inventory.productId().value(),
+                "stock:" + inventory.productId().value(),
                 inventory.stock().available().value(),
                 Instant.now(),
                 1L);
@@ -103,7 +103,8 @@ public class InventoryMapper {
                 policy.safetyStock(),
                 new RestockPolicyDocument(false, 0, 0, null),
                 policy.reservationTimeout(),
-                policy.maxPurchasePerUser());
+                policy.maxPurchasePerUser(),
+                policy.shardCount());
     }
 
     private Policy toPolicy(PolicyDocument document) {
@@ -113,7 +114,8 @@ public class InventoryMapper {
         return new Policy(
                 document.getSafetyStock(),
                 document.getReservationTimeout(),
-                document.getMaxPurchasePerUser());
+                document.getMaxPurchasePerUser(),
+                document.getShardCount() != null ? document.getShardCount() : 1);
     }
 
     private ThresholdsDocument toThresholdsDocument() {
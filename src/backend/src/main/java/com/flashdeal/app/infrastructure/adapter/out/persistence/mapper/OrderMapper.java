@@ -259,7 +259,8 @@ public class OrderMapper {
                 cancellation.reason(),
                 cancellation.cancelledBy(),
                 cancellation.cancelledAt(),
-                cancellation.items()
+                cancellation.items(),
+                cancellation.stockReleased()
         );
     }
 
@@ -272,7 +273,8 @@ public class OrderMapper {
                 document.getReason(),
                 document.getCancelledBy(),
                 document.getCancelledAt(),
-                document.getItems()
+                document.getItems(),
+                document.getStockReleased()
         );
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.Schedu
 
 import org.springframework.stereotype.Component;
 
+import java.math.RoundingMode;
 import java.time.Instant;
 
 /**
@@ -70,11 +71,15 @@ public class ProductMapper {
         return new PriceDocument(
             price.original(),
             price.sale(),
+            PriceDocument.toMinorUnits(price.sale(), RoundingMode.HALF_UP),
             price.currency(),
             price.discountRate()
         );
     }
 
+    /**
+     * 저장된 할인율(rate)은 조회/정렬용이며, 도메인 할인율은 가격에서 다시 계산한다 (오래된 값이 섞이지 않게)
+     */
     private Price toPrice(PriceDocument document) {
         return new Price(
             document.getOriginal(),
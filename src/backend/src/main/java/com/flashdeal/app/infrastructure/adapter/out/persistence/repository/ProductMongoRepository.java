@@ -10,7 +10,6 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 /**
@@ -50,10 +49,10 @@ public interface ProductMongoRepository extends ReactiveMongoRepository<ProductD
     Flux<ProductDocument> findFeaturedProducts(DealStatus status);
     
     /**
-     * 가격 범위로 상품 조회
+     * 가격 범위로 상품 조회 (1/100 단위 정수, PriceDocument.toMinorUnits)
      */
-    @Query("{ 'price.sale': { $gte: ?0, $lte: ?1 }, 'status': ?2 }")
-    Flux<ProductDocument> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, DealStatus status);
+    @Query("{ 'price.saleMinor': { $gte: ?0, $lte: ?1 }, 'status': ?2 }")
+    Flux<ProductDocument> findByPriceRange(long minSaleMinor, long maxSaleMinor, DealStatus status);
     
     /**
      * 할인율로 상품 조회 (높은 할인율 순)
@@ -88,9 +87,9 @@ public interface ProductMongoRepository extends ReactiveMongoRepository<ProductD
     /**
      * 복합 검색 쿼리
      */
-    @Query("{ 'status': ?0, 'category': ?1, 'price.sale': { $gte: ?2, $lte: ?3 } }")
-    Flux<ProductDocument> findByComplexCriteria(DealStatus status, String category, 
-                                               BigDecimal minPrice, BigDecimal maxPrice);
+    @Query("{ 'status': ?0, 'category': ?1, 'price.saleMinor': { $gte: ?2, $lte: ?3 } }")
+    Flux<ProductDocument> findByComplexCriteria(DealStatus status, String category,
+                                               long minSaleMinor, long maxSaleMinor);
     
     /**
      * 상품 존재 여부 확인 (상태별)
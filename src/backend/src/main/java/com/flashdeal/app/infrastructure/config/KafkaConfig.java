@@ -1,15 +1,25 @@
 package com.flashdeal.app.infrastructure.config;
 
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import com.flashdeal.app.infrastructure.adapter.out.messaging.DomainEvent;
+import com.flashdeal.app.infrastructure.adapter.out.messaging.DomainEventSerializer;
+import com.flashdeal.app.infrastructure.adapter.out.messaging.EventTopics;
+import com.flashdeal.app.infrastructure.adapter.out.messaging.ProcessedEventGuard;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,14 +46,11 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.enable-auto-commit}")
     private Boolean enableAutoCommit;
 
-    @Value("${spring.kafka.consumer.key-deserializer}")
-    private String keyDeserializer;
-
-    @Value("${spring.kafka.consumer.value-deserializer}")
-    private String valueDeserializer;
+    @Value("${spring.kafka.consumer.max-poll-records:200}")
+    private Integer maxPollRecords;
 
-    @Value("${spring.kafka.consumer.properties.spring.json.trusted.packages}")
-    private String trustedPackages;
+    @Value("${spring.kafka.listener.concurrency:3}")
+    private Integer listenerConcurrency;
 
     @Value("${spring.kafka.producer.key-serializer}")
     private String keySerializer;
@@ -60,43 +67,103 @@ public class KafkaConfig {
     @Value("${spring.kafka.producer.enable-idempotence}")
     private Boolean enableIdempotence;
 
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private Integer batchSize;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:20}")
+    private Integer lingerMs;
+
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
+        Map<String, Object> configProps = producerConfigs();
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> kafkaTemplate() {
+        return new KafkaTemplate<>(requireNonNull(producerFactory()));
+    }
+
+    /**
+     * 도메인 이벤트용 프로듀서 (DomainEventSerializer가 만든 바이너리를 그대로 보낸다)
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> eventProducerFactory() {
+        Map<String, Object> configProps = producerConfigs();
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> eventKafkaTemplate() {
+        return new KafkaTemplate<>(requireNonNull(eventProducerFactory()));
+    }
+
+    private Map<String, Object> producerConfigs() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, keySerializer);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializer);
         configProps.put(ProducerConfig.ACKS_CONFIG, acks);
         configProps.put(ProducerConfig.RETRIES_CONFIG, retries);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
-        
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        return configProps;
     }
 
+    /**
+     * 재시도/DLT 토픽 (토픽마다 <토픽>.retry-0..n, <토픽>.dlt)
+     */
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(requireNonNull(producerFactory()));
+    public KafkaAdmin.NewTopics failureTopics() {
+        return new KafkaAdmin.NewTopics(EventTopics.failureTopics().stream()
+                .map(topic -> TopicBuilder.name(topic).partitions(listenerConcurrency).build())
+                .toArray(NewTopic[]::new));
     }
 
+    /**
+     * 값은 eventValueDeserializer로 복원한다
+     */
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, DomainEvent> consumerFactory(DomainEventSerializer serializer) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, keyDeserializer);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, enableAutoCommit);
-        props.put(JsonDeserializer.TRUSTED_PACKAGES, trustedPackages);
-        
-        return new DefaultKafkaConsumerFactory<>(props);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), eventValueDeserializer(serializer));
+    }
+
+    /**
+     * 값은 DomainEventSerializer로 타입별 이벤트(OrderCreatedEvent 등)로 복원한다
+     * 복원하지 못한 값은 ErrorHandlingDeserializer가 null과 예외 헤더로 넘겨 리스너가 DLT로 보낸다
+     * (예외를 던지면 컨테이너가 같은 레코드를 계속 다시 읽는다)
+     */
+    public static Deserializer<DomainEvent> eventValueDeserializer(DomainEventSerializer serializer) {
+        return new ErrorHandlingDeserializer<DomainEvent>((topic, data) -> serializer.deserialize(data));
     }
 
+    /**
+     * 배치 리스너: poll 한 번의 레코드(최대 max.poll.records)를 묶음으로 넘기고, 리스너가 묶음을 끝낸 뒤 ack한다
+     * (리스너 스레드가 처리 동안 poll을 멈추므로 처리 중인 레코드 수가 묶음 크기로 제한된다)
+     * 파티션 할당이 바뀌면 ProcessedEventGuard가 파티션별 중복 필터를 버린다
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(requireNonNull(consumerFactory()));
+    public ConcurrentKafkaListenerContainerFactory<String, DomainEvent> kafkaListenerContainerFactory(
+            ConsumerFactory<String, DomainEvent> consumerFactory, ProcessedEventGuard processedEventGuard) {
+        ConcurrentKafkaListenerContainerFactory<String, DomainEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(requireNonNull(consumerFactory));
+        factory.setBatchListener(true);
+        factory.setConcurrency(listenerConcurrency);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.getContainerProperties().setConsumerRebalanceListener(processedEventGuard);
         return factory;
     }
 }
@@ -0,0 +1,79 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.in.DeadLetterUseCase.DeadLetter;
+import com.flashdeal.app.application.port.out.DeadLetterStore;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterService 테스트")
+class DeadLetterServiceTest {
+
+    @Mock
+    DeadLetterStore deadLetterStore;
+
+    DeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        deadLetterService = new DeadLetterService(deadLetterStore);
+    }
+
+    @Test
+    @DisplayName("재처리하면 원래 토픽으로 보낸 레코드를 반환한다")
+    void replay_returnsReplayed() {
+        DeadLetter replayed = deadLetter(Instant.now());
+        given(deadLetterStore.replay("orders.cancelled-0-3")).willReturn(Mono.just(replayed));
+
+        StepVerifier.create(deadLetterService.replay("orders.cancelled-0-3"))
+                .expectNext(replayed)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("이미 재처리한 레코드는 다시 보내지 않는다")
+    void replay_alreadyReplayed_fails() {
+        given(deadLetterStore.replay("orders.cancelled-0-3")).willReturn(Mono.empty());
+        given(deadLetterStore.findById("orders.cancelled-0-3")).willReturn(Mono.just(deadLetter(Instant.now())));
+
+        StepVerifier.create(deadLetterService.replay("orders.cancelled-0-3"))
+                .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("없는 레코드는 재처리할 수 없다")
+    void replay_notFound_fails() {
+        given(deadLetterStore.replay("missing")).willReturn(Mono.empty());
+        given(deadLetterStore.findById("missing")).willReturn(Mono.empty());
+
+        StepVerifier.create(deadLetterService.replay("missing"))
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("조회 개수는 1~100으로 제한한다")
+    void deadLetters_limitOutOfRange_fails() {
+        assertThatThrownBy(() -> deadLetterService.deadLetters(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> deadLetterService.deadLetters(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DeadLetter deadLetter(Instant replayedAt) {
+        return new DeadLetter("orders.cancelled-0-3", "E-1", "OrderCancelled", "orders.cancelled", 0, 3L, "O-1",
+                IllegalStateException.class.getName(), "Order already cancelled", 1, Instant.now(), replayedAt);
+    }
+}
@@ -0,0 +1,126 @@
+package com.flashdeal.app.application.service;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.DealStatusChannel.DealStatusChange;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Price;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.domain.product.Schedule;
+import com.flashdeal.app.domain.product.Specs;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DealUpdateService 테스트")
+class DealUpdateServiceTest {
+
+    @Mock
+    InventoryCounter inventoryCounter;
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    DealStatusChannel dealStatusChannel;
+
+    DealUpdateService service;
+
+    ProductId productId = new ProductId("P-1");
+
+    @BeforeEach
+    void setUp() {
+        // 상품별 초당 5번 (200ms 간격)
+        service = new DealUpdateService(inventoryCounter, productRepository, dealStatusChannel, 5);
+    }
+
+    @Test
+    @DisplayName("현재 재고를 먼저 보내고, 변경이 몰려도 간격마다 한 번만 읽어 보낸다")
+    void stockChanges_coalescesBurst() {
+        Sinks.Many<ProductId> changes = Sinks.many().multicast().directBestEffort();
+        AtomicInteger reads = new AtomicInteger();
+        given(inventoryCounter.changes()).willReturn(changes.asFlux());
+        given(inventoryCounter.getStock(productId)).willAnswer(inv ->
+                Mono.just(Stock.initial(new Quantity(100)).reserve(new Quantity(reads.getAndIncrement()))));
+
+        StepVerifier.withVirtualTime(() -> service.stockChanges(productId))
+                .expectNextMatches(update -> update.stock().available().value() == 100)
+                .then(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        changes.tryEmitNext(productId);
+                        changes.tryEmitNext(new ProductId("P-2"));
+                    }
+                })
+                .thenAwait(Duration.ofMillis(200))
+                .expectNextMatches(update -> update.stock().available().value() == 99)
+                .thenAwait(Duration.ofSeconds(1))
+                .expectNoEvent(Duration.ofSeconds(1))
+                .thenCancel()
+                .verify();
+
+        verify(inventoryCounter, times(2)).getStock(productId);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 구독자는 알림 구독 하나를 나눠 쓴다")
+    void stockChanges_sharesStreamPerProduct() {
+        Sinks.Many<ProductId> changes = Sinks.many().multicast().directBestEffort();
+        given(inventoryCounter.changes()).willReturn(changes.asFlux());
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(Stock.initial(new Quantity(10))));
+
+        service.stockChanges(productId).subscribe();
+        service.stockChanges(productId).subscribe();
+
+        verify(inventoryCounter, times(1)).changes();
+    }
+
+    @Test
+    @DisplayName("현재 상태를 먼저 보내고, 이 상품의 바뀐 상태만 보낸다")
+    void dealStatusChanges_sendsDistinctStatuses() {
+        Sinks.Many<DealStatusChange> changes = Sinks.many().multicast().directBestEffort();
+        given(dealStatusChannel.changes()).willReturn(changes.asFlux());
+        given(productRepository.findById(productId)).willReturn(Mono.just(product(DealStatus.ACTIVE)));
+
+        StepVerifier.withVirtualTime(() -> service.dealStatusChanges(productId))
+                .expectNextMatches(update -> update.status() == DealStatus.ACTIVE)
+                .then(() -> changes.tryEmitNext(new DealStatusChange(productId, DealStatus.ACTIVE)))
+                .thenAwait(Duration.ofMillis(200))
+                .then(() -> {
+                    changes.tryEmitNext(new DealStatusChange(new ProductId("P-2"), DealStatus.ENDED));
+                    changes.tryEmitNext(new DealStatusChange(productId, DealStatus.SOLDOUT));
+                })
+                .thenAwait(Duration.ofMillis(200))
+                .expectNextMatches(update -> update.status() == DealStatus.SOLDOUT)
+                .thenCancel()
+                .verify();
+    }
+
+    private Product product(DealStatus status) {
+        Price price = new Price(new BigDecimal("10000"), new BigDecimal("9000"), "KRW");
+        Schedule schedule = new Schedule(ZonedDateTime.now().minusDays(1), ZonedDateTime.now().plusDays(1),
+                "Asia/Seoul");
+        return new Product(productId, "상품", "설명", "카테고리", price, schedule,
+                new Specs(Map.of("imageUrl", "http://img")), status);
+    }
+}
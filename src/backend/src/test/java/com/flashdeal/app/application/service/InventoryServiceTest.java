@@ -1,14 +1,18 @@
 package com.flashdeal.app.application.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -16,14 +20,18 @@ import com.flashdeal.app.application.port.in.ConfirmInventoryUseCase.ConfirmInve
 import com.flashdeal.app.application.port.in.CreateInventoryUseCase.CreateInventoryCommand;
 import com.flashdeal.app.application.port.in.ReleaseInventoryUseCase.ReleaseInventoryCommand;
 import com.flashdeal.app.application.port.in.ReserveInventoryUseCase.ReserveInventoryCommand;
+import com.flashdeal.app.application.port.out.InventoryCounter;
 import com.flashdeal.app.application.port.out.InventoryRepository;
 import com.flashdeal.app.domain.inventory.Inventory;
 import com.flashdeal.app.domain.inventory.InventoryId;
 import com.flashdeal.app.domain.inventory.Policy;
 import com.flashdeal.app.domain.inventory.Quantity;
 import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
 import com.flashdeal.app.domain.product.ProductId;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,7 +42,9 @@ class InventoryServiceTest {
     @Mock
     InventoryRepository inventoryRepository;
 
-    @InjectMocks
+    @Mock
+    InventoryCounter inventoryCounter;
+
     InventoryService inventoryService;
 
     ProductId productId;
@@ -42,6 +52,9 @@ class InventoryServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReservationBatcher reservationBatcher = new ReservationBatcher(
+                inventoryCounter, new SimpleMeterRegistry(), Duration.ZERO, 64);
+        inventoryService = new InventoryService(inventoryRepository, inventoryCounter, reservationBatcher);
         productId = new ProductId("P-1");
         baseInventory = new Inventory(
                 new InventoryId("I-1"),
@@ -55,11 +68,12 @@ class InventoryServiceTest {
     void createInventory_success() {
         CreateInventoryCommand cmd = new CreateInventoryCommand(productId, 100, 5, 600, 10);
         given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        given(inventoryCounter.load(any())).willAnswer(inv -> Mono.just(((Inventory) inv.getArgument(0)).stock()));
 
         StepVerifier.create(inventoryService.createInventory(cmd))
                 .assertNext(inv -> {
-                    org.assertj.core.api.Assertions.assertThat(inv.productId()).isEqualTo(productId);
-                    org.assertj.core.api.Assertions.assertThat(inv.stock().total().value()).isEqualTo(100);
+                    assertThat(inv.productId()).isEqualTo(productId);
+                    assertThat(inv.stock().total().value()).isEqualTo(100);
                 })
                 .verifyComplete();
     }
@@ -68,6 +82,7 @@ class InventoryServiceTest {
     @DisplayName("재고를 조회할 수 있다")
     void getInventory_found() {
         given(inventoryRepository.findById(baseInventory.inventoryId())).willReturn(Mono.just(baseInventory));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.empty());
 
         StepVerifier.create(inventoryService.getInventory(baseInventory.inventoryId()))
                 .expectNext(baseInventory)
@@ -78,51 +93,114 @@ class InventoryServiceTest {
     @DisplayName("상품 ID로 재고를 조회할 수 있다")
     void getInventoryByProductId_found() {
         given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(baseInventory));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.empty());
 
         StepVerifier.create(inventoryService.getInventoryByProductId(productId))
                 .expectNext(baseInventory)
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("카운터에 적재된 재고가 있으면 카운터 값을 우선한다")
+    void getInventoryByProductId_prefersCounterStock() {
+        Stock counterStock = new Stock(new Quantity(100), new Quantity(7), new Quantity(93), new Quantity(0));
+        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(baseInventory));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(counterStock));
+
+        StepVerifier.create(inventoryService.getInventoryByProductId(productId))
+                .assertNext(inv -> assertThat(inv.stock()).isEqualTo(counterStock))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("상품 ID 목록으로 재고를 한 번에 조회하고 카운터 값을 덧씌운다")
+    void getInventoriesByProductIds_overlaysCounterStock() {
+        ProductId other = new ProductId("P-2");
+        Inventory otherInventory = new Inventory(new InventoryId("I-2"), other,
+                new Stock(new Quantity(50), new Quantity(0), new Quantity(50), new Quantity(0)), baseInventory.policy());
+        Stock counterStock = new Stock(new Quantity(100), new Quantity(7), new Quantity(93), new Quantity(0));
+        given(inventoryRepository.findByProductIdIn(List.of(productId, other)))
+                .willReturn(Flux.just(baseInventory, otherInventory));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(counterStock));
+        given(inventoryCounter.getStock(other)).willReturn(Mono.empty());
+
+        StepVerifier.create(inventoryService.getInventoriesByProductIds(List.of(productId, other)).collectList())
+                .assertNext(inventories -> assertThat(inventories)
+                        .extracting(Inventory::stock)
+                        .containsExactlyInAnyOrder(counterStock, otherInventory.stock()))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("유효한 수량으로 재고를 예약할 수 있다")
-    void reserve_valid_updatesInventory() {
+    void reserve_valid_appliesToCounter() {
+        Stock reserved = new Stock(new Quantity(100), new Quantity(3), new Quantity(97), new Quantity(0));
+        given(inventoryCounter.reserve(productId, new Quantity(3), null)).willReturn(Mono.just(reserved));
+
+        StepVerifier.create(inventoryService.reserve(new ReserveInventoryCommand(productId, 3)))
+                .verifyComplete();
+
+        verify(inventoryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문자 ID를 샤드 선택 키로 카운터에 전달한다")
+    void reserve_withUser_passesUserToCounter() {
+        UserId userId = new UserId("U-1");
+        Stock reserved = new Stock(new Quantity(100), new Quantity(3), new Quantity(97), new Quantity(0));
+        given(inventoryCounter.reserve(productId, new Quantity(3), userId)).willReturn(Mono.just(reserved));
+
+        StepVerifier.create(inventoryService.reserve(new ReserveInventoryCommand(productId, 3, userId)))
+                .verifyComplete();
+
+        verify(inventoryCounter).reserve(productId, new Quantity(3), userId);
+    }
+
+    @Test
+    @DisplayName("카운터에 재고가 없으면 MongoDB에서 적재한 뒤 예약한다")
+    void reserve_counterMissing_loadsFromRepository() {
+        Stock reserved = new Stock(new Quantity(100), new Quantity(3), new Quantity(97), new Quantity(0));
+        given(inventoryCounter.reserve(productId, new Quantity(3), null))
+                .willReturn(Mono.empty(), Mono.just(reserved));
         given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(baseInventory));
-        given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        given(inventoryCounter.load(baseInventory)).willReturn(Mono.just(baseInventory.stock()));
 
         StepVerifier.create(inventoryService.reserve(new ReserveInventoryCommand(productId, 3)))
                 .verifyComplete();
 
-        verify(inventoryRepository).save(any());
+        verify(inventoryCounter).load(baseInventory);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예약에 실패한다")
+    void reserve_insufficient_fails() {
+        given(inventoryCounter.reserve(productId, new Quantity(3), null))
+                .willReturn(Mono.error(new IllegalStateException("Product is out of stock")));
+
+        StepVerifier.create(inventoryService.reserve(new ReserveInventoryCommand(productId, 3)))
+                .expectError(IllegalStateException.class)
+                .verify();
     }
 
     @Test
     @DisplayName("예약된 재고를 판매로 확정할 수 있다")
     void confirm_movesFromReservedToSold() {
-        Inventory withReserved = new Inventory(
-                baseInventory.inventoryId(), productId,
-                new Stock(new Quantity(100), new Quantity(5), new Quantity(95), new Quantity(0)),
-                baseInventory.policy());
-        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(withReserved));
-        given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        Stock confirmed = new Stock(new Quantity(100), new Quantity(2), new Quantity(95), new Quantity(3));
+        given(inventoryCounter.confirm(productId, new Quantity(3))).willReturn(Mono.just(confirmed));
 
         StepVerifier.create(inventoryService.confirm(new ConfirmInventoryCommand(productId, 3)))
                 .verifyComplete();
-        verify(inventoryRepository).save(any());
+        verify(inventoryCounter).confirm(productId, new Quantity(3));
     }
 
     @Test
     @DisplayName("예약된 재고를 사용 가능 상태로 해제할 수 있다")
     void release_returnsToAvailable() {
-        Inventory withReserved = new Inventory(
-                baseInventory.inventoryId(), productId,
-                new Stock(new Quantity(100), new Quantity(5), new Quantity(95), new Quantity(0)),
-                baseInventory.policy());
-        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(withReserved));
-        given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        Stock released = new Stock(new Quantity(100), new Quantity(3), new Quantity(97), new Quantity(0));
+        given(inventoryCounter.release(productId, new Quantity(2))).willReturn(Mono.just(released));
 
         StepVerifier.create(inventoryService.release(new ReleaseInventoryCommand(productId, 2)))
                 .verifyComplete();
-        verify(inventoryRepository).save(any());
+        verify(inventoryCounter).release(productId, new Quantity(2));
     }
 }
@@ -0,0 +1,63 @@
+package com.flashdeal.app.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventorySyncService 테스트")
+class InventorySyncServiceTest {
+
+    @Mock
+    InventoryCounter inventoryCounter;
+    @Mock
+    InventoryRepository inventoryRepository;
+
+    @InjectMocks
+    InventorySyncService syncService;
+
+    ProductId productId = new ProductId("P-1");
+    Stock stock = new Stock(new Quantity(100), new Quantity(3), new Quantity(97), new Quantity(0));
+
+    @Test
+    @DisplayName("변경된 상품의 카운터 스냅샷을 MongoDB에 기록한다")
+    void syncDirtyStock_writesCounterSnapshot() {
+        given(inventoryCounter.drainDirty(anyInt())).willReturn(Flux.just(productId));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock));
+        given(inventoryRepository.updateStock(productId, stock)).willReturn(Mono.empty());
+
+        syncService.syncDirtyStock();
+
+        verify(inventoryRepository).updateStock(productId, stock);
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 다음 주기에 다시 동기화하도록 재등록한다")
+    void syncDirtyStock_failure_marksDirtyAgain() {
+        given(inventoryCounter.drainDirty(anyInt())).willReturn(Flux.just(productId));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock));
+        given(inventoryRepository.updateStock(any(), any())).willReturn(Mono.error(new RuntimeException("mongo down")));
+        given(inventoryCounter.markDirty(productId)).willReturn(Mono.empty());
+
+        syncService.syncDirtyStock();
+
+        verify(inventoryCounter).markDirty(productId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.in.CreateOrderUseCase.OrderItemDto;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAdmissionGate 테스트")
+class OrderAdmissionGateTest {
+
+    @Mock
+    InventoryCounter inventoryCounter;
+
+    SimpleMeterRegistry meterRegistry;
+    OrderAdmissionGate admissionGate;
+    ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionGate = new OrderAdmissionGate(inventoryCounter, meterRegistry);
+        productId = new ProductId("P-1");
+    }
+
+    @Test
+    @DisplayName("처음 보는 상품은 통과시키고 재고를 한 번만 읽어 온다")
+    void admit_unknownProduct_passesAndRefreshesOnce() {
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock(5)));
+
+        StepVerifier.create(admissionGate.admit(items(1))).verifyComplete();
+        StepVerifier.create(admissionGate.admit(items(1))).verifyComplete();
+
+        verify(inventoryCounter, times(1)).getStock(productId);
+    }
+
+    @Test
+    @DisplayName("품절 상품은 즉시 거절하고 지표를 남긴다")
+    void admit_soldOut_rejects() {
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock(0)));
+        admissionGate.refresh(productId).block();
+
+        StepVerifier.create(admissionGate.admit(items(1)))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("Product is sold out: P-1"))
+                .verify();
+
+        assertThat(meterRegistry.get(OrderAdmissionGate.REJECTED_METRIC)
+                .tag("reason", "sold_out")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰을 다 쓰면 다음 재고 갱신 전까지 거절한다")
+    void admit_tokensExhausted_rejectsUntilRefresh() {
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock(1)));
+        admissionGate.refresh(productId).block();
+
+        StepVerifier.create(admissionGate.admit(items(2))).verifyComplete();
+        StepVerifier.create(admissionGate.admit(items(1)))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        admissionGate.refresh(productId).block();
+        StepVerifier.create(admissionGate.admit(items(1))).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("주문을 만들지 못해 돌려준 토큰은 다시 쓸 수 있다")
+    void refund_restoresTokens() {
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(stock(1)));
+        admissionGate.refresh(productId).block();
+
+        StepVerifier.create(admissionGate.admit(items(2))).verifyComplete();
+        admissionGate.refund(items(2));
+
+        StepVerifier.create(admissionGate.admit(items(2))).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("재입고되면 품절 상태가 해제된다")
+    void refresh_restocked_clearsSoldOut() {
+        given(inventoryCounter.getStock(productId))
+                .willReturn(Mono.just(stock(0)))
+                .willReturn(Mono.just(stock(3)));
+        admissionGate.refresh(productId).block();
+        admissionGate.refresh(productId).block();
+
+        StepVerifier.create(admissionGate.admit(items(1))).verifyComplete();
+    }
+
+    private List<OrderItemDto> items(int quantity) {
+        return List.of(new OrderItemDto(productId, new Quantity(quantity)));
+    }
+
+    private Stock stock(int available) {
+        return new Stock(new Quantity(10), new Quantity(10 - available), new Quantity(available), new Quantity(0));
+    }
+}
@@ -2,15 +2,20 @@ package com.flashdeal.app.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,17 +27,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.flashdeal.app.application.port.in.CancelOrderUseCase.CancelOrderCommand;
 import com.flashdeal.app.application.port.in.CompletePaymentUseCase.CompletePaymentCommand;
+import com.flashdeal.app.application.port.in.ConfirmInventoryUseCase;
 import com.flashdeal.app.application.port.in.CreateOrderUseCase.CreateOrderCommand;
 import com.flashdeal.app.application.port.in.CreateOrderUseCase.OrderItemDto;
 import com.flashdeal.app.application.port.in.CreateOrderUseCase.ShippingDto;
-import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.application.port.in.ReleaseInventoryUseCase;
+import com.flashdeal.app.application.port.in.ReserveInventoryUseCase;
+import com.flashdeal.app.application.port.in.WaitingRoomUseCase;
 import com.flashdeal.app.application.port.out.OrderRepository;
 import com.flashdeal.app.application.port.out.ProductRepository;
-import com.flashdeal.app.domain.inventory.Inventory;
-import com.flashdeal.app.domain.inventory.InventoryId;
-import com.flashdeal.app.domain.inventory.Policy;
 import com.flashdeal.app.domain.inventory.Quantity;
-import com.flashdeal.app.domain.inventory.Stock;
 import com.flashdeal.app.domain.order.Address;
 import com.flashdeal.app.domain.order.Order;
 import com.flashdeal.app.domain.order.OrderId;
@@ -61,13 +65,22 @@ class OrderServiceTest {
         @Mock
         ProductRepository productRepository;
         @Mock
-        InventoryRepository inventoryRepository;
+        ReserveInventoryUseCase reserveInventoryUseCase;
+        @Mock
+        ConfirmInventoryUseCase confirmInventoryUseCase;
+        @Mock
+        ReleaseInventoryUseCase releaseInventoryUseCase;
+        @Mock
+        OrderAdmissionGate admissionGate;
+        @Mock
+        WaitingRoomUseCase waitingRoomUseCase;
+        @Mock
+        ReservationExpiryScheduler reservationExpiryScheduler;
 
         @InjectMocks
         OrderService orderService;
 
         Product sampleProduct;
-        Inventory sampleInventory;
 
         @BeforeEach
         void setUp() {
@@ -78,11 +91,6 @@ class OrderServiceTest {
                 Specs specs = new Specs(Map.of("imageUrl", "http://img"));
                 sampleProduct = new Product(productId, "상품", "설명", "카테고리", price, schedule, specs, DealStatus.UPCOMING);
 
-                sampleInventory = new Inventory(
-                                new InventoryId("I-1"),
-                                productId,
-                                new Stock(new Quantity(100), new Quantity(10), new Quantity(90), new Quantity(0)),
-                                new Policy(1, 10, 5));
         }
 
         @Test
@@ -103,12 +111,14 @@ class OrderServiceTest {
                 CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-1",
                                 new BigDecimal("1000"));
 
+                given(admissionGate.admit(items)).willReturn(Mono.empty());
                 given(orderRepository.findByIdempotencyKey("idem-1")).willReturn(Mono.empty());
+                given(waitingRoomUseCase.verifyAdmission(userId, List.of(sampleProduct.productId()), null))
+                                .willReturn(Mono.empty());
                 given(productRepository.findById(sampleProduct.productId())).willReturn(Mono.just(sampleProduct));
-                given(inventoryRepository.findByProductId(sampleProduct.productId()))
-                                .willReturn(Mono.just(sampleInventory));
-                given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+                given(reserveInventoryUseCase.reserve(any())).willReturn(Mono.empty());
                 given(orderRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+                given(reservationExpiryScheduler.register(any())).willReturn(Mono.empty());
 
                 Mono<Order> result = orderService.createOrder(cmd);
 
@@ -121,8 +131,9 @@ class OrderServiceTest {
                                 })
                                 .verifyComplete();
 
-                verify(inventoryRepository, atLeastOnce()).save(any());
+                verify(reserveInventoryUseCase, atLeastOnce()).reserve(any());
                 verify(orderRepository).save(any());
+                verify(reservationExpiryScheduler).register(any());
         }
 
         @Test
@@ -149,8 +160,169 @@ class OrderServiceTest {
                                 .expectNext(existing)
                                 .verifyComplete();
 
+                verify(admissionGate, never()).admit(any());
+                verify(orderRepository, never()).save(any());
+                verify(reserveInventoryUseCase, never()).reserve(any());
+        }
+
+        @Test
+        @DisplayName("대기실 입장 토큰이 유효하지 않으면 재고를 예약하지 않는다")
+        void createOrder_invalidAdmissionToken_failsWithoutReserving() {
+                UserId userId = new UserId("U-1");
+                List<OrderItemDto> items = List.of(new OrderItemDto(sampleProduct.productId(), new Quantity(1)));
+                ShippingDto shipping = new ShippingDto(
+                                "홍길동", "010", "12345", "서울 강남", "서울", "", "KR", null);
+                CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-queue", BigDecimal.ZERO,
+                                "expired-token");
+
+                given(admissionGate.admit(items)).willReturn(Mono.empty());
+                given(orderRepository.findByIdempotencyKey("idem-queue")).willReturn(Mono.empty());
+                given(waitingRoomUseCase.verifyAdmission(userId, List.of(sampleProduct.productId()), "expired-token"))
+                                .willReturn(Mono.error(new IllegalStateException("Invalid admission token")));
+
+                StepVerifier.create(orderService.createOrder(cmd))
+                                .expectError(IllegalStateException.class)
+                                .verify();
+
+                verify(reserveInventoryUseCase, never()).reserve(any());
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("품절 상품은 재고를 예약하지 않고 실패한다")
+        void createOrder_soldOutProduct_failsWithoutReserving() {
+                UserId userId = new UserId("U-1");
+                List<OrderItemDto> items = List.of(new OrderItemDto(sampleProduct.productId(), new Quantity(1)));
+                ShippingDto shipping = new ShippingDto(
+                                "홍길동", "010", "12345", "서울 강남", "서울", "", "KR", null);
+                CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-soldout",
+                                BigDecimal.ZERO);
+
+                given(admissionGate.admit(items)).willReturn(Mono.empty());
+                given(orderRepository.findByIdempotencyKey("idem-soldout")).willReturn(Mono.empty());
+                given(waitingRoomUseCase.verifyAdmission(userId, List.of(sampleProduct.productId()), null))
+                                .willReturn(Mono.empty());
+                given(productRepository.findById(sampleProduct.productId()))
+                                .willReturn(Mono.just(sampleProduct.updateStatus(DealStatus.SOLDOUT)));
+
+                StepVerifier.create(orderService.createOrder(cmd))
+                                .expectError(IllegalStateException.class)
+                                .verify();
+
+                verify(reserveInventoryUseCase, never()).reserve(any());
+                verify(orderRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("입장 게이트에서 거절되면 상품 조회/예약 없이 실패한다")
+        void createOrder_rejectedByGate_skipsRepositories() {
+                UserId userId = new UserId("U-1");
+                List<OrderItemDto> items = List.of(new OrderItemDto(sampleProduct.productId(), new Quantity(1)));
+                ShippingDto shipping = new ShippingDto(
+                                "홍길동", "010", "12345", "서울 강남", "서울", "", "KR", null);
+                CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-soldout", BigDecimal.ZERO);
+
+                given(orderRepository.findByIdempotencyKey("idem-soldout")).willReturn(Mono.empty());
+                given(admissionGate.admit(items))
+                                .willReturn(Mono.error(new IllegalStateException("Product is sold out: P-1")));
+
+                StepVerifier.create(orderService.createOrder(cmd))
+                                .expectError(IllegalStateException.class)
+                                .verify();
+
+                verify(productRepository, never()).findById(any());
+                verify(reserveInventoryUseCase, never()).reserve(any());
+                verify(admissionGate, never()).refund(any());
+        }
+
+        @Test
+        @DisplayName("한 항목의 예약이 실패하면 이미 예약한 항목을 해제하고 주문을 저장하지 않는다")
+        void createOrder_reserveFails_releasesReservedItems() {
+                UserId userId = new UserId("U-1");
+                Product other = new Product(new ProductId("P-2"), "상품2", "설명", "카테고리", sampleProduct.price(),
+                                sampleProduct.schedule(), sampleProduct.specs(), DealStatus.ACTIVE);
+                List<OrderItemDto> items = List.of(
+                                new OrderItemDto(sampleProduct.productId(), new Quantity(2)),
+                                new OrderItemDto(other.productId(), new Quantity(1)));
+                ShippingDto shipping = new ShippingDto(
+                                "홍길동", "010", "12345", "서울 강남", "서울", "", "KR", null);
+                CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-partial",
+                                BigDecimal.ZERO);
+
+                given(admissionGate.admit(items)).willReturn(Mono.empty());
+                given(orderRepository.findByIdempotencyKey("idem-partial")).willReturn(Mono.empty());
+                given(waitingRoomUseCase.verifyAdmission(any(), any(), any())).willReturn(Mono.empty());
+                given(productRepository.findById(sampleProduct.productId())).willReturn(Mono.just(sampleProduct));
+                given(productRepository.findById(other.productId())).willReturn(Mono.just(other));
+                given(reserveInventoryUseCase.reserve(any())).willAnswer(inv -> {
+                        ReserveInventoryUseCase.ReserveInventoryCommand command = inv.getArgument(0);
+                        return command.productId().equals(other.productId())
+                                        ? Mono.error(new IllegalStateException("Insufficient stock"))
+                                        : Mono.empty();
+                });
+                given(releaseInventoryUseCase.release(any())).willReturn(Mono.empty());
+
+                StepVerifier.create(orderService.createOrder(cmd))
+                                .expectErrorMessage("Insufficient stock")
+                                .verify();
+
+                verify(releaseInventoryUseCase).release(
+                                new ReleaseInventoryUseCase.ReleaseInventoryCommand(sampleProduct.productId(), 2));
+                verify(releaseInventoryUseCase, never()).release(
+                                new ReleaseInventoryUseCase.ReleaseInventoryCommand(other.productId(), 1));
                 verify(orderRepository, never()).save(any());
-                verify(inventoryRepository, never()).save(any());
+                verify(admissionGate).refund(items);
+        }
+
+        @Test
+        @DisplayName("주문 저장이 실패하면 예약한 재고를 모두 해제한다")
+        void createOrder_saveFails_releasesAllReservations() {
+                UserId userId = new UserId("U-1");
+                List<OrderItemDto> items = List.of(new OrderItemDto(sampleProduct.productId(), new Quantity(2)));
+                ShippingDto shipping = new ShippingDto(
+                                "홍길동", "010", "12345", "서울 강남", "서울", "", "KR", null);
+                CreateOrderCommand cmd = new CreateOrderCommand(userId, items, shipping, "idem-save",
+                                BigDecimal.ZERO);
+
+                given(admissionGate.admit(items)).willReturn(Mono.empty());
+                given(orderRepository.findByIdempotencyKey("idem-save")).willReturn(Mono.empty());
+                given(waitingRoomUseCase.verifyAdmission(any(), any(), any())).willReturn(Mono.empty());
+                given(productRepository.findById(sampleProduct.productId())).willReturn(Mono.just(sampleProduct));
+                given(reserveInventoryUseCase.reserve(any())).willReturn(Mono.empty());
+                given(orderRepository.save(any())).willReturn(Mono.error(new IllegalStateException("write failed")));
+                given(releaseInventoryUseCase.release(any())).willReturn(Mono.empty());
+
+                StepVerifier.create(orderService.createOrder(cmd))
+                                .expectErrorMessage("write failed")
+                                .verify();
+
+                verify(releaseInventoryUseCase).release(
+                                new ReleaseInventoryUseCase.ReleaseInventoryCommand(sampleProduct.productId(), 2));
+                verify(reservationExpiryScheduler, never()).register(any());
+        }
+
+        @Test
+        @DisplayName("취소 후 재고 해제가 일시적으로 실패하면 다시 시도한다")
+        void cancelOrder_releaseFailsOnce_retries() {
+                OrderId orderId = new OrderId("O-5");
+                Order pending = Order.create(orderId, new UserId("U-1"), List.of(
+                                new OrderItem(sampleProduct.productId(),
+                                                new Snapshot("t", "", sampleProduct.price(), Map.of()),
+                                                new Quantity(1))),
+                                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"),
+                                                null),
+                                "idem");
+
+                givenUpdateApplies(orderId, pending);
+                given(releaseInventoryUseCase.release(any()))
+                                .willReturn(Mono.error(new IllegalStateException("redis timeout")))
+                                .willReturn(Mono.empty());
+
+                StepVerifier.create(orderService.cancelOrder(new CancelOrderCommand(orderId, "change of mind")))
+                                .assertNext(order -> assertThat(order.status()).isEqualTo(OrderStatus.CANCELLED))
+                                .verifyComplete();
+
+                verify(releaseInventoryUseCase, times(2)).release(any());
         }
 
         @Test
@@ -165,18 +337,115 @@ class OrderServiceTest {
                                                 null),
                                 "idem");
 
-                given(orderRepository.findById(orderId)).willReturn(Mono.just(pending));
-                given(inventoryRepository.findByProductId(sampleProduct.productId()))
-                                .willReturn(Mono.just(sampleInventory));
-                given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
-                given(orderRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+                givenUpdateApplies(orderId, pending);
+                given(releaseInventoryUseCase.release(any())).willReturn(Mono.empty());
 
                 StepVerifier.create(orderService.cancelOrder(new CancelOrderCommand(orderId, "change of mind")))
-                                .assertNext(order -> assertThat(order.status()).isEqualTo(OrderStatus.CANCELLED))
+                                .assertNext(order -> {
+                                        assertThat(order.status()).isEqualTo(OrderStatus.CANCELLED);
+                                        assertThat(order.isStockReleasePending()).isFalse();
+                                })
                                 .verifyComplete();
 
-                verify(inventoryRepository, atLeastOnce()).save(any());
-                verify(orderRepository).save(any());
+                verify(releaseInventoryUseCase, atLeastOnce()).release(any());
+                verify(orderRepository, times(2)).update(eq(orderId), any());
+        }
+
+        @Test
+        @DisplayName("취소 후 재고 해제가 끝내 실패하면 주문을 해제 대기로 남긴다")
+        void cancelOrder_releaseFails_leavesReleasePending() {
+                OrderId orderId = new OrderId("O-6");
+                Order pending = Order.create(orderId, new UserId("U-1"), List.of(
+                                new OrderItem(sampleProduct.productId(),
+                                                new Snapshot("t", "", sampleProduct.price(), Map.of()),
+                                                new Quantity(1))),
+                                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"),
+                                                null),
+                                "idem");
+
+                AtomicReference<Order> stored = givenUpdateApplies(orderId, pending);
+                given(releaseInventoryUseCase.release(any()))
+                                .willReturn(Mono.error(new IllegalStateException("redis down")));
+
+                StepVerifier.create(orderService.cancelOrder(new CancelOrderCommand(orderId, "change of mind")))
+                                .expectErrorMessage("redis down")
+                                .verify();
+
+                assertThat(stored.get().status()).isEqualTo(OrderStatus.CANCELLED);
+                assertThat(stored.get().isStockReleasePending()).isTrue();
+        }
+
+        @Test
+        @DisplayName("해제 대기인 취소 주문은 재고를 다시 해제하고 해제 완료를 기록한다")
+        void releasePendingStock_releasesAndMarks() {
+                OrderId orderId = new OrderId("O-7");
+                Order cancelled = Order.create(orderId, new UserId("U-1"), List.of(
+                                new OrderItem(sampleProduct.productId(),
+                                                new Snapshot("t", "", sampleProduct.price(), Map.of()),
+                                                new Quantity(2))),
+                                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"),
+                                                null),
+                                "idem")
+                                .cancel("Reservation expired", "U-1");
+
+                given(orderRepository.findById(orderId)).willReturn(Mono.just(cancelled));
+                givenUpdateApplies(orderId, cancelled);
+                given(releaseInventoryUseCase.release(any())).willReturn(Mono.empty());
+
+                StepVerifier.create(orderService.releasePendingStock(orderId, Instant.now().plusSeconds(1)))
+                                .assertNext(order -> assertThat(order.isStockReleasePending()).isFalse())
+                                .verifyComplete();
+
+                verify(releaseInventoryUseCase).release(
+                                new ReleaseInventoryUseCase.ReleaseInventoryCommand(sampleProduct.productId(), 2));
+        }
+
+        @Test
+        @DisplayName("방금 취소된 주문은 취소한 쪽이 해제 중일 수 있어 다시 해제하지 않는다")
+        void releasePendingStock_recentlyCancelled_failsWithoutReleasing() {
+                OrderId orderId = new OrderId("O-8");
+                Order cancelled = Order.create(orderId, new UserId("U-1"), List.of(
+                                new OrderItem(sampleProduct.productId(),
+                                                new Snapshot("t", "", sampleProduct.price(), Map.of()),
+                                                new Quantity(1))),
+                                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"),
+                                                null),
+                                "idem")
+                                .cancel("User requested", "U-1");
+
+                given(orderRepository.findById(orderId)).willReturn(Mono.just(cancelled));
+
+                StepVerifier.create(orderService.releasePendingStock(orderId, Instant.now().minusSeconds(5)))
+                                .expectError(IllegalStateException.class)
+                                .verify();
+
+                verify(releaseInventoryUseCase, never()).release(any());
+        }
+
+        @Test
+        @DisplayName("이미 확정된 주문은 취소할 수 없고 재고도 해제하지 않는다")
+        void cancelOrder_whenConfirmed_failsWithoutReleasingInventory() {
+                OrderId orderId = new OrderId("O-4");
+                Order confirmed = Order.create(orderId, new UserId("U-1"), List.of(
+                                new OrderItem(sampleProduct.productId(),
+                                                new Snapshot("t", "", sampleProduct.price(), Map.of()),
+                                                new Quantity(1))),
+                                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"),
+                                                null),
+                                "idem")
+                                .completePayment("tx-0")
+                                .confirm();
+
+                given(orderRepository.update(eq(orderId), any())).willAnswer(inv -> {
+                        UnaryOperator<Order> mutation = inv.getArgument(1);
+                        return Mono.fromCallable(() -> mutation.apply(confirmed));
+                });
+
+                StepVerifier.create(orderService.cancelOrder(new CancelOrderCommand(orderId, "too late")))
+                                .expectError(IllegalStateException.class)
+                                .verify();
+
+                verify(releaseInventoryUseCase, never()).release(any());
         }
 
         @Test
@@ -191,18 +460,15 @@ class OrderServiceTest {
                                                 null),
                                 "idem");
 
-                given(orderRepository.findById(orderId)).willReturn(Mono.just(pending));
-                given(inventoryRepository.findByProductId(sampleProduct.productId()))
-                                .willReturn(Mono.just(sampleInventory));
-                given(inventoryRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
-                given(orderRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+                givenUpdateApplies(orderId, pending);
+                given(confirmInventoryUseCase.confirm(any())).willReturn(Mono.empty());
 
                 StepVerifier.create(orderService.completePayment(new CompletePaymentCommand(orderId, "tx-1")))
                                 .assertNext(order -> assertThat(order.status()).isEqualTo(OrderStatus.CONFIRMED))
                                 .verifyComplete();
 
-                verify(inventoryRepository, atLeastOnce()).save(any());
-                verify(orderRepository).save(any());
+                verify(confirmInventoryUseCase, atLeastOnce()).confirm(any());
+                verify(orderRepository).update(eq(orderId), any());
         }
 
         @Test
@@ -218,4 +484,13 @@ class OrderServiceTest {
                         new CreateOrderCommand(userId, validItems, null, "idem", BigDecimal.ZERO);
                 });
         }
+
+        private AtomicReference<Order> givenUpdateApplies(OrderId orderId, Order current) {
+                AtomicReference<Order> stored = new AtomicReference<>(current);
+                given(orderRepository.update(eq(orderId), any())).willAnswer(inv -> {
+                        UnaryOperator<Order> mutation = inv.getArgument(1);
+                        return Mono.just(stored.updateAndGet(mutation));
+                });
+                return stored;
+        }
 }
@@ -1,24 +1,32 @@
 package com.flashdeal.app.application.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.flashdeal.app.application.port.in.CancelOrderUseCase;
 import com.flashdeal.app.application.port.out.OrderRepository;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue.ExpiredReservation;
+import com.flashdeal.app.application.port.out.SchedulerLease;
 import com.flashdeal.app.domain.inventory.Quantity;
 import com.flashdeal.app.domain.order.Address;
 import com.flashdeal.app.domain.order.Order;
@@ -32,6 +40,7 @@ import com.flashdeal.app.domain.order.UserId;
 import com.flashdeal.app.domain.product.Price;
 import com.flashdeal.app.domain.product.ProductId;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -43,25 +52,154 @@ class OrderTimeoutServiceTest {
     OrderRepository orderRepository;
     @Mock
     CancelOrderUseCase cancelOrderUseCase;
+    @Mock
+    ReservationExpiryQueue reservationExpiryQueue;
+    @Mock
+    ReservationExpiryScheduler reservationExpiryScheduler;
+    @Mock
+    SchedulerLease schedulerLease;
 
-    @InjectMocks
+    SimpleMeterRegistry meterRegistry;
     OrderTimeoutService timeoutService;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timeoutService = new OrderTimeoutService(orderRepository, cancelOrderUseCase, reservationExpiryQueue,
+                reservationExpiryScheduler, new PartitionedJobRunner(schedulerLease, meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("만료된 주문을 취소하고 큐에서 뺀다")
+    void cancelExpiredOrders_cancelsAndCompletes() {
+        OrderId orderId = new OrderId("O-1");
+        givenExpired(orderId);
+        when(cancelOrderUseCase.cancelOrder(any())).thenReturn(Mono.just(pendingOrder()));
+        when(reservationExpiryQueue.complete(orderId)).thenReturn(Mono.empty());
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(reservationExpiryQueue, timeout(1000)).complete(orderId);
+        assertThat(meterRegistry.counter(OrderTimeoutService.EXPIRED_METRIC, "result", "cancelled").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 결제된 주문은 취소하지 않고 큐에서만 뺀다")
+    void cancelExpiredOrders_alreadyPaid_completes() {
+        OrderId orderId = new OrderId("O-1");
+        givenExpired(orderId);
+        when(cancelOrderUseCase.cancelOrder(any()))
+                .thenReturn(Mono.error(new IllegalStateException("Cannot cancel order with status: CONFIRMED")));
+        when(cancelOrderUseCase.releasePendingStock(eq(orderId), any())).thenReturn(Mono.empty());
+        when(reservationExpiryQueue.complete(orderId)).thenReturn(Mono.empty());
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(reservationExpiryQueue, timeout(1000)).complete(orderId);
+        assertThat(meterRegistry.counter(OrderTimeoutService.EXPIRED_METRIC, "result", "skipped").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소 후 재고를 해제하지 못한 주문은 해제를 다시 시도한 뒤 큐에서 뺀다")
+    void cancelExpiredOrders_releasePending_releasesAndCompletes() {
+        OrderId orderId = new OrderId("O-1");
+        givenExpired(orderId);
+        when(cancelOrderUseCase.cancelOrder(any()))
+                .thenReturn(Mono.error(new IllegalStateException("Cannot cancel order with status: CANCELLED")));
+        when(cancelOrderUseCase.releasePendingStock(eq(orderId), any()))
+                .thenReturn(Mono.just(pendingOrder().cancel("Reservation expired", "U-1")));
+        when(reservationExpiryQueue.complete(orderId)).thenReturn(Mono.empty());
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(reservationExpiryQueue, timeout(1000)).complete(orderId);
+        assertThat(meterRegistry.counter(OrderTimeoutService.EXPIRED_METRIC, "result", "released").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고 해제를 다시 시도하다 실패하면 큐에 남긴다")
+    void cancelExpiredOrders_releaseRetryFails_keepsInQueue() {
+        OrderId orderId = new OrderId("O-1");
+        givenExpired(orderId);
+        when(cancelOrderUseCase.cancelOrder(any()))
+                .thenReturn(Mono.error(new IllegalStateException("Cannot cancel order with status: CANCELLED")));
+        when(cancelOrderUseCase.releasePendingStock(eq(orderId), any()))
+                .thenReturn(Mono.error(new RuntimeException("redis timeout")));
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(cancelOrderUseCase, timeout(1000)).releasePendingStock(eq(orderId), any());
+        verify(reservationExpiryQueue, never()).complete(any());
+        assertThat(meterRegistry.counter(OrderTimeoutService.EXPIRED_METRIC, "result", "failed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적으로 실패한 주문은 큐에 남겨 다시 시도한다")
+    void cancelExpiredOrders_transientFailure_keepsInQueue() {
+        OrderId orderId = new OrderId("O-1");
+        givenExpired(orderId);
+        when(cancelOrderUseCase.cancelOrder(any())).thenReturn(Mono.error(new RuntimeException("mongo down")));
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(reservationExpiryQueue, never()).complete(any());
+        assertThat(meterRegistry.counter(OrderTimeoutService.EXPIRED_METRIC, "result", "failed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PENDING 주문으로 만료 큐를 다시 채운다")
+    void rebuild_registersPendingOrders() {
+        Flux<Order> pending = Flux.just(pendingOrder());
+        when(orderRepository.findByStatus(OrderStatus.PENDING)).thenReturn(pending);
+        when(reservationExpiryScheduler.registerAll(pending)).thenReturn(Mono.just(1L));
+        when(schedulerLease.tryAcquire(eq("scheduler:order-expiry-rebuild:0"), anyString(), any()))
+                .thenReturn(Mono.just(true));
+
+        timeoutService.rebuild();
+
+        verify(reservationExpiryScheduler, timeout(1000)).registerAll(pending);
+    }
+
     @Test
-    @DisplayName("타임아웃된 주문에 대해 취소를 호출한다")
-    void cancelTimedOutOrders_invokesCancelForPending() {
-        Order pending = Order.create(new OrderId("O-1"), new UserId("U-1"),
+    @DisplayName("다른 인스턴스가 lease를 가진 샤드는 가져가지 않는다")
+    void cancelExpiredOrders_leaseHeldElsewhere_skipsShard() {
+        OrderId orderId = new OrderId("O-1");
+        when(reservationExpiryQueue.shardCount()).thenReturn(2);
+        when(schedulerLease.tryAcquire(eq("scheduler:order-expiry:0"), anyString(), any()))
+                .thenReturn(Mono.just(true));
+        when(schedulerLease.tryAcquire(eq("scheduler:order-expiry:1"), anyString(), any()))
+                .thenReturn(Mono.just(false));
+        when(reservationExpiryQueue.claimExpired(eq(0), any(), any(), anyInt()))
+                .thenReturn(Flux.just(new ExpiredReservation(orderId, Instant.now())));
+        when(cancelOrderUseCase.cancelOrder(any())).thenReturn(Mono.just(pendingOrder()));
+        when(reservationExpiryQueue.complete(orderId)).thenReturn(Mono.empty());
+
+        timeoutService.cancelExpiredOrders();
+
+        verify(reservationExpiryQueue, timeout(1000)).complete(orderId);
+        verify(reservationExpiryQueue, never()).claimExpired(eq(1), any(), any(), anyInt());
+        assertThat(meterRegistry.counter(PartitionedJobRunner.SKIPPED_METRIC, "job", OrderTimeoutService.EXPIRY_JOB)
+                .count()).isEqualTo(1);
+    }
+
+    private void givenExpired(OrderId orderId) {
+        when(reservationExpiryQueue.shardCount()).thenReturn(2);
+        when(schedulerLease.tryAcquire(anyString(), anyString(), any())).thenReturn(Mono.just(true));
+        when(reservationExpiryQueue.claimExpired(eq(0), any(), any(), anyInt()))
+                .thenReturn(Flux.just(new ExpiredReservation(orderId, Instant.now())));
+        when(reservationExpiryQueue.claimExpired(eq(1), any(), any(), anyInt())).thenReturn(Flux.empty());
+    }
+
+    private static Order pendingOrder() {
+        return Order.create(new OrderId("O-1"), new UserId("U-1"),
                 List.of(new OrderItem(new ProductId("P-1"),
                         new Snapshot("t", "", new Price(new BigDecimal("1"), new BigDecimal("1"), "KRW"), Map.of()),
                         new Quantity(1))),
                 new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"), null), "idem");
-
-        when(orderRepository.findByStatusAndCreatedAtBefore(eq(OrderStatus.PENDING), any()))
-                .thenReturn(Flux.just(pending));
-        when(cancelOrderUseCase.cancelOrder(any())).thenReturn(Mono.just(pending));
-
-        timeoutService.cancelTimedOutOrders();
-
-        verify(cancelOrderUseCase, atLeastOnce()).cancelOrder(any());
     }
 }
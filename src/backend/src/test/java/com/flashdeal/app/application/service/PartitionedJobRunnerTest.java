@@ -0,0 +1,110 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.SchedulerLease;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionedJobRunner 테스트")
+class PartitionedJobRunnerTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    @Mock
+    SchedulerLease schedulerLease;
+
+    SimpleMeterRegistry meterRegistry;
+    PartitionedJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new PartitionedJobRunner(schedulerLease, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("lease를 잡은 파티션만 실행하고 나머지는 건너뛴다")
+    void run_onlyLeasedPartitions() {
+        given(schedulerLease.tryAcquire(anyString(), anyString(), eq(INTERVAL))).willReturn(Mono.just(false));
+        given(schedulerLease.tryAcquire(eq("scheduler:job:1"), anyString(), eq(INTERVAL)))
+                .willReturn(Mono.just(true));
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+
+        StepVerifier.create(runner.run("job", 3, INTERVAL, 2, partition -> {
+                    ran.add(partition);
+                    return Mono.just(5L);
+                }))
+                .expectNext(5L)
+                .verifyComplete();
+
+        assertThat(ran).containsExactly(1);
+        assertThat(meterRegistry.counter(PartitionedJobRunner.ITEMS_METRIC, "job", "job").count()).isEqualTo(5);
+        assertThat(meterRegistry.counter(PartitionedJobRunner.SKIPPED_METRIC, "job", "job").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer(PartitionedJobRunner.RUN_METRIC, "job", "job", "result", "success").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 실행하는 파티션 수는 concurrency를 넘지 않는다")
+    void run_boundsConcurrency() {
+        given(schedulerLease.tryAcquire(anyString(), anyString(), any())).willReturn(Mono.just(true));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        StepVerifier.create(runner.run("job", 8, INTERVAL, 2, partition -> Mono.fromRunnable(() ->
+                                peak.accumulateAndGet(running.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(20)))
+                        .doOnTerminate(running::decrementAndGet)
+                        .thenReturn(1L)))
+                .expectNext(8L)
+                .verifyComplete();
+
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파티션 작업이 실패해도 다른 파티션은 실행하고 실패를 기록한다")
+    void run_partitionFailure_isIsolated() {
+        given(schedulerLease.tryAcquire(anyString(), anyString(), any())).willReturn(Mono.just(true));
+
+        StepVerifier.create(runner.run("job", 2, INTERVAL, 1, partition -> partition == 0
+                        ? Mono.error(new RuntimeException("boom"))
+                        : Mono.just(3L)))
+                .expectNext(3L)
+                .verifyComplete();
+
+        assertThat(meterRegistry.timer(PartitionedJobRunner.RUN_METRIC, "job", "job", "result", "error").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 지연은 처리돼야 했던 시각부터 기록한다")
+    void recordLag_recordsSinceDue() {
+        runner.recordLag("job", Instant.now().minusSeconds(2));
+
+        assertThat(meterRegistry.timer(PartitionedJobRunner.LAG_METRIC, "job", "job")
+                .totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2);
+    }
+}
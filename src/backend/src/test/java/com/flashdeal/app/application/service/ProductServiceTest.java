@@ -3,6 +3,9 @@ package com.flashdeal.app.application.service;
 import com.flashdeal.app.application.port.in.CreateProductUseCase.CreateProductCommand;
 import com.flashdeal.app.application.port.in.UpdateProductUseCase.UpdateProductCommand;
 import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.common.CursorPageInfo;
+import com.flashdeal.app.domain.common.CursorPagination;
+import com.flashdeal.app.domain.common.SortOrder;
 import com.flashdeal.app.domain.product.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +20,15 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService 테스트")
@@ -30,6 +37,9 @@ class ProductServiceTest {
     @Mock
     ProductRepository productRepository;
 
+    @Mock
+    DealTransitionScheduler dealTransitionScheduler;
+
     @InjectMocks
     ProductService productService;
 
@@ -59,6 +69,30 @@ class ProductServiceTest {
             "http://img"
         );
         given(productRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        given(dealTransitionScheduler.register(any())).willReturn(Mono.empty());
+
+        StepVerifier.create(productService.createProduct(cmd))
+            .assertNext(p -> assertThat(p.title()).isEqualTo("타이틀"))
+            .verifyComplete();
+        then(dealTransitionScheduler).should().register(any());
+    }
+
+    @Test
+    @DisplayName("딜 시각 등록에 실패해도 상품은 생성된다")
+    void createProduct_scheduleFailure_stillCreates() {
+        CreateProductCommand cmd = new CreateProductCommand(
+            "타이틀",
+            "설명",
+            new BigDecimal("10000"),
+            new BigDecimal("9000"),
+            "KRW",
+            ZonedDateTime.now(),
+            ZonedDateTime.now().plusDays(1),
+            "General",
+            "http://img"
+        );
+        given(productRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        given(dealTransitionScheduler.register(any())).willReturn(Mono.error(new RuntimeException("redis down")));
 
         StepVerifier.create(productService.createProduct(cmd))
             .assertNext(p -> assertThat(p.title()).isEqualTo("타이틀"))
@@ -86,11 +120,41 @@ class ProductServiceTest {
         StepVerifier.create(productService.getActiveProducts()).expectNextCount(1).verifyComplete();
     }
 
+    @Test
+    @DisplayName("커서 기반 목록 조회를 저장소에 위임한다")
+    void getProductsConnection_delegates() {
+        ProductFilter filter = new ProductFilter(DealStatus.ACTIVE, null, null, null, null, null);
+        CursorPagination pagination = new CursorPagination(20, null);
+        List<ProductSortOption> sort = List.of(new ProductSortOption(ProductSortField.PRICE, SortOrder.ASC));
+        ProductConnection connection = new ProductConnection(
+            List.of(new ProductEdge(baseProduct, "c1")),
+            new CursorPageInfo("c1", "c1", false, false),
+            null);
+        given(productRepository.findConnection(filter, pagination, sort, false)).willReturn(Mono.just(connection));
+
+        StepVerifier.create(productService.getProductsConnection(filter, pagination, sort, false))
+            .expectNext(connection)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 조회하지 않고 예외가 발생한다")
+    void getProductsConnection_invalidFirst_fails() {
+        ProductFilter filter = new ProductFilter(null, null, null, null, null, null);
+
+        StepVerifier.create(productService.getProductsConnection(filter, new CursorPagination(101, null), List.of(), false))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        then(productRepository).should(never()).findConnection(any(), any(), any(), anyBoolean());
+    }
+
     @Test
     @DisplayName("상품 제목, 가격, 일정을 수정할 수 있다")
     void updateProduct_updatesTitlePriceSchedule() {
         given(productRepository.findById(baseProduct.productId())).willReturn(Mono.just(baseProduct));
         given(productRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        given(dealTransitionScheduler.register(any())).willReturn(Mono.empty());
 
         UpdateProductCommand cmd = new UpdateProductCommand(
             baseProduct.productId(),
@@ -1,24 +1,42 @@
 package com.flashdeal.app.application.service;
 
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.DealTriggerQueue;
+import com.flashdeal.app.application.port.out.DealTriggerQueue.DueTrigger;
+import com.flashdeal.app.application.port.out.DealTriggerQueue.Trigger;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryRepository;
 import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.application.port.out.SchedulerLease;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.InventoryId;
+import com.flashdeal.app.domain.inventory.Policy;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
 import com.flashdeal.app.domain.product.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,37 +46,144 @@ class ProductStatusUpdateServiceTest {
     @Mock
     ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    InventoryRepository inventoryRepository;
+
+    @Mock
+    InventoryCounter inventoryCounter;
+
+    @Mock
+    DealTriggerQueue dealTriggerQueue;
+
+    @Mock
+    DealTransitionScheduler dealTransitionScheduler;
+
+    @Mock
+    DealStatusChannel dealStatusChannel;
+
+    @Mock
+    SchedulerLease schedulerLease;
+
+    SimpleMeterRegistry meterRegistry;
     ProductStatusUpdateService service;
 
-    Product upcoming;
-    Product active;
+    Price price;
+    Specs specs;
 
     @BeforeEach
     void setUp() {
-        Price price = new Price(new BigDecimal("10000"), new BigDecimal("9000"), "KRW");
-        Schedule schedule = new Schedule(ZonedDateTime.now().minusDays(1), ZonedDateTime.now().plusDays(1), "Asia/Seoul");
-        Specs specs = new Specs(Map.of("imageUrl", "http://img", "category", "General"));
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ProductStatusUpdateService(productRepository, inventoryRepository, inventoryCounter,
+                dealTriggerQueue, dealTransitionScheduler, dealStatusChannel, new PartitionedJobRunner(schedulerLease, meterRegistry),
+                meterRegistry);
 
-        upcoming = new Product(new ProductId("P-1"), "상품1", "설명", "카테고리", price, schedule, specs, DealStatus.UPCOMING);
-        active = new Product(new ProductId("P-2"), "상품2", "설명", "카테고리", price, schedule, specs, DealStatus.ACTIVE);
+        price = new Price(new BigDecimal("10000"), new BigDecimal("9000"), "KRW");
+        specs = new Specs(Map.of("imageUrl", "http://img", "category", "General"));
     }
 
     @Test
-    @DisplayName("상품 상태를 업데이트하면 UPCOMING을 ACTIVE로, ACTIVE를 ENDED로 전이한다")
-    void updateProductStatuses_movesUpcomingToActive_andActiveToEnded() {
-        given(productRepository.findByStatusAndScheduleStartAtBefore(eq(DealStatus.UPCOMING), any()))
-            .willReturn(Flux.just(upcoming));
-        given(productRepository.findByStatusAndScheduleEndAtBefore(eq(DealStatus.ACTIVE), any()))
-            .willReturn(Flux.just(active));
+    @DisplayName("시작 트리거가 되면 UPCOMING을 조건부로 ACTIVE로 바꾼다")
+    void updateProductStatuses_start_activatesConditionally() {
+        Product upcoming = product(ZonedDateTime.now().minusSeconds(1), DealStatus.UPCOMING);
+        DueTrigger due = givenDue(upcoming, Trigger.START);
+        given(productRepository.findById(upcoming.productId())).willReturn(Mono.just(upcoming));
+        given(productRepository.updateStatus(upcoming.productId(), DealStatus.UPCOMING, DealStatus.ACTIVE))
+            .willReturn(Mono.just(upcoming.updateStatus(DealStatus.ACTIVE)));
+        given(dealStatusChannel.publish(upcoming.productId(), DealStatus.ACTIVE)).willReturn(Mono.empty());
+
+        service.updateProductStatuses();
 
-        given(productRepository.save(any())).willAnswer(inv -> Mono.just(inv.getArgument(0)));
+        verify(dealStatusChannel).publish(upcoming.productId(), DealStatus.ACTIVE);
+        verify(dealTriggerQueue).complete(due);
+        verify(productRepository, never()).save(any());
+        assertThat(meterRegistry.counter(ProductStatusUpdateService.TRANSITION_METRIC,
+                "trigger", "START", "result", "applied").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 다른 상태로 바뀐 상품은 건너뛰고 트리거만 뺀다")
+    void updateProductStatuses_end_alreadyTransitioned_skips() {
+        Product ended = product(ZonedDateTime.now().minusDays(2), DealStatus.ENDED);
+        DueTrigger due = givenDue(ended, Trigger.END);
+        given(productRepository.findById(ended.productId())).willReturn(Mono.just(ended));
+        given(productRepository.updateStatus(eq(ended.productId()), any(), eq(DealStatus.ENDED)))
+            .willReturn(Mono.empty());
 
         service.updateProductStatuses();
 
-        // 두 상태 전이에 대해 각각 저장 호출
-        verify(productRepository).findByStatusAndScheduleStartAtBefore(eq(DealStatus.UPCOMING), any());
-        verify(productRepository).findByStatusAndScheduleEndAtBefore(eq(DealStatus.ACTIVE), any());
-        org.mockito.Mockito.verify(productRepository, org.mockito.Mockito.times(2)).save(any());
+        verify(dealTriggerQueue).complete(due);
+        assertThat(meterRegistry.counter(ProductStatusUpdateService.TRANSITION_METRIC,
+                "trigger", "END", "result", "skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시작이 늦춰진 상품은 전이하지 않고 트리거를 다시 등록한다")
+    void updateProductStatuses_start_postponed_reschedules() {
+        Product postponed = product(ZonedDateTime.now().plusHours(1), DealStatus.UPCOMING);
+        givenDue(postponed, Trigger.START);
+        given(productRepository.findById(postponed.productId())).willReturn(Mono.just(postponed));
+        given(dealTransitionScheduler.register(postponed)).willReturn(Mono.empty());
+
+        service.updateProductStatuses();
+
+        verify(dealTransitionScheduler).register(postponed);
+        verify(productRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예열 트리거는 상품 캐시와 재고 카운터를 채운다")
+    void updateProductStatuses_warmUp_loadsCaches() {
+        Product upcoming = product(ZonedDateTime.now().plusMinutes(5), DealStatus.UPCOMING);
+        DueTrigger due = givenDue(upcoming, Trigger.WARM_UP);
+        Inventory inventory = new Inventory(new InventoryId("I-1"), upcoming.productId(),
+                Stock.initial(new Quantity(10)), Policy.defaultPolicy());
+        given(productRepository.findById(upcoming.productId())).willReturn(Mono.just(upcoming));
+        given(inventoryRepository.findByProductId(upcoming.productId())).willReturn(Mono.just(inventory));
+        given(inventoryCounter.load(inventory)).willReturn(Mono.just(Stock.initial(new Quantity(10))));
+
+        service.updateProductStatuses();
+
+        verify(inventoryCounter).load(inventory);
+        verify(dealTriggerQueue).complete(due);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 lease를 가지고 있으면 트리거를 가져가지 않는다")
+    void updateProductStatuses_leaseHeldElsewhere_skips() {
+        given(schedulerLease.tryAcquire(eq("scheduler:deal-transition:0"), anyString(), any()))
+            .willReturn(Mono.just(false));
+
+        service.updateProductStatuses();
+
+        verify(dealTriggerQueue, never()).claimDue(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 딜로 트리거를 다시 채운다")
+    void rebuild_registersOpenDeals() {
+        given(schedulerLease.tryAcquire(eq("scheduler:deal-transition-rebuild:0"), anyString(), any()))
+            .willReturn(Mono.just(true));
+        given(productRepository.findByStatus(any())).willReturn(Flux.empty());
+        given(dealTransitionScheduler.registerAll(any())).willReturn(Mono.just(0L));
+
+        service.rebuild();
+
+        verify(productRepository).findByStatus(DealStatus.UPCOMING);
+        verify(productRepository).findByStatus(DealStatus.ACTIVE);
+        verify(productRepository).findByStatus(DealStatus.SOLDOUT);
+    }
+
+    private DueTrigger givenDue(Product product, Trigger trigger) {
+        DueTrigger due = new DueTrigger(product.productId(), trigger, Instant.now(), Instant.now().plusSeconds(10));
+        given(schedulerLease.tryAcquire(eq("scheduler:deal-transition:0"), anyString(), any()))
+            .willReturn(Mono.just(true));
+        given(dealTriggerQueue.claimDue(any(), any(), anyInt())).willReturn(Flux.just(due));
+        given(dealTriggerQueue.complete(due)).willReturn(Mono.empty());
+        return due;
+    }
+
+    private Product product(ZonedDateTime startsAt, DealStatus status) {
+        Schedule schedule = new Schedule(startsAt, startsAt.plusDays(1), "Asia/Seoul");
+        return new Product(new ProductId("P-1"), "상품1", "설명", "카테고리", price, schedule, specs, status);
     }
 }
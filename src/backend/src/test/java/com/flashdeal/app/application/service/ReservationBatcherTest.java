@@ -0,0 +1,131 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.InventoryCounter.BatchReservation;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.Sinks;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationBatcher 테스트")
+class ReservationBatcherTest {
+
+    @Mock
+    InventoryCounter inventoryCounter;
+
+    SimpleMeterRegistry meterRegistry;
+    ReservationBatcher reservationBatcher;
+    ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reservationBatcher = new ReservationBatcher(inventoryCounter, meterRegistry, Duration.ofMillis(50), 64);
+        productId = new ProductId("P-1");
+    }
+
+    @Test
+    @DisplayName("같은 상품의 동시 예약은 한 번의 카운터 호출로 묶이고, 부족한 요청만 실패한다")
+    void reserve_concurrent_coalescedIntoOneCall() {
+        Stock after = new Stock(new Quantity(10), new Quantity(5), new Quantity(0), new Quantity(5));
+        given(inventoryCounter.reserveAll(productId, List.of(new Quantity(2), new Quantity(4), new Quantity(3))))
+                .willReturn(Mono.just(new BatchReservation(after,
+                        Map.of(1, new IllegalStateException("Cannot reserve 4: only 3 available")))));
+
+        List<Signal<Stock>> signals = Mono.zip(
+                        reservationBatcher.reserve(productId, new Quantity(2), null).materialize(),
+                        reservationBatcher.reserve(productId, new Quantity(4), null).materialize(),
+                        reservationBatcher.reserve(productId, new Quantity(3), null).materialize())
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(signals.get(0).get()).isEqualTo(after);
+        assertThat(signals.get(1).getThrowable()).hasMessage("Cannot reserve 4: only 3 available");
+        assertThat(signals.get(2).get()).isEqualTo(after);
+        verify(inventoryCounter, never()).reserve(any(), any(), any());
+        assertThat(meterRegistry.get(ReservationBatcher.BATCH_SIZE_METRIC).summary().max()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("카운터에 상품이 없으면 묶인 요청 모두 빈 결과로 끝난다")
+    void reserve_counterMissing_completesEmpty() {
+        given(inventoryCounter.reserveAll(productId, List.of(new Quantity(1), new Quantity(1))))
+                .willReturn(Mono.empty());
+
+        List<Signal<Stock>> signals = Mono.zip(
+                        reservationBatcher.reserve(productId, new Quantity(1), null).materialize(),
+                        reservationBatcher.reserve(productId, new Quantity(1), null).materialize())
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2()))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(signals).allMatch(Signal::isOnComplete);
+    }
+
+    @Test
+    @DisplayName("카운터 호출이 실패하면 묶인 요청 모두 실패한다")
+    void reserve_counterError_failsAll() {
+        given(inventoryCounter.reserveAll(productId, List.of(new Quantity(1), new Quantity(2))))
+                .willReturn(Mono.error(new IllegalStateException("Redis unavailable")));
+
+        List<Signal<Stock>> signals = Mono.zip(
+                        reservationBatcher.reserve(productId, new Quantity(1), null).materialize(),
+                        reservationBatcher.reserve(productId, new Quantity(2), null).materialize())
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2()))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(signals).allMatch(Signal::isOnError);
+    }
+
+    @Test
+    @DisplayName("묶음에 들어가기 전에 취소된 요청은 카운터로 보내지 않는다")
+    void reserve_cancelledBeforeFlush_isDropped() {
+        Stock after = new Stock(new Quantity(10), new Quantity(2), new Quantity(8), new Quantity(0));
+        given(inventoryCounter.reserve(productId, new Quantity(2), null)).willReturn(Mono.just(after));
+
+        reservationBatcher.reserve(productId, new Quantity(1), null).subscribe().dispose();
+        Stock reserved = reservationBatcher.reserve(productId, new Quantity(2), null).block(Duration.ofSeconds(5));
+
+        assertThat(reserved).isEqualTo(after);
+        verify(inventoryCounter, never()).reserveAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("카운터로 보낸 뒤 취소된 요청은 예약이 끝나면 그 몫을 해제한다")
+    void reserve_cancelledAfterSend_releasesShare() {
+        Stock after = new Stock(new Quantity(10), new Quantity(1), new Quantity(9), new Quantity(0));
+        Sinks.One<Stock> counterResult = Sinks.one();
+        given(inventoryCounter.reserve(productId, new Quantity(1), null)).willReturn(counterResult.asMono());
+        given(inventoryCounter.release(productId, new Quantity(1))).willReturn(Mono.just(after));
+
+        Disposable subscription = reservationBatcher.reserve(productId, new Quantity(1), null).subscribe();
+        verify(inventoryCounter, timeout(1000)).reserve(productId, new Quantity(1), null);
+        subscription.dispose();
+        counterResult.tryEmitValue(after);
+
+        verify(inventoryCounter, timeout(1000)).release(productId, new Quantity(1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.flashdeal.app.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.application.port.out.ReservationExpiryQueue;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.InventoryId;
+import com.flashdeal.app.domain.inventory.Policy;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.Address;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.domain.order.OrderId;
+import com.flashdeal.app.domain.order.OrderItem;
+import com.flashdeal.app.domain.order.Recipient;
+import com.flashdeal.app.domain.order.Shipping;
+import com.flashdeal.app.domain.order.Snapshot;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.Price;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationExpiryScheduler 테스트")
+class ReservationExpirySchedulerTest {
+
+    @Mock
+    ReservationExpiryQueue reservationExpiryQueue;
+    @Mock
+    InventoryRepository inventoryRepository;
+
+    ReservationExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ReservationExpiryScheduler(reservationExpiryQueue, inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("주문 상품 중 가장 짧은 예약 시간으로 만료 시각을 정한다")
+    void register_usesShortestPolicy() {
+        Order order = order(new ProductId("P-1"), new ProductId("P-2"));
+        given(inventoryRepository.findByProductIdIn(any())).willReturn(Flux.just(
+                inventory("P-1", 300), inventory("P-2", 60)));
+        given(reservationExpiryQueue.schedule(any(), any())).willReturn(Mono.just(true));
+
+        StepVerifier.create(scheduler.register(order)).verifyComplete();
+
+        verify(reservationExpiryQueue).schedule(order.orderId(), order.createdAt().plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("재고 정책이 없는 상품은 기본 예약 시간을 쓴다")
+    void register_missingInventory_usesDefaultPolicy() {
+        Order order = order(new ProductId("P-1"));
+        given(inventoryRepository.findByProductIdIn(any())).willReturn(Flux.empty());
+        given(reservationExpiryQueue.schedule(any(), any())).willReturn(Mono.just(true));
+
+        StepVerifier.create(scheduler.register(order)).verifyComplete();
+
+        verify(reservationExpiryQueue).schedule(order.orderId(),
+                order.createdAt().plusSeconds(Policy.defaultPolicy().reservationTimeout()));
+    }
+
+    private static Inventory inventory(String productId, int reservationTimeout) {
+        return new Inventory(new InventoryId("I-" + productId), new ProductId(productId),
+                Stock.initial(new Quantity(10)), new Policy(0, reservationTimeout, 5));
+    }
+
+    private static Order order(ProductId... productIds) {
+        List<OrderItem> items = Arrays.stream(productIds)
+                .map(productId -> new OrderItem(productId,
+                        new Snapshot("t", "", new Price(new BigDecimal("1"), new BigDecimal("1"), "KRW"), Map.of()),
+                        new Quantity(1)))
+                .toList();
+        return Order.create(new OrderId("O-1"), new UserId("U-1"), items,
+                new Shipping("Standard", new Recipient("n", "p"), new Address("s", "c", "z", "KR"), null), "idem");
+    }
+}
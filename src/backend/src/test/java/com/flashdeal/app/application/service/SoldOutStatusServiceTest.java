@@ -0,0 +1,125 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.DealStatusChannel;
+import com.flashdeal.app.application.port.out.InventoryCounter;
+import com.flashdeal.app.application.port.out.ProductRepository;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Price;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.domain.product.Schedule;
+import com.flashdeal.app.domain.product.Specs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SoldOutStatusService 테스트")
+class SoldOutStatusServiceTest {
+
+    @Mock
+    InventoryCounter inventoryCounter;
+    @Mock
+    ProductRepository productRepository;
+    @Mock
+    DealStatusChannel dealStatusChannel;
+
+    SimpleMeterRegistry meterRegistry;
+    SoldOutStatusService service;
+
+    ProductId productId = new ProductId("P-1");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new SoldOutStatusService(inventoryCounter, productRepository, dealStatusChannel, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("재고가 0이 되면 ACTIVE를 SOLDOUT으로 바꾼다")
+    void reconcile_depleted_marksSoldOut() {
+        Product active = product(DealStatus.ACTIVE, ZonedDateTime.now().plusDays(1));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(depleted()));
+        given(productRepository.findById(productId)).willReturn(Mono.just(active));
+        given(productRepository.updateStatus(productId, DealStatus.ACTIVE, DealStatus.SOLDOUT))
+                .willReturn(Mono.just(active.updateStatus(DealStatus.SOLDOUT)));
+        given(dealStatusChannel.publish(productId, DealStatus.SOLDOUT)).willReturn(Mono.empty());
+
+        StepVerifier.create(service.reconcile(productId)).verifyComplete();
+
+        verify(dealStatusChannel).publish(productId, DealStatus.SOLDOUT);
+        assertThat(meterRegistry.counter(SoldOutStatusService.SOLDOUT_METRIC, "result", "sold_out").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("품절 상품에 재고가 돌아오면 종료 전까지는 ACTIVE로 되돌린다")
+    void reconcile_restocked_reopens() {
+        Product soldOut = product(DealStatus.SOLDOUT, ZonedDateTime.now().plusDays(1));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(Stock.initial(new Quantity(3))));
+        given(productRepository.findById(productId)).willReturn(Mono.just(soldOut));
+        given(productRepository.updateStatus(productId, DealStatus.SOLDOUT, DealStatus.ACTIVE))
+                .willReturn(Mono.just(soldOut.updateStatus(DealStatus.ACTIVE)));
+        given(dealStatusChannel.publish(productId, DealStatus.ACTIVE)).willReturn(Mono.empty());
+
+        StepVerifier.create(service.reconcile(productId)).verifyComplete();
+
+        assertThat(meterRegistry.counter(SoldOutStatusService.SOLDOUT_METRIC, "result", "restocked").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지난 품절 상품은 재고가 돌아와도 되돌리지 않는다")
+    void reconcile_restockedAfterEnd_keepsSoldOut() {
+        Product soldOut = product(DealStatus.SOLDOUT, ZonedDateTime.now().minusMinutes(1));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(Stock.initial(new Quantity(3))));
+        given(productRepository.findById(productId)).willReturn(Mono.just(soldOut));
+
+        StepVerifier.create(service.reconcile(productId)).verifyComplete();
+
+        verify(productRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌지 않으면 저장소에 쓰지 않는다")
+    void reconcile_unchanged_doesNotWrite() {
+        Product active = product(DealStatus.ACTIVE, ZonedDateTime.now().plusDays(1));
+        given(inventoryCounter.getStock(productId)).willReturn(Mono.just(Stock.initial(new Quantity(3))));
+        given(productRepository.findById(productId)).willReturn(Mono.just(active));
+
+        StepVerifier.create(service.reconcile(productId)).verifyComplete();
+
+        verify(productRepository, never()).updateStatus(any(), any(), any());
+    }
+
+    private Stock depleted() {
+        return Stock.initial(new Quantity(1)).reserve(new Quantity(1));
+    }
+
+    private Product product(DealStatus status, ZonedDateTime endsAt) {
+        Price price = new Price(new BigDecimal("10000"), new BigDecimal("9000"), "KRW");
+        Schedule schedule = new Schedule(endsAt.minusDays(2), endsAt, "Asia/Seoul");
+        return new Product(productId, "상품", "설명", "카테고리", price, schedule,
+                new Specs(Map.of("imageUrl", "http://img")), status);
+    }
+}
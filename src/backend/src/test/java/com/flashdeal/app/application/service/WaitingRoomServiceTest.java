@@ -0,0 +1,122 @@
+package com.flashdeal.app.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.WaitingQueue;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitingRoomService 테스트")
+class WaitingRoomServiceTest {
+
+    @Mock
+    WaitingQueue waitingQueue;
+
+    WaitingRoomService waitingRoomService;
+    ProductId productId;
+    UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomService = new WaitingRoomService(waitingQueue, true, 50, Duration.ofMinutes(5));
+        productId = new ProductId("P-1");
+        userId = new UserId("U-1");
+    }
+
+    @Test
+    @DisplayName("대기열에 등록하면 현재 순번을 반환한다")
+    void joinQueue_returnsTicket() {
+        given(waitingQueue.join(productId, userId)).willReturn(Mono.just(12L));
+
+        StepVerifier.create(waitingRoomService.joinQueue(productId, userId))
+                .assertNext(ticket -> {
+                    assertThat(ticket.position()).isEqualTo(12L);
+                    assertThat(ticket.admitted()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("입장 토큰은 설정된 유효 시간으로 발급한다")
+    void admissionToken_usesConfiguredTtl() {
+        given(waitingQueue.issueToken(productId, userId, Duration.ofMinutes(5))).willReturn(Mono.just("token-1"));
+
+        StepVerifier.create(waitingRoomService.admissionToken(productId, userId))
+                .expectNext("token-1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("토큰 없이 주문하면 거절한다")
+    void verifyAdmission_missingToken_fails() {
+        StepVerifier.create(waitingRoomService.verifyAdmission(userId, List.of(productId), null))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("Admission token is required"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("주문 상품 중 하나라도 토큰이 맞지 않으면 거절한다")
+    void verifyAdmission_tokenMismatch_fails() {
+        ProductId other = new ProductId("P-2");
+        given(waitingQueue.verifyToken(productId, userId, "token-1")).willReturn(Mono.just(true));
+        given(waitingQueue.verifyToken(other, userId, "token-1")).willReturn(Mono.just(false));
+
+        StepVerifier.create(waitingRoomService.verifyAdmission(userId, List.of(productId, other), "token-1"))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("Invalid admission token for product: P-2"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("서로 다른 대기열을 거친 상품도 사용자 토큰 하나로 주문한다")
+    void verifyAdmission_sameTokenAcrossQueues_passes() {
+        ProductId other = new ProductId("P-2");
+        given(waitingQueue.verifyToken(productId, userId, "token-1")).willReturn(Mono.just(true));
+        given(waitingQueue.verifyToken(other, userId, "token-1")).willReturn(Mono.just(true));
+
+        StepVerifier.create(waitingRoomService.verifyAdmission(userId, List.of(productId, other), "token-1"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("대기실이 꺼져 있으면 토큰 없이 통과한다")
+    void verifyAdmission_disabled_passes() {
+        WaitingRoomService disabled = new WaitingRoomService(waitingQueue, false, 50, Duration.ofMinutes(5));
+
+        StepVerifier.create(disabled.verifyAdmission(userId, List.of(productId), null))
+                .verifyComplete();
+
+        verify(waitingQueue, never()).verifyToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 상품마다 설정된 속도로 입장시킨다")
+    void admitWaiting_admitsEachActiveQueue() {
+        given(waitingQueue.activeQueues()).willReturn(Flux.just(productId));
+        given(waitingQueue.admit(productId, 50, Duration.ofSeconds(1))).willReturn(Mono.just(50L));
+
+        waitingRoomService.admitWaiting();
+
+        verify(waitingQueue).admit(productId, 50, Duration.ofSeconds(1));
+    }
+}
@@ -54,6 +54,26 @@ class PolicyTest {
                 () -> new Policy(50, 600, -1));
     }
 
+    @Test
+    @DisplayName("샤드 수를 지정하지 않으면 단일 카운터를 사용한다")
+    void defaultsToSingleShard() {
+        // when
+        Policy policy = new Policy(50, 600, 5);
+
+        // then
+        assertEquals(1, policy.shardCount());
+        assertFalse(policy.isSharded());
+    }
+
+    @Test
+    @DisplayName("샤드 수가 0 이하이면 예외가 발생한다")
+    void throwsExceptionWhenShardCountIsZeroOrNegative() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> new Policy(50, 600, 5, 0));
+        assertTrue(new Policy(50, 600, 5, 8).isSharded());
+    }
+
     @Test
     @DisplayName("재고가 안전 재고량보다 적으면 품절 임박 상태다")
     void isLowStockWhenAvailableIsBelowSafetyStock() {
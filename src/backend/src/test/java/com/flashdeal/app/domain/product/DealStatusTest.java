@@ -119,15 +119,24 @@ class DealStatusTest {
     }
 
     @Test
-    @DisplayName("SOLDOUT에서 다른 상태로 전이할 수 없다")
-    void cannotTransitionFromSoldout() {
+    @DisplayName("SOLDOUT에서 UPCOMING으로 전이할 수 없다")
+    void cannotTransitionFromSoldoutToUpcoming() {
         // given
         DealStatus from = DealStatus.SOLDOUT;
         
         // then
         assertFalse(from.canTransitionTo(DealStatus.UPCOMING));
-        assertFalse(from.canTransitionTo(DealStatus.ACTIVE));
-        assertFalse(from.canTransitionTo(DealStatus.ENDED));
+    }
+
+    @Test
+    @DisplayName("SOLDOUT은 재고가 돌아오면 ACTIVE로, 종료되면 ENDED로 전이할 수 있다")
+    void canTransitionFromSoldoutToActiveOrEnded() {
+        // given
+        DealStatus from = DealStatus.SOLDOUT;
+        
+        // then
+        assertTrue(from.canTransitionTo(DealStatus.ACTIVE));
+        assertTrue(from.canTransitionTo(DealStatus.ENDED));
     }
 
     @Test
@@ -90,6 +90,32 @@ class PriceTest {
         assertEquals(0, discountRate);
     }
 
+    @Test
+    @DisplayName("가격과 맞는 할인율은 그대로 받는다")
+    void acceptsMatchingDiscountRate() {
+        // given
+        Price price = new Price(
+            new BigDecimal("100000"), 
+            new BigDecimal("80000"), 
+            "KRW",
+            20
+        );
+        
+        // when
+        int discountRate = price.discountRate();
+        
+        // then
+        assertEquals(20, discountRate);
+    }
+
+    @Test
+    @DisplayName("가격과 맞지 않는 할인율이면 예외가 발생한다")
+    void throwsExceptionWhenDiscountRateDoesNotMatch() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, 
+            () -> new Price(new BigDecimal("100000"), new BigDecimal("80000"), "KRW", 25));
+    }
+
     @Test
     @DisplayName("같은 가격은 동일하다")
     void testEquality() {
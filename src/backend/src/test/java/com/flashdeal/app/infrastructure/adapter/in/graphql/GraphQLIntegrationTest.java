@@ -2,6 +2,7 @@ package com.flashdeal.app.infrastructure.adapter.in.graphql;
 
 import com.flashdeal.app.TestDataFactory;
 import com.flashdeal.app.application.port.in.*;
+import com.flashdeal.app.domain.inventory.InventoryId;
 import com.flashdeal.app.domain.product.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +18,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @SpringBootTest
 @AutoConfigureWebTestClient
@@ -67,6 +71,9 @@ class GraphQLIntegrationTest {
     @MockBean
     private ReleaseInventoryUseCase releaseInventoryUseCase;
 
+    @MockBean
+    private WaitingRoomUseCase waitingRoomUseCase;
+
     private Product testProduct;
 
     @BeforeEach
@@ -137,6 +144,47 @@ class GraphQLIntegrationTest {
             .jsonPath("$.data.activeProducts[0].title").isEqualTo(testProduct.title());
     }
 
+    @Test
+    @DisplayName("activeProducts Query - 상품별 재고는 DataLoader로 한 번에 조회한다")
+    void activeProductsQuery_batchesInventoryLookups() {
+        // Given
+        ProductId first = new ProductId("P-1");
+        ProductId second = new ProductId("P-2");
+        given(getProductUseCase.getActiveProducts())
+            .willReturn(Flux.just(TestDataFactory.createProduct(first), TestDataFactory.createProduct(second)));
+        given(getInventoryUseCase.getInventoriesByProductIds(any()))
+            .willReturn(Flux.just(
+                TestDataFactory.createInventory(new InventoryId("I-1"), first, 10),
+                TestDataFactory.createInventory(new InventoryId("I-2"), second, 20)));
+
+        String query = """
+            query {
+              activeProducts {
+                productId
+                inventory {
+                  stock {
+                    total
+                  }
+                }
+              }
+            }
+            """;
+
+        // When & Then
+        webTestClient.post()
+            .uri("/graphql")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(java.util.Map.of("query", query))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.data.activeProducts[0].inventory.stock.total").isEqualTo(10)
+            .jsonPath("$.data.activeProducts[1].inventory.stock.total").isEqualTo(20);
+
+        then(getInventoryUseCase).should(times(1)).getInventoriesByProductIds(any(Collection.class));
+        then(getInventoryUseCase).should(times(0)).getInventoryByProductId(any());
+    }
+
     @Test
     @DisplayName("createProduct Mutation - 상품 생성")
     void createProductMutation() {
@@ -95,7 +95,8 @@ class InventoryResolverTest {
             1000,
             50,
             10,
-            600
+            600,
+            null
         );
 
         given(createInventoryUseCase.createInventory(any(CreateInventoryUseCase.CreateInventoryCommand.class)))
@@ -6,7 +6,9 @@ import static org.mockito.BDDMockito.given;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.dataloader.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,6 +48,9 @@ class OrderResolverTest {
     @Mock
     private CompletePaymentUseCase completePaymentUseCase;
 
+    @Mock
+    private DataLoader<OrderId, Order> orderLoader;
+
     @InjectMocks
     private OrderResolver orderResolver;
 
@@ -61,11 +66,11 @@ class OrderResolverTest {
     void order_success() {
         // Given
         String orderId = testOrder.orderId().value();
-        given(getOrderUseCase.getOrder(any(OrderId.class)))
-                .willReturn(Mono.just(testOrder));
+        given(orderLoader.load(testOrder.orderId()))
+                .willReturn(CompletableFuture.completedFuture(testOrder));
 
         // When
-        Mono<Order> result = orderResolver.order(orderId);
+        Mono<Order> result = orderResolver.order(orderId, orderLoader);
 
         // Then
         StepVerifier.create(result)
@@ -76,6 +81,22 @@ class OrderResolverTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("order - 없는 주문이면 예외가 발생한다")
+    void order_notFound() {
+        // Given
+        given(orderLoader.load(any(OrderId.class)))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        Mono<Order> result = orderResolver.order("missing", orderLoader);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
     @Test
     @DisplayName("ordersByUser - 사용자별 주문 목록 조회")
     void ordersByUser_success() {
@@ -140,7 +161,8 @@ class OrderResolverTest {
                                 "101동 101호"),
                         "문 앞에 놔주세요"),
                 "idempotency-key-123",
-                new BigDecimal("5000"));
+                new BigDecimal("5000"),
+                "admission-token-123");
 
         given(createOrderUseCase.createOrder(any(CreateOrderUseCase.CreateOrderCommand.class)))
                 .willReturn(Mono.just(testOrder));
@@ -174,6 +196,7 @@ class OrderResolverTest {
                                 null),
                         null),
                 "idempotency-key-123",
+                null,
                 null);
 
         given(createOrderUseCase.createOrder(any(CreateOrderUseCase.CreateOrderCommand.class)))
@@ -186,5 +186,18 @@ class ProductResolverTest {
             .assertNext(product -> assertThat(product.title()).isEqualTo("Updated Title"))
             .verifyComplete();
     }
+
+    @Test
+    @DisplayName("discountRate - 생성 시 계산해 둔 할인율을 반환")
+    void discountRate_returnsPrecomputedRate() {
+        // Given
+        Price price = new Price(new BigDecimal("100000"), new BigDecimal("80000"), "KRW", 20);
+
+        // When
+        int result = productResolver.discountRate(price);
+
+        // Then
+        assertThat(result).isEqualTo(20);
+    }
 }
 
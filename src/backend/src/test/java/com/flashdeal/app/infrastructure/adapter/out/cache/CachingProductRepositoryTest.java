@@ -0,0 +1,129 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flashdeal.app.TestDataFactory;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.ProductPersistenceAdapter;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.ProductSearchIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingProductRepository 테스트")
+class CachingProductRepositoryTest {
+
+    @Mock
+    ProductPersistenceAdapter delegate;
+
+    @Mock
+    ProductSearchIndex searchIndex;
+
+    @Mock
+    ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    ReactiveValueOperations<String, String> valueOperations;
+
+    ObjectMapper objectMapper;
+    SimpleMeterRegistry meterRegistry;
+    CachingProductRepository repository;
+    Product product;
+    String key;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingProductRepository(delegate, searchIndex, redisTemplate, objectMapper, meterRegistry,
+                100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+        product = TestDataFactory.createProduct();
+        key = CachingProductRepository.PRODUCT_KEY_PREFIX + product.productId().value();
+    }
+
+    @Test
+    @DisplayName("L1/L2 모두 없으면 MongoDB에서 읽고 두 계층을 채운다")
+    void findById_miss_loadsAndFillsCaches() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn(Mono.empty());
+        given(valueOperations.set(eq(key), anyString(), eq(Duration.ofMinutes(10)))).willReturn(Mono.just(true));
+        given(delegate.findById(product.productId())).willReturn(Mono.just(product));
+
+        StepVerifier.create(repository.findById(product.productId()))
+                .expectNext(product)
+                .verifyComplete();
+        StepVerifier.create(repository.findById(product.productId()))
+                .expectNext(product)
+                .verifyComplete();
+
+        verify(delegate, times(1)).findById(product.productId());
+        assertThat(meterRegistry.get(CachingProductRepository.L2_METRIC).tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("L2에 있으면 MongoDB를 읽지 않는다")
+    void findById_l2Hit_skipsMongo() throws Exception {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn(Mono.just(objectMapper.writeValueAsString(product)));
+
+        StepVerifier.create(repository.findById(product.productId()))
+                .assertNext(cached -> {
+                    assertThat(cached.productId()).isEqualTo(product.productId());
+                    assertThat(cached.price()).isEqualTo(product.price());
+                })
+                .verifyComplete();
+
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 MongoDB에서 읽는다")
+    void findById_redisDown_fallsBackToMongo() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn(Mono.error(new IllegalStateException("connection refused")));
+        given(valueOperations.set(eq(key), anyString(), eq(Duration.ofMinutes(10))))
+                .willReturn(Mono.error(new IllegalStateException("connection refused")));
+        given(delegate.findById(product.productId())).willReturn(Mono.just(product));
+
+        StepVerifier.create(repository.findById(product.productId()))
+                .expectNext(product)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("저장하면 L2를 지우고 무효화 메시지를 발행한다")
+    void save_invalidatesAndPublishes() {
+        given(delegate.save(product)).willReturn(Mono.just(product));
+        given(redisTemplate.delete(key)).willReturn(Mono.just(1L));
+        given(redisTemplate.convertAndSend(CachingProductRepository.INVALIDATION_CHANNEL, product.productId().value()))
+                .willReturn(Mono.just(1L));
+
+        StepVerifier.create(repository.save(product))
+                .expectNext(product)
+                .verifyComplete();
+
+        verify(redisTemplate).convertAndSend(CachingProductRepository.INVALIDATION_CHANNEL, product.productId().value());
+    }
+}
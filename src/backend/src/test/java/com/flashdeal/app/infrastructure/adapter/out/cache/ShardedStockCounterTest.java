@@ -0,0 +1,251 @@
+package com.flashdeal.app.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.order.UserId;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardedStockCounter 테스트")
+class ShardedStockCounterTest {
+
+    private static final int SHARDS = 2;
+
+    @Mock
+    ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    ReactiveSetOperations<String, String> setOperations;
+
+    // 샤드 키 → { total, reserved, available, sold, maxPurchase } (스크립트를 흉내 내는 가짜 Redis)
+    Map<String, long[]> shards = new ConcurrentHashMap<>();
+
+    ShardedStockCounter counter;
+    ProductId productId;
+
+    @BeforeEach
+    void setUp() {
+        counter = new ShardedStockCounter(redisTemplate);
+        productId = new ProductId("P-1");
+        lenient().when(redisTemplate.execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), anyList()))
+                .thenAnswer(inv -> Flux.just(run(inv.getArgument(0), inv.<List<String>>getArgument(1).get(0),
+                        inv.<List<Object>>getArgument(2))));
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        lenient().when(setOperations.add(anyString(), ArgumentMatchers.<String>any())).thenReturn(Mono.just(1L));
+    }
+
+    @Test
+    @DisplayName("재고 조회는 샤드 합계를 반환한다")
+    void getStock_sumsShards() {
+        shard(0, 2, 3, 1);
+        shard(1, 1, 4, 0);
+
+        StepVerifier.create(counter.getStock(productId, SHARDS))
+                .assertNext(stock -> {
+                    assertThat(stock.total().value()).isEqualTo(11);
+                    assertThat(stock.reserved().value()).isEqualTo(3);
+                    assertThat(stock.available().value()).isEqualTo(7);
+                    assertThat(stock.sold().value()).isEqualTo(1);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("샤드가 하나라도 없으면 재고 조회는 빈 결과다")
+    void getStock_missingShard_isEmpty() {
+        shard(0, 0, 5, 0);
+
+        StepVerifier.create(counter.getStock(productId, SHARDS))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("고른 샤드가 부족하면 다른 샤드에서 나누어 예약하고 dirty Set에 기록한다")
+    void reserve_insufficientShard_spillsToOtherShards() {
+        shard(0, 0, 1, 0);
+        shard(1, 0, 1, 0);
+
+        StepVerifier.create(counter.reserve(productId, new Quantity(2), userOnShard(0), SHARDS))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(total().reserved().value()).isEqualTo(2);
+        assertThat(total().available().value()).isZero();
+        verify(setOperations).add(StockScripts.STOCK_DIRTY_KEY, productId.value());
+    }
+
+    @Test
+    @DisplayName("모든 샤드를 합쳐도 부족하면 가져온 수량을 되돌리고 실패한다")
+    void reserve_insufficientTotal_rollsBack() {
+        shard(0, 0, 1, 0);
+        shard(1, 0, 1, 0);
+
+        StepVerifier.create(counter.reserve(productId, new Quantity(3), userOnShard(0), SHARDS))
+                .expectErrorMessage("Cannot reserve 3: only 2 available")
+                .verify();
+
+        assertThat(shards.get(key(0))[1]).isZero();
+        assertThat(shards.get(key(0))[2]).isEqualTo(1);
+        assertThat(shards.get(key(1))[1]).isZero();
+        assertThat(shards.get(key(1))[2]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고가 하나도 없으면 품절로 실패하고 dirty Set에 기록하지 않는다")
+    void reserve_outOfStock_failsWithoutMarkingDirty() {
+        shard(0, 0, 0, 1);
+        shard(1, 0, 0, 1);
+
+        StepVerifier.create(counter.reserve(productId, new Quantity(1), userOnShard(0), SHARDS))
+                .expectErrorMessage("Product is out of stock")
+                .verify();
+
+        verify(setOperations, never()).add(eq(StockScripts.STOCK_DIRTY_KEY), ArgumentMatchers.<String>any());
+    }
+
+    @Test
+    @DisplayName("예약으로 샤드가 바닥나면 가장 많이 남은 샤드의 절반을 옮긴다")
+    void reserve_drainsShard_rebalancesFromLargestShard() {
+        shard(0, 0, 1, 0);
+        shard(1, 0, 10, 0);
+
+        StepVerifier.create(counter.reserve(productId, new Quantity(1), userOnShard(0), SHARDS))
+                .assertNext(stock -> assertThat(stock.outOfStock()).isTrue())
+                .verifyComplete();
+
+        assertThat(shards.get(key(0))[2]).isEqualTo(5);
+        assertThat(shards.get(key(0))[0]).isEqualTo(6);
+        assertThat(shards.get(key(1))[2]).isEqualTo(5);
+        assertThat(shards.get(key(1))[0]).isEqualTo(5);
+        assertThat(total().total().value()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("확정은 reserved가 남은 샤드에서 나누어 처리한다")
+    void confirm_movesAcrossShards() {
+        shard(0, 1, 0, 0);
+        shard(1, 2, 0, 0);
+
+        StepVerifier.create(counter.confirm(productId, new Quantity(3), SHARDS))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(total().reserved().value()).isZero();
+        assertThat(total().sold().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("reserved가 모자라면 해제를 되돌리고 실패한다")
+    void release_insufficientReserved_rollsBack() {
+        shard(0, 1, 0, 0);
+        shard(1, 0, 0, 0);
+
+        StepVerifier.create(counter.release(productId, new Quantity(2), SHARDS))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        assertThat(total().reserved().value()).isEqualTo(1);
+        assertThat(total().available().value()).isZero();
+    }
+
+    private void shard(int shard, long reserved, long available, long sold) {
+        shards.put(key(shard), new long[] { reserved + available + sold, reserved, available, sold, 10 });
+    }
+
+    private String key(int shard) {
+        return ShardedStockCounter.shardKey(productId, shard);
+    }
+
+    private Stock total() {
+        return counter.getStock(productId, SHARDS).block();
+    }
+
+    private static UserId userOnShard(int shard) {
+        for (int i = 0; ; i++) {
+            UserId userId = new UserId("U-" + i);
+            if (Math.floorMod(userId.value().hashCode(), SHARDS) == shard) {
+                return userId;
+            }
+        }
+    }
+
+    private String run(RedisScript<String> script, String key, List<Object> args) {
+        long[] s = shards.get(key);
+        if (s == null) {
+            return String.valueOf(StockScripts.CODE_MISSING);
+        }
+        if (script == StockScripts.GET) {
+            return result(0, s);
+        }
+        if (script == StockScripts.RESERVE) {
+            long qty = Long.parseLong(args.get(0).toString());
+            if (qty > s[4]) {
+                return "3:" + s[4];
+            }
+            if (qty > s[2]) {
+                return result(2, s);
+            }
+            s[1] += qty;
+            s[2] -= qty;
+            return result(0, s);
+        }
+        if (script == StockScripts.MOVE) {
+            int from = field(args.get(2).toString());
+            int to = field(args.get(3).toString());
+            long moved = Math.min(s[from], Long.parseLong(args.get(0).toString()));
+            s[from] -= moved;
+            s[to] += moved;
+            return result(0, s) + ":" + moved;
+        }
+        if (script == StockScripts.ADJUST_AVAILABLE) {
+            long delta = Long.parseLong(args.get(0).toString());
+            if (s[2] + delta < 0) {
+                return result(2, s);
+            }
+            s[2] += delta;
+            s[0] += delta;
+            return result(0, s);
+        }
+        throw new IllegalArgumentException("Unexpected script");
+    }
+
+    private static int field(String name) {
+        return switch (name) {
+            case "reserved" -> 1;
+            case "available" -> 2;
+            case "sold" -> 3;
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    private static String result(int code, long[] s) {
+        return code + ":" + s[0] + ":" + s[1] + ":" + s[2] + ":" + s[3];
+    }
+}
@@ -0,0 +1,115 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("DomainEventSerializer 테스트")
+class DomainEventSerializerTest {
+
+    private static final Map<String, Object> METADATA = Map.of("source", "order-service");
+
+    EventSchemaRegistry registry;
+    DomainEventSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EventSchemaRegistry();
+        serializer = new DomainEventSerializer(registry);
+    }
+
+    @Test
+    @DisplayName("공통 필드와 이벤트 본문을 그대로 복원한다")
+    void roundTrip_orderCreated() {
+        OrderCreatedEvent event = new OrderCreatedEvent("O-1", "O-1", null, METADATA,
+                new OrderCreatedEvent.OrderData("O-1", "ORD-O-1", "U-1",
+                        List.of(new OrderCreatedEvent.OrderItemData("P-1", 2, new BigDecimal("80000"))),
+                        new BigDecimal("163000.50"), "KRW"));
+
+        OrderCreatedEvent decoded = (OrderCreatedEvent) serializer.deserialize(serializer.serialize(event));
+
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+        assertThat(decoded.getEventType()).isEqualTo("OrderCreated");
+        assertThat(decoded.getEventVersion()).isEqualTo("1.0");
+        assertThat(decoded.getTimestamp().toEpochMilli()).isEqualTo(event.getTimestamp().toEpochMilli());
+        assertThat(decoded.getCausationId()).isNull();
+        assertThat(decoded.getMetadata()).isEqualTo(METADATA);
+        assertThat(decoded.getOrder().getUserId()).isEqualTo("U-1");
+        assertThat(decoded.getOrder().getTotal()).isEqualByComparingTo("163000.50");
+        assertThat(decoded.getOrder().getItems().get(0).getQuantity()).isEqualTo(2);
+        assertThat(decoded.getOrder().getItems().get(0).getUnitPrice()).isEqualByComparingTo("80000");
+        assertThat(EventTopics.topicOf(decoded)).isEqualTo(EventTopics.ORDER_CREATED);
+    }
+
+    @Test
+    @DisplayName("선택 필드가 비어 있어도 복원하고, JSON보다 작게 쓴다")
+    void roundTrip_inventoryReserved_compact() throws Exception {
+        ZonedDateTime expiresAt = ZonedDateTime.of(2026, 1, 1, 0, 10, 0, 0, ZoneOffset.UTC);
+        InventoryReservedEvent event = new InventoryReservedEvent("P-1", "O-1", null, METADATA,
+                new InventoryReservedEvent.InventoryData("P-1", 2, "O-1", expiresAt));
+
+        byte[] binary = serializer.serialize(event);
+        InventoryReservedEvent decoded = (InventoryReservedEvent) serializer.deserialize(binary);
+
+        assertThat(decoded.getInventory().getExpiresAt()).isEqualTo(expiresAt);
+        assertThat(decoded.getInventory().getOrderId()).isEqualTo("O-1");
+        assertThat(binary.length)
+                .isLessThan(new ObjectMapper().findAndRegisterModules().writeValueAsBytes(event).length / 2);
+    }
+
+    @Test
+    @DisplayName("이전 버전으로 쓴 이벤트를 최신 스키마로 읽는다 (추가 필드는 default)")
+    void deserialize_olderVersion() {
+        Schema v11 = new Schema.Parser().parse(registry.schema("OrderCancelled", "1.0").toString()
+                .replace("\"eventVersion\":\"1.0\"", "\"eventVersion\":\"1.1\"")
+                .replace("{\"name\":\"cancelledBy\"",
+                        "{\"name\":\"channel\",\"type\":\"string\",\"default\":\"web\"},{\"name\":\"cancelledBy\""));
+        EventSchemaRegistry versioned = new EventSchemaRegistry(
+                List.of(registry.schema("OrderCancelled", "1.0"), v11));
+        DomainEventSerializer versionedSerializer = new DomainEventSerializer(versioned);
+
+        OrderCancelledEvent event = new OrderCancelledEvent("O-1", "O-1", null, METADATA,
+                new OrderCancelledEvent.CancellationData("O-1", "User requested", "U-1"));
+
+        assertThat(versioned.latest("OrderCancelled")).isSameAs(v11);
+        OrderCancelledEvent decoded = (OrderCancelledEvent) versionedSerializer
+                .deserialize(versionedSerializer.serialize(event));
+        assertThat(decoded.getEventVersion()).isEqualTo("1.0");
+        assertThat(decoded.getCancellation().getReason()).isEqualTo("User requested");
+        assertThat(decoded.getCancellation().getCancelledBy()).isEqualTo("U-1");
+    }
+
+    @Test
+    @DisplayName("바이너리 이벤트가 아니면 예외가 발생한다")
+    void deserialize_notBinary_fails() {
+        assertThatThrownBy(() -> serializer.deserialize("{\"eventId\":\"1\"}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not a binary encoded event");
+    }
+
+    @Test
+    @DisplayName("eventId는 생성 시각이 앞에 오는 UUID(v7)이다")
+    void eventId_timeOrdered() {
+        OrderCancelledEvent first = new OrderCancelledEvent("O-1", "O-1", null, Map.of(), null);
+        OrderCancelledEvent second = new OrderCancelledEvent("O-1", "O-1", null, Map.of(), null);
+
+        UUID id = UUID.fromString(first.getEventId());
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(first.getTimestamp().toEpochMilli());
+        assertThat(second.getEventId()).isNotEqualTo(first.getEventId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EventIdBloomFilter 테스트")
+class EventIdBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있다고 답하고, 오탐률은 설정값 근처에 머문다")
+    void mightContain_noFalseNegatives() {
+        EventIdBloomFilter filter = new EventIdBloomFilter(10_000, 0.01);
+        String prefix = UUID.randomUUID().toString().substring(0, 24);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(prefix + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(prefix + i)).isTrue();
+        }
+        long falsePositives = 0;
+        for (int i = 10_000; i < 20_000; i++) {
+            if (filter.mightContain(prefix + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
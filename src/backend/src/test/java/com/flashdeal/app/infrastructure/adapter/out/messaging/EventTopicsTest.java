@@ -0,0 +1,71 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * 발행 토픽과 수신 토픽이 어긋나지 않는지 확인한다 (둘 다 EventTopics에서 정해야 한다)
+ */
+@DisplayName("EventTopics 테스트")
+class EventTopicsTest {
+
+    @Test
+    @DisplayName("리스너는 받는 이벤트 타입이 발행되는 토픽을 구독한다")
+    void listenerTopics_matchPublishedTopics() {
+        Map<String, Class<?>> listeners = topicListeners();
+
+        assertThat(listeners).isNotEmpty();
+        listeners.forEach((topic, eventType) -> assertThat(EventTopics.topicOf(eventType.asSubclass(DomainEvent.class)))
+                .as("listener for %s", eventType.getSimpleName())
+                .isEqualTo(topic));
+    }
+
+    @Test
+    @DisplayName("발행하는 모든 이벤트 타입에 리스너가 있다")
+    void everyPublishedTopic_hasListener() {
+        assertThat(topicListeners().keySet()).containsExactlyInAnyOrder(
+                EventTopics.topicOf(OrderCreatedEvent.class),
+                EventTopics.topicOf(OrderCancelledEvent.class),
+                EventTopics.topicOf(PaymentCompletedEvent.class),
+                EventTopics.topicOf(InventoryReservedEvent.class));
+    }
+
+    @Test
+    @DisplayName("재시도 토픽은 재시도 리스너의 패턴에 맞고 DLT는 맞지 않는다")
+    void failureTopics_matchRetryPattern() {
+        List<String> failureTopics = EventTopics.failureTopics();
+
+        assertThat(failureTopics).filteredOn(topic -> topic.endsWith(".dlt"))
+                .noneMatch(topic -> topic.matches(EventTopics.RETRY_TOPIC_PATTERN));
+        assertThat(failureTopics).filteredOn(topic -> !topic.endsWith(".dlt"))
+                .allMatch(topic -> topic.matches(EventTopics.RETRY_TOPIC_PATTERN));
+    }
+
+    /**
+     * 고정 토픽 리스너의 토픽 → 레코드 값 타입 (List<ConsumerRecord<String, X>>의 X)
+     */
+    private static Map<String, Class<?>> topicListeners() {
+        return Arrays.stream(KafkaEventConsumer.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(KafkaListener.class))
+                .filter(method -> method.getAnnotation(KafkaListener.class).topics().length > 0)
+                .flatMap(method -> Arrays.stream(method.getAnnotation(KafkaListener.class).topics())
+                        .map(topic -> Map.entry(topic, recordValueType(method))))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static Class<?> recordValueType(Method method) {
+        ParameterizedType records = (ParameterizedType) method.getGenericParameterTypes()[0];
+        ParameterizedType record = (ParameterizedType) records.getActualTypeArguments()[0];
+        return (Class<?>) record.getActualTypeArguments()[1];
+    }
+}
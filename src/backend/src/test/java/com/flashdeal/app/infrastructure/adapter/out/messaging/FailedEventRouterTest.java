@@ -0,0 +1,193 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import com.flashdeal.app.infrastructure.config.KafkaConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailedEventRouter 테스트")
+class FailedEventRouterTest {
+
+    @Mock
+    DomainEventPublisher publisher;
+
+    @Mock
+    ReactiveMongoTemplate mongoTemplate;
+
+    DomainEventSerializer serializer;
+    SimpleMeterRegistry meterRegistry;
+    FailedEventRouter router;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new DomainEventSerializer(new EventSchemaRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        router = new FailedEventRouter(publisher, serializer, mongoTemplate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 첫 재시도 토픽으로 보내고 원래 위치와 due-at을 헤더에 남긴다")
+    void route_transient_firstRetry() {
+        givenSendSucceeds();
+        ConsumerRecord<String, OrderCancelledEvent> record =
+                new ConsumerRecord<>("orders.cancelled", 1, 42L, "O-1", event());
+
+        StepVerifier.create(router.route(record, new DataAccessResourceFailureException("mongo down")))
+                .verifyComplete();
+
+        ProducerRecord<String, byte[]> sent = sent();
+        assertThat(sent.topic()).isEqualTo("orders.cancelled.retry-0");
+        assertThat(sent.key()).isEqualTo("O-1");
+        assertThat(header(sent, FailedEventRouter.ORIGINAL_TOPIC_HEADER)).isEqualTo("orders.cancelled");
+        assertThat(header(sent, FailedEventRouter.ORIGINAL_OFFSET_HEADER)).isEqualTo("42");
+        assertThat(header(sent, FailedEventRouter.ATTEMPT_HEADER)).isEqualTo("1");
+        assertThat(Long.parseLong(header(sent, FailedEventRouter.DUE_AT_HEADER)))
+                .isGreaterThan(Instant.now().toEpochMilli());
+        assertThat(((OrderCancelledEvent) serializer.deserialize(sent.value())).getEventId())
+                .isEqualTo(record.value().getEventId());
+        verify(mongoTemplate, never()).insert(any(DeadLetterDocument.class));
+    }
+
+    @Test
+    @DisplayName("재시도를 다 쓰면 DLT로 보내고 dead_letters에 원래 위치로 기록한다")
+    void route_retriesExhausted_deadLetter() {
+        givenSendSucceeds();
+        given(mongoTemplate.insert(any(DeadLetterDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ConsumerRecord<String, OrderCancelledEvent> record =
+                new ConsumerRecord<>("orders.cancelled.retry-2", 0, 7L, "O-1", event());
+        record.headers()
+                .add(FailedEventRouter.ORIGINAL_TOPIC_HEADER, bytes("orders.cancelled"))
+                .add(FailedEventRouter.ORIGINAL_PARTITION_HEADER, bytes("1"))
+                .add(FailedEventRouter.ORIGINAL_OFFSET_HEADER, bytes("42"))
+                .add(FailedEventRouter.ATTEMPT_HEADER, bytes("3"));
+
+        StepVerifier.create(router.route(record, new DataAccessResourceFailureException("mongo down")))
+                .verifyComplete();
+
+        assertThat(sent().topic()).isEqualTo("orders.cancelled.dlt");
+        ArgumentCaptor<DeadLetterDocument> captor = ArgumentCaptor.forClass(DeadLetterDocument.class);
+        verify(mongoTemplate).insert(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("orders.cancelled-1-42");
+        assertThat(captor.getValue().getAttempts()).isEqualTo(4);
+        assertThat(meterRegistry.counter(FailedEventRouter.FAILURE_METRIC, "topic", "orders.cancelled",
+                "result", "dead_letter", "error", "DataAccessResourceFailureException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 실패는 바로 DLT로 보낸다")
+    void route_fatal_deadLetterImmediately() {
+        givenSendSucceeds();
+        given(mongoTemplate.insert(any(DeadLetterDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ConsumerRecord<String, OrderCancelledEvent> record =
+                new ConsumerRecord<>("orders.cancelled", 0, 3L, "O-1", event());
+
+        StepVerifier.create(router.route(record, new IllegalStateException("Order already cancelled")))
+                .verifyComplete();
+
+        ProducerRecord<String, byte[]> sent = sent();
+        assertThat(sent.topic()).isEqualTo("orders.cancelled.dlt");
+        assertThat(header(sent, FailedEventRouter.EXCEPTION_HEADER)).isEqualTo(IllegalStateException.class.getName());
+    }
+
+    @Test
+    @DisplayName("복원하지 못한 레코드(poison)는 리스너를 거치지 않고 받은 바이트 그대로 DLT로 보낸다")
+    void route_poisonRecord_deadLettersRawBytes() {
+        givenSendSucceeds();
+        given(mongoTemplate.insert(any(DeadLetterDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        byte[] garbage = bytes("not an event");
+        Headers headers = new RecordHeaders();
+        DomainEvent value = KafkaConfig.eventValueDeserializer(serializer)
+                .deserialize("orders.cancelled", headers, garbage);
+        ConsumerRecord<String, DomainEvent> record = new ConsumerRecord<>("orders.cancelled", 0, 9L, 0L,
+                TimestampType.CREATE_TIME, 0, garbage.length, "O-1", value, headers, Optional.empty());
+        AtomicInteger handled = new AtomicInteger();
+
+        new KeyOrderedBatchProcessor(1, Duration.ofSeconds(5), router::route)
+                .process(List.of(record), ignored -> Mono.fromRunnable(handled::incrementAndGet));
+
+        assertThat(value).isNull();
+        assertThat(handled.get()).isZero();
+        ProducerRecord<String, byte[]> sent = sent();
+        assertThat(sent.topic()).isEqualTo("orders.cancelled.dlt");
+        assertThat(sent.value()).isEqualTo(garbage);
+        assertThat(header(sent, FailedEventRouter.EXCEPTION_HEADER))
+                .isEqualTo(DeserializationException.class.getName());
+        ArgumentCaptor<DeadLetterDocument> captor = ArgumentCaptor.forClass(DeadLetterDocument.class);
+        verify(mongoTemplate).insert(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("orders.cancelled-0-9");
+        assertThat(captor.getValue().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보내기에 실패하면 에러를 돌려준다")
+    void route_sendFails_propagates() {
+        given(publisher.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        ConsumerRecord<String, OrderCancelledEvent> record =
+                new ConsumerRecord<>("orders.cancelled", 0, 3L, "O-1", event());
+
+        StepVerifier.create(router.route(record, new DataAccessResourceFailureException("mongo down")))
+                .verifyErrorMessage("broker down");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenSendSucceeds() {
+        given(publisher.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProducerRecord<String, byte[]> sent() {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(publisher).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static OrderCancelledEvent event() {
+        return new OrderCancelledEvent("O-1", "O-1", null, Map.of(),
+                new OrderCancelledEvent.CancellationData("O-1", "User requested", "U-1"));
+    }
+}
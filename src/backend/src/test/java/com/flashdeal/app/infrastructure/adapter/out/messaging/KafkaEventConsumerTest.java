@@ -0,0 +1,159 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.flashdeal.app.TestDataFactory;
+import com.flashdeal.app.application.port.in.GetOrderUseCase;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.KafkaEventDocument;
+import com.flashdeal.app.infrastructure.config.KafkaConfig;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * outbox에 기록된 이벤트를 발행된 바이트 그대로 리스너에 다시 넣어 본다 (자기가 발행한 이벤트를 받는 경로)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaEventConsumer 테스트")
+class KafkaEventConsumerTest {
+
+    @Mock
+    GetOrderUseCase getOrderUseCase;
+
+    @Mock
+    ProcessedEventGuard processedEventGuard;
+
+    @Mock
+    FailedEventRouter failedEventRouter;
+
+    @Mock
+    Acknowledgment acknowledgment;
+
+    OrderOutbox outbox;
+    Deserializer<DomainEvent> valueDeserializer;
+    KafkaEventConsumer consumer;
+    Order order;
+    long offset;
+
+    @BeforeEach
+    void setUp() {
+        DomainEventSerializer serializer = new DomainEventSerializer(new EventSchemaRegistry());
+        outbox = new OrderOutbox(serializer);
+        valueDeserializer = KafkaConfig.eventValueDeserializer(serializer);
+        consumer = new KafkaEventConsumer(getOrderUseCase, processedEventGuard, failedEventRouter, 4);
+        order = TestDataFactory.createOrder();
+        // 중복 판정을 통과시킨다 (기록 전에 죽어 다시 받은 경우와 같다)
+        given(processedEventGuard.once(any(), any())).willAnswer(invocation -> {
+            ConsumerRecord<String, DomainEvent> record = invocation.getArgument(0);
+            Function<DomainEvent, Mono<?>> handler = invocation.getArgument(1);
+            return handler.apply(record.value()).then();
+        });
+    }
+
+    @Test
+    @DisplayName("신규 주문 이벤트를 두 번 받아도 주문 조회만 하고 DLT로 보내지 않는다")
+    void replayOrderCreated_readsOnly() {
+        given(getOrderUseCase.getOrder(order.orderId())).willReturn(Mono.just(order));
+        List<KafkaEventDocument> events = outbox.eventsFor(null, order);
+
+        for (int delivery = 0; delivery < 2; delivery++) {
+            consumer.handleOrderCreated(published(events, EventTopics.ORDER_CREATED), acknowledgment);
+            consumer.handleInventoryReserved(published(events, EventTopics.INVENTORY_RESERVED), acknowledgment);
+        }
+
+        verify(getOrderUseCase, times(2)).getOrder(order.orderId());
+        verifyNoMoreInteractions(getOrderUseCase);
+        verify(failedEventRouter, never()).route(any(), any());
+        verify(acknowledgment, times(4)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("결제 완료 이벤트는 이미 확정된 주문을 다시 전이하지 않는다")
+    void replayPaymentCompleted_doesNotTransitionAgain() {
+        Order confirmed = order.completePayment("tx-1").confirm();
+        given(getOrderUseCase.getOrder(order.orderId())).willReturn(Mono.just(confirmed));
+        List<KafkaEventDocument> events = outbox.eventsFor(order, confirmed);
+
+        consumer.handlePaymentCompleted(published(events, EventTopics.PAYMENT_COMPLETED), acknowledgment);
+        consumer.handlePaymentCompleted(published(events, EventTopics.PAYMENT_COMPLETED), acknowledgment);
+
+        verify(getOrderUseCase, times(2)).getOrder(order.orderId());
+        verifyNoMoreInteractions(getOrderUseCase);
+        verify(failedEventRouter, never()).route(any(), any());
+        verify(acknowledgment, times(2)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("취소 이벤트는 이미 취소된 주문을 다시 취소하지 않는다")
+    void replayOrderCancelled_doesNotCancelAgain() {
+        Order cancelled = order.cancel("User requested", order.userId().value());
+        given(getOrderUseCase.getOrder(order.orderId())).willReturn(Mono.just(cancelled));
+        List<KafkaEventDocument> events = outbox.eventsFor(order, cancelled);
+
+        consumer.handleOrderCancelled(published(events, EventTopics.ORDER_CANCELLED), acknowledgment);
+
+        verify(getOrderUseCase).getOrder(order.orderId());
+        verifyNoMoreInteractions(getOrderUseCase);
+        verify(failedEventRouter, never()).route(any(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("없는 주문의 이벤트는 실패로 넘긴다")
+    void orderNotFound_routesFailure() {
+        given(getOrderUseCase.getOrder(order.orderId()))
+                .willReturn(Mono.error(new IllegalArgumentException("Order not found: " + order.orderId())));
+        given(failedEventRouter.route(any(), any())).willReturn(Mono.empty());
+        List<KafkaEventDocument> events = outbox.eventsFor(null, order);
+
+        consumer.handleOrderCreated(published(events, EventTopics.ORDER_CREATED), acknowledgment);
+
+        verify(failedEventRouter).route(any(), any(IllegalArgumentException.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    /**
+     * outbox 이벤트를 리스너 컨테이너와 같은 값 역직렬화기로 복원한 레코드
+     */
+    @SuppressWarnings("unchecked")
+    private <E extends DomainEvent> List<ConsumerRecord<String, E>> published(List<KafkaEventDocument> events,
+                                                                             String topic) {
+        List<ConsumerRecord<String, E>> records = new ArrayList<>();
+        for (KafkaEventDocument event : events) {
+            if (!event.getTopic().equals(topic)) {
+                continue;
+            }
+            Headers headers = new RecordHeaders();
+            E value = (E) valueDeserializer.deserialize(topic, headers, event.getPayload());
+            assertThat(value).isNotNull();
+            records.add(new ConsumerRecord<>(topic, 0, offset++, 0L, TimestampType.CREATE_TIME, 0,
+                    event.getPayload().length, event.getKey(), value, headers, Optional.empty()));
+        }
+        assertThat(records).isNotEmpty();
+        return records;
+    }
+}
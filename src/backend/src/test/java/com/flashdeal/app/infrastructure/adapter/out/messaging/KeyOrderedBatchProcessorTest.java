@@ -0,0 +1,142 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import reactor.core.publisher.Mono;
+
+@DisplayName("KeyOrderedBatchProcessor 테스트")
+class KeyOrderedBatchProcessorTest {
+
+    @Test
+    @DisplayName("같은 키는 offset 순서대로 처리하고, 묶음이 끝난 뒤에 반환한다")
+    void process_sameKeyInOrder() {
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, Duration.ofSeconds(5));
+        List<ConsumerRecord<String, OrderCancelledEvent>> records = List.of(
+                record("O-1", 0, "first"),
+                record("O-2", 1, "other"),
+                record("O-1", 2, "second"),
+                record("O-1", 3, "third"));
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        processor.process(records, record -> Mono.delay(Duration.ofMillis(
+                        reason(record).equals("first") ? 50 : 1))
+                .doOnNext(tick -> handled.add(reason(record))));
+
+        assertThat(handled).hasSize(4);
+        assertThat(handled.stream().filter(reason -> !reason.equals("other")).toList())
+                .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("동시에 처리하는 키 수는 concurrency를 넘지 않는다")
+    void process_boundedConcurrency() {
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(2, Duration.ofSeconds(5));
+        List<ConsumerRecord<String, OrderCancelledEvent>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(record("O-" + i, i, "reason"));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        processor.process(records, record -> Mono.defer(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.delay(Duration.ofMillis(10));
+                })
+                .doOnTerminate(inFlight::decrementAndGet));
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("레코드 하나가 실패해도 같은 키의 다음 레코드를 처리한다")
+    void process_failureContinues() {
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, Duration.ofSeconds(5));
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        processor.process(List.of(record("O-1", 0, "fail"), record("O-1", 1, "ok")), record -> {
+            if (reason(record).equals("fail")) {
+                throw new IllegalStateException("boom");
+            }
+            handled.add(reason(record));
+            return Mono.empty();
+        });
+
+        assertThat(handled).containsExactly("ok");
+    }
+
+    @Test
+    @DisplayName("실패한 레코드는 실패 처리기에 넘기고, 실패 처리기가 실패하면 예외가 발생한다")
+    void process_failureHandler() {
+        List<String> failed = new CopyOnWriteArrayList<>();
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, Duration.ofSeconds(5),
+                (record, error) -> {
+                    failed.add(record.key() + ":" + error.getMessage());
+                    return Mono.empty();
+                });
+
+        processor.process(List.of(record("O-1", 0, "fail"), record("O-2", 1, "ok")),
+                record -> reason(record).equals("fail") ? Mono.error(new IllegalStateException("boom")) : Mono.empty());
+
+        assertThat(failed).containsExactly("O-1:boom");
+
+        KeyOrderedBatchProcessor failing = new KeyOrderedBatchProcessor(4, Duration.ofSeconds(5),
+                (record, error) -> Mono.error(new IllegalStateException("broker down")));
+        assertThatThrownBy(() -> failing.process(List.of(record("O-1", 0, "fail")),
+                record -> Mono.error(new IllegalStateException("boom"))))
+                .hasMessageContaining("broker down");
+    }
+
+    @Test
+    @DisplayName("값을 복원하지 못한 레코드는 처리하지 않고 실패 처리기에 넘긴다")
+    void process_undecodableRecord() {
+        List<Throwable> failed = new CopyOnWriteArrayList<>();
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, Duration.ofSeconds(5),
+                (record, error) -> {
+                    failed.add(error);
+                    return Mono.empty();
+                });
+        AtomicInteger handled = new AtomicInteger();
+
+        processor.process(List.of(new ConsumerRecord<String, OrderCancelledEvent>("order.cancelled", 0, 0L, "O-1", null)),
+                record -> {
+                    handled.incrementAndGet();
+                    return Mono.empty();
+                });
+
+        assertThat(handled.get()).isZero();
+        assertThat(failed).singleElement().isInstanceOf(DeserializationException.class);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 예외가 발생한다")
+    void process_timeout_fails() {
+        KeyOrderedBatchProcessor processor = new KeyOrderedBatchProcessor(4, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> processor.process(List.of(record("O-1", 0, "slow")),
+                record -> Mono.delay(Duration.ofSeconds(5))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ConsumerRecord<String, OrderCancelledEvent> record(String key, long offset, String reason) {
+        return new ConsumerRecord<>("order.cancelled", 0, offset, key,
+                new OrderCancelledEvent(key, key, null, Map.of(),
+                        new OrderCancelledEvent.CancellationData(key, reason, "U-1")));
+    }
+
+    private static String reason(ConsumerRecord<String, OrderCancelledEvent> record) {
+        return record.value().getCancellation().getReason();
+    }
+}
@@ -0,0 +1,79 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.flashdeal.app.TestDataFactory;
+import com.flashdeal.app.domain.order.Order;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.KafkaEventDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+
+@DisplayName("OrderOutbox 테스트")
+class OrderOutboxTest {
+
+    DomainEventSerializer serializer;
+    OrderOutbox outbox;
+    Order order;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new DomainEventSerializer(new EventSchemaRegistry());
+        outbox = new OrderOutbox(serializer);
+        order = TestDataFactory.createOrder();
+    }
+
+    @Test
+    @DisplayName("신규 주문은 OrderCreated와 항목별 InventoryReserved를 발행 대기로 기록한다")
+    void record_newOrder() {
+        OrderDocument document = new OrderDocument();
+        document.setKafkaEvents(new ArrayList<>());
+
+        outbox.record(document, null, order);
+
+        List<KafkaEventDocument> events = document.getKafkaEvents();
+        assertThat(events).extracting(KafkaEventDocument::getEventType)
+                .containsExactly("OrderCreated", "InventoryReserved");
+        assertThat(events).extracting(KafkaEventDocument::getTopic)
+                .containsExactly(EventTopics.ORDER_CREATED, EventTopics.INVENTORY_RESERVED);
+        assertThat(events.get(0).getKey()).isEqualTo(order.orderId().value());
+        assertThat(events.get(1).getKey()).isEqualTo(order.items().get(0).productId().value());
+        assertThat(events).allSatisfy(event -> assertThat(event.getPublishedAt()).isNull());
+        assertThat(document.getOutboxPending()).isTrue();
+
+        OrderCreatedEvent payload = (OrderCreatedEvent) serializer.deserialize(events.get(0).getPayload());
+        assertThat(payload.getEventId()).isEqualTo(events.get(0).getEventId());
+        assertThat(payload.getOrder().getOrderId()).isEqualTo(order.orderId().value());
+        assertThat(payload.getOrder().getItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("결제 완료와 취소는 각각 한 번만 기록하고, 그 밖의 변경은 기록하지 않는다")
+    void eventsFor_transitions() {
+        Order confirmed = order.completePayment("tx-1").confirm();
+        Order cancelled = order.cancel("User requested", order.userId().value());
+
+        assertThat(outbox.eventsFor(order, confirmed)).extracting(KafkaEventDocument::getEventType)
+                .containsExactly("PaymentCompleted");
+        assertThat(outbox.eventsFor(order, cancelled)).extracting(KafkaEventDocument::getEventType)
+                .containsExactly("OrderCancelled");
+        assertThat(outbox.eventsFor(cancelled, cancelled)).isEmpty();
+        assertThat(outbox.eventsFor(confirmed, confirmed.ship())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록할 이벤트가 없으면 문서를 바꾸지 않는다")
+    void record_noEvents_keepsDocument() {
+        OrderDocument document = new OrderDocument();
+
+        outbox.record(document, order, order);
+
+        assertThat(document.getKafkaEvents()).isNull();
+        assertThat(document.getOutboxPending()).isNull();
+    }
+}
@@ -0,0 +1,189 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.SendResult;
+
+import com.flashdeal.app.application.service.PartitionedJobRunner;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.KafkaEventDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.OrderDocument;
+import com.mongodb.bulk.BulkWriteResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final String TOPIC = "orders.created";
+
+    @Mock
+    ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    ReactiveBulkOperations bulk;
+
+    @Mock
+    DomainEventPublisher publisher;
+
+    @Mock
+    PartitionedJobRunner jobRunner;
+
+    SimpleMeterRegistry meterRegistry;
+    OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(mongoTemplate, publisher, jobRunner, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트만 보내고, 이벤트 표시 뒤에 outboxPending을 지우는 ORDERED bulk로 기록한다")
+    void relayBatch_sendsPendingEvents_marksPublishedBeforeClearing() {
+        givenOrders(order("O-1", event("E-1", Instant.now()), event("E-2", null)));
+        givenBulk();
+        given(publisher.send(eq(TOPIC), eq("O-1"), any(byte[].class))).willReturn(sent(3, 42L));
+
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(1L)
+                .verifyComplete();
+
+        verify(publisher, times(1)).send(anyString(), anyString(), any(byte[].class));
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        InOrder order = inOrder(mongoTemplate, bulk);
+        order.verify(mongoTemplate).bulkOps(BulkMode.ORDERED, OrderDocument.class);
+        order.verify(bulk, times(2)).updateOne(queries.capture(), updates.capture());
+        order.verify(bulk).execute();
+
+        assertThat(queries.getAllValues().get(0).getQueryObject().get("kafkaEvents.eventId")).isEqualTo("E-2");
+        Document marked = updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class);
+        assertThat(marked.get("kafkaEvents.$.partition")).isEqualTo(3);
+        assertThat(marked.get("kafkaEvents.$.offset")).isEqualTo(42L);
+        assertThat(updates.getAllValues().get(1).getUpdateObject().get("$unset", Document.class))
+                .containsKey("outboxPending");
+        assertThat(meterRegistry.counter(OutboxRelay.PUBLISHED_METRIC, "topic", TOPIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("보낼 이벤트가 없는 대기 주문도 outboxPending을 지운다")
+    void relayBatch_nothingToSend_stillClearsPending() {
+        givenOrders(order("O-1", event("E-1", Instant.now())));
+        givenBulk();
+
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(publisher, never()).send(anyString(), anyString(), any(byte[].class));
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).updateOne(any(Query.class), updates.capture());
+        assertThat(updates.getValue().getUpdateObject().get("$unset", Document.class)).containsKey("outboxPending");
+        verify(bulk).execute();
+    }
+
+    @Test
+    @DisplayName("send가 실패한 이벤트는 발행 완료로 표시하지 않는다")
+    void relayBatch_sendFails_leavesEventPending() {
+        givenOrders(order("O-1", event("E-1", null)));
+        givenBulk();
+        given(publisher.send(eq(TOPIC), eq("O-1"), any(byte[].class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulk).updateOne(any(Query.class), updates.capture());
+        assertThat(updates.getValue().getUpdateObject().get("$unset", Document.class)).containsKey("outboxPending");
+        assertThat(meterRegistry.counter(OutboxRelay.FAILED_METRIC, "topic", TOPIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 주문이 없으면 bulk를 실행하지 않는다")
+    void relayBatch_noPendingOrders_doesNothing() {
+        given(mongoTemplate.find(any(Query.class), eq(OrderDocument.class))).willReturn(Flux.empty());
+
+        StepVerifier.create(relay.relayBatch())
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), eq(OrderDocument.class));
+    }
+
+    @Test
+    @DisplayName("relay는 파티션 하나짜리 lease 작업으로 실행된다")
+    void relay_runsAsSinglePartitionJob() {
+        given(jobRunner.run(eq(OutboxRelay.RELAY_JOB), eq(1), eq(Duration.ofMillis(100)), eq(1), any()))
+                .willReturn(Mono.just(0L));
+
+        relay.relay();
+
+        verify(jobRunner).run(eq(OutboxRelay.RELAY_JOB), eq(1), eq(Duration.ofMillis(100)), eq(1), any());
+    }
+
+    private void givenOrders(OrderDocument... orders) {
+        given(mongoTemplate.find(any(Query.class), eq(OrderDocument.class))).willReturn(Flux.just(orders));
+    }
+
+    private void givenBulk() {
+        given(mongoTemplate.bulkOps(BulkMode.ORDERED, OrderDocument.class)).willReturn(bulk);
+        given(bulk.updateOne(any(Query.class), any(Update.class))).willReturn(bulk);
+        given(bulk.execute()).willReturn(Mono.just(BulkWriteResult.unacknowledged()));
+    }
+
+    private static OrderDocument order(String id, KafkaEventDocument... events) {
+        OrderDocument order = new OrderDocument();
+        order.setId(id);
+        order.setOutboxPending(true);
+        order.setKafkaEvents(List.of(events));
+        return order;
+    }
+
+    private static KafkaEventDocument event(String eventId, Instant publishedAt) {
+        return new KafkaEventDocument(eventId, "OrderCreated", TOPIC, "O-1", null, null, publishedAt,
+                eventId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> sent(int partition, long offset) {
+        return CompletableFuture.completedFuture(new SendResult<>(
+                new ProducerRecord<>(TOPIC, "O-1", new byte[0]),
+                new RecordMetadata(new TopicPartition(TOPIC, partition), offset, 0, 0L, 0, 0)));
+    }
+}
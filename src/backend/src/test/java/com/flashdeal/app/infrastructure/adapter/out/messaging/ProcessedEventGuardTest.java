@@ -0,0 +1,158 @@
+package com.flashdeal.app.infrastructure.adapter.out.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessedEventGuard 테스트")
+class ProcessedEventGuardTest {
+
+    @Mock
+    ReactiveMongoTemplate mongoTemplate;
+
+    SimpleMeterRegistry meterRegistry;
+    ProcessedEventGuard guard;
+    AtomicInteger handled;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ProcessedEventGuard(mongoTemplate, meterRegistry, "flashdeal-group");
+        handled = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("새 이벤트는 조회 없이 처리하고 기록하며, 다시 받으면 건너뛴다")
+    void once_newThenDuplicate() {
+        givenProcessedEvents();
+        given(mongoTemplate.insert(any(ProcessedEventDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ConsumerRecord<String, OrderCancelledEvent> record = record("E-1");
+
+        StepVerifier.create(guard.once(record, this::handle)).verifyComplete();
+        StepVerifier.create(guard.once(record, this::handle)).verifyComplete();
+
+        assertThat(handled.get()).isEqualTo(1);
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(ProcessedEventDocument.class));
+        verify(mongoTemplate, times(1)).insert(any(ProcessedEventDocument.class));
+        assertThat(counter("new")).isEqualTo(1);
+        assertThat(counter("duplicate_recent")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션의 처리 기록으로 필터를 채우고, 필터에 있으면 조회해 판정한다")
+    void once_seededDuplicate_lookup() {
+        givenProcessedEvents(new ProcessedEventDocument("E-1", "OrderCancelled", "O-1",
+                "order.cancelled", 0, "flashdeal-group", "PROCESSED"));
+        given(mongoTemplate.exists(any(Query.class), eq(ProcessedEventDocument.class))).willReturn(Mono.just(true));
+
+        StepVerifier.create(guard.once(record("E-1"), this::handle)).verifyComplete();
+
+        assertThat(handled.get()).isZero();
+        assertThat(counter("duplicate_stored")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 이벤트는 기록하지 않아 다시 받으면 조회 후 처리한다")
+    void once_failure_notRecorded() {
+        givenProcessedEvents();
+        given(mongoTemplate.exists(any(Query.class), eq(ProcessedEventDocument.class))).willReturn(Mono.just(false));
+        given(mongoTemplate.insert(any(ProcessedEventDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ConsumerRecord<String, OrderCancelledEvent> record = record("E-1");
+
+        StepVerifier.create(guard.once(record, event -> Mono.error(new IllegalStateException("boom"))))
+                .verifyError(IllegalStateException.class);
+        StepVerifier.create(guard.once(record, this::handle)).verifyComplete();
+
+        assertThat(handled.get()).isEqualTo(1);
+        verify(mongoTemplate, times(1)).insert(any(ProcessedEventDocument.class));
+        assertThat(counter("new_after_lookup")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 토픽의 이벤트는 항상 조회하고 원래 토픽/파티션으로 기록한다")
+    void onceAfterLookup_recordsSourcePartition() {
+        given(mongoTemplate.exists(any(Query.class), eq(ProcessedEventDocument.class))).willReturn(Mono.just(false));
+        given(mongoTemplate.insert(any(ProcessedEventDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        OrderCancelledEvent event = record("E-1").value();
+        ConsumerRecord<String, OrderCancelledEvent> retry =
+                new ConsumerRecord<>("order.cancelled.retry-0", 2, 5L, "O-1", event);
+
+        StepVerifier.create(guard.onceAfterLookup(retry, new TopicPartition("order.cancelled", 0), this::handle))
+                .verifyComplete();
+
+        ArgumentCaptor<ProcessedEventDocument> captor = ArgumentCaptor.forClass(ProcessedEventDocument.class);
+        verify(mongoTemplate).insert(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("order.cancelled");
+        assertThat(captor.getValue().getPartition()).isZero();
+        assertThat(handled.get()).isEqualTo(1);
+        verify(mongoTemplate, never()).count(any(Query.class), eq(ProcessedEventDocument.class));
+    }
+
+    @Test
+    @DisplayName("파티션을 잃었다가 다시 받으면 처리 기록을 다시 읽는다")
+    void onPartitionsRevoked_reloads() {
+        givenProcessedEvents();
+        given(mongoTemplate.insert(any(ProcessedEventDocument.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(guard.once(record("E-1"), this::handle)).verifyComplete();
+        guard.onPartitionsRevoked(List.of(new TopicPartition("order.cancelled", 0)));
+        StepVerifier.create(guard.once(record("E-2"), this::handle)).verifyComplete();
+
+        verify(mongoTemplate, times(2)).count(any(Query.class), eq(ProcessedEventDocument.class));
+    }
+
+    private void givenProcessedEvents(ProcessedEventDocument... documents) {
+        given(mongoTemplate.count(any(Query.class), eq(ProcessedEventDocument.class)))
+                .willReturn(Mono.just((long) documents.length));
+        given(mongoTemplate.find(any(Query.class), eq(ProcessedEventDocument.class)))
+                .willReturn(Flux.just(documents));
+    }
+
+    private Mono<Void> handle(OrderCancelledEvent event) {
+        handled.incrementAndGet();
+        return Mono.empty();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.counter(ProcessedEventGuard.DEDUPE_METRIC,
+                "topic", "order.cancelled", "result", result).count();
+    }
+
+    private static ConsumerRecord<String, OrderCancelledEvent> record(String eventId) {
+        OrderCancelledEvent event = new OrderCancelledEvent(
+                new DomainEvent.EventHeader(eventId, "1.0", Instant.now(), "O-1", "O-1", null, Map.of()),
+                new OrderCancelledEvent.CancellationData("O-1", "User requested", "U-1"));
+        return new ConsumerRecord<>("order.cancelled", 0, 0L, "O-1", event);
+    }
+}
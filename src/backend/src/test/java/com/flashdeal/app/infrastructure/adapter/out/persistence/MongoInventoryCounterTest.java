@@ -0,0 +1,102 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.application.port.out.InventoryRepository;
+import com.flashdeal.app.domain.inventory.Inventory;
+import com.flashdeal.app.domain.inventory.InventoryId;
+import com.flashdeal.app.domain.inventory.Policy;
+import com.flashdeal.app.domain.inventory.Quantity;
+import com.flashdeal.app.domain.inventory.Stock;
+import com.flashdeal.app.domain.product.ProductId;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MongoInventoryCounter 테스트")
+class MongoInventoryCounterTest {
+
+    @Mock
+    InventoryRepository inventoryRepository;
+
+    @InjectMocks
+    MongoInventoryCounter inventoryCounter;
+
+    ProductId productId;
+    Inventory inventory;
+
+    @BeforeEach
+    void setUp() {
+        productId = new ProductId("P-1");
+        inventory = new Inventory(
+                new InventoryId("I-1"),
+                productId,
+                new Stock(new Quantity(10), new Quantity(0), new Quantity(2), new Quantity(8)),
+                new Policy(5, 600, 10));
+    }
+
+    @Test
+    @DisplayName("조건부 갱신이 성공하면 갱신된 재고를 반환한다")
+    void reserve_applied() {
+        Stock reserved = new Stock(new Quantity(10), new Quantity(1), new Quantity(1), new Quantity(8));
+        given(inventoryRepository.tryReserve(productId, new Quantity(1))).willReturn(Mono.just(reserved));
+
+        StepVerifier.create(inventoryCounter.reserve(productId, new Quantity(1), null))
+                .expectNext(reserved)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("가용 재고가 부족해 갱신이 거부되면 예외가 발생한다")
+    void reserve_insufficient_fails() {
+        given(inventoryRepository.tryReserve(productId, new Quantity(3))).willReturn(Mono.empty());
+        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(inventory));
+
+        StepVerifier.create(inventoryCounter.reserve(productId, new Quantity(3), null))
+                .expectErrorMatches(e -> e instanceof IllegalStateException
+                        && e.getMessage().equals("Cannot reserve 3: only 2 available"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("구매 한도를 넘으면 예외가 발생한다")
+    void reserve_overLimit_fails() {
+        given(inventoryRepository.tryReserve(productId, new Quantity(11))).willReturn(Mono.empty());
+        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(inventory));
+
+        StepVerifier.create(inventoryCounter.reserve(productId, new Quantity(11), null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("재고 문서가 없으면 빈 결과를 반환한다")
+    void reserve_missing_empty() {
+        given(inventoryRepository.tryReserve(productId, new Quantity(1))).willReturn(Mono.empty());
+        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.empty());
+
+        StepVerifier.create(inventoryCounter.reserve(productId, new Quantity(1), null))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("예약 수량보다 많이 확정하면 예외가 발생한다")
+    void confirm_insufficientReserved_fails() {
+        given(inventoryRepository.tryConfirm(productId, new Quantity(1))).willReturn(Mono.empty());
+        given(inventoryRepository.findByProductId(productId)).willReturn(Mono.just(inventory));
+
+        StepVerifier.create(inventoryCounter.confirm(productId, new Quantity(1)))
+                .expectErrorMatches(e -> e instanceof IllegalArgumentException
+                        && e.getMessage().equals("Cannot confirm 1: only 0 reserved"))
+                .verify();
+    }
+}
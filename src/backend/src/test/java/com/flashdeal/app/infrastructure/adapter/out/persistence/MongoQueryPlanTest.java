@@ -0,0 +1,218 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.repository.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.InventoryMongoRepository;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.OrderMongoRepository;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.ProductMongoRepository;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검증
+ *
+ * 기동 시와 같은 방식으로 인덱스를 만든 뒤 각 리포지토리 메서드의 필터로 explain()을 실행하고,
+ * winningPlan에 COLLSCAN이 있으면 실패한다. @Query는 애노테이션의 쿼리에 예시 값을 채워 쓰고,
+ * 파생 쿼리는 DERIVED_QUERIES에 필터를 적어 둔다. 어느 쪽에도 없는 메서드가 생기면 실패한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SuppressWarnings("resource")
+@DisplayName("MongoDB 쿼리 실행 계획 테스트")
+class MongoQueryPlanTest {
+
+    @Container
+    static final MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.4.2"))
+            .withStartupTimeout(Duration.ofSeconds(60));
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?(\\d+)");
+
+    /**
+     * 인덱스 없이 읽는 것을 허용하는 쿼리
+     */
+    private static final Set<String> SCAN_ALLOWED = Set.of(
+            // 전체 요약 (전체 문서를 읽는 것이 목적)
+            "InventoryMongoRepository.findInventorySummary",
+            "InventoryMongoRepository.findAllTotalStock",
+            "OrderMongoRepository.findOrderSummary",
+            // 배열 존재 여부 ($ne: []는 인덱스 범위로 좁혀지지 않는다)
+            "InventoryMongoRepository.findItemsWithEvents",
+            "InventoryMongoRepository.findItemsWithAdjustments",
+            "OrderMongoRepository.findOrdersWithKafkaEvents",
+            "OrderMongoRepository.findOrdersWithStatusHistory",
+            // 서비스 경로에서 쓰지 않는 관리/분석용 조회 (사용하게 되면 인덱스를 추가하고 여기서 뺀다)
+            "InventoryMongoRepository.findRestockEnabledItems",
+            "InventoryMongoRepository.findByEventType",
+            "InventoryMongoRepository.findBySyncVersion",
+            "InventoryMongoRepository.findItemsNotSyncedRecently",
+            "OrderMongoRepository.findByPaymentStatus",
+            "OrderMongoRepository.findByTotalAmountRange",
+            "OrderMongoRepository.findCancelledOrders",
+            "OrderMongoRepository.findPartiallyCancelledOrders",
+            "OrderMongoRepository.findRefundedOrders",
+            "OrderMongoRepository.findByPaymentMethod",
+            "OrderMongoRepository.findByShippingCarrier",
+            "OrderMongoRepository.findByStatusHistoryActor",
+            "OrderMongoRepository.findBySource",
+            "OrderMongoRepository.findByExperimentGroup",
+            "OrderMongoRepository.findByCustomerSegment");
+
+    /**
+     * 파생 쿼리(@Query 없음)가 만드는 필터
+     */
+    private static final Map<String, String> DERIVED_QUERIES = Map.ofEntries(
+            entry("ProductMongoRepository.findByStatus", "{ 'status': 'ACTIVE' }"),
+            entry("ProductMongoRepository.findByCategory", "{ 'category': 'sample' }"),
+            entry("ProductMongoRepository.findByStatusAndCategory", "{ 'status': 'ACTIVE', 'category': 'sample' }"),
+            entry("ProductMongoRepository.existsByStatusAndId", "{ 'status': 'ACTIVE', '_id': 'sample' }"),
+            entry("ProductMongoRepository.countByCategoryAndStatus", "{ 'category': 'sample', 'status': 'ACTIVE' }"),
+            entry("ProductMongoRepository.countByStatus", "{ 'status': 'ACTIVE' }"),
+            entry("InventoryMongoRepository.findByProductId", "{ 'productId': 'sample' }"),
+            entry("InventoryMongoRepository.existsByProductId", "{ 'productId': 'sample' }"),
+            entry("InventoryMongoRepository.findByLevel", "{ 'level': 'HIGH' }"),
+            entry("InventoryMongoRepository.findByLevelAndStockAvailableGreaterThan",
+                    "{ 'level': 'HIGH', 'stock.available': { $gt: 1 } }"),
+            entry("InventoryMongoRepository.findByProductIdIn", "{ 'productId': { $in: ['a', 'b'] } }"),
+            entry("InventoryMongoRepository.countByLevel", "{ 'level': 'HIGH' }"),
+            entry("OrderMongoRepository.findByStatus", "{ 'status': 'PENDING' }"),
+            entry("OrderMongoRepository.findAllByIdempotencyKey", "{ 'idempotencyKey': 'sample' }"),
+            entry("OrderMongoRepository.findByOrderNumber", "{ 'orderNumber': 'sample' }"),
+            entry("OrderMongoRepository.findByUserIdOrderByCreatedAtDesc", "{ 'user.id': 'sample' }"),
+            entry("OrderMongoRepository.countByStatus", "{ 'status': 'PENDING' }"),
+            entry("OrderMongoRepository.countByUserId", "{ 'user.id': 'sample' }"),
+            entry("OrderMongoRepository.existsByIdempotencyKey", "{ 'idempotencyKey': 'sample' }"),
+            entry("OrderMongoRepository.existsByOrderNumber", "{ 'orderNumber': 'sample' }"));
+
+    static MongoClient mongoClient;
+    static ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        mongoTemplate = new ReactiveMongoTemplate(mongoClient, "query-plan-test");
+        new MongoSchemaInitializer(mongoTemplate).run(null);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @TestFactory
+    @DisplayName("리포지토리 쿼리는 인덱스를 사용한다 (COLLSCAN 없음)")
+    Stream<DynamicTest> repositoryQueries_useIndexes() {
+        return Stream.of(ProductMongoRepository.class, InventoryMongoRepository.class, OrderMongoRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isDefault())
+                        .map(method -> DynamicTest.dynamicTest(
+                                repository.getSimpleName() + "." + method.getName(),
+                                () -> assertIndexed(repository, method))));
+    }
+
+    private void assertIndexed(Class<?> repository, Method method) {
+        String key = repository.getSimpleName() + "." + method.getName();
+        if (SCAN_ALLOWED.contains(key)) {
+            return;
+        }
+        Document filter = filterFor(key, method);
+        String collection = mongoTemplate.getCollectionName(documentType(repository));
+
+        Document explain = mongoTemplate.getCollection(collection)
+                .flatMap(mongoCollection -> Mono.from(mongoCollection.find(filter).explain()))
+                .block(Duration.ofSeconds(10));
+
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        assertThat(stages(winningPlan))
+                .as("%s %s", key, filter.toJson())
+                .doesNotContain("COLLSCAN");
+    }
+
+    private Document filterFor(String key, Method method) {
+        Query query = method.getAnnotation(Query.class);
+        if (query != null) {
+            return bind(query.value(), method);
+        }
+        String derived = DERIVED_QUERIES.get(key);
+        if (derived == null) {
+            fail("No query plan check for " + key + ": add it to DERIVED_QUERIES or SCAN_ALLOWED");
+        }
+        return Document.parse(derived);
+    }
+
+    private static Document bind(String query, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Matcher matcher = PLACEHOLDER.matcher(query);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String sample = sample(parameterTypes[Integer.parseInt(matcher.group(1))]);
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(sample));
+        }
+        matcher.appendTail(bound);
+        return Document.parse(bound.toString());
+    }
+
+    private static String sample(Class<?> type) {
+        if (type.isEnum()) {
+            return "'" + ((Enum<?>) type.getEnumConstants()[0]).name() + "'";
+        }
+        if (type == Instant.class) {
+            return "{ $date: '2025-01-01T00:00:00Z' }";
+        }
+        if (type == BigDecimal.class) {
+            return "{ $numberDecimal: '1' }";
+        }
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
+            return "1";
+        }
+        return "'sample'";
+    }
+
+    private static Class<?> documentType(Class<?> repository) {
+        ParameterizedType mongoRepository = (ParameterizedType) repository.getGenericInterfaces()[0];
+        return (Class<?>) mongoRepository.getActualTypeArguments()[0];
+    }
+
+    private static List<String> stages(Document plan) {
+        List<String> stages = new ArrayList<>();
+        stages.add(plan.getString("stage"));
+        Document inputStage = plan.get("inputStage", Document.class);
+        if (inputStage != null) {
+            stages.addAll(stages(inputStage));
+        }
+        List<Document> inputStages = plan.getList("inputStages", Document.class);
+        if (inputStages != null) {
+            inputStages.forEach(child -> stages.addAll(stages(child)));
+        }
+        return stages;
+    }
+}
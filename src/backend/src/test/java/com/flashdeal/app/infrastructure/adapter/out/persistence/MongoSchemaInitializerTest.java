@@ -0,0 +1,87 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+/**
+ * 가격 필터/정렬 필드(price.saleMinor, price.rate)가 없는 기존 상품 문서를 기동 시 채우는지 확인한다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SuppressWarnings("resource")
+@DisplayName("MongoSchemaInitializer 테스트")
+class MongoSchemaInitializerTest {
+
+    @Container
+    static final MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.4.2"))
+            .withStartupTimeout(Duration.ofSeconds(60));
+
+    static MongoClient mongoClient;
+    static ReactiveMongoTemplate mongoTemplate;
+    static String collection;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        mongoTemplate = new ReactiveMongoTemplate(mongoClient, "schema-initializer-test");
+        collection = mongoTemplate.getCollectionName(ProductDocument.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("saleMinor/rate가 없는 상품만 채우고 이미 있는 값은 건드리지 않는다")
+    void run_backfillsMissingPriceFields() {
+        mongoTemplate.insert(product("P-1", price("29.99", "19.99")), collection).block();
+        mongoTemplate.insert(product("P-2", price("100000", "80000").append("rate", 20)), collection).block();
+        mongoTemplate.insert(product("P-3", price("100", "50").append("saleMinor", 1L).append("rate", 1)),
+                collection).block();
+
+        new MongoSchemaInitializer(mongoTemplate).run(null);
+
+        assertThat(priceOf("P-1").getLong("saleMinor")).isEqualTo(1999L);
+        assertThat(priceOf("P-1").getInteger("rate")).isEqualTo(33);
+        assertThat(priceOf("P-2").getLong("saleMinor")).isEqualTo(8000000L);
+        assertThat(priceOf("P-2").getInteger("rate")).isEqualTo(20);
+        assertThat(priceOf("P-3").getLong("saleMinor")).isEqualTo(1L);
+        assertThat(priceOf("P-3").getInteger("rate")).isEqualTo(1);
+    }
+
+    private static Document product(String id, Document price) {
+        return new Document("_id", id).append("title", id).append("price", price);
+    }
+
+    private static Document price(String original, String sale) {
+        return new Document("original", new Decimal128(new BigDecimal(original)))
+                .append("sale", new Decimal128(new BigDecimal(sale)))
+                .append("currency", "KRW");
+    }
+
+    private static Document priceOf(String id) {
+        return mongoTemplate.findOne(Query.query(Criteria.where("_id").is(id)), Document.class, collection)
+                .map(document -> document.get("price", Document.class))
+                .block();
+    }
+}
@@ -0,0 +1,74 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("OptimisticLockRetry 테스트")
+class OptimisticLockRetryTest {
+
+    SimpleMeterRegistry meterRegistry;
+    OptimisticLockRetry optimisticLockRetry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticLockRetry = new OptimisticLockRetry(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 나면 전체 사이클을 다시 실행하고 충돌 횟수를 기록한다")
+    void execute_conflict_retriesAndCounts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(optimisticLockRetry.execute("inventories", Tags.of("productId", "P-1"), () -> {
+                    if (attempts.incrementAndGet() < 3) {
+                        return Mono.error(new OptimisticLockingFailureException("conflict"));
+                    }
+                    return Mono.just("saved");
+                }))
+                .expectNext("saved")
+                .verifyComplete();
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter(OptimisticLockRetry.CONFLICT_METRIC,
+                "collection", "inventories", "productId", "P-1").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외는 재시도하지 않는다")
+    void execute_otherError_notRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(optimisticLockRetry.execute("orders", Tags.empty(), () -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new IllegalStateException("invalid transition"));
+                }))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 충돌 예외를 그대로 전달한다")
+    void execute_exhausted_propagatesConflict() {
+        StepVerifier.create(optimisticLockRetry.execute("orders", Tags.empty(),
+                        () -> Mono.error(new OptimisticLockingFailureException("conflict"))))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+
+        assertThat(meterRegistry.counter(OptimisticLockRetry.EXHAUSTED_METRIC, "collection", "orders").count())
+                .isEqualTo(1.0);
+    }
+}
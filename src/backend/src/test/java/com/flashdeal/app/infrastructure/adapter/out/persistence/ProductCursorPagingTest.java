@@ -0,0 +1,111 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+/**
+ * keyset 커서로 끝까지 넘긴 결과가 한 번에 정렬해 읽은 결과와 같은지 확인한다
+ * (정렬 키가 없거나 null인 문서, 같은 값이 여러 개인 문서 포함)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SuppressWarnings("resource")
+@DisplayName("ProductCursor 페이지 이동 테스트")
+class ProductCursorPagingTest {
+
+    @Container
+    static final MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.4.2"))
+            .withStartupTimeout(Duration.ofSeconds(60));
+
+    private static final String COLLECTION = "cursor-paging-test";
+    private static final int PAGE_SIZE = 2;
+
+    static MongoClient mongoClient;
+    static ReactiveMongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(mongoDBContainer.getConnectionString());
+        mongoTemplate = new ReactiveMongoTemplate(mongoClient, "cursor-paging-test");
+        mongoTemplate.insert(List.of(
+                new Document("_id", "P-1").append("price", new Document("sale", 300)),
+                new Document("_id", "P-2").append("price", new Document("sale", 100)),
+                new Document("_id", "P-3").append("price", new Document("sale", null)),
+                new Document("_id", "P-4").append("price", new Document("sale", 100)),
+                new Document("_id", "P-5"),
+                new Document("_id", "P-6").append("price", new Document("sale", 200)),
+                new Document("_id", "P-7").append("price", new Document("sale", null)),
+                new Document("_id", "P-8").append("price", new Document("sale", 100))), COLLECTION)
+                .blockLast();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("오름차순: null 문서부터 시작해 값 있는 문서로 이어진다")
+    void ascending_pagesThroughNullAndDuplicateKeys() {
+        List<Sort.Order> orders = List.of(Sort.Order.asc("price.sale"), Sort.Order.asc("_id"));
+
+        assertThat(pageThrough(orders))
+                .containsExactly("P-3", "P-5", "P-7", "P-2", "P-4", "P-8", "P-6", "P-1")
+                .isEqualTo(readAll(orders));
+    }
+
+    @Test
+    @DisplayName("내림차순: 값 있는 문서 뒤에 null 문서까지 이어진다")
+    void descending_pagesThroughNullAndDuplicateKeys() {
+        List<Sort.Order> orders = List.of(Sort.Order.desc("price.sale"), Sort.Order.asc("_id"));
+
+        assertThat(pageThrough(orders))
+                .containsExactly("P-1", "P-6", "P-2", "P-4", "P-8", "P-3", "P-5", "P-7")
+                .isEqualTo(readAll(orders));
+    }
+
+    private List<String> pageThrough(List<Sort.Order> orders) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        while (true) {
+            Query query = new Query();
+            if (cursor != null) {
+                query.addCriteria(new Criteria().andOperator(
+                        ProductCursor.after(orders, ProductCursor.decode(cursor, orders))));
+            }
+            query.with(Sort.by(orders)).limit(PAGE_SIZE);
+            List<Document> page = mongoTemplate.find(query, Document.class, COLLECTION).collectList().block();
+            if (page == null || page.isEmpty()) {
+                return ids;
+            }
+            page.forEach(document -> ids.add(document.getString("_id")));
+            cursor = ProductCursor.encode(page.get(page.size() - 1), orders);
+        }
+    }
+
+    private List<String> readAll(List<Sort.Order> orders) {
+        return mongoTemplate.find(new Query().with(Sort.by(orders)), Document.class, COLLECTION)
+                .map(document -> document.getString("_id"))
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,113 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+@DisplayName("ProductCursor 테스트")
+class ProductCursorTest {
+
+    List<Sort.Order> orders = List.of(Sort.Order.asc("price.sale"), Sort.Order.asc("_id"));
+
+    @Test
+    @DisplayName("커서는 정렬 키 값을 원래 BSON 타입 그대로 복원한다")
+    void encode_decode_roundTripsTypedValues() {
+        Document raw = new Document("_id", "P-1")
+                .append("price", new Document("sale", new Decimal128(new BigDecimal("9900.50"))))
+                .append("createdAt", Date.from(Instant.parse("2025-01-01T00:00:00Z")));
+        List<Sort.Order> withDate = List.of(
+                Sort.Order.asc("price.sale"), Sort.Order.desc("createdAt"), Sort.Order.asc("_id"));
+
+        String cursor = ProductCursor.encode(raw, withDate);
+
+        assertThat(ProductCursor.decode(cursor, withDate)).containsExactly(
+                new Decimal128(new BigDecimal("9900.50")),
+                Date.from(Instant.parse("2025-01-01T00:00:00Z")),
+                "P-1");
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 받은 커서는 거부한다")
+    void decode_differentSort_fails() {
+        Document raw = new Document("_id", "P-1")
+                .append("price", new Document("sale", new Decimal128(new BigDecimal("100"))));
+        String cursor = ProductCursor.encode(raw, orders);
+
+        assertThatThrownBy(() -> ProductCursor.decode(cursor,
+                List.of(Sort.Order.desc("price.sale"), Sort.Order.asc("_id"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 틀린 커서는 거부한다")
+    void decode_malformed_fails() {
+        assertThatThrownBy(() -> ProductCursor.decode("not a cursor!", orders))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조건은 앞선 키가 같을 때만 뒤 키를 비교한다")
+    void after_buildsKeysetCondition() {
+        Decimal128 sale = new Decimal128(new BigDecimal("100"));
+
+        Document condition = ProductCursor.after(orders, List.of(sale, "P-1")).getCriteriaObject();
+
+        assertThat(condition).isEqualTo(Document.parse("""
+                { "$or": [
+                    { "price.sale": { "$gt": { "$numberDecimal": "100" } } },
+                    { "$and": [
+                        { "price.sale": { "$numberDecimal": "100" } },
+                        { "_id": { "$gt": "P-1" } } ] } ] }
+                """));
+    }
+
+    @Test
+    @DisplayName("정렬 키가 null이면 오름차순은 null이 아닌 값부터, 내림차순은 같은 null 안의 _id만 이어간다")
+    void after_nullSortValue_encodesNullBoundary() {
+        Document ascending = ProductCursor.after(orders, Arrays.asList(null, "P-1")).getCriteriaObject();
+        Document descending = ProductCursor.after(
+                List.of(Sort.Order.desc("price.sale"), Sort.Order.asc("_id")),
+                Arrays.asList(null, "P-1")).getCriteriaObject();
+
+        assertThat(ascending).isEqualTo(Document.parse("""
+                { "$or": [
+                    { "price.sale": { "$ne": null } },
+                    { "$and": [ { "price.sale": null }, { "_id": { "$gt": "P-1" } } ] } ] }
+                """));
+        assertThat(descending).isEqualTo(Document.parse("""
+                { "$or": [
+                    { "$and": [ { "price.sale": null }, { "_id": { "$gt": "P-1" } } ] } ] }
+                """));
+    }
+
+    @Test
+    @DisplayName("내림차순에서는 값이 있는 커서 뒤에 null 문서도 이어진다")
+    void after_descendingValue_includesNulls() {
+        Decimal128 sale = new Decimal128(new BigDecimal("100"));
+
+        Document condition = ProductCursor.after(
+                List.of(Sort.Order.desc("price.sale"), Sort.Order.asc("_id")), List.of(sale, "P-1"))
+                .getCriteriaObject();
+
+        assertThat(condition).isEqualTo(Document.parse("""
+                { "$or": [
+                    { "$or": [
+                        { "price.sale": { "$lt": { "$numberDecimal": "100" } } },
+                        { "price.sale": null } ] },
+                    { "$and": [
+                        { "price.sale": { "$numberDecimal": "100" } },
+                        { "_id": { "$gt": "P-1" } } ] } ] }
+                """));
+    }
+}
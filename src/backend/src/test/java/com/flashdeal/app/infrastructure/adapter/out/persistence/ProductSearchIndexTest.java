@@ -0,0 +1,124 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.flashdeal.app.TestDataFactory;
+import com.flashdeal.app.domain.product.DealStatus;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.mapper.ProductMapper;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.repository.ProductMongoRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchIndex 테스트")
+class ProductSearchIndexTest {
+
+    @Mock
+    ProductMongoRepository mongoRepository;
+
+    @Mock
+    ProductMapper mapper;
+
+    ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ProductSearchIndex(mongoRepository, mapper);
+    }
+
+    @Test
+    @DisplayName("한글은 음절 단위로, 그 밖의 단어는 2-gram으로 쪼갠다")
+    void grams() {
+        assertThat(ProductSearchIndex.grams("무선 Earbuds"))
+                .containsExactly("무", "선", "무선", "ea", "ar", "rb", "bu", "ud", "ds");
+    }
+
+    @Test
+    @DisplayName("띄어쓰기가 달라도 한글 부분 일치로 찾는다")
+    void search_koreanPartialMatch() {
+        Product product = product("P-1", "노이즈캔슬링 무선이어폰", "음향");
+        searchIndex.index(product);
+
+        assertThat(searchIndex.search("무선 이어폰", 10)).containsExactly(new ProductId("P-1"));
+        assertThat(searchIndex.search("유선 이어폰", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목에서 일치한 상품이 설명에서만 일치한 상품보다 앞선다")
+    void search_ranksTitleFirst() {
+        searchIndex.index(product("P-1", "스마트워치", "가전", "무선 충전 지원"));
+        searchIndex.index(product("P-2", "무선 충전기", "가전", "고속 충전"));
+
+        assertThat(searchIndex.search("무선 충전", 10))
+                .containsExactly(new ProductId("P-2"), new ProductId("P-1"));
+        assertThat(searchIndex.search("무선 충전", 1)).containsExactly(new ProductId("P-2"));
+    }
+
+    @Test
+    @DisplayName("종료된 딜로 저장되거나 삭제되면 색인에서 빠진다")
+    void index_removesEndedAndDeleted() {
+        Product product = product("P-1", "무선 이어폰", "음향");
+        searchIndex.index(product);
+        searchIndex.index(product("P-2", "무선 마우스", "주변기기"));
+
+        searchIndex.index(product.transitionTo(DealStatus.ENDED));
+        searchIndex.remove(new ProductId("P-2"));
+
+        assertThat(searchIndex.search("무선", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상태 조건이 없거나 종료된 딜 검색은 색인으로 답하지 않는다")
+    void covers_onlyIndexedStatuses() {
+        given(mongoRepository.findByStatus(any())).willReturn(Flux.empty());
+        assertThat(searchIndex.covers(DealStatus.ACTIVE)).isFalse();
+
+        searchIndex.rebuild().block();
+
+        assertThat(searchIndex.covers(DealStatus.ACTIVE)).isTrue();
+        assertThat(searchIndex.covers(DealStatus.UPCOMING)).isTrue();
+        assertThat(searchIndex.covers(DealStatus.ENDED)).isFalse();
+        assertThat(searchIndex.covers(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재색인 중에 반영된 저장/삭제는 새 스냅샷에도 남는다")
+    void rebuild_replaysChangesMadeWhileRebuilding() {
+        Sinks.Many<ProductDocument> documents = Sinks.many().unicast().onBackpressureBuffer();
+        ProductDocument stale = new ProductDocument();
+        given(mongoRepository.findByStatus(DealStatus.ACTIVE)).willReturn(documents.asFlux());
+        given(mongoRepository.findByStatus(DealStatus.UPCOMING)).willReturn(Flux.empty());
+        given(mapper.toDomain(stale)).willReturn(product("P-2", "무선 마우스", "주변기기"));
+        searchIndex.rebuild().subscribe();
+
+        searchIndex.index(product("P-1", "무선 이어폰", "음향"));
+        searchIndex.remove(new ProductId("P-2"));
+        documents.tryEmitNext(stale);
+        documents.tryEmitComplete();
+
+        assertThat(searchIndex.search("무선", 10)).containsExactly(new ProductId("P-1"));
+    }
+
+    private Product product(String id, String title, String category) {
+        return product(id, title, category, "");
+    }
+
+    private Product product(String id, String title, String category, String description) {
+        Product base = TestDataFactory.createProduct(new ProductId(id));
+        return new Product(base.productId(), title, description, category, base.price(), base.schedule(),
+                base.specs(), DealStatus.UPCOMING).transitionTo(DealStatus.ACTIVE);
+    }
+}
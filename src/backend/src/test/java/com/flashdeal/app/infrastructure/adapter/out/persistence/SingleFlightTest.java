@@ -0,0 +1,132 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicInteger queries;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queries = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회가 있으면 같은 키의 요청은 그 결과를 함께 받는다")
+    void get_concurrent_sharesOneQuery() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ZERO);
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.get("P-1", () -> countQuery(result.asMono()));
+        Mono<String> second = singleFlight.get("P-1", () -> countQuery(result.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> result.tryEmitValue("product"))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1()).isEqualTo("product");
+                    assertThat(tuple.getT2()).isEqualTo("product");
+                })
+                .verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(count("load")).isEqualTo(1.0);
+        assertThat(count("joined")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤의 요청은 새로 조회한다")
+    void get_afterCompletion_queriesAgain() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ZERO);
+
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v1")))).expectNext("v1").verifyComplete();
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v2")))).expectNext("v2").verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("stale-while-revalidate 구간에서는 마지막 값을 바로 주고 값마다 한 번만 백그라운드로 다시 읽는다")
+    void get_withinStaleWindow_returnsRememberedAndRefreshesOnce() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ofMinutes(1));
+
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v1")))).expectNext("v1").verifyComplete();
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v2")))).expectNext("v1").verifyComplete();
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v3")))).expectNext("v2").verifyComplete();
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v4")))).expectNext("v2").verifyComplete();
+
+        assertThat(queries.get()).isEqualTo(2);
+        assertThat(count("stale")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("forget 전에 시작한 조회는 결과를 보관하지 않고 이후 요청과 합치지 않는다")
+    void forget_duringLoad_discardsInFlightResult() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ofMinutes(1));
+        Sinks.One<String> beforeWrite = Sinks.one();
+
+        Mono<String> inFlightRead = singleFlight.get("P-1", () -> countQuery(beforeWrite.asMono()));
+        StepVerifier.create(inFlightRead)
+                .then(() -> {
+                    singleFlight.forget("P-1");
+                    beforeWrite.tryEmitValue("v1");
+                })
+                .expectNext("v1")
+                .verifyComplete();
+
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v2")))).expectNext("v2").verifyComplete();
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("forget 뒤의 요청은 진행 중이던 쓰기 전 조회에 합류하지 않는다")
+    void forget_duringLoad_startsNewFlight() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ZERO);
+        Sinks.One<String> beforeWrite = Sinks.one();
+
+        Mono<String> first = singleFlight.get("P-1", () -> countQuery(beforeWrite.asMono())).cache();
+        first.subscribe();
+        singleFlight.forget("P-1");
+
+        StepVerifier.create(singleFlight.get("P-1", () -> countQuery(Mono.just("v2")))).expectNext("v2").verifyComplete();
+        beforeWrite.tryEmitValue("v1");
+        StepVerifier.create(first).expectNext("v1").verifyComplete();
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("forget 후에는 보관한 값을 쓰지 않는다")
+    void forget_dropsRememberedValue() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry, Duration.ofMinutes(1));
+
+        StepVerifier.create(singleFlight.get("P-1", () -> Mono.just("v1"))).expectNext("v1").verifyComplete();
+        singleFlight.forget("P-1");
+
+        StepVerifier.create(singleFlight.get("P-1", () -> Mono.just("v2"))).expectNext("v2").verifyComplete();
+    }
+
+    private Mono<String> countQuery(Mono<String> query) {
+        return Mono.defer(() -> {
+            queries.incrementAndGet();
+            return query;
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(SingleFlight.METRIC).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,40 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence.documents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PriceDocument 테스트")
+class PriceDocumentTest {
+
+    @Test
+    @DisplayName("금액을 1/100 단위 정수로 바꾼다")
+    void toMinorUnits_scalesByHundred() {
+        assertThat(PriceDocument.toMinorUnits(new BigDecimal("80000"), RoundingMode.HALF_UP)).isEqualTo(8000000L);
+        assertThat(PriceDocument.toMinorUnits(new BigDecimal("19.99"), RoundingMode.HALF_UP)).isEqualTo(1999L);
+        assertThat(PriceDocument.toMinorUnits(BigDecimal.ZERO, RoundingMode.HALF_UP)).isZero();
+    }
+
+    @Test
+    @DisplayName("저장은 반올림, 범위 하한은 올림, 상한은 내림한다")
+    void toMinorUnits_roundsByMode() {
+        BigDecimal amount = new BigDecimal("10.005");
+
+        assertThat(PriceDocument.toMinorUnits(amount, RoundingMode.HALF_UP)).isEqualTo(1001L);
+        assertThat(PriceDocument.toMinorUnits(amount, RoundingMode.CEILING)).isEqualTo(1001L);
+        assertThat(PriceDocument.toMinorUnits(amount, RoundingMode.FLOOR)).isEqualTo(1000L);
+        assertThat(PriceDocument.toMinorUnits(new BigDecimal("10.004"), RoundingMode.HALF_UP)).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 금액은 예외가 발생한다")
+    void toMinorUnits_overflow_throws() {
+        assertThatThrownBy(() -> PriceDocument.toMinorUnits(new BigDecimal("1e20"), RoundingMode.HALF_UP))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
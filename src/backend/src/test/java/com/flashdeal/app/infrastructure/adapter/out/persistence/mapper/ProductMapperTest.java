@@ -0,0 +1,61 @@
+package com.flashdeal.app.infrastructure.adapter.out.persistence.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.flashdeal.app.TestDataFactory;
+import com.flashdeal.app.domain.product.Price;
+import com.flashdeal.app.domain.product.Product;
+import com.flashdeal.app.domain.product.ProductId;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.PriceDocument;
+import com.flashdeal.app.infrastructure.adapter.out.persistence.documents.ProductDocument;
+
+@DisplayName("ProductMapper 테스트")
+class ProductMapperTest {
+
+    private final ProductMapper mapper = new ProductMapper();
+
+    @Test
+    @DisplayName("가격 필터/정렬 필드(saleMinor, rate)를 함께 저장한다")
+    void toDocument_writesPriceFields() {
+        Product product = product(new Price(new BigDecimal("29.99"), new BigDecimal("19.99"), "USD"));
+
+        PriceDocument price = mapper.toDocument(product).getPrice();
+
+        assertThat(price.getSale()).isEqualByComparingTo("19.99");
+        assertThat(price.getSaleMinor()).isEqualTo(1999L);
+        assertThat(price.getRate()).isEqualTo(33);
+    }
+
+    @Test
+    @DisplayName("문서로 저장했다가 읽으면 같은 가격과 할인율이 나온다")
+    void roundTrip_keepsPrice() {
+        Product product = product(new Price(new BigDecimal("100000"), new BigDecimal("80000"), "KRW"));
+
+        Product restored = mapper.toDomain(mapper.toDocument(product));
+
+        assertThat(restored.price()).isEqualTo(product.price());
+        assertThat(restored.price().discountRate()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("읽을 때는 저장된 할인율과 상관없이 가격에서 계산한다")
+    void toDomain_derivesRateFromPrices() {
+        ProductDocument document = mapper.toDocument(TestDataFactory.createProduct());
+        document.getPrice().setRate(25);
+
+        assertThat(mapper.toDomain(document).price().discountRate()).isEqualTo(20);
+
+        document.getPrice().setRate(null);
+
+        assertThat(mapper.toDomain(document).price().discountRate()).isEqualTo(20);
+    }
+
+    private static Product product(Price price) {
+        return TestDataFactory.createProduct(ProductId.generate()).updatePrice(price);
+    }
+}